@@ -0,0 +1,96 @@
+package io.quarkus.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares two JMH result files written with {@code -rf json}, e.g. the results of two commits.
+ * <p>
+ * Usage: {@code java -cp target/benchmarks.jar io.quarkus.benchmarks.CompareResults baseline.json current.json [threshold]}
+ * <p>
+ * A benchmark regressed if its score is worse than the baseline by more than the threshold percentage, 10 by default,
+ * and by more than the errors of both scores. The process exits with status 1 if any benchmark regressed.
+ */
+public class CompareResults {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: CompareResults <baseline.json> <current.json> [threshold percentage]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+        Map<String, JsonNode> baseline = read(Paths.get(args[0]));
+        Map<String, JsonNode> current = read(Paths.get(args[1]));
+
+        boolean regressed = false;
+        System.out.printf("%-90s %15s %15s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode result = entry.getValue().get("primaryMetric");
+            String unit = result.get("scoreUnit").asText();
+            double score = result.get("score").asDouble();
+            JsonNode baselineResult = baseline.containsKey(entry.getKey())
+                    ? baseline.get(entry.getKey()).get("primaryMetric")
+                    : null;
+            if (baselineResult == null || !unit.equals(baselineResult.get("scoreUnit").asText())) {
+                System.out.printf("%-90s %15s %15s %9s%n", entry.getKey(), "-", format(score, unit), "new");
+                continue;
+            }
+            double baselineScore = baselineResult.get("score").asDouble();
+            double change = (score - baselineScore) / baselineScore * 100;
+            // throughput is better when higher, all the other modes measure time
+            boolean higherIsBetter = "thrpt".equals(entry.getValue().get("mode").asText());
+            double worse = higherIsBetter ? -change : change;
+            double noise = error(result) + error(baselineResult);
+            boolean regression = worse > threshold && Math.abs(score - baselineScore) > noise;
+            regressed |= regression;
+            System.out.printf("%-90s %15s %15s %+8.1f%%%s%n", entry.getKey(), format(baselineScore, unit),
+                    format(score, unit), change, regression ? " REGRESSION" : "");
+        }
+        for (String name : baseline.keySet()) {
+            if (!current.containsKey(name)) {
+                System.out.printf("%-90s %15s %15s %9s%n", name, "", "-", "removed");
+            }
+        }
+        if (regressed) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonNode> read(Path file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file.toFile())) {
+            StringBuilder name = new StringBuilder(result.get("benchmark").asText());
+            JsonNode params = result.get("params");
+            if (params != null) {
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> param = fields.next();
+                    name.append(name.indexOf("(") < 0 ? '(' : ',').append(param.getKey()).append('=')
+                            .append(param.getValue().asText());
+                }
+                if (name.indexOf("(") >= 0) {
+                    name.append(')');
+                }
+            }
+            results.put(name.toString(), result);
+        }
+        return results;
+    }
+
+    private static double error(JsonNode metric) {
+        JsonNode error = metric.get("scoreError");
+        // the error is NaN when there were not enough iterations
+        return error == null || !error.isNumber() || Double.isNaN(error.asDouble()) ? 0 : error.asDouble();
+    }
+
+    private static String format(double score, String unit) {
+        return String.format("%.3f %s", score, unit);
+    }
+}
@@ -0,0 +1,11 @@
+package io.quarkus.benchmarks.arc;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class ApplicationScopedService {
+
+    public int ping() {
+        return 1;
+    }
+}
@@ -0,0 +1,46 @@
+package io.quarkus.benchmarks.arc;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.InstanceHandle;
+
+/**
+ * Programmatic lookups through {@link io.quarkus.arc.ArcContainer}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArcContainerBenchmark {
+
+    @Benchmark
+    public SingletonService instanceByType(ArcState arc) {
+        return arc.container.instance(SingletonService.class).get();
+    }
+
+    @Benchmark
+    public SingletonService selectByType(ArcState arc) {
+        return arc.container.select(SingletonService.class).get();
+    }
+
+    @Benchmark
+    public Object instanceByName(ArcState arc) {
+        return arc.container.instance("dependent").get();
+    }
+
+    @Benchmark
+    public int dependentInstance(ArcState arc) {
+        try (InstanceHandle<DependentService> handle = arc.container.instance(DependentService.class)) {
+            return handle.get().ping();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package io.quarkus.benchmarks.arc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.processor.BeanArchives;
+import io.quarkus.arc.processor.BeanProcessor;
+import io.quarkus.arc.processor.ResourceOutput;
+
+/**
+ * Starts an ArC container with the beans of this package.
+ * <p>
+ * The beans are processed when the benchmark starts, as it would be done by a Quarkus build, and the generated classes
+ * are defined by an in-memory class loader. The beans only have public members, so that the generated classes can
+ * access them from another class loader.
+ */
+@State(Scope.Benchmark)
+public class ArcState {
+
+    private static final List<Class<?>> BEAN_CLASSES = List.of(SingletonService.class, ApplicationScopedService.class,
+            RequestScopedService.class, DependentService.class);
+
+    private Path servicesDirectory;
+
+    public ArcContainer container;
+
+    @Setup(Level.Trial)
+    public void start() throws Exception {
+        Indexer indexer = new Indexer();
+        for (Class<?> beanClass : BEAN_CLASSES) {
+            try (InputStream stream = ArcState.class.getClassLoader()
+                    .getResourceAsStream(beanClass.getName().replace('.', '/') + ".class")) {
+                indexer.index(stream);
+            }
+        }
+        IndexView index = BeanArchives.buildImmutableBeanArchiveIndex(indexer.complete());
+
+        Map<String, byte[]> generatedClasses = new HashMap<>();
+        servicesDirectory = Files.createTempDirectory("quarkus-benchmarks");
+        Path componentsProvider = servicesDirectory.resolve(ComponentsProvider.class.getName());
+        BeanProcessor.builder()
+                .setName("benchmarks")
+                .setImmutableBeanArchiveIndex(index)
+                .setComputingBeanArchiveIndex(BeanArchives.buildComputingBeanArchiveIndex(ArcState.class.getClassLoader(),
+                        new ConcurrentHashMap<>(), index))
+                .setRemoveUnusedBeans(false)
+                .setOutput(new ResourceOutput() {
+                    @Override
+                    public void writeResource(Resource resource) throws IOException {
+                        switch (resource.getType()) {
+                            case JAVA_CLASS:
+                                generatedClasses.put(resource.getFullyQualifiedName(), resource.getData());
+                                break;
+                            case SERVICE_PROVIDER:
+                                if (resource.getName().endsWith(ComponentsProvider.class.getName())) {
+                                    Files.write(componentsProvider, resource.getData());
+                                }
+                                break;
+                            default:
+                                throw new IllegalArgumentException();
+                        }
+                    }
+                })
+                .build()
+                .process();
+
+        ClassLoader old = Thread.currentThread().getContextClassLoader();
+        try {
+            Thread.currentThread().setContextClassLoader(
+                    new GeneratedClassLoader(ArcState.class.getClassLoader(), generatedClasses, componentsProvider.toUri()
+                            .toURL()));
+            container = Arc.initialize();
+        } finally {
+            Thread.currentThread().setContextClassLoader(old);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        Arc.shutdown();
+        if (servicesDirectory != null) {
+            Files.deleteIfExists(servicesDirectory.resolve(ComponentsProvider.class.getName()));
+            Files.deleteIfExists(servicesDirectory);
+        }
+    }
+
+    static final class GeneratedClassLoader extends ClassLoader {
+
+        private final Map<String, byte[]> classes;
+        private final URL componentsProvider;
+
+        GeneratedClassLoader(ClassLoader parent, Map<String, byte[]> classes, URL componentsProvider) {
+            super(parent);
+            this.classes = classes;
+            this.componentsProvider = componentsProvider;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] data = classes.get(name);
+            if (data == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, data, 0, data.length);
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException {
+            if (("META-INF/services/" + ComponentsProvider.class.getName()).equals(name)) {
+                return Collections.enumeration(Collections.singleton(componentsProvider));
+            }
+            return super.getResources(name);
+        }
+    }
+}
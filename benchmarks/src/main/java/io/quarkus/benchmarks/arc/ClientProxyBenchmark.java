@@ -0,0 +1,69 @@
+package io.quarkus.benchmarks.arc;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.ManagedContext;
+
+/**
+ * Invocations delegated by client proxies, compared to the invocation of a bean that has no client proxy.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ClientProxyBenchmark {
+
+    private SingletonService singleton;
+    private ApplicationScopedService applicationScoped;
+    private RequestScopedService requestScoped;
+    private ManagedContext requestContext;
+
+    @Setup(Level.Trial)
+    public void setup(ArcState arc) {
+        singleton = arc.container.instance(SingletonService.class).get();
+        applicationScoped = arc.container.instance(ApplicationScopedService.class).get();
+        requestScoped = arc.container.instance(RequestScopedService.class).get();
+        requestContext = arc.container.requestContext();
+    }
+
+    @Setup(Level.Iteration)
+    public void activateRequestContext() {
+        // the request context is bound to the thread that runs the benchmark
+        requestContext.activate();
+    }
+
+    @TearDown(Level.Iteration)
+    public void terminateRequestContext() {
+        requestContext.terminate();
+    }
+
+    @Benchmark
+    public int singleton() {
+        return singleton.ping();
+    }
+
+    @Benchmark
+    public int applicationScoped() {
+        return applicationScoped.ping();
+    }
+
+    @Benchmark
+    public int requestScoped() {
+        return requestScoped.increment();
+    }
+}
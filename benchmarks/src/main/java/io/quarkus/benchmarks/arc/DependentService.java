@@ -0,0 +1,13 @@
+package io.quarkus.benchmarks.arc;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Named;
+
+@Named("dependent")
+@Dependent
+public class DependentService {
+
+    public int ping() {
+        return 1;
+    }
+}
@@ -0,0 +1,70 @@
+package io.quarkus.benchmarks.arc;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+
+/**
+ * Activation of the request context, as done for every HTTP request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RequestContextBenchmark {
+
+    private ManagedContext requestContext;
+    private RequestScopedService requestScoped;
+
+    @Setup(Level.Trial)
+    public void setup(ArcState arc) {
+        requestContext = arc.container.requestContext();
+        requestScoped = arc.container.instance(RequestScopedService.class).get();
+    }
+
+    @Benchmark
+    public void activateTerminate() {
+        requestContext.activate();
+        requestContext.terminate();
+    }
+
+    @Benchmark
+    public int activateUseTerminate() {
+        requestContext.activate();
+        try {
+            return requestScoped.increment();
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @Benchmark
+    public int activateUseDeactivateResume() {
+        requestContext.activate();
+        requestScoped.increment();
+        ContextState state = requestContext.getState();
+        requestContext.deactivate();
+        // e.g. when a request is resumed on another thread
+        requestContext.activate(state);
+        try {
+            return requestScoped.increment();
+        } finally {
+            requestContext.terminate();
+        }
+    }
+}
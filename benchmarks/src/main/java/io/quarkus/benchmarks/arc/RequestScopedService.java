@@ -0,0 +1,13 @@
+package io.quarkus.benchmarks.arc;
+
+import jakarta.enterprise.context.RequestScoped;
+
+@RequestScoped
+public class RequestScopedService {
+
+    private int counter;
+
+    public int increment() {
+        return ++counter;
+    }
+}
@@ -0,0 +1,11 @@
+package io.quarkus.benchmarks.arc;
+
+import jakarta.inject.Singleton;
+
+@Singleton
+public class SingletonService {
+
+    public int ping() {
+        return 1;
+    }
+}
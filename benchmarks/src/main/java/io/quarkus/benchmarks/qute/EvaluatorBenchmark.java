@@ -0,0 +1,89 @@
+package io.quarkus.benchmarks.qute;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+
+/**
+ * Rendering of templates dominated by the evaluation of expressions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EvaluatorBenchmark {
+
+    private Item item;
+    private List<Item> items;
+    private Template property;
+    private Template virtualMethod;
+    private Template condition;
+    private Template loop;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver()).build();
+        item = new Item("Apple", 42);
+        items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            items.add(new Item("Item " + i, i));
+        }
+        property = engine.parse("{item.name}");
+        virtualMethod = engine.parse("{item.name.substring(1)} {item.discount(10)}");
+        condition = engine.parse("{#if item.price > 10 && item.name is 'Apple'}expensive{#else}cheap{/if}");
+        loop = engine.parse("{#for item in items}{item_count}:{item.name}={item.price ?: 0}{#if item_hasNext},{/if}{/for}");
+    }
+
+    @Benchmark
+    public String property() {
+        return property.data("item", item).render();
+    }
+
+    @Benchmark
+    public String virtualMethod() {
+        return virtualMethod.data("item", item).render();
+    }
+
+    @Benchmark
+    public String condition() {
+        return condition.data("item", item).render();
+    }
+
+    @Benchmark
+    public String loop() {
+        return loop.data("items", items).render();
+    }
+
+    public static class Item {
+
+        public final String name;
+        public final int price;
+
+        public Item(String name, int price) {
+            this.name = name;
+            this.price = price;
+        }
+
+        public int discount(int percent) {
+            return price * (100 - percent) / 100;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.quarkus.benchmarks.resteasy.reactive;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
+import org.jboss.resteasy.reactive.server.mapping.URITemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Matching of request paths against the paths of the resource methods.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestMapperBenchmark {
+
+    @Param({ "10", "100" })
+    int resources;
+
+    private RequestMapper<String> mapper;
+    private String literalPath;
+    private String templatePath;
+    private String nestedTemplatePath;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+        for (int i = 0; i < resources; i++) {
+            addTemplate(templates, "/resource" + i);
+            addTemplate(templates, "/resource" + i + "/{id}");
+            addTemplate(templates, "/resource" + i + "/{id}/items/{itemId}");
+            addTemplate(templates, "/resource" + i + "/{id: [0-9]+}/regex");
+        }
+        mapper = new RequestMapper<>(templates);
+        int last = resources - 1;
+        literalPath = "/resource" + last;
+        templatePath = "/resource" + last + "/42";
+        nestedTemplatePath = "/resource" + last + "/42/items/7";
+    }
+
+    private static void addTemplate(ArrayList<RequestMapper.RequestPath<String>> templates, String template) {
+        templates.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+    }
+
+    @Benchmark
+    public Object literal() {
+        return mapper.map(literalPath);
+    }
+
+    @Benchmark
+    public Object template() {
+        return mapper.map(templatePath);
+    }
+
+    @Benchmark
+    public Object nestedTemplate() {
+        return mapper.map(nestedTemplatePath);
+    }
+
+    @Benchmark
+    public Object regex() {
+        return mapper.map("/resource0/42/regex");
+    }
+
+    @Benchmark
+    public Object noMatch() {
+        return mapper.map("/missing/42");
+    }
+}
@@ -0,0 +1,210 @@
+package io.quarkus.benchmarks.vertx.http;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Proxy;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.util.TypeLiteral;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.security.credential.TokenCredential;
+import io.quarkus.security.identity.IdentityProviderManager;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.AuthenticationRequest;
+import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.security.runtime.QuarkusPrincipal;
+import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.quarkus.vertx.http.runtime.security.ChallengeData;
+import io.quarkus.vertx.http.runtime.security.HttpAuthenticationMechanism;
+import io.quarkus.vertx.http.runtime.security.HttpAuthenticator;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Selection of the authentication mechanism that authenticates a request, with mechanisms that complete synchronously
+ * so that only the work done by {@link HttpAuthenticator} is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HttpAuthenticatorBenchmark {
+
+    private HttpAuthenticator authenticator;
+    private RoutingContext firstMechanism;
+    private RoutingContext lastMechanism;
+    private RoutingContext anonymous;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SecurityIdentity identity = QuarkusSecurityIdentity.builder().setPrincipal(new QuarkusPrincipal("alice")).build();
+        IdentityProviderManager identityProviderManager = new IdentityProviderManager() {
+            @Override
+            public Uni<SecurityIdentity> authenticate(AuthenticationRequest request) {
+                return Uni.createFrom().item(identity);
+            }
+
+            @Override
+            public SecurityIdentity authenticateBlocking(AuthenticationRequest request) {
+                return identity;
+            }
+        };
+        authenticator = new HttpAuthenticator(identityProviderManager, new ListInstance<>(List.of()),
+                new ListInstance<>(List.of(new HeaderMechanism("Bearer", 3), new HeaderMechanism("Token", 2),
+                        new HeaderMechanism("Basic", 1))),
+                new ListInstance<>(List.of()));
+        firstMechanism = routingContext("Bearer alice");
+        lastMechanism = routingContext("Basic alice");
+        anonymous = routingContext(null);
+    }
+
+    @Benchmark
+    public SecurityIdentity firstMechanism() {
+        return authenticator.attemptAuthentication(firstMechanism).await().indefinitely();
+    }
+
+    @Benchmark
+    public SecurityIdentity lastMechanism() {
+        return authenticator.attemptAuthentication(lastMechanism).await().indefinitely();
+    }
+
+    @Benchmark
+    public SecurityIdentity anonymous() {
+        return authenticator.attemptAuthentication(anonymous).await().indefinitely();
+    }
+
+    /**
+     * Only the methods used by the mechanisms are implemented.
+     */
+    private static RoutingContext routingContext(String authorization) {
+        HttpServerRequest request = (HttpServerRequest) Proxy.newProxyInstance(
+                HttpAuthenticatorBenchmark.class.getClassLoader(), new Class<?>[] { HttpServerRequest.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getHeader") && "Authorization".equals(String.valueOf(args[0]))) {
+                        return authorization;
+                    }
+                    return null;
+                });
+        return (RoutingContext) Proxy.newProxyInstance(HttpAuthenticatorBenchmark.class.getClassLoader(),
+                new Class<?>[] { RoutingContext.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("request")) {
+                        return request;
+                    }
+                    return null;
+                });
+    }
+
+    static final class HeaderMechanism implements HttpAuthenticationMechanism {
+
+        private final String prefix;
+        private final int priority;
+
+        HeaderMechanism(String scheme, int priority) {
+            this.prefix = scheme + " ";
+            this.priority = priority;
+        }
+
+        @Override
+        public Uni<SecurityIdentity> authenticate(RoutingContext context,
+                IdentityProviderManager identityProviderManager) {
+            String authorization = context.request().getHeader("Authorization");
+            if (authorization == null || !authorization.startsWith(prefix)) {
+                return Uni.createFrom().nullItem();
+            }
+            return identityProviderManager.authenticate(new TokenAuthenticationRequest(
+                    new TokenCredential(authorization.substring(prefix.length()), prefix.trim())));
+        }
+
+        @Override
+        public Uni<ChallengeData> getChallenge(RoutingContext context) {
+            return Uni.createFrom().nullItem();
+        }
+
+        @Override
+        public Set<Class<? extends AuthenticationRequest>> getCredentialTypes() {
+            // mechanisms without credential types do not need a matching identity provider
+            return Set.of();
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+    }
+
+    static final class ListInstance<T> implements Instance<T> {
+
+        private final List<T> instances;
+
+        ListInstance(List<T> instances) {
+            this.instances = instances;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return instances.iterator();
+        }
+
+        @Override
+        public T get() {
+            return instances.get(0);
+        }
+
+        @Override
+        public Instance<T> select(Annotation... qualifiers) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <U extends T> Instance<U> select(Class<U> subtype, Annotation... qualifiers) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <U extends T> Instance<U> select(TypeLiteral<U> subtype, Annotation... qualifiers) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isUnsatisfied() {
+            return instances.isEmpty();
+        }
+
+        @Override
+        public boolean isAmbiguous() {
+            return instances.size() > 1;
+        }
+
+        @Override
+        public void destroy(T instance) {
+        }
+
+        @Override
+        public Handle<T> getHandle() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Iterable<? extends Handle<T>> handles() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
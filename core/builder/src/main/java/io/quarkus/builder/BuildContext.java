@@ -2,6 +2,9 @@
 
 import static io.quarkus.builder.Execution.*;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -30,13 +33,16 @@ public final class BuildContext {
     private final StepInfo stepInfo;
     private final Execution execution;
     private final AtomicInteger dependencies;
+    private final long priority;
     private volatile boolean running;
+    private volatile List<BuildItem> produced;
 
     BuildContext(ClassLoader classLoader, final StepInfo stepInfo, final Execution execution) {
         this.classLoader = classLoader;
         this.stepInfo = stepInfo;
         this.execution = execution;
         dependencies = new AtomicInteger(stepInfo.getDependencies());
+        priority = execution.getPriority(stepInfo);
     }
 
     /**
@@ -255,13 +261,81 @@ private void doProduce(ItemId id, BuildItem value) {
             }
         }
         execution.getMetrics().buildItemProduced(value);
+        final List<BuildItem> produced = this.produced;
+        if (produced != null) {
+            produced.add(value);
+        }
+    }
+
+    /**
+     * Compute the key under which the items produced by this step are cached.
+     *
+     * @return the key, or {@code null} if one of the consumed items cannot be fingerprinted
+     */
+    private String cacheKey(BuildStepCache stepCache) {
+        final List<ItemId> consumes = new ArrayList<>(stepInfo.getConsumes());
+        consumes.sort(Comparator.comparing(id -> id.getType().getName()));
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        update(digest, stepInfo.getBuildStep().getId());
+        for (ItemId id : consumes) {
+            update(digest, id.getType().getName());
+            final List<String> fingerprints = new ArrayList<>();
+            if (id.isMulti()) {
+                final List<BuildItem> items = execution.getMultis().getOrDefault(id, Collections.emptyList());
+                synchronized (items) {
+                    for (BuildItem item : items) {
+                        fingerprints.add(stepCache.fingerprint(item));
+                    }
+                }
+                if (fingerprints.contains(null)) {
+                    return null;
+                }
+                // the order of items which are not comparable depends on the order in which the producers ran
+                if (!Comparable.class.isAssignableFrom(id.getType())) {
+                    Collections.sort(fingerprints);
+                }
+            } else {
+                final BuildItem item = execution.getSingles().get(id);
+                if (item != null) {
+                    final String fingerprint = stepCache.fingerprint(item);
+                    if (fingerprint == null) {
+                        return null;
+                    }
+                    fingerprints.add(fingerprint);
+                }
+            }
+            update(digest, Integer.toString(fingerprints.size()));
+            for (String fingerprint : fingerprints) {
+                update(digest, fingerprint);
+            }
+        }
+        final byte[] hash = digest.digest();
+        final StringBuilder key = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return key.toString();
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    long getPriority() {
+        return priority;
     }
 
     void depFinished() {
         final int remaining = dependencies.decrementAndGet();
         log.tracef("Dependency of \"%2$s\" finished; %1$d remaining", remaining, stepInfo.getBuildStep());
         if (remaining == 0) {
-            execution.getExecutor().execute(this::run);
+            execution.schedule(this);
         }
     }
 
@@ -273,26 +347,45 @@ void run() {
         final LocalTime started = LocalTime.now();
         final Thread currentThread = Thread.currentThread();
         log.tracef("Starting step \"%s\"", buildStep);
+        boolean cached = false;
         try {
             if (!execution.isErrorReported()) {
                 running = true;
                 ClassLoader old = currentThread.getContextClassLoader();
                 try {
                     Thread.currentThread().setContextClassLoader(classLoader);
-                    buildStep.execute(this);
+                    final BuildStepCache stepCache = execution.getStepCache();
+                    final String cacheKey = stepCache != null && stepInfo.isCacheable() ? cacheKey(stepCache) : null;
+                    final List<BuildItem> cachedItems = cacheKey != null ? stepCache.load(buildStep.getId(), cacheKey) : null;
+                    if (cachedItems != null) {
+                        log.debugf("Producing the cached items of step \"%s\"", buildStep);
+                        for (BuildItem item : cachedItems) {
+                            doProduce(new ItemId(item.getClass()), item);
+                        }
+                        cached = true;
+                    } else {
+                        if (cacheKey != null) {
+                            produced = Collections.synchronizedList(new ArrayList<>());
+                        }
+                        buildStep.execute(this);
+                        if (cacheKey != null && !execution.isErrorReported()) {
+                            stepCache.store(buildStep.getId(), cacheKey, new ArrayList<>(produced));
+                        }
+                    }
                 } catch (Throwable t) {
                     final List<Diagnostic> list = execution.getDiagnostics();
                     list.add(new Diagnostic(Diagnostic.Level.ERROR, t, null, "Build step %s threw an exception", buildStep));
                     execution.setErrorReported();
                 } finally {
                     running = false;
+                    produced = null;
                     currentThread.setContextClassLoader(old);
                 }
             }
         } finally {
-            long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
-            execution.getMetrics().buildStepFinished(stepInfo, currentThread.getName(), started, duration);
-            log.tracef("Finished step \"%s\" in %s ms", buildStep, duration);
+            long durationNanos = System.nanoTime() - start;
+            execution.getMetrics().buildStepFinished(stepInfo, currentThread.getName(), started, start, durationNanos, cached);
+            log.tracef("Finished step \"%s\" in %s ms", buildStep, TimeUnit.NANOSECONDS.toMillis(durationNanos));
             execution.removeBuildContext(stepInfo, this);
         }
         final Set<StepInfo> dependents = stepInfo.getDependents();
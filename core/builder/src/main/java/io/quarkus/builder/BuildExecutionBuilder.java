@@ -20,6 +20,8 @@ public final class BuildExecutionBuilder {
     private final String buildTargetName;
     private final Map<ItemId, BuildItem> initialSingle;
     private final Map<ItemId, ArrayList<BuildItem>> initialMulti;
+    private BuildStepCache stepCache;
+    private Map<String, Long> stepDurations = Collections.emptyMap();
 
     BuildExecutionBuilder(final BuildChain buildChain, final String buildTargetName) {
         this.buildChain = buildChain;
@@ -69,6 +71,32 @@ public <T extends BuildItem> BuildExecutionBuilder produce(Class<T> type, T item
         return this;
     }
 
+    /**
+     * Set the cache used to reuse the items produced by {@linkplain BuildStepBuilder#setCacheable(boolean) cacheable}
+     * build steps. No step is cached by default.
+     *
+     * @param stepCache the build step cache (may be {@code null})
+     * @return this builder
+     */
+    public BuildExecutionBuilder setStepCache(BuildStepCache stepCache) {
+        this.stepCache = stepCache;
+        return this;
+    }
+
+    /**
+     * Set the durations of the build steps in a previous build, which are used to start the steps heading the longest
+     * chains of steps first.
+     *
+     * @param stepDurations the duration of each build step in µs, keyed by build step id (must not be {@code null})
+     * @return this builder
+     * @see BuildMetrics#readStepDurations(java.nio.file.Path)
+     */
+    public BuildExecutionBuilder setStepDurations(Map<String, Long> stepDurations) {
+        Assert.checkNotNullParam("stepDurations", stepDurations);
+        this.stepDurations = stepDurations;
+        return this;
+    }
+
     /**
      * Run the build. The chain may run in one or many threads.
      *
@@ -110,6 +138,14 @@ Map<ItemId, ArrayList<BuildItem>> getInitialMulti() {
         return initialMulti;
     }
 
+    BuildStepCache getStepCache() {
+        return stepCache;
+    }
+
+    Map<String, Long> getStepDurations() {
+        return stepDurations;
+    }
+
     BuildChain getChain() {
         return buildChain;
     }
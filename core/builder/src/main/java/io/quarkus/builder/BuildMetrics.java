@@ -1,9 +1,11 @@
 package io.quarkus.builder;
 
+import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -11,11 +13,18 @@
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jboss.logging.Logger;
@@ -29,6 +38,7 @@ public class BuildMetrics {
     static final Logger LOG = Logger.getLogger(BuildMetrics.class.getName());
 
     private volatile LocalDateTime started;
+    private volatile long startedNanos;
     private volatile long duration;
     private final String buildTargetName;
     private final ConcurrentMap<String, BuildStepRecord> records = new ConcurrentHashMap<>();
@@ -46,6 +56,7 @@ public Collection<BuildStepRecord> getRecords() {
 
     public void buildStarted() {
         this.started = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        this.startedNanos = System.nanoTime();
     }
 
     public void buildFinished(long duration) {
@@ -53,8 +64,70 @@ public void buildFinished(long duration) {
     }
 
     public void buildStepFinished(StepInfo stepInfo, String thread, LocalTime started, long duration) {
+        long durationNanos = TimeUnit.MILLISECONDS.toNanos(duration);
+        buildStepFinished(stepInfo, thread, started, System.nanoTime() - durationNanos, durationNanos, false);
+    }
+
+    /**
+     * @param startNanos the {@link System#nanoTime()} at which the step started
+     * @param durationNanos the duration in ns
+     * @param cached whether the produced items were taken from the {@link BuildStepCache}
+     */
+    public void buildStepFinished(StepInfo stepInfo, String thread, LocalTime started, long startNanos, long durationNanos,
+            boolean cached) {
         records.put(stepInfo.getBuildStep().getId(),
-                new BuildStepRecord(idGenerator.incrementAndGet(), stepInfo, thread, started, duration));
+                new BuildStepRecord(idGenerator.incrementAndGet(), stepInfo, thread, started,
+                        TimeUnit.NANOSECONDS.toMillis(durationNanos), TimeUnit.NANOSECONDS.toMicros(startNanos - startedNanos),
+                        TimeUnit.NANOSECONDS.toMicros(durationNanos), cached));
+    }
+
+    /**
+     * The critical path is the chain of dependent steps with the longest total duration. The build cannot complete faster
+     * than the sum of the durations of the steps on this path, whatever the number of threads.
+     *
+     * @return the steps of the critical path, in execution order
+     */
+    public List<BuildStepRecord> getCriticalPath() {
+        Map<BuildStepRecord, Long> longestPaths = new HashMap<>();
+        BuildStepRecord first = null;
+        for (BuildStepRecord rec : records.values()) {
+            if (first == null || longestPath(rec, longestPaths) > longestPath(first, longestPaths)) {
+                first = rec;
+            }
+        }
+        List<BuildStepRecord> path = new ArrayList<>();
+        for (BuildStepRecord rec = first; rec != null;) {
+            path.add(rec);
+            BuildStepRecord next = null;
+            for (StepInfo dependent : rec.stepInfo.getDependents()) {
+                BuildStepRecord dependentRecord = records.get(dependent.getBuildStep().getId());
+                if (dependentRecord != null && (next == null
+                        || longestPath(dependentRecord, longestPaths) > longestPath(next, longestPaths))) {
+                    next = dependentRecord;
+                }
+            }
+            rec = next;
+        }
+        return path;
+    }
+
+    /**
+     * @return the longest total duration of a chain of steps starting with the given one
+     */
+    private long longestPath(BuildStepRecord rec, Map<BuildStepRecord, Long> longestPaths) {
+        Long result = longestPaths.get(rec);
+        if (result == null) {
+            long longestDependent = 0;
+            for (StepInfo dependent : rec.stepInfo.getDependents()) {
+                BuildStepRecord dependentRecord = records.get(dependent.getBuildStep().getId());
+                if (dependentRecord != null) {
+                    longestDependent = Math.max(longestDependent, longestPath(dependentRecord, longestPaths));
+                }
+            }
+            result = rec.durationMicros + longestDependent;
+            longestPaths.put(rec, result);
+        }
+        return result;
     }
 
     public void buildItemProduced(BuildItem buildItem) {
@@ -84,6 +157,16 @@ public int compare(BuildStepRecord o1, BuildStepRecord o2) {
         json.put("started", started.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
         json.put("duration", duration);
 
+        List<BuildStepRecord> criticalPath = getCriticalPath();
+        JsonArrayBuilder criticalPathArray = Json.array();
+        long criticalPathDuration = 0;
+        for (BuildStepRecord rec : criticalPath) {
+            criticalPathArray.add(rec.id);
+            criticalPathDuration += rec.durationMicros;
+        }
+        json.put("criticalPath", criticalPathArray);
+        json.put("criticalPathDuration", TimeUnit.MICROSECONDS.toMillis(criticalPathDuration));
+
         JsonArrayBuilder steps = Json.array();
         json.put("records", steps);
         for (BuildStepRecord rec : sortedSteps) {
@@ -93,6 +176,9 @@ public int compare(BuildStepRecord o1, BuildStepRecord o2) {
             recObject.put("thread", rec.thread);
             recObject.put("started", rec.started.format(formatter));
             recObject.put("duration", rec.duration);
+            if (rec.cached) {
+                recObject.put("cached", true);
+            }
             JsonArrayBuilder dependentsArray = Json.array();
             for (StepInfo dependent : rec.stepInfo.getDependents()) {
                 BuildStepRecord dependentRecord = records.get(dependent.getBuildStep().getId());
@@ -131,6 +217,96 @@ public int compare(Entry<String, Integer> o1, Entry<String, Integer> o2) {
         }
     }
 
+    /**
+     * Write the build steps as a trace in the Chrome trace event format, which can be opened with {@code chrome://tracing}
+     * or Perfetto. Each build thread is a track, and the steps of the critical path belong to the "critical-path"
+     * category.
+     *
+     * @param file the trace file
+     * @throws IOException if the file cannot be written
+     */
+    public void dumpTraceTo(Path file) throws IOException {
+        Set<BuildStepRecord> criticalPath = new HashSet<>(getCriticalPath());
+        Map<String, Integer> threadIds = new HashMap<>();
+        JsonArrayBuilder events = Json.array();
+        for (BuildStepRecord rec : records.values()) {
+            Integer tid = threadIds.get(rec.thread);
+            if (tid == null) {
+                tid = threadIds.size() + 1;
+                threadIds.put(rec.thread, tid);
+                events.add(Json.object()
+                        .put("name", "thread_name")
+                        .put("ph", "M")
+                        .put("pid", 1)
+                        .put("tid", tid)
+                        .put("args", Json.object().put("name", rec.thread)));
+            }
+            JsonObjectBuilder args = Json.object();
+            if (rec.cached) {
+                args.put("cached", true);
+            }
+            events.add(Json.object()
+                    .put("name", rec.stepInfo.getBuildStep().getId())
+                    .put("cat", criticalPath.contains(rec) ? "critical-path" : "build-step")
+                    .put("ph", "X")
+                    .put("ts", rec.startOffsetMicros)
+                    .put("dur", rec.durationMicros)
+                    .put("pid", 1)
+                    .put("tid", tid)
+                    .put("args", args));
+        }
+        JsonObjectBuilder json = Json.object();
+        json.put("traceEvents", events);
+        json.put("displayTimeUnit", "ms");
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file.toFile(), StandardCharsets.UTF_8))) {
+            json.appendTo(writer);
+        }
+    }
+
+    /**
+     * Write the duration of each build step, so that the next build can {@linkplain #readStepDurations(Path) read} them
+     * and prioritize the longest chains of steps.
+     *
+     * @param file the durations file
+     * @throws IOException if the file cannot be written
+     */
+    public void dumpStepDurationsTo(Path file) throws IOException {
+        Properties durations = new Properties();
+        for (BuildStepRecord rec : records.values()) {
+            durations.setProperty(rec.stepInfo.getBuildStep().getId(), Long.toString(rec.durationMicros));
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            durations.store(writer, null);
+        }
+    }
+
+    /**
+     * Read the durations written by {@link #dumpStepDurationsTo(Path)}.
+     *
+     * @param file the durations file
+     * @return the duration of each build step in µs, empty if the file does not exist or cannot be read
+     */
+    public static Map<String, Long> readStepDurations(Path file) {
+        if (!Files.exists(file)) {
+            return Collections.emptyMap();
+        }
+        Properties durations = new Properties();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            durations.load(reader);
+        } catch (IOException | IllegalArgumentException e) {
+            LOG.debugf(e, "Failed to read the build step durations from %s", file);
+            return Collections.emptyMap();
+        }
+        Map<String, Long> result = new HashMap<>();
+        for (String stepId : durations.stringPropertyNames()) {
+            try {
+                result.put(stepId, Long.parseLong(durations.getProperty(stepId)));
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        return result;
+    }
+
     public static class BuildStepRecord {
 
         /**
@@ -155,12 +331,31 @@ public static class BuildStepRecord {
          */
         public final long duration;
 
-        BuildStepRecord(int id, StepInfo stepInfo, String thread, LocalTime started, long duration) {
+        /**
+         * The time the execution started, in µs since the build started.
+         */
+        public final long startOffsetMicros;
+
+        /**
+         * The duration in µs.
+         */
+        public final long durationMicros;
+
+        /**
+         * Whether the produced items were taken from the {@link BuildStepCache} instead of running the step.
+         */
+        public final boolean cached;
+
+        BuildStepRecord(int id, StepInfo stepInfo, String thread, LocalTime started, long duration, long startOffsetMicros,
+                long durationMicros, boolean cached) {
             this.id = id;
             this.stepInfo = stepInfo;
             this.thread = thread;
             this.started = started;
             this.duration = duration;
+            this.startOffsetMicros = startOffsetMicros;
+            this.durationMicros = durationMicros;
+            this.cached = cached;
         }
 
     }
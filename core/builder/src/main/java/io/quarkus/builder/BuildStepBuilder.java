@@ -21,6 +21,7 @@ public final class BuildStepBuilder {
     private final Map<ItemId, Consume> consumes = new HashMap<>();
     private final Map<ItemId, Produce> produces = new HashMap<>();
     private BuildStep buildStep;
+    private boolean cacheable;
 
     BuildStepBuilder(final BuildChainBuilder buildChainBuilder) {
         this.buildChainBuilder = buildChainBuilder;
@@ -38,6 +39,22 @@ public BuildStepBuilder setBuildStep(final BuildStep buildStep) {
         return this;
     }
 
+    /**
+     * Mark the items produced by this build step as cacheable. If a {@link BuildStepCache} is set on the execution,
+     * the step is only run when the items it consumes changed since the items were stored, otherwise the stored items
+     * are produced again.
+     * <p>
+     * A cacheable step must only depend on the items it consumes and on the build configuration, and must not have any
+     * side effect other than producing items.
+     *
+     * @param cacheable {@code true} if the items produced by this step can be cached
+     * @return this builder
+     */
+    public BuildStepBuilder setCacheable(final boolean cacheable) {
+        this.cacheable = cacheable;
+        return this;
+    }
+
     /**
      * This build step should complete before any build steps which consume the given item {@code type} are initiated.
      * If no such build steps exist, no ordering constraint is enacted.
@@ -215,6 +232,10 @@ BuildStep getBuildStep() {
         return buildStep;
     }
 
+    boolean isCacheable() {
+        return cacheable;
+    }
+
     private void addConsumes(final ItemId itemId, final Constraint constraint, final ConsumeFlags flags) {
         Assert.checkNotNullParam("flags", flags);
         consumes.compute(itemId,
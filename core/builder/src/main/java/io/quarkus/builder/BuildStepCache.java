@@ -0,0 +1,46 @@
+package io.quarkus.builder;
+
+import java.util.List;
+
+import io.quarkus.builder.item.BuildItem;
+
+/**
+ * A cache of the items produced by {@linkplain BuildStepBuilder#setCacheable(boolean) cacheable} build steps.
+ * <p>
+ * Before a cacheable step is run, a key is derived from the step id and from the fingerprints of all the items the
+ * step consumes. If items were stored for that key by a previous build, they are produced again and the step is not
+ * run at all. Otherwise the step is run and the items it produced are stored.
+ * <p>
+ * Implementations must be thread-safe, as steps are run concurrently.
+ */
+public interface BuildStepCache {
+
+    /**
+     * Compute the fingerprint of a build item. Two items with the same fingerprint must be interchangeable from the
+     * point of view of any build step consuming them.
+     *
+     * @param item the build item (not {@code null})
+     * @return the fingerprint, or {@code null} if the item cannot be fingerprinted, in which case the steps consuming
+     *         it are not cached
+     */
+    String fingerprint(BuildItem item);
+
+    /**
+     * Load the items stored for the given step and key.
+     *
+     * @param stepId the build step id (not {@code null})
+     * @param key the cache key (not {@code null})
+     * @return the stored items in the order they were produced, or {@code null} if nothing was stored
+     */
+    List<BuildItem> load(String stepId, String key);
+
+    /**
+     * Store the items produced by the given step. Implementations may decide not to store the items, e.g. if one of
+     * them cannot be persisted.
+     *
+     * @param stepId the build step id (not {@code null})
+     * @param key the cache key (not {@code null})
+     * @param items the produced items in the order they were produced (not {@code null})
+     */
+    void store(String stepId, String key, List<BuildItem> items);
+}
@@ -4,11 +4,17 @@
 import static java.util.concurrent.locks.LockSupport.park;
 import static java.util.concurrent.locks.LockSupport.unpark;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -41,6 +47,15 @@ final class Execution {
     private volatile boolean done;
 
     private final BuildMetrics metrics;
+    private final BuildStepCache stepCache;
+    private final Map<StepInfo, Long> priorities;
+    private final PriorityBlockingQueue<BuildContext> readyQueue = new PriorityBlockingQueue<>(64,
+            new Comparator<BuildContext>() {
+                @Override
+                public int compare(BuildContext o1, BuildContext o2) {
+                    return Long.compare(o2.getPriority(), o1.getPriority());
+                }
+            });
 
     static {
         try {
@@ -56,7 +71,7 @@ final class Execution {
         this.finalIds = finalIds;
         final EnhancedQueueExecutor.Builder executorBuilder = new EnhancedQueueExecutor.Builder();
         executorBuilder.setRegisterMBean(false);
-        executorBuilder.setCorePoolSize(8).setMaximumPoolSize(1024);
+        executorBuilder.setCorePoolSize(max(8, Runtime.getRuntime().availableProcessors())).setMaximumPoolSize(1024);
         executorBuilder.setExceptionHandler(JBossExecutors.loggingExceptionHandler());
         executorBuilder.setThreadFactory(new JBossThreadFactory(new ThreadGroup("build group"), Boolean.FALSE, null, "build-%t",
                 JBossExecutors.loggingExceptionHandler(), null));
@@ -67,6 +82,49 @@ final class Execution {
             done = true;
 
         metrics = new BuildMetrics(buildTargetName);
+        stepCache = builder.getStepCache();
+        priorities = computePriorities(chain.getStartSteps(), builder.getStepDurations());
+    }
+
+    /**
+     * The priority of a step is the longest total duration of a chain of steps starting with it, based on the durations of
+     * the previous build. When more steps are ready than there are threads, the steps heading the longest chains are
+     * started first, as delaying them would delay the end of the build. Without previous durations, the chains with the
+     * most steps are started first.
+     */
+    private static Map<StepInfo, Long> computePriorities(List<StepInfo> startSteps, Map<String, Long> durations) {
+        final Map<StepInfo, Long> priorities = new HashMap<>();
+        final ArrayDeque<StepInfo> toVisit = new ArrayDeque<>(startSteps);
+        final List<StepInfo> ordered = new ArrayList<>();
+        // collect the steps in an order where each step comes after all its dependents
+        final Set<StepInfo> visited = new HashSet<>();
+        final Set<StepInfo> expanded = new HashSet<>();
+        while (!toVisit.isEmpty()) {
+            final StepInfo step = toVisit.peek();
+            if (expanded.contains(step)) {
+                toVisit.pop();
+                if (visited.add(step)) {
+                    ordered.add(step);
+                }
+                continue;
+            }
+            expanded.add(step);
+            for (StepInfo dependent : step.getDependents()) {
+                if (!expanded.contains(dependent)) {
+                    toVisit.push(dependent);
+                }
+            }
+        }
+        for (StepInfo step : ordered) {
+            long longestDependent = 0;
+            for (StepInfo dependent : step.getDependents()) {
+                longestDependent = max(longestDependent, priorities.getOrDefault(dependent, 0L));
+            }
+            // steps which took no measurable time still count, so that longer chains come first
+            final long duration = durations.getOrDefault(step.getBuildStep().getId(), 0L) + 1;
+            priorities.put(step, duration + longestDependent);
+        }
+        return priorities;
     }
 
     List<Diagnostic> getDiagnostics() {
@@ -89,7 +147,7 @@ BuildResult run() throws BuildException {
         // run the build
         final List<StepInfo> startSteps = chain.getStartSteps();
         for (StepInfo startStep : startSteps) {
-            executor.execute(getBuildContext(startStep)::run);
+            schedule(getBuildContext(startStep));
         }
         // wait for the wrap-up
         boolean intr = false;
@@ -138,6 +196,26 @@ BuildResult run() throws BuildException {
                 duration, metrics);
     }
 
+    /**
+     * Schedule a step whose dependencies all finished. Each submitted task runs the ready step with the highest priority,
+     * which is not necessarily the one it was submitted for.
+     */
+    void schedule(BuildContext buildContext) {
+        readyQueue.add(buildContext);
+        executor.execute(this::runNext);
+    }
+
+    private void runNext() {
+        final BuildContext next = readyQueue.poll();
+        if (next != null) {
+            next.run();
+        }
+    }
+
+    long getPriority(StepInfo stepInfo) {
+        return priorities.getOrDefault(stepInfo, 0L);
+    }
+
     EnhancedQueueExecutor getExecutor() {
         return executor;
     }
@@ -170,6 +248,10 @@ BuildMetrics getMetrics() {
         return metrics;
     }
 
+    BuildStepCache getStepCache() {
+        return stepCache;
+    }
+
     void depFinished() {
         final int count = lastStepCount.decrementAndGet();
         log.tracef("End step completed; %d remaining", count);
@@ -0,0 +1,252 @@
+package io.quarkus.builder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.builder.item.BuildItem;
+
+/**
+ * A {@link BuildStepCache} storing build items on disk.
+ * <p>
+ * Only {@link Serializable} build items are supported: an item is fingerprinted with the hash of its serialized form,
+ * unless a fingerprinter is registered for its type, and stored in a file named after the hash of its serialized form,
+ * so that an item produced by several builds is only stored once. The items produced by a step are listed in a manifest
+ * named after the hash of the salt, the step id and the cache key.
+ * <p>
+ * The salt must capture everything that can change the outcome of a cacheable step besides the items it consumes,
+ * e.g. the build configuration and the versions of the extensions. The cache directory is trusted like any other build
+ * output, the stored items are deserialized without any filtering.
+ */
+public final class FileBuildStepCache implements BuildStepCache {
+
+    private static final Logger log = Logger.getLogger(FileBuildStepCache.class);
+
+    private static final String ITEMS = "items";
+    private static final String STEPS = "steps";
+    private static final String SALTED = "salted";
+
+    private final Path directory;
+    private final String salt;
+    private final ClassLoader classLoader;
+    private final Map<Class<? extends BuildItem>, Function<BuildItem, String>> fingerprinters;
+    private final Map<BuildItem, String> fingerprints = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /**
+     * Create a new instance.
+     *
+     * @param directory the cache directory, created if it does not exist
+     * @param salt the salt added to all the cache keys
+     * @param classLoader the class loader used to load the classes of the stored items
+     */
+    public FileBuildStepCache(Path directory, String salt, ClassLoader classLoader) {
+        this(directory, salt, classLoader, Set.of());
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param directory the cache directory, created if it does not exist
+     * @param salt the salt added to all the cache keys
+     * @param classLoader the class loader used to load the classes of the stored items
+     * @param saltedTypes the types of the items whose content is entirely captured by the salt, they do not need to be
+     *        serializable to be fingerprinted
+     */
+    public FileBuildStepCache(Path directory, String salt, ClassLoader classLoader,
+            Set<Class<? extends BuildItem>> saltedTypes) {
+        this(directory, salt, classLoader, salted(saltedTypes));
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param directory the cache directory, created if it does not exist
+     * @param salt the salt added to all the cache keys
+     * @param classLoader the class loader used to load the classes of the stored items
+     * @param fingerprinters the functions computing the fingerprints of the items of the given types instead of their
+     *        serialized form, e.g. for items which are not serializable or whose serialized form contains absolute paths;
+     *        a function may return {@code null} if the item cannot be fingerprinted
+     */
+    public FileBuildStepCache(Path directory, String salt, ClassLoader classLoader,
+            Map<Class<? extends BuildItem>, Function<BuildItem, String>> fingerprinters) {
+        this.directory = directory;
+        this.salt = salt;
+        this.classLoader = classLoader;
+        this.fingerprinters = fingerprinters;
+    }
+
+    private static Map<Class<? extends BuildItem>, Function<BuildItem, String>> salted(
+            Set<Class<? extends BuildItem>> saltedTypes) {
+        final Map<Class<? extends BuildItem>, Function<BuildItem, String>> fingerprinters = new HashMap<>();
+        for (Class<? extends BuildItem> type : saltedTypes) {
+            fingerprinters.put(type, item -> SALTED);
+        }
+        return fingerprinters;
+    }
+
+    @Override
+    public String fingerprint(BuildItem item) {
+        String fingerprint = fingerprints.get(item);
+        if (fingerprint != null) {
+            return fingerprint;
+        }
+        final Function<BuildItem, String> fingerprinter = fingerprinters.get(item.getClass());
+        if (fingerprinter != null) {
+            fingerprint = fingerprinter.apply(item);
+            if (fingerprint != null) {
+                fingerprints.put(item, fingerprint);
+            }
+        } else if (item instanceof Serializable) {
+            try {
+                fingerprint = hash(serialize(item));
+            } catch (IOException e) {
+                // an item which is not serializable deep down
+                log.debugf(e, "Failed to fingerprint %s", item);
+                return null;
+            }
+            fingerprints.put(item, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    @Override
+    public List<BuildItem> load(String stepId, String key) {
+        final Path manifest = manifest(stepId, key);
+        if (!Files.exists(manifest)) {
+            return null;
+        }
+        try {
+            final List<BuildItem> items = new ArrayList<>();
+            for (String fingerprint : Files.readAllLines(manifest, StandardCharsets.UTF_8)) {
+                if (fingerprint.isEmpty()) {
+                    continue;
+                }
+                final BuildItem item;
+                try (InputStream in = Files.newInputStream(directory.resolve(ITEMS).resolve(fingerprint));
+                        ObjectInputStream ois = new ClassLoaderObjectInputStream(in, classLoader)) {
+                    item = (BuildItem) ois.readObject();
+                }
+                fingerprints.put(item, fingerprint);
+                items.add(item);
+            }
+            return items;
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            // a corrupted or incompatible entry is simply replaced
+            log.debugf(e, "Failed to load the cached items of step %s", stepId);
+            return null;
+        }
+    }
+
+    @Override
+    public void store(String stepId, String key, List<BuildItem> items) {
+        try {
+            final Path itemsDirectory = Files.createDirectories(directory.resolve(ITEMS));
+            final StringBuilder manifest = new StringBuilder();
+            for (BuildItem item : items) {
+                if (!(item instanceof Serializable)) {
+                    log.debugf("Not caching the items of step %s as %s is not serializable", stepId, item.getClass());
+                    return;
+                }
+                final byte[] bytes = serialize(item);
+                final String fingerprint = hash(bytes);
+                fingerprints.put(item, fingerprint);
+                final Path itemFile = itemsDirectory.resolve(fingerprint);
+                if (!Files.exists(itemFile)) {
+                    write(itemFile, bytes);
+                }
+                manifest.append(fingerprint).append('\n');
+            }
+            final Path manifestFile = manifest(stepId, key);
+            Files.createDirectories(manifestFile.getParent());
+            write(manifestFile, manifest.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // the cache is an optimization only, the build can go on without it
+            log.debugf(e, "Failed to store the items of step %s", stepId);
+        }
+    }
+
+    private Path manifest(String stepId, String key) {
+        return directory.resolve(STEPS).resolve(hash((salt + '\0' + stepId + '\0' + key).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static byte[] serialize(BuildItem item) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+            oos.writeObject(item);
+        } catch (RuntimeException e) {
+            // e.g. a failing writeObject() method
+            throw new NotSerializableException(e.toString());
+        }
+        return out.toByteArray();
+    }
+
+    private static void write(Path file, byte[] bytes) throws IOException {
+        // several builds may share the cache, files are never visible until they are complete
+        final Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tmp, bytes);
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static String hash(byte[] bytes) {
+        final byte[] hash;
+        try {
+            hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        final StringBuilder result = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            result.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return result.toString();
+    }
+
+    private static final class ClassLoaderObjectInputStream extends ObjectInputStream {
+
+        private final ClassLoader classLoader;
+
+        ClassLoaderObjectInputStream(InputStream in, ClassLoader classLoader) throws IOException {
+            super(in);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, classLoader);
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
@@ -10,11 +10,13 @@ final class StepInfo {
     private final Set<StepInfo> dependents;
     private final Set<ItemId> consumes;
     private final Set<ItemId> produces;
+    private final boolean cacheable;
 
     StepInfo(final BuildStepBuilder builder, int dependencies, Set<StepInfo> dependents) {
         buildStep = builder.getBuildStep();
         consumes = builder.getRealConsumes();
         produces = builder.getRealProduces();
+        cacheable = builder.isCacheable();
         this.dependencies = dependencies;
         this.dependents = dependents;
     }
@@ -38,4 +40,8 @@ Set<ItemId> getConsumes() {
     Set<ItemId> getProduces() {
         return produces;
     }
+
+    boolean isCacheable() {
+        return cacheable;
+    }
 }
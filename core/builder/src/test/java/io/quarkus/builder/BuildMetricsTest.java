@@ -0,0 +1,114 @@
+package io.quarkus.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+public class BuildMetricsTest {
+
+    public static final class FirstItem extends SimpleBuildItem {
+    }
+
+    public static final class SlowItem extends SimpleBuildItem {
+    }
+
+    public static final class FastItem extends SimpleBuildItem {
+    }
+
+    public static final class FinalItem extends SimpleBuildItem {
+    }
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testCriticalPath() throws Exception {
+        final BuildMetrics metrics = build();
+        final List<String> criticalPath = metrics.getCriticalPath().stream()
+                .map(r -> r.stepInfo.getBuildStep().getId())
+                .collect(Collectors.toList());
+        assertEquals(List.of("first", "slow", "final"), criticalPath);
+    }
+
+    @Test
+    public void testTraceAndDurations() throws Exception {
+        final BuildMetrics metrics = build();
+
+        final Path trace = dir.resolve("build-trace.json");
+        metrics.dumpTraceTo(trace);
+        final String json = Files.readString(trace, StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"traceEvents\""));
+        assertTrue(json.contains("\"name\":\"slow\""));
+        assertTrue(json.contains("\"critical-path\""));
+
+        final Path durationsFile = dir.resolve("build-step-durations.properties");
+        metrics.dumpStepDurationsTo(durationsFile);
+        final Map<String, Long> durations = BuildMetrics.readStepDurations(durationsFile);
+        assertEquals(4, durations.size());
+        assertTrue(durations.get("slow") >= 50_000);
+
+        // the durations of a previous build can be used to schedule the next one
+        final BuildMetrics next = build(durations);
+        assertEquals(4, next.getRecords().size());
+        assertTrue(BuildMetrics.readStepDurations(dir.resolve("missing.properties")).isEmpty());
+    }
+
+    private static BuildMetrics build() throws Exception {
+        return build(Map.of());
+    }
+
+    private static BuildMetrics build(Map<String, Long> durations) throws Exception {
+        final BuildChainBuilder builder = BuildChain.builder();
+        step(builder, "first", null, FirstItem.class, 0);
+        step(builder, "slow", FirstItem.class, SlowItem.class, 60);
+        step(builder, "fast", FirstItem.class, FastItem.class, 0);
+        builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(BuildContext context) {
+                context.produce(new FinalItem());
+            }
+
+            @Override
+            public String getId() {
+                return "final";
+            }
+        }).consumes(SlowItem.class).consumes(FastItem.class).produces(FinalItem.class).build();
+        builder.addFinal(FinalItem.class);
+        return builder.build().createExecutionBuilder("my-app.jar").setStepDurations(durations).execute().getMetrics();
+    }
+
+    private static void step(BuildChainBuilder builder, String id, Class<? extends SimpleBuildItem> consumed,
+            Class<? extends SimpleBuildItem> produced, long sleep) {
+        final BuildStepBuilder stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(BuildContext context) {
+                try {
+                    Thread.sleep(sleep);
+                    context.produce(produced.getDeclaredConstructor().newInstance());
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            @Override
+            public String getId() {
+                return id;
+            }
+        });
+        if (consumed != null) {
+            stepBuilder.consumes(consumed);
+        }
+        stepBuilder.produces(produced).build();
+    }
+}
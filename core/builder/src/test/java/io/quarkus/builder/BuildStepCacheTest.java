@@ -0,0 +1,107 @@
+package io.quarkus.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.builder.item.MultiBuildItem;
+import io.quarkus.builder.item.SimpleBuildItem;
+
+public class BuildStepCacheTest {
+
+    public static final class InputItem extends SimpleBuildItem implements Serializable {
+        final String value;
+
+        public InputItem(String value) {
+            this.value = value;
+        }
+    }
+
+    public static final class NotSerializableItem extends SimpleBuildItem {
+    }
+
+    public static final class OutputItem extends MultiBuildItem implements Serializable {
+        final String value;
+
+        public OutputItem(String value) {
+            this.value = value;
+        }
+    }
+
+    @TempDir
+    Path cacheDir;
+
+    @Test
+    public void testItemsAreReusedWhenInputsAreUnchanged() throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+        final BuildChain chain = chain(runs, InputItem.class);
+
+        assertEquals(List.of("a1", "a2"), outputs(run(chain, new InputItem("a"), "salt")));
+        assertEquals(1, runs.get());
+
+        final BuildResult cached = run(chain, new InputItem("a"), "salt");
+        assertEquals(List.of("a1", "a2"), outputs(cached));
+        assertEquals(1, runs.get());
+        assertTrue(cached.getMetrics().getRecords().stream().anyMatch(r -> r.cached));
+
+        assertEquals(List.of("b1", "b2"), outputs(run(chain, new InputItem("b"), "salt")));
+        assertEquals(2, runs.get());
+
+        // a different salt, e.g. a different configuration, must not reuse the items
+        assertEquals(List.of("a1", "a2"), outputs(run(chain, new InputItem("a"), "other")));
+        assertEquals(3, runs.get());
+    }
+
+    @Test
+    public void testStepConsumingNotSerializableItemIsNotCached() throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+        final BuildChain chain = chain(runs, NotSerializableItem.class);
+
+        run(chain, new NotSerializableItem(), "salt");
+        final BuildResult result = run(chain, new NotSerializableItem(), "salt");
+        assertEquals(2, runs.get());
+        assertFalse(result.getMetrics().getRecords().stream().anyMatch(r -> r.cached));
+    }
+
+    private BuildChain chain(AtomicInteger runs, Class<? extends SimpleBuildItem> input) throws ChainBuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        builder.addInitial(input);
+        builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(BuildContext context) {
+                runs.incrementAndGet();
+                final SimpleBuildItem item = context.consume(input);
+                final String prefix = item instanceof InputItem ? ((InputItem) item).value : "x";
+                context.produce(new OutputItem(prefix + "1"));
+                context.produce(new OutputItem(prefix + "2"));
+            }
+
+            @Override
+            public String getId() {
+                return "cacheable-step";
+            }
+        }).consumes(input).produces(OutputItem.class).setCacheable(true).build();
+        builder.addFinal(OutputItem.class);
+        return builder.build();
+    }
+
+    private BuildResult run(BuildChain chain, SimpleBuildItem input, String salt) throws BuildException {
+        final BuildExecutionBuilder execution = chain.createExecutionBuilder("my-app.jar")
+                .setStepCache(new FileBuildStepCache(cacheDir, salt, getClass().getClassLoader()));
+        execution.produce(input);
+        return execution.execute();
+    }
+
+    private static List<String> outputs(BuildResult result) {
+        return result.consumeMulti(OutputItem.class).stream().map(i -> i.value).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,138 @@
+package io.quarkus.deployment;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.bootstrap.model.ApplicationModel;
+import io.quarkus.builder.FileBuildStepCache;
+import io.quarkus.builder.Version;
+import io.quarkus.builder.item.BuildItem;
+import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
+import io.quarkus.deployment.builditem.ConfigurationBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.deployment.configuration.BuildTimeConfigurationReader;
+import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
+import io.quarkus.deployment.util.ContentHashes;
+import io.quarkus.maven.dependency.ArtifactKey;
+import io.quarkus.maven.dependency.ResolvedDependency;
+import io.quarkus.runtime.util.HashUtil;
+
+/**
+ * Creates the {@link FileBuildStepCache} of the production builds.
+ * <p>
+ * Everything the cache keys are computed from must be stable across builds of the same sources, including builds from
+ * a fresh checkout on another machine: the salt and the fingerprints are computed from content hashes and from the
+ * build time configuration only, never from file stamps, absolute paths or the environment.
+ */
+public final class BuildStepCaches {
+
+    private static final Logger log = Logger.getLogger(BuildStepCaches.class);
+
+    private BuildStepCaches() {
+    }
+
+    /**
+     * Creates the cache.
+     *
+     * @param directory the cache directory
+     * @param salt the salt, see {@link #salt(ApplicationModel, ContentHashes)}
+     * @param classLoader the class loader of the build steps
+     * @param contentHashes the content hashes used to fingerprint the application classes
+     */
+    public static FileBuildStepCache create(Path directory, String salt, ClassLoader classLoader,
+            ContentHashes contentHashes) {
+        final Map<Class<? extends BuildItem>, Function<BuildItem, String>> fingerprinters = Map.of(
+                ConfigurationBuildItem.class, item -> configFingerprint((ConfigurationBuildItem) item),
+                ArchiveRootBuildItem.class, item -> archiveRootFingerprint((ArchiveRootBuildItem) item, contentHashes),
+                // the salt covers the application model, and the cache is only used for production builds
+                CurateOutcomeBuildItem.class, item -> "salted",
+                LaunchModeBuildItem.class, item -> "salted");
+        return new FileBuildStepCache(directory, salt, classLoader, fingerprinters);
+    }
+
+    /**
+     * The salt covers the versions of Quarkus and Java and the application model: the coordinates and the content of
+     * every dependency, including the extensions whose build steps are cached, and the class loading rules.
+     */
+    public static String salt(ApplicationModel model, ContentHashes contentHashes) throws IOException {
+        final StringBuilder salt = new StringBuilder();
+        salt.append(Version.getVersion()).append('\n');
+        salt.append(System.getProperty("java.version")).append('\n');
+        if (model != null) {
+            salt.append(model.getAppArtifact().toCompactCoords()).append('\n');
+            final List<ResolvedDependency> dependencies = new ArrayList<>(model.getDependencies());
+            dependencies.sort(Comparator.comparing(ResolvedDependency::toCompactCoords));
+            for (ResolvedDependency dependency : dependencies) {
+                salt.append(dependency.toCompactCoords()).append(':').append(dependency.getFlags()).append('\n');
+                for (Path path : dependency.getResolvedPaths()) {
+                    salt.append(contentHashes.hash(path)).append('\n');
+                }
+            }
+            appendKeys(salt, "parent-first", model.getParentFirst());
+            appendKeys(salt, "runner-parent-first", model.getRunnerParentFirst());
+            appendKeys(salt, "lower-priority", model.getLowerPriorityArtifacts());
+            final Map<String, Set<String>> removedResources = new TreeMap<>();
+            for (Map.Entry<ArtifactKey, Set<String>> entry : model.getRemovedResources().entrySet()) {
+                removedResources.put(entry.getKey().toString(), new TreeSet<>(entry.getValue()));
+            }
+            salt.append("removed=").append(removedResources).append('\n');
+        }
+        return HashUtil.sha256(salt.toString());
+    }
+
+    private static void appendKeys(StringBuilder salt, String name, Collection<ArtifactKey> keys) {
+        final Set<String> sorted = new TreeSet<>();
+        for (ArtifactKey key : keys) {
+            sorted.add(key.toString());
+        }
+        salt.append(name).append('=').append(sorted).append('\n');
+    }
+
+    /**
+     * Only the build time configuration is captured, the runtime configuration cannot change what build steps
+     * produce.
+     */
+    private static String configFingerprint(ConfigurationBuildItem item) {
+        final BuildTimeConfigurationReader.ReadResult readResult = item.getReadResult();
+        final StringBuilder config = new StringBuilder();
+        appendValues(config, "build-time", readResult.getAllBuildTimeValues());
+        appendValues(config, "build-time-run-time-fixed", readResult.getBuildTimeRunTimeValues());
+        return HashUtil.sha256(config.toString());
+    }
+
+    private static void appendValues(StringBuilder config, String phase, Map<String, String> values) {
+        config.append(phase).append('\n');
+        for (Map.Entry<String, String> entry : new TreeMap<>(values).entrySet()) {
+            config.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+    }
+
+    /**
+     * The application classes are fingerprinted with their content and their paths relative to the root directories,
+     * so that the fingerprint does not depend on where the project is checked out.
+     */
+    private static String archiveRootFingerprint(ArchiveRootBuildItem item, ContentHashes contentHashes) {
+        final StringBuilder content = new StringBuilder();
+        try {
+            for (Path root : item.getRootDirectories()) {
+                content.append(contentHashes.hash(root, item::isExcludedFromIndexing)).append('\n');
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.debugf(e, "Failed to fingerprint the application root %s", item.getResolvedPaths());
+            return null;
+        }
+        return HashUtil.sha256(content.toString());
+    }
+}
@@ -525,6 +525,13 @@ private static Consumer<BuildChainBuilder> loadStepsFromClass(Class<?> clazz,
             addStep = and(addStep, supplierFactory, onlyIfNot, true);
             final BooleanSupplier finalAddStep = addStep;
 
+            if (buildStep.cacheable()) {
+                if (isRecorder) {
+                    throw new RuntimeException(method + " is marked @Record and cannot be a cacheable build step");
+                }
+                methodStepConfig = methodStepConfig.andThen(bsb -> bsb.setCacheable(true));
+            }
+
             if (isRecorder) {
                 assert recordAnnotation != null;
                 final ExecutionTime executionTime = recordAnnotation.value();
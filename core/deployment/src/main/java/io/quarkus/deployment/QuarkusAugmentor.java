@@ -1,6 +1,7 @@
 package io.quarkus.deployment;
 
 import java.io.Closeable;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -20,7 +21,9 @@
 import io.quarkus.builder.BuildChain;
 import io.quarkus.builder.BuildChainBuilder;
 import io.quarkus.builder.BuildExecutionBuilder;
+import io.quarkus.builder.BuildMetrics;
 import io.quarkus.builder.BuildResult;
+import io.quarkus.builder.BuildStepCache;
 import io.quarkus.builder.item.BuildItem;
 import io.quarkus.deployment.builditem.AdditionalApplicationArchiveBuildItem;
 import io.quarkus.deployment.builditem.AppModelProviderBuildItem;
@@ -33,6 +36,7 @@
 import io.quarkus.deployment.builditem.RuntimeApplicationShutdownBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
+import io.quarkus.deployment.util.ContentHashes;
 import io.quarkus.dev.spi.DevModeType;
 import io.quarkus.paths.PathCollection;
 import io.quarkus.runtime.LaunchMode;
@@ -43,6 +47,11 @@ public class QuarkusAugmentor {
 
     private static final Logger log = Logger.getLogger(QuarkusAugmentor.class);
 
+    private static final String BUILD_STEP_CACHE_ENABLED = "quarkus.build-step-cache.enabled";
+    private static final String BUILD_STEP_CACHE_DIRECTORY = "quarkus.build-step-cache.directory";
+    private static final String CONTENT_HASHES = "content-hashes.properties";
+    private static final String BUILD_STEP_DURATIONS = "build-step-durations.properties";
+
     private final ClassLoader classLoader;
     private final ClassLoader deploymentClassLoader;
     private final PathCollection root;
@@ -108,6 +117,15 @@ public BuildResult run() throws Exception {
                     buildSystemProperties == null ? new Properties() : buildSystemProperties,
                     effectiveModel, launchMode, devModeType)
                     .accept(chainBuilder);
+            final Path stepCacheDir = buildStepCacheDirectory();
+            final ContentHashes contentHashes = stepCacheDir == null ? null
+                    : ContentHashes.load(stepCacheDir.resolve(CONTENT_HASHES));
+            BuildStepCache stepCache = null;
+            if (contentHashes != null) {
+                log.debugf("Using the build step cache in %s", stepCacheDir);
+                stepCache = BuildStepCaches.create(stepCacheDir, BuildStepCaches.salt(effectiveModel, contentHashes),
+                        deploymentClassLoader, contentHashes);
+            }
 
             Thread.currentThread().setContextClassLoader(classLoader);
             chainBuilder.loadProviders(classLoader);
@@ -157,13 +175,24 @@ public BuildResult run() throws Exception {
             for (PathCollection i : additionalApplicationArchives) {
                 execBuilder.produce(new AdditionalApplicationArchiveBuildItem(i));
             }
+            execBuilder.setStepCache(stepCache);
+            // the durations of the previous build drive the order in which ready steps are started
+            final boolean recordDurations = targetDir != null
+                    && (launchMode == LaunchMode.NORMAL || launchMode == LaunchMode.DEVELOPMENT && !LaunchMode.isRemoteDev());
+            if (recordDurations) {
+                execBuilder.setStepDurations(BuildMetrics.readStepDurations(targetDir.resolve(BUILD_STEP_DURATIONS)));
+            }
             BuildResult buildResult = execBuilder.execute();
+            if (contentHashes != null) {
+                contentHashes.save();
+            }
             String message = "Quarkus augmentation completed in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
                     + "ms";
             if (launchMode == LaunchMode.NORMAL) {
                 log.info(message);
                 if (Boolean.parseBoolean(System.getProperty("quarkus.debug.dump-build-metrics"))) {
                     buildResult.getMetrics().dumpTo(targetDir.resolve("build-metrics.json"));
+                    buildResult.getMetrics().dumpTraceTo(targetDir.resolve("build-trace.json"));
                 }
             } else {
                 //test and dev mode already report the total startup time, no need to add noise to the logs
@@ -172,6 +201,14 @@ public BuildResult run() throws Exception {
                 // Dump the metrics in the dev mode but not remote-dev (as it could cause issues with container permissions)
                 if ((launchMode == LaunchMode.DEVELOPMENT) && !LaunchMode.isRemoteDev()) {
                     buildResult.getMetrics().dumpTo(targetDir.resolve("build-metrics.json"));
+                    buildResult.getMetrics().dumpTraceTo(targetDir.resolve("build-trace.json"));
+                }
+            }
+            if (recordDurations) {
+                try {
+                    buildResult.getMetrics().dumpStepDurationsTo(targetDir.resolve(BUILD_STEP_DURATIONS));
+                } catch (IOException e) {
+                    log.debugf(e, "Failed to store the build step durations in %s", targetDir);
                 }
             }
             return buildResult;
@@ -190,6 +227,27 @@ public BuildResult run() throws Exception {
         }
     }
 
+    /**
+     * The build step cache is only used for production builds, and must be enabled explicitly.
+     *
+     * @return the cache directory, or {@code null} if the cache is disabled
+     */
+    private Path buildStepCacheDirectory() {
+        if (launchMode != LaunchMode.NORMAL || !Boolean.parseBoolean(getBuildProperty(BUILD_STEP_CACHE_ENABLED))) {
+            return null;
+        }
+        final String directory = getBuildProperty(BUILD_STEP_CACHE_DIRECTORY);
+        return directory == null ? targetDir.resolve("quarkus-build-step-cache") : Path.of(directory);
+    }
+
+    private String getBuildProperty(String name) {
+        final String value = System.getProperty(name);
+        if (value != null || buildSystemProperties == null) {
+            return value;
+        }
+        return buildSystemProperties.getProperty(name);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -76,4 +76,16 @@
      * @return the supplier class array
      */
     Class<? extends BooleanSupplier>[] onlyIfNot() default {};
+
+    /**
+     * Whether the items produced by this build step can be reused by the next builds as long as the items it consumes
+     * and the build configuration do not change. Steps are only cached when the build step cache is enabled, and only
+     * if all the items they consume and produce are {@link java.io.Serializable}.
+     * <p>
+     * A cacheable build step must not depend on anything but the items and configuration it consumes, and must not have
+     * any side effect other than producing items. It cannot be annotated with {@link Record}.
+     *
+     * @return {@code true} if the produced items can be cached
+     */
+    boolean cacheable() default false;
 }
@@ -1,15 +1,26 @@
 package io.quarkus.deployment.builditem;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
 import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
 
 import io.quarkus.builder.item.SimpleBuildItem;
 
 /**
  * The Jandex index of the application root
  */
-public final class ApplicationIndexBuildItem extends SimpleBuildItem {
+public final class ApplicationIndexBuildItem extends SimpleBuildItem implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
-    private final Index index;
+    private transient Index index;
 
     public ApplicationIndexBuildItem(Index index) {
         this.index = index;
@@ -18,4 +29,20 @@ public ApplicationIndexBuildItem(Index index) {
     public Index getIndex() {
         return index;
     }
+
+    // the index is not serializable, it is stored in the Jandex format
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new IndexWriter(bytes).write(index);
+        out.writeInt(bytes.size());
+        bytes.writeTo(out);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        index = new IndexReader(new ByteArrayInputStream(bytes)).read();
+    }
 }
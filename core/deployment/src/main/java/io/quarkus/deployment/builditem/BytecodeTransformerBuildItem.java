@@ -1,12 +1,18 @@
 package io.quarkus.deployment.builditem;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.BiFunction;
 
 import org.objectweb.asm.ClassVisitor;
 
 import io.quarkus.builder.item.MultiBuildItem;
+import io.quarkus.deployment.util.IoUtil;
+import io.quarkus.runtime.util.HashUtil;
 
 public final class BytecodeTransformerBuildItem extends MultiBuildItem {
 
@@ -46,6 +52,19 @@ public final class BytecodeTransformerBuildItem extends MultiBuildItem {
 
     final int priority;
 
+    /**
+     * Identifies the transformation across builds. If all the transformers of a class have a cache key, the transformed
+     * class is stored on disk and reused by the next builds as long as the original class bytes and the cache keys do not
+     * change.
+     * <p>
+     * Transformers with the same cache key must produce the same output for the same class bytes, so the cache key must
+     * capture everything the transformation depends on besides the transformed class itself, e.g. any information about
+     * other classes, see {@link #classesCacheKey(ClassLoader, Collection)}, and the version of the libraries the
+     * transformer delegates to. The class of the transformer and the content of the archive it is loaded from are added
+     * to the cache key by the build.
+     */
+    final String cacheKey;
+
     public BytecodeTransformerBuildItem(String classToTransform,
             BiFunction<String, ClassVisitor, ClassVisitor> visitorFunction) {
         this(classToTransform, visitorFunction, null);
@@ -84,6 +103,7 @@ public BytecodeTransformerBuildItem(boolean eager, String classToTransform,
         this.classReaderOptions = 0;
         this.continueOnFailure = false;
         this.priority = 0;
+        this.cacheKey = null;
     }
 
     public BytecodeTransformerBuildItem(Builder builder) {
@@ -96,6 +116,7 @@ public BytecodeTransformerBuildItem(Builder builder) {
         this.classReaderOptions = builder.classReaderOptions;
         this.continueOnFailure = builder.continueOnFailure;
         this.priority = builder.priority;
+        this.cacheKey = builder.cacheKey;
         if (visitorFunction == null && inputTransformer == null) {
             throw new IllegalArgumentException("One of either visitorFunction or inputTransformer must be set");
         }
@@ -155,6 +176,32 @@ public int getPriority() {
         return priority;
     }
 
+    public String getCacheKey() {
+        return cacheKey;
+    }
+
+    /**
+     * Computes a cache key from the bytes of the given classes, for transformers whose output depends on other classes
+     * than the transformed one.
+     *
+     * @return the cache key, or {@code null} if one of the classes cannot be read, in which case the transformation must
+     *         not be cached
+     */
+    public static String classesCacheKey(ClassLoader classLoader, Collection<String> classNames) {
+        StringBuilder key = new StringBuilder();
+        for (String className : new TreeSet<>(classNames)) {
+            try (InputStream stream = IoUtil.readClass(classLoader, className)) {
+                if (stream == null) {
+                    return null;
+                }
+                key.append(className).append(':').append(HashUtil.sha256(IoUtil.readBytes(stream))).append('\n');
+            } catch (IOException e) {
+                return null;
+            }
+        }
+        return HashUtil.sha256(key.toString());
+    }
+
     public static class Builder {
         public BiFunction<String, byte[], byte[]> inputTransformer;
         public boolean continueOnFailure;
@@ -165,6 +212,7 @@ public static class Builder {
         private boolean cacheable = false;
         private int classReaderOptions = 0;
         private int priority = 0;
+        private String cacheKey = null;
 
         public Builder setContinueOnFailure(boolean continueOnFailure) {
             this.continueOnFailure = continueOnFailure;
@@ -211,6 +259,11 @@ public Builder setPriority(int priority) {
             return this;
         }
 
+        public Builder setCacheKey(String cacheKey) {
+            this.cacheKey = cacheKey;
+            return this;
+        }
+
         public BytecodeTransformerBuildItem build() {
             return new BytecodeTransformerBuildItem(this);
         }
@@ -1,8 +1,12 @@
 package io.quarkus.deployment.builditem;
 
+import java.io.Serializable;
+
 import io.quarkus.builder.item.MultiBuildItem;
 
-public final class GeneratedClassBuildItem extends MultiBuildItem {
+public final class GeneratedClassBuildItem extends MultiBuildItem implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     final boolean applicationClass;
     final String name;
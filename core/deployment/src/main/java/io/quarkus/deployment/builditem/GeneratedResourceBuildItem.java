@@ -1,8 +1,12 @@
 package io.quarkus.deployment.builditem;
 
+import java.io.Serializable;
+
 import io.quarkus.builder.item.MultiBuildItem;
 
-public final class GeneratedResourceBuildItem extends MultiBuildItem {
+public final class GeneratedResourceBuildItem extends MultiBuildItem implements Serializable {
+
+    private static final long serialVersionUID = 1L;
     final String name;
     final byte[] classData;
 
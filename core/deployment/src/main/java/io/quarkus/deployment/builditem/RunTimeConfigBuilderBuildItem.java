@@ -1,11 +1,15 @@
 package io.quarkus.deployment.builditem;
 
+import java.io.Serializable;
+
 import io.quarkus.builder.item.MultiBuildItem;
 
 /**
  * Provides a way to register a {@link io.quarkus.runtime.configuration.ConfigBuilder} in RUNTIME.
  */
-public final class RunTimeConfigBuilderBuildItem extends MultiBuildItem {
+public final class RunTimeConfigBuilderBuildItem extends MultiBuildItem implements Serializable {
+
+    private static final long serialVersionUID = 1L;
     private final String builderClassName;
 
     public RunTimeConfigBuilderBuildItem(final String builderClassName) {
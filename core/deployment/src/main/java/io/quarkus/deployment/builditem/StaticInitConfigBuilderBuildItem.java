@@ -1,11 +1,15 @@
 package io.quarkus.deployment.builditem;
 
+import java.io.Serializable;
+
 import io.quarkus.builder.item.MultiBuildItem;
 
 /**
  * Provides a way to register a {@link io.quarkus.runtime.configuration.ConfigBuilder} in STATIC INIT.
  */
-public final class StaticInitConfigBuilderBuildItem extends MultiBuildItem {
+public final class StaticInitConfigBuilderBuildItem extends MultiBuildItem implements Serializable {
+
+    private static final long serialVersionUID = 1L;
     private final String builderClassName;
 
     public StaticInitConfigBuilderBuildItem(final String builderClassName) {
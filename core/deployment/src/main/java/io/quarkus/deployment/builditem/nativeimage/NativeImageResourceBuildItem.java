@@ -1,5 +1,6 @@
 package io.quarkus.deployment.builditem.nativeimage;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -15,7 +16,9 @@
  * <li>Use {@link NativeImageResourcePatternsBuildItem} to select resource paths by regular expressions or globs
  * </ul>
  */
-public final class NativeImageResourceBuildItem extends MultiBuildItem {
+public final class NativeImageResourceBuildItem extends MultiBuildItem implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private final List<String> resources;
 
@@ -7,6 +7,7 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.jboss.jandex.AnnotationInstance;
@@ -20,6 +21,19 @@
 
 public class ClassComparisonUtil {
     static boolean isSameStructure(ClassInfo clazz, ClassInfo old) {
+        return isSameStructure(clazz, old, new AlwaysFalsePredicate<>());
+    }
+
+    /**
+     * Compares the structure of two versions of the same class.
+     *
+     * @param clazz the new version of the class
+     * @param old the old version of the class
+     * @param ignoredAnnotation annotations for which this predicate returns {@code true} are not taken into account, as
+     *        changing them does not require the application to be restarted
+     * @return {@code true} if the new version of the class can replace the old one without a restart
+     */
+    static boolean isSameStructure(ClassInfo clazz, ClassInfo old, Predicate<DotName> ignoredAnnotation) {
         if (clazz.flags() != old.flags()) {
             return false;
         }
@@ -29,7 +43,7 @@ static boolean isSameStructure(ClassInfo clazz, ClassInfo old) {
         if (!clazz.interfaceNames().equals(old.interfaceNames())) {
             return false;
         }
-        if (!compareAnnotations(clazz.declaredAnnotations(), old.declaredAnnotations())) {
+        if (!compareAnnotations(clazz.declaredAnnotations(), old.declaredAnnotations(), ignoredAnnotation)) {
             return false;
         }
         if (old.fields().size() != clazz.fields().size()) {
@@ -48,7 +62,7 @@ static boolean isSameStructure(ClassInfo clazz, ClassInfo old) {
             if (!of.type().equals(field.type())) {
                 return false;
             }
-            if (!compareAnnotations(of.annotations(), field.annotations())) {
+            if (!compareAnnotations(of.annotations(), field.annotations(), ignoredAnnotation)) {
                 return false;
             }
         }
@@ -87,7 +101,7 @@ static boolean isSameStructure(ClassInfo clazz, ClassInfo old) {
                 if (!paramEqual) {
                     continue;
                 }
-                if (!compareMethodAnnotations(i.annotations(), method.annotations())) {
+                if (!compareMethodAnnotations(i.annotations(), method.annotations(), ignoredAnnotation)) {
                     continue;
                 }
                 om = i;
@@ -101,6 +115,13 @@ static boolean isSameStructure(ClassInfo clazz, ClassInfo old) {
     }
 
     static boolean compareAnnotations(Collection<AnnotationInstance> a, Collection<AnnotationInstance> b) {
+        return compareAnnotations(a, b, new AlwaysFalsePredicate<>());
+    }
+
+    static boolean compareAnnotations(Collection<AnnotationInstance> a, Collection<AnnotationInstance> b,
+            Predicate<DotName> ignoredAnnotation) {
+        a = withoutIgnored(a, ignoredAnnotation);
+        b = withoutIgnored(b, ignoredAnnotation);
         if (a.size() != b.size()) {
             return false;
         }
@@ -120,6 +141,13 @@ static boolean compareAnnotations(Collection<AnnotationInstance> a, Collection<A
     }
 
     static boolean compareMethodAnnotations(Collection<AnnotationInstance> a, Collection<AnnotationInstance> b) {
+        return compareMethodAnnotations(a, b, new AlwaysFalsePredicate<>());
+    }
+
+    static boolean compareMethodAnnotations(Collection<AnnotationInstance> a, Collection<AnnotationInstance> b,
+            Predicate<DotName> ignoredAnnotation) {
+        a = withoutIgnored(a, ignoredAnnotation);
+        b = withoutIgnored(b, ignoredAnnotation);
         if (a.size() != b.size()) {
             return false;
         }
@@ -144,6 +172,16 @@ static boolean compareMethodAnnotations(Collection<AnnotationInstance> a, Collec
         return true;
     }
 
+    private static Collection<AnnotationInstance> withoutIgnored(Collection<AnnotationInstance> annotations,
+            Predicate<DotName> ignoredAnnotation) {
+        for (AnnotationInstance i : annotations) {
+            if (ignoredAnnotation.test(i.name())) {
+                return annotations.stream().filter(a -> !ignoredAnnotation.test(a.name())).collect(Collectors.toList());
+            }
+        }
+        return annotations;
+    }
+
     private static void methodMap(Collection<AnnotationInstance> b, List<AnnotationInstance> method2,
             Map<Integer, List<AnnotationInstance>> params2) {
         for (AnnotationInstance i : b) {
@@ -1,22 +1,58 @@
 package io.quarkus.deployment.dev;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+import org.jboss.jandex.DotName;
+
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 
 public class ConfigureDisableInstrumentationBuildStep {
 
+    /**
+     * Annotations that no build step reads, so that changing them does not require a restart.
+     * <p>
+     * Besides the annotations that only serve as hints for the compiler and for static analysis tools, this covers the
+     * debug information the Kotlin compiler stores in annotations: the line numbers of suspending functions and the
+     * source maps of inlined functions change with any edit of a function body, which would otherwise always force a
+     * restart of Kotlin applications.
+     * <p>
+     * {@code @Deprecated} and the nullability annotations are not listed: they are read at build time, e.g. by the
+     * SmallRye GraphQL and SmallRye OpenAPI extensions to generate the schema.
+     */
+    static final List<String> IGNORED_ANNOTATIONS = List.of(
+            FunctionalInterface.class.getName(),
+            "edu.umd.cs.findbugs.annotations.SuppressFBWarnings",
+            "kotlin.coroutines.jvm.internal.DebugMetadata",
+            "kotlin.jvm.internal.SourceDebugExtension");
+
+    @BuildStep
+    void ignoredAnnotations(BuildProducer<InstrumentationIgnoredAnnotationBuildItem> ignoredAnnotations) {
+        for (String name : IGNORED_ANNOTATIONS) {
+            ignoredAnnotations.produce(new InstrumentationIgnoredAnnotationBuildItem(name));
+        }
+    }
+
     @BuildStep
     ServiceStartBuildItem configure(List<DisableInstrumentationForIndexPredicateBuildItem> forIndexItems,
-            List<DisableInstrumentationForClassPredicateBuildItem> forClassItems) {
+            List<DisableInstrumentationForClassPredicateBuildItem> forClassItems,
+            List<InstrumentationIgnoredAnnotationBuildItem> ignoredAnnotationItems) {
+        RuntimeUpdatesProcessor processor = RuntimeUpdatesProcessor.INSTANCE;
+        if (processor != null && !ignoredAnnotationItems.isEmpty()) {
+            Set<DotName> ignoredAnnotations = ignoredAnnotationItems.stream()
+                    .map(InstrumentationIgnoredAnnotationBuildItem::getName)
+                    .collect(Collectors.toSet());
+            processor.setIgnoredAnnotationsForInstrumentation(ignoredAnnotations);
+        }
         if (forClassItems.isEmpty() && forIndexItems.isEmpty()) {
             return null;
         }
 
-        RuntimeUpdatesProcessor processor = RuntimeUpdatesProcessor.INSTANCE;
         if (processor != null) {
             processor.setDisableInstrumentationForIndexPredicate(determineEffectivePredicate(forIndexItems))
                     .setDisableInstrumentationForClassPredicate(determineEffectivePredicate(forClassItems));
@@ -0,0 +1,29 @@
+package io.quarkus.deployment.dev;
+
+import org.jboss.jandex.DotName;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * Declares an annotation that has no effect on the build, so that adding, removing or changing it does not prevent an
+ * instrumentation based reload.
+ * <p>
+ * Only annotations that are not processed by any build step should be registered, otherwise the change would not be
+ * taken into account until the next restart.
+ */
+public final class InstrumentationIgnoredAnnotationBuildItem extends MultiBuildItem {
+
+    private final DotName name;
+
+    public InstrumentationIgnoredAnnotationBuildItem(DotName name) {
+        this.name = name;
+    }
+
+    public InstrumentationIgnoredAnnotationBuildItem(String name) {
+        this(DotName.createSimple(name));
+    }
+
+    public DotName getName() {
+        return name;
+    }
+}
@@ -49,6 +49,7 @@
 import java.util.stream.Stream;
 
 import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Indexer;
@@ -92,6 +93,7 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
 
     private volatile Predicate<ClassInfo> disableInstrumentationForClassPredicate = new AlwaysFalsePredicate<>();
     private volatile Predicate<Index> disableInstrumentationForIndexPredicate = new AlwaysFalsePredicate<>();
+    private volatile Set<DotName> ignoredAnnotationsForInstrumentation = Collections.emptySet();
 
     private static volatile boolean instrumentationLogPrinted = false;
     /**
@@ -499,10 +501,13 @@ public boolean doScan(boolean userInitiated, boolean forceRestart) {
                         Index current = indexer.complete();
                         boolean ok = !disableInstrumentationForIndexPredicate.test(current);
                         if (ok) {
+                            Set<DotName> ignoredAnnotations = ignoredAnnotationsForInstrumentation;
                             for (ClassInfo clazz : current.getKnownClasses()) {
                                 ClassInfo old = lastStartIndex.getClassByName(clazz.name());
-                                if (!ClassComparisonUtil.isSameStructure(clazz, old)
+                                if (!ClassComparisonUtil.isSameStructure(clazz, old, ignoredAnnotations::contains)
                                         || disableInstrumentationForClassPredicate.test(clazz)) {
+                                    log.debugf("Instrumentation based reload not possible because of changes in %s",
+                                            clazz.name());
                                     ok = false;
                                     break;
                                 }
@@ -1083,6 +1088,14 @@ public RuntimeUpdatesProcessor setDisableInstrumentationForIndexPredicate(
         return this;
     }
 
+    /**
+     * Sets the annotations that can be added, removed or changed without preventing an instrumentation based reload.
+     */
+    public RuntimeUpdatesProcessor setIgnoredAnnotationsForInstrumentation(Set<DotName> ignoredAnnotations) {
+        this.ignoredAnnotationsForInstrumentation = ignoredAnnotations;
+        return this;
+    }
+
     public RuntimeUpdatesProcessor setWatchedFilePaths(Map<String, Boolean> watchedFilePaths, boolean isTest) {
         if (isTest) {
             setWatchedFilePathsInternal(watchedFilePaths, test,
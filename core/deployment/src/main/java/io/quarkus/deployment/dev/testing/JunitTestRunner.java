@@ -8,6 +8,7 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -15,15 +16,19 @@
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -109,6 +114,7 @@ public class JunitTestRunner {
     private final List<String> excludeEngines;
     private final boolean failingTestsOnly;
     private final TestType testType;
+    private final int unitTestParallelism;
 
     private volatile boolean testsRunning = false;
     private volatile boolean aborted;
@@ -130,6 +136,7 @@ public JunitTestRunner(Builder builder) {
         this.excludeEngines = builder.excludeEngines;
         this.failingTestsOnly = builder.failingTestsOnly;
         this.testType = builder.testType;
+        this.unitTestParallelism = builder.unitTestParallelism;
     }
 
     public Runnable prepare() {
@@ -145,49 +152,26 @@ public Runnable prepare() {
             currentTestAppConsumer.accept(testApplication);
 
             Set<UniqueId> allDiscoveredIds = new HashSet<>();
-            Set<UniqueId> dynamicIds = new HashSet<>();
+            Set<UniqueId> dynamicIds = ConcurrentHashMap.newKeySet();
             DiscoveryResult quarkusTestClasses = discoverTestClasses();
 
             Launcher launcher = LauncherFactory.create(LauncherConfig.builder().build());
-            LauncherDiscoveryRequestBuilder launchBuilder = LauncherDiscoveryRequestBuilder.request()
-                    .selectors(quarkusTestClasses.testClasses.stream().map(DiscoverySelectors::selectClass)
-                            .collect(Collectors.toList()));
-            launchBuilder.filters(new PostDiscoveryFilter() {
-                @Override
-                public FilterResult apply(TestDescriptor testDescriptor) {
-                    allDiscoveredIds.add(testDescriptor.getUniqueId());
-                    return FilterResult.included(null);
+            //the test plans to execute, in order, and whether their test classes are executed concurrently
+            Map<TestPlan, Boolean> testPlans = new LinkedHashMap<>();
+            if (unitTestParallelism > 1 && !quarkusTestClasses.unitTestClasses.isEmpty()) {
+                //unit tests do not share the Quarkus application, so they can run concurrently
+                //the Quarkus tests are then run one after the other, as usual
+                testPlans.put(launcher.discover(createDiscoveryRequest(quarkusTestClasses.unitTestClasses,
+                        parallelExecutionParameters(), allDiscoveredIds)), true);
+                if (!quarkusTestClasses.quarkusTestClasses.isEmpty()) {
+                    testPlans.put(launcher.discover(createDiscoveryRequest(quarkusTestClasses.quarkusTestClasses,
+                            Collections.emptyMap(), allDiscoveredIds)), false);
                 }
-            });
-            if (classScanResult != null) {
-                launchBuilder.filters(testClassUsages.getTestsToRun(classScanResult.getChangedClassNames(), testState));
-            }
-            if (!includeTags.isEmpty()) {
-                launchBuilder.filters(new TagFilter(false, includeTags));
-            } else if (!excludeTags.isEmpty()) {
-                launchBuilder.filters(new TagFilter(true, excludeTags));
-            }
-            if (include != null) {
-                launchBuilder.filters(new RegexFilter(false, include));
-            } else if (exclude != null) {
-                launchBuilder.filters(new RegexFilter(true, exclude));
-            }
-            if (!includeEngines.isEmpty()) {
-                launchBuilder.filters(EngineFilter.includeEngines(includeEngines));
-            } else if (!excludeEngines.isEmpty()) {
-                launchBuilder.filters(EngineFilter.excludeEngines(excludeEngines));
+            } else {
+                testPlans.put(launcher.discover(createDiscoveryRequest(quarkusTestClasses.testClasses,
+                        Collections.emptyMap(), allDiscoveredIds)), false);
             }
-            if (!additionalFilters.isEmpty()) {
-                launchBuilder.filters(additionalFilters.toArray(new PostDiscoveryFilter[0]));
-            }
-            if (failingTestsOnly) {
-                launchBuilder.filters(new CurrentlyFailingFilter());
-            }
-
-            LauncherDiscoveryRequest request = launchBuilder
-                    .build();
-            TestPlan testPlan = launcher.discover(request);
-            long toRun = testPlan.countTestIdentifiers(TestIdentifier::isTest);
+            long toRun = testPlans.keySet().stream().mapToLong(p -> p.countTestIdentifiers(TestIdentifier::isTest)).sum();
             for (TestRunListener listener : listeners) {
                 listener.runStarted(toRun);
             }
@@ -199,16 +183,25 @@ public void run() {
                         synchronized (JunitTestRunner.this) {
                             testsRunning = true;
                         }
-                        log.debug("Starting test run with " + testPlan.countTestIdentifiers((s) -> true) + " tests");
+                        log.debug("Starting test run with "
+                                + testPlans.keySet().stream().mapToLong(p -> p.countTestIdentifiers((s) -> true)).sum()
+                                + " tests");
                         QuarkusConsole.addOutputFilter(logHandler);
 
-                        final Deque<Set<String>> touchedClasses = new LinkedBlockingDeque<>();
-                        Map<TestIdentifier, Long> startTimes = new HashMap<>();
+                        final Deque<Set<String>> sharedTouchedClasses = new LinkedBlockingDeque<>();
+                        //when test classes run concurrently each thread tracks the classes touched by its own tests
+                        final ThreadLocal<Deque<Set<String>>> threadTouchedClasses = ThreadLocal
+                                .withInitial(ArrayDeque::new);
+                        final AtomicBoolean concurrent = new AtomicBoolean();
+                        final Supplier<Deque<Set<String>>> touchedClasses = () -> concurrent.get()
+                                ? threadTouchedClasses.get()
+                                : sharedTouchedClasses;
+                        Map<TestIdentifier, Long> startTimes = new ConcurrentHashMap<>();
                         final AtomicReference<Set<String>> startupClasses = new AtomicReference<>();
                         TracingHandler.setTracingHandler(new TracingHandler.TraceListener() {
                             @Override
                             public void touched(String className) {
-                                Set<String> set = touchedClasses.peek();
+                                Set<String> set = touchedClasses.get().peek();
                                 if (set != null) {
                                     set.add(className);
                                 }
@@ -216,15 +209,15 @@ public void touched(String className) {
 
                             @Override
                             public void quarkusStarting() {
-                                startupClasses.set(touchedClasses.peek());
+                                startupClasses.set(touchedClasses.get().peek());
                             }
                         });
 
-                        Map<String, Map<UniqueId, TestResult>> resultsByClass = new HashMap<>();
-                        AtomicReference<TestIdentifier> currentNonDynamicTest = new AtomicReference<>();
+                        Map<String, Map<UniqueId, TestResult>> resultsByClass = new ConcurrentHashMap<>();
+                        ThreadLocal<TestIdentifier> currentNonDynamicTest = new ThreadLocal<>();
+                        AtomicReference<TestPlan> currentTestPlan = new AtomicReference<>();
 
-                        Thread.currentThread().setContextClassLoader(tcl);
-                        launcher.execute(testPlan, new TestExecutionListener() {
+                        TestExecutionListener executionListener = new TestExecutionListener() {
 
                             @Override
                             public void executionStarted(TestIdentifier testIdentifier) {
@@ -242,10 +235,15 @@ public void executionStarted(TestIdentifier testIdentifier) {
                                     testClassName = testClass.getName();
                                     Thread.currentThread().setContextClassLoader(testClass.getClassLoader());
                                 }
+                                if (concurrent.get() && isClassSource(testIdentifier)) {
+                                    //the other test classes log at the same time, each class captures its own output
+                                    logHandler.startThreadCapture(testIdentifier.getUniqueId(),
+                                            testIdentifier.getParentId().orElse(null));
+                                }
                                 for (TestRunListener listener : listeners) {
                                     listener.testStarted(testIdentifier, testClassName);
                                 }
-                                touchedClasses.push(Collections.synchronizedSet(new HashSet<>()));
+                                touchedClasses.get().push(Collections.synchronizedSet(new HashSet<>()));
                             }
 
                             @Override
@@ -253,13 +251,13 @@ public void executionSkipped(TestIdentifier testIdentifier, String reason) {
                                 if (aborted) {
                                     return;
                                 }
-                                touchedClasses.pop();
+                                touchedClasses.get().pop();
                                 Class<?> testClass = getTestClassFromSource(testIdentifier.getSource());
                                 String displayName = getDisplayNameFromIdentifier(testIdentifier, testClass);
                                 UniqueId id = UniqueId.parse(testIdentifier.getUniqueId());
                                 if (testClass != null) {
                                     Map<UniqueId, TestResult> results = resultsByClass.computeIfAbsent(testClass.getName(),
-                                            s -> new HashMap<>());
+                                            s -> new ConcurrentHashMap<>());
                                     TestResult result = new TestResult(displayName, testClass.getName(), id,
                                             TestExecutionResult.aborted(null),
                                             logHandler.captureOutput(), testIdentifier.isTest(), runId, 0, true);
@@ -270,7 +268,7 @@ public void executionSkipped(TestIdentifier testIdentifier, String reason) {
                                         }
                                     }
                                 }
-                                touchedClasses.push(Collections.synchronizedSet(new HashSet<>()));
+                                touchedClasses.get().push(Collections.synchronizedSet(new HashSet<>()));
                             }
 
                             @Override
@@ -288,7 +286,7 @@ public void executionFinished(TestIdentifier testIdentifier,
                                     return;
                                 }
                                 boolean dynamic = dynamicIds.contains(UniqueId.parse(testIdentifier.getUniqueId()));
-                                Set<String> touched = touchedClasses.pop();
+                                Set<String> touched = touchedClasses.get().pop();
                                 Class<?> testClass = getTestClassFromSource(testIdentifier.getSource());
                                 String displayName = getDisplayNameFromIdentifier(testIdentifier, testClass);
                                 UniqueId id = UniqueId.parse(testIdentifier.getUniqueId());
@@ -299,21 +297,21 @@ public void executionFinished(TestIdentifier testIdentifier,
                                 String testClassName = testClass.getName();
 
                                 if (testExecutionResult.getStatus() != TestExecutionResult.Status.ABORTED) {
-                                    for (Set<String> i : touchedClasses) {
+                                    for (Set<String> i : touchedClasses.get()) {
                                         //also add the parent touched classes
                                         touched.addAll(i);
                                     }
                                     if (startupClasses.get() != null) {
                                         touched.addAll(startupClasses.get());
                                     }
-                                    if (testIdentifier.getSource().map(ClassSource.class::isInstance).orElse(false)) {
+                                    if (isClassSource(testIdentifier)) {
                                         testClassUsages.updateTestData(testClassName, touched);
                                     } else {
                                         testClassUsages.updateTestData(testClassName, id, touched);
                                     }
                                 }
                                 Map<UniqueId, TestResult> results = resultsByClass.computeIfAbsent(testClassName,
-                                        s -> new HashMap<>());
+                                        s -> new ConcurrentHashMap<>());
                                 TestResult result = new TestResult(displayName, testClassName, id,
                                         testExecutionResult,
                                         logHandler.captureOutput(), testIdentifier.isTest(), runId,
@@ -347,7 +345,7 @@ public void executionFinished(TestIdentifier testIdentifier,
                                     }
                                 } else if (testExecutionResult.getStatus() == TestExecutionResult.Status.FAILED) {
                                     //if a parent fails we fail the children
-                                    Set<TestIdentifier> children = testPlan.getChildren(testIdentifier);
+                                    Set<TestIdentifier> children = currentTestPlan.get().getChildren(testIdentifier);
                                     for (TestIdentifier child : children) {
                                         UniqueId childId = UniqueId.parse(child.getUniqueId());
                                         result = new TestResult(child.getDisplayName(), testClassName,
@@ -370,15 +368,24 @@ public void executionFinished(TestIdentifier testIdentifier,
                                         trimStackTrace(testClass, i);
                                     }
                                 }
+                                if (concurrent.get() && isClassSource(testIdentifier)) {
+                                    logHandler.stopThreadCapture(testIdentifier.getUniqueId());
+                                }
                             }
 
                             @Override
                             public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
 
                             }
-                        });
-                        if (aborted) {
-                            return;
+                        };
+                        for (Map.Entry<TestPlan, Boolean> testPlan : testPlans.entrySet()) {
+                            currentTestPlan.set(testPlan.getKey());
+                            concurrent.set(testPlan.getValue());
+                            Thread.currentThread().setContextClassLoader(tcl);
+                            launcher.execute(testPlan.getKey(), executionListener);
+                            if (aborted) {
+                                return;
+                            }
                         }
                         testState.updateResults(resultsByClass);
                         testState.pruneDeletedTests(allDiscoveredIds, dynamicIds);
@@ -421,6 +428,61 @@ public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry e
         }
     }
 
+    private LauncherDiscoveryRequest createDiscoveryRequest(List<Class<?>> testClasses,
+            Map<String, String> configurationParameters, Set<UniqueId> allDiscoveredIds) {
+        LauncherDiscoveryRequestBuilder launchBuilder = LauncherDiscoveryRequestBuilder.request()
+                .selectors(testClasses.stream().map(DiscoverySelectors::selectClass)
+                        .collect(Collectors.toList()))
+                .configurationParameters(configurationParameters);
+        launchBuilder.filters(new PostDiscoveryFilter() {
+            @Override
+            public FilterResult apply(TestDescriptor testDescriptor) {
+                allDiscoveredIds.add(testDescriptor.getUniqueId());
+                return FilterResult.included(null);
+            }
+        });
+        if (classScanResult != null) {
+            launchBuilder.filters(testClassUsages.getTestsToRun(classScanResult.getChangedClassNames(), testState));
+        }
+        if (!includeTags.isEmpty()) {
+            launchBuilder.filters(new TagFilter(false, includeTags));
+        } else if (!excludeTags.isEmpty()) {
+            launchBuilder.filters(new TagFilter(true, excludeTags));
+        }
+        if (include != null) {
+            launchBuilder.filters(new RegexFilter(false, include));
+        } else if (exclude != null) {
+            launchBuilder.filters(new RegexFilter(true, exclude));
+        }
+        if (!includeEngines.isEmpty()) {
+            launchBuilder.filters(EngineFilter.includeEngines(includeEngines));
+        } else if (!excludeEngines.isEmpty()) {
+            launchBuilder.filters(EngineFilter.excludeEngines(excludeEngines));
+        }
+        if (!additionalFilters.isEmpty()) {
+            launchBuilder.filters(additionalFilters.toArray(new PostDiscoveryFilter[0]));
+        }
+        if (failingTestsOnly) {
+            launchBuilder.filters(new CurrentlyFailingFilter());
+        }
+        return launchBuilder.build();
+    }
+
+    private static boolean isClassSource(TestIdentifier testIdentifier) {
+        return testIdentifier.getSource().map(ClassSource.class::isInstance).orElse(false);
+    }
+
+    private Map<String, String> parallelExecutionParameters() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("junit.jupiter.execution.parallel.enabled", "true");
+        //the methods of a test class run in the thread of the class, only the classes are run concurrently
+        parameters.put("junit.jupiter.execution.parallel.mode.default", "same_thread");
+        parameters.put("junit.jupiter.execution.parallel.mode.classes.default", "concurrent");
+        parameters.put("junit.jupiter.execution.parallel.config.strategy", "fixed");
+        parameters.put("junit.jupiter.execution.parallel.config.fixed.parallelism", Integer.toString(unitTestParallelism));
+        return parameters;
+    }
+
     private Class<?> getTestClassFromSource(Optional<TestSource> optionalTestSource) {
         if (optionalTestSource.isPresent()) {
             var testSource = optionalTestSource.get();
@@ -684,14 +746,11 @@ public String apply(Class<?> aClass) {
             //run unit style tests first
             //before the quarkus tests have started
             //which stops quarkus interfering with WireMock
-            List<Class<?>> ret = new ArrayList<>(utClasses.size() + itClasses.size());
-            ret.addAll(utClasses);
-            ret.addAll(itClasses);
-            return new DiscoveryResult(cl, ret);
+            return new DiscoveryResult(cl, utClasses, itClasses);
         } else if (testType == TestType.UNIT) {
-            return new DiscoveryResult(cl, utClasses);
+            return new DiscoveryResult(cl, utClasses, Collections.emptyList());
         } else {
-            return new DiscoveryResult(cl, itClasses);
+            return new DiscoveryResult(cl, Collections.emptyList(), itClasses);
         }
     }
 
@@ -763,6 +822,7 @@ static class Builder {
         private List<String> includeEngines = Collections.emptyList();
         private List<String> excludeEngines = Collections.emptyList();
         private boolean failingTestsOnly;
+        private int unitTestParallelism = 1;
 
         public Builder setRunId(long runId) {
             this.runId = runId;
@@ -850,6 +910,11 @@ public Builder setFailingTestsOnly(boolean failingTestsOnly) {
             this.failingTestsOnly = failingTestsOnly;
             return this;
         }
+
+        public Builder setUnitTestParallelism(int unitTestParallelism) {
+            this.unitTestParallelism = unitTestParallelism;
+            return this;
+        }
     }
 
     private static class TagFilter implements PostDiscoveryFilter {
@@ -978,11 +1043,17 @@ public FilterResult apply(TestDescriptor testDescriptor) {
     static class DiscoveryResult implements AutoCloseable {
 
         final QuarkusClassLoader classLoader;
+        final List<Class<?>> unitTestClasses;
+        final List<Class<?>> quarkusTestClasses;
         final List<Class<?>> testClasses;
 
-        DiscoveryResult(QuarkusClassLoader classLoader, List<Class<?>> testClasses) {
+        DiscoveryResult(QuarkusClassLoader classLoader, List<Class<?>> unitTestClasses, List<Class<?>> quarkusTestClasses) {
             this.classLoader = classLoader;
-            this.testClasses = testClasses;
+            this.unitTestClasses = unitTestClasses;
+            this.quarkusTestClasses = quarkusTestClasses;
+            this.testClasses = new ArrayList<>(unitTestClasses.size() + quarkusTestClasses.size());
+            this.testClasses.addAll(unitTestClasses);
+            this.testClasses.addAll(quarkusTestClasses);
         }
 
         @Override
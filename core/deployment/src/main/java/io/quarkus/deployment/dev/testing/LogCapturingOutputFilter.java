@@ -5,6 +5,8 @@
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
 import java.util.function.Supplier;
 
@@ -21,6 +23,14 @@ public class LogCapturingOutputFilter implements BiPredicate<String, Boolean> {
     private final boolean mergeErrorStream;
     private final boolean convertToHtml;
     private final Supplier<Boolean> finalPredicate;
+    /*
+     * When test classes run concurrently each of them captures the output of its own thread, and of the threads it
+     * starts, otherwise the output of a test would contain the log records of the other tests running at the same time.
+     * The capture of a pool thread is set explicitly for every test class it runs, as the pool threads also inherit the
+     * capture of the thread that started them.
+     */
+    private final InheritableThreadLocal<ThreadCapture> threadCapture = new InheritableThreadLocal<>();
+    private final Map<String, ThreadCapture> captures = new ConcurrentHashMap<>();
 
     public LogCapturingOutputFilter(CuratedApplication application, boolean mergeErrorStream, boolean convertToHtml,
             Supplier<Boolean> finalPredicate) {
@@ -30,16 +40,50 @@ public LogCapturingOutputFilter(CuratedApplication application, boolean mergeErr
         this.finalPredicate = finalPredicate;
     }
 
+    /**
+     * Captures the output of the current thread separately, until {@link #stopThreadCapture(String)} is called with the
+     * same owner. The capture replaces the one the current thread may have inherited.
+     *
+     * @param owner the id of the test that owns the capture
+     * @param parent the id of the parent of the test, the output is captured in the same buffer as the parent if it is
+     *        captured, e.g. for a nested test class, may be {@code null}
+     */
+    public void startThreadCapture(String owner, String parent) {
+        ThreadCapture parentCapture = parent != null ? captures.get(parent) : null;
+        ThreadCapture capture = new ThreadCapture(parentCapture);
+        captures.put(owner, capture);
+        threadCapture.set(capture);
+    }
+
+    /**
+     * Stops the capture started by {@link #startThreadCapture(String, String)}. The current thread captures its output in
+     * the buffer of the parent again, or in the shared buffer.
+     */
+    public void stopThreadCapture(String owner) {
+        ThreadCapture capture = captures.remove(owner);
+        if (capture != null && threadCapture.get() == capture && capture.parent != null
+                && captures.containsValue(capture.parent)) {
+            threadCapture.set(capture.parent);
+        } else {
+            threadCapture.remove();
+        }
+    }
+
     public List<String> captureOutput() {
-        List<String> ret = new ArrayList<>(logOutput);
-        logOutput.clear();
-        return ret;
+        ThreadCapture capture = threadCapture.get();
+        return copyAndClear(capture == null ? logOutput : capture.logOutput);
     }
 
     public List<String> captureErrorOutput() {
-        List<String> ret = new ArrayList<>(errorOutput);
-        errorOutput.clear();
-        return ret;
+        return copyAndClear(errorOutput);
+    }
+
+    private static List<String> copyAndClear(List<String> output) {
+        synchronized (output) {
+            List<String> ret = new ArrayList<>(output);
+            output.clear();
+            return ret;
+        }
     }
 
     @Override
@@ -52,6 +96,8 @@ public boolean test(String logRecord, Boolean errorStream) {
         while (cl.getParent() != null) {
             if (cl == application.getAugmentClassLoader()
                     || cl == application.getBaseRuntimeClassLoader()) {
+                ThreadCapture capture = threadCapture.get();
+                List<String> logOutput = capture == null ? this.logOutput : capture.logOutput;
                 //TODO: for convenience we save the log records as HTML rather than ANSI here
                 synchronized (logOutput) {
                     if (convertToHtml) {
@@ -61,7 +107,7 @@ public boolean test(String logRecord, Boolean errorStream) {
                             if (mergeErrorStream || !errorStream) {
                                 logOutput.add(out.toString(StandardCharsets.UTF_8));
                             } else {
-                                errorOutput.add(out.toString(StandardCharsets.UTF_8));
+                                addErrorOutput(out.toString(StandardCharsets.UTF_8));
                             }
                         } catch (IOException e) {
                             log.error("Failed to capture log record", e);
@@ -71,7 +117,7 @@ public boolean test(String logRecord, Boolean errorStream) {
                         if (mergeErrorStream || !errorStream) {
                             logOutput.add(logRecord);
                         } else {
-                            errorOutput.add(logRecord);
+                            addErrorOutput(logRecord);
                         }
                     }
                 }
@@ -81,4 +127,21 @@ public boolean test(String logRecord, Boolean errorStream) {
         }
         return true;
     }
+
+    private void addErrorOutput(String record) {
+        synchronized (errorOutput) {
+            errorOutput.add(record);
+        }
+    }
+
+    private static final class ThreadCapture {
+
+        final ThreadCapture parent;
+        final List<String> logOutput;
+
+        ThreadCapture(ThreadCapture parent) {
+            this.parent = parent;
+            this.logOutput = parent != null ? parent.logOutput : new ArrayList<>();
+        }
+    }
 }
@@ -59,6 +59,8 @@ Runnable prepare(ClassScanResult classScanResult, boolean reRunFailures, long ru
                         .setIncludeEngines(testSupport.includeEngines)
                         .setExcludeEngines(testSupport.excludeEngines)
                         .setTestType(testSupport.testType)
+                        .setUnitTestParallelism(
+                                testSupport.getConfig() == null ? 1 : testSupport.getConfig().unitTestParallelism)
                         .setModuleInfo(moduleInfo)
                         .addListener(listener)
                         .setFailingTestsOnly(classScanResult != null && testSupport.brokenOnlyMode); //broken only mode is only when changes are made, not for forced runs
@@ -246,6 +246,17 @@ public class TestConfig {
     @ConfigItem(defaultValue = "false")
     public boolean enableCallbacksForIntegrationTests;
 
+    /**
+     * The number of unit test classes (classes that are not annotated with {@code @QuarkusTest}) that continuous testing
+     * runs concurrently. A value of {@code 1} runs them one after the other.
+     *
+     * Unit tests are run before the {@code @QuarkusTest} tests, which are always run one after the other as they share
+     * the same application. Unit tests that run concurrently must not share any mutable state, and the classes touched by
+     * threads that they start themselves are not taken into account when deciding which tests to re-run.
+     */
+    @ConfigItem(defaultValue = "1")
+    public int unitTestParallelism;
+
     @ConfigGroup
     public static class Profile {
 
@@ -5,17 +5,23 @@
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.jboss.jandex.Index;
-import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Indexer;
 import org.jboss.logging.Logger;
 
@@ -35,6 +41,7 @@
 import io.quarkus.deployment.builditem.QuarkusBuildCloseablesBuildItem;
 import io.quarkus.deployment.configuration.ClassLoadingConfig;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
+import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
 import io.quarkus.maven.dependency.ArtifactCoords;
 import io.quarkus.maven.dependency.ArtifactKey;
 import io.quarkus.maven.dependency.GACT;
@@ -70,6 +77,31 @@ static final class IndexDependencyConfiguration {
         Map<String, IndexDependencyConfig> indexDependency;
     }
 
+    IndexCacheConfiguration indexCacheConfig;
+
+    @ConfigRoot(name = "index-cache", phase = ConfigPhase.BUILD_TIME)
+    static final class IndexCacheConfiguration {
+        /**
+         * Whether the Jandex indexes of the dependency archives should be stored on disk, so that subsequent builds
+         * only index the archives that changed.
+         */
+        @ConfigItem(defaultValue = "false")
+        boolean enabled;
+
+        /**
+         * The directory the indexes are stored in. Defaults to {@code quarkus-index-cache} in the build output directory.
+         * The directory can be shared between projects, for instance by pointing it to a location in the user home.
+         */
+        @ConfigItem
+        Optional<Path> directory;
+
+        /**
+         * The indexes that have not been used by any build for longer than this are removed from the directory.
+         */
+        @ConfigItem(defaultValue = "P7D")
+        Duration maxAge;
+    }
+
     @BuildStep
     void addConfiguredIndexedDependencies(BuildProducer<IndexDependencyBuildItem> indexDependencyBuildItemBuildProducer) {
         for (IndexDependencyConfig indexDependencyConfig : config.indexDependency.values()) {
@@ -87,13 +119,21 @@ ApplicationArchivesBuildItem build(
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
             LiveReloadBuildItem liveReloadContext,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
-            ClassLoadingConfig classLoadingConfig) throws IOException {
+            ClassLoadingConfig classLoadingConfig,
+            OutputTargetBuildItem outputTarget,
+            ExecutorService buildExecutor) throws IOException {
 
         IndexCache indexCache = liveReloadContext.getContextObject(IndexCache.class);
         if (indexCache == null) {
             indexCache = new IndexCache();
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
+        indexCache.persistentCache = indexCacheConfig.enabled
+                ? new PersistentIndexCache(indexCacheConfig.directory
+                        .orElseGet(() -> outputTarget.getOutputDirectory().resolve("quarkus-index-cache")),
+                        indexCacheConfig.maxAge)
+                : null;
+        indexCache.executor = buildExecutor;
 
         Map<ArtifactKey, Set<String>> removedResources = new HashMap<>();
         for (Map.Entry<String, Set<String>> entry : classLoadingConfig.removedResources.entrySet()) {
@@ -106,6 +146,9 @@ ApplicationArchivesBuildItem build(
         List<ApplicationArchive> applicationArchives = scanForOtherIndexes(buildCloseables,
                 appMarkers, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache,
                 curateOutcomeBuildItem, removedResources);
+        if (indexCache.persistentCache != null) {
+            indexCache.persistentCache.prune();
+        }
 
         final OpenPathTree tree;
         if (root.getRootDirectories().size() == 1) {
@@ -132,7 +175,8 @@ private List<ApplicationArchive> scanForOtherIndexes(QuarkusBuildCloseablesBuild
             CurateOutcomeBuildItem curateOutcomeBuildItem, Map<ArtifactKey, Set<String>> removedResources)
             throws IOException {
 
-        List<ApplicationArchive> appArchives = new ArrayList<>();
+        // the archives are indexed in parallel, the list keeps them in a stable order
+        List<Future<ApplicationArchive>> appArchives = new ArrayList<>();
         Set<Path> indexedPaths = new HashSet<>();
 
         //get paths that are included via marker files
@@ -157,11 +201,28 @@ private List<ApplicationArchive> scanForOtherIndexes(QuarkusBuildCloseablesBuild
             }
         }
 
-        return appArchives;
+        List<ApplicationArchive> result = new ArrayList<>(appArchives.size());
+        try {
+            for (Future<ApplicationArchive> archive : appArchives) {
+                result.add(archive.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+        return result;
     }
 
     private void addIndexDependencyPaths(List<IndexDependencyBuildItem> indexDependencyBuildItems, ArchiveRootBuildItem root,
-            Set<Path> indexedDeps, List<ApplicationArchive> appArchives,
+            Set<Path> indexedDeps, List<Future<ApplicationArchive>> appArchives,
             QuarkusBuildCloseablesBuildItem buildCloseables, IndexCache indexCache,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
             Map<ArtifactKey, Set<String>> removedResources) {
@@ -200,25 +261,27 @@ private void addIndexDependencyPaths(List<IndexDependencyBuildItem> indexDepende
         }
     }
 
-    private static ApplicationArchive createApplicationArchive(QuarkusBuildCloseablesBuildItem buildCloseables,
+    private static Future<ApplicationArchive> createApplicationArchive(QuarkusBuildCloseablesBuildItem buildCloseables,
             IndexCache indexCache, Path dep, ArtifactKey artifactKey, Map<ArtifactKey, Set<String>> removedResources)
             throws IOException {
         LOGGER.debugf("Indexing dependency: %s", dep);
         final Set<String> removed = removedResources.get(artifactKey);
-        final OpenPathTree openTree;
-        final IndexView index;
         if (Files.isDirectory(dep)) {
-            openTree = new DirectoryPathTree(dep);
-            index = indexPathTree(openTree, removed);
-        } else {
-            openTree = buildCloseables.add(PathTree.ofArchive(dep).open());
-            index = handleJarPath(dep, indexCache, removed);
+            final OpenPathTree openTree = new DirectoryPathTree(dep);
+            return CompletableFuture.completedFuture(
+                    new ApplicationArchiveImpl(indexPathTree(openTree, removed), openTree, artifactKey));
         }
-        return new ApplicationArchiveImpl(index, openTree, artifactKey);
+        final OpenPathTree openTree = buildCloseables.add(PathTree.ofArchive(dep).open());
+        return indexCache.executor.submit(new Callable<ApplicationArchive>() {
+            @Override
+            public ApplicationArchive call() {
+                return new ApplicationArchiveImpl(handleJarPath(dep, indexCache, removed), openTree, artifactKey);
+            }
+        });
     }
 
     private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
-            ArchiveRootBuildItem root, Set<Path> indexedPaths, List<ApplicationArchive> appArchives,
+            ArchiveRootBuildItem root, Set<Path> indexedPaths, List<Future<ApplicationArchive>> appArchives,
             IndexCache indexCache, Map<ArtifactKey, Set<String>> removed)
             throws IOException {
         final QuarkusClassLoader cl = ((QuarkusClassLoader) Thread.currentThread().getContextClassLoader());
@@ -246,16 +309,15 @@ private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
                         if (root.isExcludedFromIndexing(rootPath)) {
                             return null;
                         }
-                        Index index = indexCache.cache.get(rootPath);
-                        if (index == null) {
-                            try {
-                                index = IndexingUtil.indexTree(tree, removed.get(dependencyKey));
-                            } catch (IOException ioe) {
-                                throw new UncheckedIOException(ioe);
+                        // the tree is only open while this function runs, so the task opens the archive on its own
+                        appArchives.add(indexCache.executor.submit(new Callable<ApplicationArchive>() {
+                            @Override
+                            public ApplicationArchive call() {
+                                return new ApplicationArchiveImpl(
+                                        handleMarkedJarPath(rootPath, indexCache, removed.get(dependencyKey)), tree,
+                                        dependencyKey);
                             }
-                            indexCache.cache.put(rootPath, index);
-                        }
-                        appArchives.add(new ApplicationArchiveImpl(index, tree, dependencyKey));
+                        }));
                         return null;
                     }
 
@@ -272,7 +334,7 @@ private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
                         return new ApplicationArchiveImpl(index, tree, dependencyKey);
                     });
                     if (archive != null) {
-                        appArchives.add(archive);
+                        appArchives.add(CompletableFuture.completedFuture(archive));
                     }
                     return null;
                 });
@@ -304,13 +366,20 @@ public void visitPath(PathVisit visit) {
     }
 
     private static Index handleJarPath(Path path, IndexCache indexCache, Set<String> removed) {
-        return indexCache.cache.computeIfAbsent(path, new Function<Path, Index>() {
+        return indexCache.getOrIndex(path, removed, "jar", new PersistentIndexCache.ArchiveIndexer() {
             @Override
-            public Index apply(Path path) {
-                try {
-                    return IndexingUtil.indexJar(path, removed);
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to process " + path, e);
+            public Index index() throws IOException {
+                return IndexingUtil.indexJar(path, removed);
+            }
+        });
+    }
+
+    private static Index handleMarkedJarPath(Path path, IndexCache indexCache, Set<String> removed) {
+        return indexCache.getOrIndex(path, removed, "tree", new PersistentIndexCache.ArchiveIndexer() {
+            @Override
+            public Index index() throws IOException {
+                try (OpenPathTree tree = PathTree.ofArchive(path).open()) {
+                    return IndexingUtil.indexTree(tree, removed);
                 }
             }
         });
@@ -319,8 +388,29 @@ public Index apply(Path path) {
     /**
      * When running in hot deployment mode we know that java archives will never change, there is no need
      * to re-index them each time. We cache them here to reduce the hot reload time.
+     * <p>
+     * Archives that are not in memory yet are looked up in the persistent cache, if it is enabled, which
+     * saves indexing them again across builds.
      */
     private static final class IndexCache {
-        final Map<Path, Index> cache = new HashMap<>();
+        final Map<Path, Index> cache = new ConcurrentHashMap<>();
+        volatile PersistentIndexCache persistentCache;
+        volatile ExecutorService executor;
+
+        Index getOrIndex(Path path, Set<String> removed, String variant, PersistentIndexCache.ArchiveIndexer indexer) {
+            Index index = cache.get(path);
+            if (index != null) {
+                return index;
+            }
+            try {
+                PersistentIndexCache persistentCache = this.persistentCache;
+                index = persistentCache != null ? persistentCache.getOrIndex(path, removed, variant, indexer)
+                        : indexer.index();
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to process " + path, e);
+            }
+            Index existing = cache.putIfAbsent(path, index);
+            return existing != null ? existing : index;
+        }
     }
 }
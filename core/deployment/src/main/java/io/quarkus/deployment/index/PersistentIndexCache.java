@@ -0,0 +1,186 @@
+package io.quarkus.deployment.index;
+
+import static io.quarkus.bootstrap.classloading.JarClassPathElement.JAVA_VERSION;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+/**
+ * On-disk cache of the Jandex indexes of dependency archives.
+ * <p>
+ * Indexes are stored in files named after a hash of the archive content, of the resources removed from the archive and
+ * of the Java version, as multi-release archives are indexed for the current Java version. An archive that changes,
+ * e.g. a SNAPSHOT dependency, thus gets a new entry, and several builds can safely share the same directory.
+ * <p>
+ * Entries are touched when they are used, and the entries that have not been used for a while are removed by
+ * {@link #prune()}.
+ */
+final class PersistentIndexCache {
+
+    private static final Logger log = Logger.getLogger(PersistentIndexCache.class);
+
+    /**
+     * Bump when the content of the cached indexes changes, e.g. when the Jandex version is upgraded.
+     */
+    private static final String CACHE_VERSION = "1";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Path directory;
+    private final Duration maxAge;
+
+    PersistentIndexCache(Path directory, Duration maxAge) {
+        this.directory = directory;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Returns the cached index of the given archive, or indexes it and stores the result if it is not cached yet.
+     *
+     * @param archive the archive
+     * @param removed the resources removed from the archive, may be null
+     * @param variant identifies the way the archive is indexed, archives indexed differently are cached separately
+     * @param indexer indexes the archive on a cache miss
+     */
+    Index getOrIndex(Path archive, Set<String> removed, String variant, ArchiveIndexer indexer) throws IOException {
+        final Path indexFile;
+        try {
+            indexFile = directory.resolve(key(archive, removed, variant) + INDEX_SUFFIX);
+        } catch (IOException e) {
+            log.debugf(e, "Failed to compute the index cache key of %s", archive);
+            return indexer.index();
+        }
+        Index index = read(indexFile);
+        if (index != null) {
+            log.debugf("Loaded the index of %s from %s", archive, indexFile);
+            return index;
+        }
+        index = indexer.index();
+        write(indexFile, index);
+        return index;
+    }
+
+    private static Index read(Path indexFile) {
+        if (!Files.exists(indexFile)) {
+            return null;
+        }
+        try (InputStream in = Files.newInputStream(indexFile)) {
+            final Index index = new IndexReader(in).read();
+            // keeps the entry from being pruned
+            Files.setLastModifiedTime(indexFile, FileTime.fromMillis(System.currentTimeMillis()));
+            return index;
+        } catch (IOException | RuntimeException e) {
+            // a corrupted or incompatible entry is simply replaced
+            log.debugf(e, "Failed to read cached index %s", indexFile);
+            return null;
+        }
+    }
+
+    private void write(Path indexFile, Index index) {
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            tmp = Files.createTempFile(directory, indexFile.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                new IndexWriter(out).write(index);
+            }
+            try {
+                Files.move(tmp, indexFile, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // the cache is an optimization only, the build can go on without it
+            log.debugf(e, "Failed to store index %s", indexFile);
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the entries that have not been used for longer than the max age.
+     */
+    void prune() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        final long oldest = System.currentTimeMillis() - maxAge.toMillis();
+        int removed = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            final Iterator<Path> it = files.iterator();
+            while (it.hasNext()) {
+                final Path file = it.next();
+                if (file.getFileName().toString().endsWith(INDEX_SUFFIX)
+                        && Files.getLastModifiedTime(file).toMillis() < oldest) {
+                    Files.deleteIfExists(file);
+                    ++removed;
+                }
+            }
+        } catch (IOException e) {
+            log.debugf(e, "Failed to prune the index cache %s", directory);
+        }
+        if (removed > 0) {
+            log.debugf("Removed %d unused entries from the index cache %s", removed, directory);
+        }
+    }
+
+    static String key(Path archive, Set<String> removed, String variant) throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update((CACHE_VERSION + ':' + JAVA_VERSION + ':' + variant + ':').getBytes(StandardCharsets.UTF_8));
+        byte[] buffer = new byte[16384];
+        try (InputStream in = Files.newInputStream(archive)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        if (removed != null) {
+            // the removed resources are hashed in a stable order, and distinguished from an empty set
+            digest.update((byte) 1);
+            for (String resource : new TreeSet<>(removed)) {
+                digest.update(resource.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+        }
+        byte[] hash = digest.digest();
+        char[] hex = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; ++i) {
+            hex[i * 2] = HEX[(hash[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX[hash[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    @FunctionalInterface
+    interface ArchiveIndexer {
+        Index index() throws IOException;
+    }
+}
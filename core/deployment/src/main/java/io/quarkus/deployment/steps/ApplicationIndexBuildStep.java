@@ -25,7 +25,11 @@ public class ApplicationIndexBuildStep {
 
     private static final Logger log = Logger.getLogger(ApplicationIndexBuildStep.class);
 
-    @BuildStep
+    /**
+     * Reads and indexes every application class. The application classes are fingerprinted with their content in the
+     * build step cache, so the index is reused as long as they do not change.
+     */
+    @BuildStep(cacheable = true)
     ApplicationIndexBuildItem build(ArchiveRootBuildItem root, CurateOutcomeBuildItem curation,
             ClassLoadingConfig classLoadingConfig) throws IOException {
         Indexer indexer = new Indexer();
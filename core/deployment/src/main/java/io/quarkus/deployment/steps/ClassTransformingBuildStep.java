@@ -6,6 +6,7 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -15,6 +16,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
@@ -48,10 +50,14 @@
 import io.quarkus.deployment.index.ConstPoolScanner;
 import io.quarkus.deployment.pkg.PackageConfig;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
+import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
 import io.quarkus.maven.dependency.ArtifactKey;
 import io.quarkus.maven.dependency.GACT;
 import io.quarkus.maven.dependency.ResolvedDependency;
 import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
 
 public class ClassTransformingBuildStep {
 
@@ -63,6 +69,32 @@ public class ClassTransformingBuildStep {
     private static final Map<String, TransformedClassesBuildItem.TransformedClass> transformedClassesCache = new ConcurrentHashMap<>();
     private static volatile BiFunction<String, byte[], byte[]> lastTransformers;
 
+    TransformationCacheConfiguration transformationCacheConfig;
+
+    @ConfigRoot(name = "transformation-cache", phase = ConfigPhase.BUILD_TIME)
+    static final class TransformationCacheConfiguration {
+        /**
+         * Whether the classes transformed by transformers that support it should be stored on disk, so that subsequent
+         * builds only transform the classes that changed.
+         */
+        @ConfigItem(defaultValue = "false")
+        boolean enabled;
+
+        /**
+         * The transformed classes that have not been used by any build for longer than this are removed from the
+         * directory.
+         */
+        @ConfigItem(defaultValue = "P7D")
+        Duration maxAge;
+
+        /**
+         * The directory the transformed classes are stored in. Defaults to {@code quarkus-transformation-cache} in the
+         * build output directory.
+         */
+        @ConfigItem
+        Optional<Path> directory;
+    }
+
     public static byte[] transform(String className, byte[] classData) {
         if (lastTransformers == null) {
             return classData;
@@ -77,7 +109,7 @@ TransformedClassesBuildItem handleClassTransformation(List<BytecodeTransformerBu
             LaunchModeBuildItem launchModeBuildItem, ClassLoadingConfig classLoadingConfig,
             CurateOutcomeBuildItem curateOutcomeBuildItem, List<RemovedResourceBuildItem> removedResourceBuildItems,
             ArchiveRootBuildItem archiveRoot, LaunchModeBuildItem launchMode, PackageConfig packageConfig,
-            ExecutorService buildExecutor)
+            OutputTargetBuildItem outputTarget, ExecutorService buildExecutor)
             throws ExecutionException, InterruptedException {
         if (bytecodeTransformerBuildItems.isEmpty() && classLoadingConfig.removedResources.isEmpty()
                 && removedResourceBuildItems.isEmpty()) {
@@ -109,6 +141,11 @@ TransformedClassesBuildItem handleClassTransformation(List<BytecodeTransformerBu
                     // class reader options are bit flags (see org.objectweb.asm.ClassReader)
                     (oldValue, newValue) -> oldValue | newValue);
         }
+        final PersistentTransformationCache persistentCache = transformationCacheConfig.enabled
+                ? new PersistentTransformationCache(transformationCacheConfig.directory
+                        .orElseGet(() -> outputTarget.getOutputDirectory().resolve("quarkus-transformation-cache")),
+                        transformationCacheConfig.maxAge)
+                : null;
         QuarkusClassLoader cl = (QuarkusClassLoader) Thread.currentThread().getContextClassLoader();
         Map<String, Path> transformedToArchive = new ConcurrentHashMap<>();
         // now copy all the contents to the runner jar
@@ -215,6 +252,16 @@ public byte[] apply(String className, byte[] originalBytes) {
                         .map(BytecodeTransformerBuildItem::getInputTransformer)
                         .filter(Objects::nonNull)
                         .collect(Collectors.toList());
+                // the transformed class is only stored on disk if all the transformers support it
+                List<String> cacheKeys = persistentCache == null ? null
+                        : entry.getValue().stream()
+                                .sorted(Comparator.comparingInt(BytecodeTransformerBuildItem::getPriority))
+                                .map(persistentCache::cacheKey)
+                                .collect(Collectors.toList());
+                if (cacheKeys != null && cacheKeys.contains(null)) {
+                    cacheKeys = null;
+                }
+                final List<String> finalCacheKeys = cacheKeys;
                 transformedToArchive.put(classFileName, jar);
                 transformed.add(buildExecutor.submit(new Callable<TransformedClassesBuildItem.TransformedClass>() {
                     @Override
@@ -229,8 +276,16 @@ public TransformedClassesBuildItem.TransformedClass call() throws Exception {
                                     return null;
                                 }
                             }
-                            byte[] data = transformClass(className, visitors, classData, preVisitFunctions,
-                                    classReaderOptions.getOrDefault(className, 0));
+                            int options = classReaderOptions.getOrDefault(className, 0);
+                            byte[] data;
+                            if (finalCacheKeys != null) {
+                                final byte[] originalData = classData;
+                                data = persistentCache.getOrTransform(className, classData, finalCacheKeys, options,
+                                        () -> transformClass(className, visitors, originalData, preVisitFunctions,
+                                                options));
+                            } else {
+                                data = transformClass(className, visitors, classData, preVisitFunctions, options);
+                            }
                             TransformedClassesBuildItem.TransformedClass transformedClass = new TransformedClassesBuildItem.TransformedClass(
                                     className, data,
                                     classFileName, eager.contains(className));
@@ -270,6 +325,9 @@ public TransformedClassesBuildItem.TransformedClass call() throws Exception {
                 }
             }
         }
+        if (persistentCache != null) {
+            persistentCache.prune();
+        }
 
         if (packageConfig.writeTransformedBytecodeToBuildOutput && (launchMode.getLaunchMode() == LaunchMode.NORMAL)) {
             // the idea here is to write the transformed classes into the build tool's output directory to make core coverage work
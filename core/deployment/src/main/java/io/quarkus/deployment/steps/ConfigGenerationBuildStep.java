@@ -13,6 +13,7 @@
 import java.io.IOException;
 import java.lang.reflect.Modifier;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -26,6 +27,7 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.config.Config;
@@ -48,6 +50,7 @@
 import io.quarkus.deployment.builditem.ConfigurationBuildItem;
 import io.quarkus.deployment.builditem.ConfigurationTypeBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
@@ -57,9 +60,13 @@
 import io.quarkus.deployment.builditem.StaticInitConfigSourceFactoryBuildItem;
 import io.quarkus.deployment.builditem.StaticInitConfigSourceProviderBuildItem;
 import io.quarkus.deployment.builditem.SuppressNonRuntimeConfigChangedWarningBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.configuration.BuildTimeConfigurationReader;
 import io.quarkus.deployment.configuration.RunTimeConfigurationGenerator;
+import io.quarkus.deployment.configuration.matching.ConfigPatternMap;
+import io.quarkus.deployment.configuration.matching.Container;
+import io.quarkus.deployment.configuration.matching.MapContainer;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
 import io.quarkus.deployment.recording.RecorderContext;
 import io.quarkus.gizmo.ClassCreator;
@@ -73,8 +80,8 @@
 import io.quarkus.runtime.configuration.ConfigBuilder;
 import io.quarkus.runtime.configuration.ConfigDiagnostic;
 import io.quarkus.runtime.configuration.ConfigRecorder;
-import io.quarkus.runtime.configuration.DefaultsConfigSource;
 import io.quarkus.runtime.configuration.DisableableConfigSource;
+import io.quarkus.runtime.configuration.IndexedDefaultsConfigSource;
 import io.quarkus.runtime.configuration.MappingsConfigBuilder;
 import io.quarkus.runtime.configuration.QuarkusConfigValue;
 import io.quarkus.runtime.configuration.RuntimeOverrideConfigSource;
@@ -101,17 +108,27 @@ void staticInitSources(
                 PropertiesLocationConfigSourceFactory.class.getName()));
     }
 
-    @BuildStep
+    /**
+     * Only depends on the build time configuration, which fingerprints the {@link ConfigurationBuildItem} in the build
+     * step cache, and on the extensions, which are captured by its salt. It only produces serializable items, so it can be
+     * cached.
+     */
+    @BuildStep(cacheable = true)
     void buildTimeRunTimeConfig(
             ConfigurationBuildItem configItem,
             BuildProducer<GeneratedClassBuildItem> generatedClass,
+            BuildProducer<GeneratedResourceBuildItem> generatedResource,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResource,
             BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
             BuildProducer<StaticInitConfigBuilderBuildItem> staticInitConfigBuilder,
             BuildProducer<RunTimeConfigBuilderBuildItem> runTimeConfigBuilder) {
 
         String className = "io.quarkus.runtime.generated.BuildTimeRunTimeFixedConfigSource";
-        generateDefaultsConfigSource(generatedClass, reflectiveClass, configItem.getReadResult().getBuildTimeRunTimeValues(),
-                className, "BuildTime RunTime Fixed", Integer.MAX_VALUE);
+        BuildTimeConfigurationReader.ReadResult readResult = configItem.getReadResult();
+        generateDefaultsConfigSource(generatedClass, generatedResource, nativeImageResource, reflectiveClass,
+                readResult.getBuildTimeRunTimeValues(),
+                name -> !isReadByName(readResult.getBuildTimeRunTimePatternMap(), name), className,
+                "BuildTime RunTime Fixed", Integer.MAX_VALUE);
 
         String builderClassName = className + "Builder";
         try (ClassCreator classCreator = ClassCreator.builder()
@@ -155,6 +172,8 @@ void runtimeDefaultsConfig(
             ConfigurationBuildItem configItem,
             List<RunTimeConfigurationDefaultBuildItem> runTimeDefaults,
             BuildProducer<GeneratedClassBuildItem> generatedClass,
+            BuildProducer<GeneratedResourceBuildItem> generatedResource,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResource,
             BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
             BuildProducer<StaticInitConfigBuilderBuildItem> staticInitConfigBuilder,
             BuildProducer<RunTimeConfigBuilderBuildItem> runTimeConfigBuilder) {
@@ -166,7 +185,10 @@ void runtimeDefaultsConfig(
         defaults.putAll(configItem.getReadResult().getRunTimeDefaultValues());
 
         String className = "io.quarkus.runtime.generated.RunTimeDefaultsConfigSource";
-        generateDefaultsConfigSource(generatedClass, reflectiveClass, defaults,
+        BuildTimeConfigurationReader.ReadResult readResult = configItem.getReadResult();
+        generateDefaultsConfigSource(generatedClass, generatedResource, nativeImageResource, reflectiveClass, defaults,
+                name -> !isReadByName(readResult.getRunTimePatternMap(), name)
+                        && !isReadByName(readResult.getBootstrapPatternMap(), name),
                 className, "RunTime Defaults", Integer.MIN_VALUE + 100);
 
         String builderClassName = className + "Builder";
@@ -501,38 +523,36 @@ private static String getPathWithoutExtension(Path path) {
 
     private static void generateDefaultsConfigSource(
             BuildProducer<GeneratedClassBuildItem> generatedClass,
+            BuildProducer<GeneratedResourceBuildItem> generatedResource,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResource,
             BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
             Map<String, String> defaults,
+            Predicate<String> listed,
             String className,
             String sourceName,
             int sourceOrdinal) {
 
+        // the defaults are stored in a table read lazily instead of being put in a map by the static initializer
+        String resourceName = className.replace('.', '/') + ".defaults";
+        generatedResource.produce(
+                new GeneratedResourceBuildItem(resourceName, IndexedDefaultsConfigSource.write(defaults, listed)));
+        nativeImageResource.produce(new NativeImageResourceBuildItem(resourceName));
+
         try (ClassCreator classCreator = ClassCreator.builder()
                 .classOutput(new GeneratedClassGizmoAdaptor(generatedClass, true))
                 .className(className)
-                .superClass(DefaultsConfigSource.class)
+                .superClass(IndexedDefaultsConfigSource.class)
                 .setFinal(true)
                 .build()) {
 
-            FieldDescriptor properties = FieldDescriptor.of(classCreator.getClassName(), "properties", Map.class);
-            classCreator.getFieldCreator(properties).setModifiers(Opcodes.ACC_STATIC | Opcodes.ACC_FINAL);
-
-            MethodCreator clinit = classCreator.getMethodCreator("<clinit>", void.class);
-            clinit.setModifiers(Opcodes.ACC_STATIC);
-            clinit.writeStaticField(properties, clinit.newInstance(MethodDescriptor.ofConstructor(HashMap.class)));
-
-            ResultHandle map = clinit.readStaticField(properties);
-            MethodDescriptor put = MethodDescriptor.ofMethod(Map.class, "put", Object.class, Object.class, Object.class);
-            for (Map.Entry<String, String> entry : defaults.entrySet()) {
-                clinit.invokeInterfaceMethod(put, map, clinit.load(entry.getKey()), clinit.load(entry.getValue()));
-            }
-            clinit.returnVoid();
-
             MethodCreator ctor = classCreator.getMethodCreator("<init>", void.class);
-            MethodDescriptor superCtor = MethodDescriptor.ofConstructor(DefaultsConfigSource.class, Map.class, String.class,
-                    int.class);
-            ctor.invokeSpecialMethod(superCtor, ctor.getThis(), ctor.readStaticField(properties),
-                    ctor.load(sourceName), ctor.load(sourceOrdinal));
+            ResultHandle table = ctor.invokeStaticMethod(
+                    MethodDescriptor.ofMethod(IndexedDefaultsConfigSource.class, "load", ByteBuffer.class, Class.class,
+                            String.class),
+                    ctor.loadClass(className), ctor.load(resourceName));
+            MethodDescriptor superCtor = MethodDescriptor.ofConstructor(IndexedDefaultsConfigSource.class, ByteBuffer.class,
+                    String.class, int.class);
+            ctor.invokeSpecialMethod(superCtor, ctor.getThis(), table, ctor.load(sourceName), ctor.load(sourceOrdinal));
             ctor.returnVoid();
         }
 
@@ -540,6 +560,24 @@ private static void generateDefaultsConfigSource(
                 .produce(ReflectiveClassBuildItem.builder(className).build());
     }
 
+    /**
+     * Whether the property is read by name when the config roots are initialized. The config sweep, which enumerates the
+     * property names on startup, only needs to see the other properties, e.g. the keys of a map, so the defaults table
+     * does not list the properties read by name.
+     */
+    private static boolean isReadByName(ConfigPatternMap<Container> patternMap, String name) {
+        Container container = patternMap.match(name);
+        if (container == null) {
+            return false;
+        }
+        for (; container != null; container = container.getParent()) {
+            if (container instanceof MapContainer) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static void generateMappingsConfigBuilder(
             BuildProducer<GeneratedClassBuildItem> generatedClass,
             BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
@@ -12,6 +12,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.Handler;
 import java.util.stream.Collectors;
@@ -28,6 +29,7 @@
 
 import io.quarkus.bootstrap.logging.InitialConfigurator;
 import io.quarkus.bootstrap.logging.QuarkusDelayedHandler;
+import io.quarkus.bootstrap.runner.StartupTimeline;
 import io.quarkus.bootstrap.runner.Timing;
 import io.quarkus.builder.Version;
 import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
@@ -104,6 +106,12 @@ public class MainClassBuildStep {
             void.class);
     public static final MethodDescriptor CONFIGURE_STEP_TIME_START = ofMethod(StepTiming.class.getName(), "configureStart",
             void.class);
+    private static final MethodDescriptor CONFIGURE_TIMELINE_ENABLED = ofMethod(StartupTimeline.class, "configureEnabled",
+            void.class);
+    private static final MethodDescriptor TIMELINE_BEGIN = ofMethod(StartupTimeline.class, "begin",
+            StartupTimeline.Phase.class, String.class, String.class);
+    private static final MethodDescriptor TIMELINE_END = ofMethod(StartupTimeline.class, "end", void.class,
+            StartupTimeline.Phase.class);
     private static final DotName QUARKUS_APPLICATION = DotName.createSimple(QuarkusApplication.class.getName());
     private static final DotName OBJECT = DotName.createSimple(Object.class.getName());
 
@@ -165,12 +173,14 @@ void build(List<StaticBytecodeRecorderBuildItem> staticInitTasks,
                 lm);
 
         mv.invokeStaticMethod(CONFIGURE_STEP_TIME_ENABLED);
+        mv.invokeStaticMethod(CONFIGURE_TIMELINE_ENABLED);
 
         mv.invokeStaticMethod(MethodDescriptor.ofMethod(Timing.class, "staticInitStarted", void.class, boolean.class),
                 mv.load(launchMode.isAuxiliaryApplication()));
 
         // ensure that the config class is initialized
-        mv.invokeStaticMethod(RunTimeConfigurationGenerator.C_ENSURE_INITIALIZED);
+        writeTimed(mv, StartupTimeline.CATEGORY_CONFIG, RunTimeConfigurationGenerator.CONFIG_CLASS_NAME,
+                timed -> timed.invokeStaticMethod(RunTimeConfigurationGenerator.C_ENSURE_INITIALIZED));
         if (liveReloadBuildItem.isLiveReload()) {
             mv.invokeStaticMethod(RunTimeConfigurationGenerator.REINIT);
         }
@@ -252,6 +262,7 @@ void build(List<StaticBytecodeRecorderBuildItem> staticInitTasks,
                 startupContext, mv.getMethodParam(0));
 
         mv.invokeStaticMethod(CONFIGURE_STEP_TIME_ENABLED);
+        mv.invokeStaticMethod(CONFIGURE_TIMELINE_ENABLED);
         ResultHandle profiles = mv
                 .invokeStaticMethod(ofMethod(ConfigUtils.class, "getProfiles", List.class));
 
@@ -479,13 +490,29 @@ private void writeRecordedBytecode(BytecodeRecorderImpl recorder, String fallbac
             recorder.writeBytecode(gizmoOutput);
         }
 
-        ResultHandle dup = bytecodeCreator
-                .newInstance(ofConstructor(recorder != null ? recorder.getClassName() : fallbackGeneratedStartupTaskClassName));
-        bytecodeCreator.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
-                startupContext);
+        String taskClassName = recorder != null ? recorder.getClassName() : fallbackGeneratedStartupTaskClassName;
+        ResultHandle dup = bytecodeCreator.newInstance(ofConstructor(taskClassName));
+        writeTimed(bytecodeCreator, StartupTimeline.CATEGORY_STARTUP_TASK, taskClassName,
+                timed -> timed.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class),
+                        dup, startupContext));
         bytecodeCreator.invokeStaticMethod(PRINT_STEP_TIME_METHOD, startupContext);
     }
 
+    /**
+     * Writes the given code as a phase of the startup timeline, the phase is also ended when the code throws.
+     */
+    private static void writeTimed(BytecodeCreator bytecodeCreator, String category, String name,
+            Consumer<BytecodeCreator> code) {
+        ResultHandle phase = bytecodeCreator.invokeStaticMethod(TIMELINE_BEGIN, bytecodeCreator.load(category),
+                bytecodeCreator.load(name));
+        TryBlock timed = bytecodeCreator.tryBlock();
+        code.accept(timed);
+        CatchBlockCreator failed = timed.addCatch(Throwable.class);
+        failed.invokeStaticMethod(TIMELINE_END, phase);
+        failed.throwException(failed.getCaughtException());
+        bytecodeCreator.invokeStaticMethod(TIMELINE_END, phase);
+    }
+
     /**
      * registers the generated application class for reflection, needed when launching via the Quarkus launcher
      */
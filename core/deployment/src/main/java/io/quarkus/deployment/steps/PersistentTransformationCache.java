@@ -0,0 +1,221 @@
+package io.quarkus.deployment.steps;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.builder.Version;
+import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
+import io.quarkus.deployment.util.ContentHashes;
+
+/**
+ * On-disk cache of transformed classes.
+ * <p>
+ * Transformed classes are stored in files named after a hash of the original class bytes, of the cache keys of the
+ * transformers in the order they are applied and of the class reader options. The cache key of a transformer covers the
+ * key set by the extension, the class of the transformer and the content of the archive it is loaded from, so that a new
+ * version of an extension does not reuse the classes transformed by the previous one. A class that changes, or that is
+ * transformed differently, thus gets a new entry, and several builds can safely share the same directory.
+ * <p>
+ * Entries are touched when they are used, and the entries that have not been used for a while are removed by
+ * {@link #prune()}.
+ */
+final class PersistentTransformationCache {
+
+    private static final Logger log = Logger.getLogger(PersistentTransformationCache.class);
+
+    /**
+     * Bump when the way classes are transformed changes, e.g. when the ASM version is upgraded.
+     */
+    private static final String CACHE_VERSION = "2";
+    private static final String CLASS_SUFFIX = ".class";
+    private static final String CONTENT_HASHES = "content-hashes.properties";
+    private static final String LAMBDA_SUFFIX = "$$Lambda";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Path directory;
+    private final Duration maxAge;
+    private final ContentHashes contentHashes;
+    private final Map<Class<?>, Optional<String>> transformerKeys = new ConcurrentHashMap<>();
+
+    PersistentTransformationCache(Path directory, Duration maxAge) {
+        this.directory = directory;
+        this.maxAge = maxAge;
+        this.contentHashes = ContentHashes.load(directory.resolve(CONTENT_HASHES));
+    }
+
+    /**
+     * Returns the cache key of the given transformer, or {@code null} if the classes it transforms cannot be cached,
+     * i.e. if the extension did not set a cache key or if the archive the transformer is loaded from is unknown.
+     */
+    String cacheKey(BytecodeTransformerBuildItem transformer) {
+        if (transformer.getCacheKey() == null) {
+            return null;
+        }
+        final String visitorKey = transformerKey(transformer.getVisitorFunction());
+        final String inputKey = transformerKey(transformer.getInputTransformer());
+        if (visitorKey == null || inputKey == null) {
+            return null;
+        }
+        return transformer.getCacheKey() + '|' + visitorKey + '|' + inputKey;
+    }
+
+    private String transformerKey(Object transformer) {
+        if (transformer == null) {
+            return "-";
+        }
+        return transformerKeys.computeIfAbsent(transformer.getClass(), this::transformerClassKey).orElse(null);
+    }
+
+    private Optional<String> transformerClassKey(Class<?> transformerClass) {
+        String name = transformerClass.getName();
+        // the names of the lambda classes change from one build to the other
+        final int lambda = name.indexOf(LAMBDA_SUFFIX);
+        if (lambda > 0) {
+            name = name.substring(0, lambda);
+        }
+        final CodeSource codeSource = transformerClass.getProtectionDomain().getCodeSource();
+        final URL location = codeSource == null ? null : codeSource.getLocation();
+        if (location == null || !"file".equals(location.getProtocol())) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(name + '@' + contentHashes.hash(Path.of(location.toURI())));
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            log.debugf(e, "Failed to hash the archive of the class transformer %s", name);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the cached transformation of the given class, or transforms it and stores the result if it is not cached
+     * yet.
+     *
+     * @param className the name of the class
+     * @param classData the original class bytes
+     * @param cacheKeys the cache keys of the transformers, see {@link #cacheKey(BytecodeTransformerBuildItem)}, in the
+     *        order they are applied
+     * @param classReaderOptions the class reader options
+     * @param transformer transforms the class on a cache miss
+     */
+    byte[] getOrTransform(String className, byte[] classData, List<String> cacheKeys, int classReaderOptions,
+            ClassTransformer transformer) {
+        final String key = key(classData, cacheKeys, classReaderOptions);
+        // entries are spread over subdirectories, as applications can have thousands of transformed classes
+        final Path classFile = directory.resolve(key.substring(0, 2)).resolve(key + CLASS_SUFFIX);
+        if (Files.exists(classFile)) {
+            try {
+                final byte[] data = Files.readAllBytes(classFile);
+                // keeps the entry from being pruned
+                Files.setLastModifiedTime(classFile, FileTime.fromMillis(System.currentTimeMillis()));
+                return data;
+            } catch (IOException e) {
+                // a corrupted entry is simply replaced
+                log.debugf(e, "Failed to read cached transformed class %s", classFile);
+            }
+        }
+        final byte[] transformed = transformer.transform();
+        if (transformed != null) {
+            write(classFile, transformed);
+        }
+        return transformed;
+    }
+
+    /**
+     * Removes the entries that have not been used for longer than the max age, and stores the hashes of the archives
+     * of the transformers.
+     */
+    void prune() {
+        contentHashes.save();
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        final long oldest = System.currentTimeMillis() - maxAge.toMillis();
+        int removed = 0;
+        try (Stream<Path> files = Files.walk(directory, 2)) {
+            final Iterator<Path> it = files.iterator();
+            while (it.hasNext()) {
+                final Path file = it.next();
+                if (file.getFileName().toString().endsWith(CLASS_SUFFIX)
+                        && Files.getLastModifiedTime(file).toMillis() < oldest) {
+                    Files.deleteIfExists(file);
+                    ++removed;
+                }
+            }
+        } catch (IOException e) {
+            log.debugf(e, "Failed to prune the transformation cache %s", directory);
+        }
+        if (removed > 0) {
+            log.debugf("Removed %d unused entries from the transformation cache %s", removed, directory);
+        }
+    }
+
+    private static void write(Path classFile, byte[] data) {
+        Path tmp = null;
+        try {
+            Files.createDirectories(classFile.getParent());
+            tmp = Files.createTempFile(classFile.getParent(), classFile.getFileName().toString(), ".tmp");
+            Files.write(tmp, data);
+            try {
+                Files.move(tmp, classFile, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, classFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // the cache is an optimization only, the build can go on without it
+            log.debugf(e, "Failed to store transformed class %s", classFile);
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    static String key(byte[] classData, List<String> cacheKeys, int classReaderOptions) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update((CACHE_VERSION + ':' + Version.getVersion() + ':' + classReaderOptions + ':' + cacheKeys.size() + ':')
+                .getBytes(StandardCharsets.UTF_8));
+        for (String cacheKey : cacheKeys) {
+            digest.update(cacheKey.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        digest.update(classData);
+        byte[] hash = digest.digest();
+        char[] hex = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; ++i) {
+            hex[i * 2] = HEX[(hash[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX[hash[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    @FunctionalInterface
+    interface ClassTransformer {
+        byte[] transform();
+    }
+}
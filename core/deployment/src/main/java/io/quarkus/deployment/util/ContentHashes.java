@@ -0,0 +1,168 @@
+package io.quarkus.deployment.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Computes SHA-256 hashes of the content of files and directories.
+ * <p>
+ * The hash of a file is remembered along with its size and last modification time, and only computed again once one of
+ * them changes. The remembered hashes can be stored in a file and loaded by the next builds. A fresh checkout, where
+ * all the files have new modification times, hashes the files again but gets the same hashes for the same content.
+ */
+public final class ContentHashes {
+
+    private static final Logger log = Logger.getLogger(ContentHashes.class);
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Path file;
+    private final Map<String, String> stamped = new ConcurrentHashMap<>();
+    private volatile boolean modified;
+
+    private ContentHashes(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Loads the hashes remembered in the given file.
+     *
+     * @param file the file, it does not need to exist
+     */
+    public static ContentHashes load(Path file) {
+        final ContentHashes hashes = new ContentHashes(file);
+        if (Files.exists(file)) {
+            final Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+                for (String name : properties.stringPropertyNames()) {
+                    hashes.stamped.put(name, properties.getProperty(name));
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                log.debugf(e, "Failed to load the content hashes from %s", file);
+            }
+        }
+        return hashes;
+    }
+
+    /**
+     * Stores the remembered hashes, dropping the ones of the files which do not exist anymore.
+     */
+    public void save() {
+        if (!modified) {
+            return;
+        }
+        final Properties properties = new Properties();
+        for (Map.Entry<String, String> entry : stamped.entrySet()) {
+            if (Files.exists(Path.of(entry.getKey()))) {
+                properties.setProperty(entry.getKey(), entry.getValue());
+            }
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = Files.newOutputStream(file)) {
+                properties.store(out, null);
+            }
+            modified = false;
+        } catch (IOException e) {
+            log.debugf(e, "Failed to store the content hashes in %s", file);
+        }
+    }
+
+    /**
+     * Hashes the content of a file, or of all the files in a directory along with their relative paths.
+     */
+    public String hash(Path path) throws IOException {
+        return hash(path, p -> false);
+    }
+
+    /**
+     * Hashes the content of a file, or of all the files in a directory along with their relative paths.
+     *
+     * @param flagged the files flagged by this predicate get a different hash than the same files not flagged, e.g.
+     *        the files excluded from some processing
+     */
+    public String hash(Path path, Predicate<Path> flagged) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return hashFile(path);
+        }
+        final MessageDigest digest = newDigest();
+        try (Stream<Path> files = Files.walk(path)) {
+            final Iterator<Path> it = files.filter(Files::isRegularFile).sorted().iterator();
+            while (it.hasNext()) {
+                final Path file = it.next();
+                update(digest, path.relativize(file).toString().replace('\\', '/'));
+                if (flagged.test(file)) {
+                    digest.update((byte) 1);
+                }
+                update(digest, hashFile(file));
+            }
+        }
+        return hex(digest.digest());
+    }
+
+    private String hashFile(Path path) throws IOException {
+        // the paths of other file systems, e.g. the entries of a mounted jar, are not unique
+        final boolean remembered = path.getFileSystem() == FileSystems.getDefault();
+        final String key = remembered ? path.toAbsolutePath().toString() : null;
+        final String stamp = Files.size(path) + ":" + Files.getLastModifiedTime(path).toMillis() + ":";
+        if (remembered) {
+            final String previous = stamped.get(key);
+            if (previous != null && previous.startsWith(stamp)) {
+                return previous.substring(stamp.length());
+            }
+        }
+        final MessageDigest digest = newDigest();
+        final byte[] buffer = new byte[16384];
+        try (InputStream in = Files.newInputStream(path)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        final String hash = hex(digest.digest());
+        if (remembered) {
+            stamped.put(key, stamp + hash);
+            modified = true;
+        }
+        return hash;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static String hex(byte[] hash) {
+        final char[] hex = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; ++i) {
+            hex[i * 2] = HEX[(hash[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX[hash[i] & 0xF];
+        }
+        return new String(hex);
+    }
+}
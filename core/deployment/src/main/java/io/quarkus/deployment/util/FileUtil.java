@@ -2,10 +2,12 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Optional;
 import java.util.regex.Matcher;
@@ -60,6 +62,22 @@ public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOEx
         });
     }
 
+    /**
+     * Copies a file, replacing the target if it exists. The content is transferred between file channels, which lets the
+     * operating system copy it without moving it through the Java heap.
+     */
+    public static void copyFile(final Path source, final Path target) throws IOException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+                FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING)) {
+            final long size = in.size();
+            long position = 0;
+            while (position < size) {
+                position += in.transferTo(position, size - position, out);
+            }
+        }
+    }
+
     public static byte[] readFileContents(InputStream inputStream) throws IOException {
         return inputStream.readAllBytes();
     }
@@ -0,0 +1,131 @@
+package io.quarkus.deployment.dev;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+public class ClassComparisonUtilTest {
+
+    private static final DotName DEPRECATED = DotName.createSimple(Deprecated.class.getName());
+
+    @Test
+    public void testSameStructure() throws IOException {
+        assertTrue(ClassComparisonUtil.isSameStructure(classInfo(Original.class), classInfo(SameStructure.class)));
+    }
+
+    @Test
+    public void testChangedAnnotations() throws IOException {
+        ClassInfo original = classInfo(Original.class);
+        ClassInfo deprecated = classInfo(DeprecatedMembers.class);
+        assertFalse(ClassComparisonUtil.isSameStructure(deprecated, original));
+        assertTrue(ClassComparisonUtil.isSameStructure(deprecated, original, Set.of(DEPRECATED)::contains));
+    }
+
+    @Test
+    public void testChangedSignatureIsNeverIgnored() throws IOException {
+        assertFalse(ClassComparisonUtil.isSameStructure(classInfo(ChangedSignature.class), classInfo(Original.class),
+                Set.of(DEPRECATED)::contains));
+    }
+
+    @Test
+    public void testChangedKotlinDebugInformationIsIgnored() throws IOException {
+        // editing the body of a suspending function moves the line numbers stored in its continuation class
+        ClassInfo original = kotlinContinuation(12, 13, 15);
+        ClassInfo edited = kotlinContinuation(12, 14, 17);
+        assertFalse(ClassComparisonUtil.isSameStructure(edited, original));
+        assertTrue(ClassComparisonUtil.isSameStructure(edited, original, ignoredAnnotations()));
+    }
+
+    @Test
+    public void testIgnoredAnnotationsDoNotIncludeBuildTimeAnnotations() throws IOException {
+        ClassInfo original = classInfo(Original.class);
+        ClassInfo deprecated = classInfo(DeprecatedMembers.class);
+        assertFalse(ClassComparisonUtil.isSameStructure(deprecated, original, ignoredAnnotations()));
+    }
+
+    private static Predicate<DotName> ignoredAnnotations() {
+        return ConfigureDisableInstrumentationBuildStep.IGNORED_ANNOTATIONS.stream()
+                .map(DotName::createSimple)
+                .collect(Collectors.toSet())::contains;
+    }
+
+    /**
+     * Generates the continuation class the Kotlin compiler emits for a suspending function.
+     */
+    private static ClassInfo kotlinContinuation(int... lines) throws IOException {
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V11, Opcodes.ACC_FINAL | Opcodes.ACC_SUPER, "org/acme/Greeting$hello$1", null,
+                "java/lang/Object", null);
+        AnnotationVisitor debugMetadata = writer.visitAnnotation("Lkotlin/coroutines/jvm/internal/DebugMetadata;", true);
+        debugMetadata.visit("f", "Greeting.kt");
+        AnnotationVisitor lineNumbers = debugMetadata.visitArray("l");
+        for (int line : lines) {
+            lineNumbers.visit(null, line);
+        }
+        lineNumbers.visitEnd();
+        debugMetadata.visit("m", "hello");
+        debugMetadata.visit("c", "org.acme.Greeting");
+        debugMetadata.visitEnd();
+        AnnotationVisitor sourceDebug = writer.visitAnnotation("Lkotlin/jvm/internal/SourceDebugExtension;", false);
+        AnnotationVisitor smap = sourceDebug.visitArray("value");
+        smap.visit(null, "SMAP\nGreeting.kt\nKotlin\n*S Kotlin\n*F\n+ 1 Greeting.kt\norg/acme/Greeting\n*L\n1#1,"
+                + lines[lines.length - 1] + ":1\n*E\n");
+        smap.visitEnd();
+        sourceDebug.visitEnd();
+        writer.visitEnd();
+        Indexer indexer = new Indexer();
+        indexer.index(new ByteArrayInputStream(writer.toByteArray()));
+        return indexer.complete().getClassByName(DotName.createSimple("org.acme.Greeting$hello$1"));
+    }
+
+    private static ClassInfo classInfo(Class<?> clazz) throws IOException {
+        return Index.of(clazz).getClassByName(DotName.createSimple(clazz.getName()));
+    }
+
+    static class Original {
+        String field;
+
+        void method(String param) {
+        }
+    }
+
+    static class SameStructure {
+        String field;
+
+        void method(String param) {
+            field = param;
+        }
+    }
+
+    @Deprecated
+    static class DeprecatedMembers {
+        @Deprecated
+        String field;
+
+        @Deprecated
+        void method(String param) {
+        }
+    }
+
+    static class ChangedSignature {
+        String field;
+
+        @Deprecated
+        void method(Integer param) {
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PersistentIndexCacheTest {
+
+    private static final String CLASS_FILE = PersistentIndexCacheTest.class.getName().replace('.', '/') + ".class";
+    private static final Duration MAX_AGE = Duration.ofDays(7);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testIndexIsReusedAcrossInstances() throws IOException {
+        Path jar = createJar(dir.resolve("test.jar"), CLASS_FILE);
+        Path cacheDir = dir.resolve("cache");
+        AtomicInteger indexed = new AtomicInteger();
+
+        Index first = new PersistentIndexCache(cacheDir, MAX_AGE).getOrIndex(jar, null, "jar", countingIndexer(jar, indexed));
+        Index second = new PersistentIndexCache(cacheDir, MAX_AGE).getOrIndex(jar, null, "jar", countingIndexer(jar, indexed));
+
+        assertEquals(1, indexed.get());
+        assertNotNull(first.getClassByName(DotName.createSimple(PersistentIndexCacheTest.class.getName())));
+        assertNotNull(second.getClassByName(DotName.createSimple(PersistentIndexCacheTest.class.getName())));
+        try (var files = Files.list(cacheDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void testCorruptedEntryIsReplaced() throws IOException {
+        Path jar = createJar(dir.resolve("test.jar"), CLASS_FILE);
+        Path cacheDir = dir.resolve("cache");
+        Files.createDirectories(cacheDir);
+        Files.writeString(cacheDir.resolve(PersistentIndexCache.key(jar, null, "jar") + ".idx"), "garbage");
+        AtomicInteger indexed = new AtomicInteger();
+
+        Index index = new PersistentIndexCache(cacheDir, MAX_AGE).getOrIndex(jar, null, "jar", countingIndexer(jar, indexed));
+        assertNotNull(index.getClassByName(DotName.createSimple(PersistentIndexCacheTest.class.getName())));
+        new PersistentIndexCache(cacheDir, MAX_AGE).getOrIndex(jar, null, "jar", countingIndexer(jar, indexed));
+        assertEquals(1, indexed.get());
+    }
+
+    @Test
+    public void testUnusedEntriesArePruned() throws IOException {
+        Path jar = createJar(dir.resolve("a.jar"), CLASS_FILE);
+        Path other = createJar(dir.resolve("b.jar"), CLASS_FILE, "META-INF/other.txt");
+        Path cacheDir = dir.resolve("cache");
+        AtomicInteger indexed = new AtomicInteger();
+        PersistentIndexCache cache = new PersistentIndexCache(cacheDir, MAX_AGE);
+        cache.getOrIndex(jar, null, "jar", countingIndexer(jar, indexed));
+        cache.getOrIndex(other, null, "jar", countingIndexer(other, indexed));
+        FileTime old = FileTime.from(Instant.now().minus(MAX_AGE).minus(Duration.ofDays(1)));
+        try (var files = Files.list(cacheDir)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.setLastModifiedTime(file, old);
+            }
+        }
+
+        // a build that uses one of the entries only
+        cache = new PersistentIndexCache(cacheDir, MAX_AGE);
+        cache.getOrIndex(jar, null, "jar", countingIndexer(jar, indexed));
+        cache.prune();
+
+        cache = new PersistentIndexCache(cacheDir, MAX_AGE);
+        cache.getOrIndex(jar, null, "jar", countingIndexer(jar, indexed));
+        assertEquals(2, indexed.get());
+        cache.getOrIndex(other, null, "jar", countingIndexer(other, indexed));
+        assertEquals(3, indexed.get());
+    }
+
+    @Test
+    public void testKey() throws IOException {
+        Path jar = createJar(dir.resolve("a.jar"), CLASS_FILE);
+        Path copy = Files.copy(jar, dir.resolve("b.jar"));
+        Path other = createJar(dir.resolve("c.jar"), CLASS_FILE, "META-INF/other.txt");
+
+        String key = PersistentIndexCache.key(jar, null, "jar");
+        assertEquals(key, PersistentIndexCache.key(copy, null, "jar"));
+        assertNotEquals(key, PersistentIndexCache.key(other, null, "jar"));
+        assertNotEquals(key, PersistentIndexCache.key(jar, null, "tree"));
+        assertNotEquals(key, PersistentIndexCache.key(jar, Set.of(), "jar"));
+        assertNotEquals(PersistentIndexCache.key(jar, Set.of(), "jar"),
+                PersistentIndexCache.key(jar, Set.of(CLASS_FILE), "jar"));
+        assertEquals(PersistentIndexCache.key(jar, Set.of("a", "b"), "jar"),
+                PersistentIndexCache.key(jar, Set.of("b", "a"), "jar"));
+    }
+
+    private static PersistentIndexCache.ArchiveIndexer countingIndexer(Path jar, AtomicInteger counter) {
+        return () -> {
+            counter.incrementAndGet();
+            return IndexingUtil.indexJar(jar);
+        };
+    }
+
+    private static Path createJar(Path jar, String... entries) throws IOException {
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (String entry : entries) {
+                out.putNextEntry(new JarEntry(entry));
+                try (InputStream in = PersistentIndexCacheTest.class.getClassLoader().getResourceAsStream(entry)) {
+                    if (in != null) {
+                        in.transferTo(out);
+                    } else {
+                        writeText(out, entry);
+                    }
+                }
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private static void writeText(OutputStream out, String text) throws IOException {
+        out.write(text.getBytes());
+    }
+}
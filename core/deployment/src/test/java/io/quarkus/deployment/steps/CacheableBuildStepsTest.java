@@ -0,0 +1,192 @@
+package io.quarkus.deployment.steps;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.bootstrap.model.ApplicationModel;
+import io.quarkus.bootstrap.model.ApplicationModelBuilder;
+import io.quarkus.builder.BuildChain;
+import io.quarkus.builder.BuildChainBuilder;
+import io.quarkus.builder.BuildContext;
+import io.quarkus.builder.BuildExecutionBuilder;
+import io.quarkus.builder.BuildResult;
+import io.quarkus.builder.ChainBuildException;
+import io.quarkus.builder.FileBuildStepCache;
+import io.quarkus.builder.item.BuildItem;
+import io.quarkus.deployment.BuildStepCaches;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
+import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
+import io.quarkus.deployment.builditem.ConfigurationBuildItem;
+import io.quarkus.deployment.builditem.RunTimeConfigBuilderBuildItem;
+import io.quarkus.deployment.builditem.StaticInitConfigBuilderBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.configuration.ClassLoadingConfig;
+import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
+import io.quarkus.deployment.util.ContentHashes;
+import io.quarkus.maven.dependency.ResolvedDependencyBuilder;
+
+public class CacheableBuildStepsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testCacheableStepsOnlyConsumeTheConfigurationAndProduceSerializableItems() {
+        int cacheable = 0;
+        for (Method method : ConfigGenerationBuildStep.class.getDeclaredMethods()) {
+            BuildStep buildStep = method.getAnnotation(BuildStep.class);
+            if (buildStep == null || !buildStep.cacheable()) {
+                continue;
+            }
+            cacheable++;
+            for (Type parameter : method.getGenericParameterTypes()) {
+                if (parameter instanceof ParameterizedType
+                        && ((ParameterizedType) parameter).getRawType() == BuildProducer.class) {
+                    Type produced = ((ParameterizedType) parameter).getActualTypeArguments()[0];
+                    assertTrue(Serializable.class.isAssignableFrom((Class<?>) produced), method + " produces " + produced);
+                } else {
+                    // the configuration is captured by the salt of the cache
+                    assertEquals(ConfigurationBuildItem.class, parameter, method + " consumes " + parameter);
+                }
+            }
+        }
+        assertTrue(cacheable > 0);
+    }
+
+    @Test
+    public void testApplicationIndexIsReusedByAFreshCheckout() throws Exception {
+        final ApplicationModel model = new ApplicationModelBuilder()
+                .setAppArtifact(ResolvedDependencyBuilder.newInstance().setGroupId("org.acme").setArtifactId("app")
+                        .setVersion("1.0").build())
+                .build();
+        final BuildChain chain = applicationIndexChain();
+        final Path cacheDir = dir.resolve("cache");
+
+        final Path classes = copyClass(dir.resolve("checkout").resolve("classes"), CacheableBuildStepsTest.class);
+        BuildResult result = runApplicationIndex(chain, classes, model, cacheDir, dir.resolve("checkout"));
+        assertFalse(isCached(result));
+        assertNotNull(result.consume(ApplicationIndexBuildItem.class).getIndex()
+                .getClassByName(CacheableBuildStepsTest.class));
+
+        // the same classes compiled in another checkout, with other modification times and without any remembered hash
+        final Path otherClasses = copyClass(dir.resolve("other-checkout").resolve("classes"), CacheableBuildStepsTest.class);
+        Files.setLastModifiedTime(otherClasses.resolve(classFile(CacheableBuildStepsTest.class)),
+                FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+        result = runApplicationIndex(chain, otherClasses, model, cacheDir, dir.resolve("other-checkout"));
+        assertTrue(isCached(result));
+        assertNotNull(result.consume(ApplicationIndexBuildItem.class).getIndex()
+                .getClassByName(CacheableBuildStepsTest.class));
+
+        // a changed class is indexed again
+        copyClass(otherClasses, ConfigGenerationBuildStep.class);
+        result = runApplicationIndex(chain, otherClasses, model, cacheDir, dir.resolve("other-checkout"));
+        assertFalse(isCached(result));
+        assertNotNull(result.consume(ApplicationIndexBuildItem.class).getIndex()
+                .getClassByName(ConfigGenerationBuildStep.class));
+    }
+
+    private static BuildChain applicationIndexChain() throws ChainBuildException {
+        final ClassLoadingConfig classLoadingConfig = new ClassLoadingConfig();
+        classLoadingConfig.removedResources = Map.of();
+        final BuildChainBuilder builder = BuildChain.builder();
+        builder.addInitial(ArchiveRootBuildItem.class);
+        builder.addInitial(CurateOutcomeBuildItem.class);
+        builder.addBuildStep(new io.quarkus.builder.BuildStep() {
+            @Override
+            public void execute(BuildContext context) {
+                try {
+                    context.produce(new ApplicationIndexBuildStep().build(context.consume(ArchiveRootBuildItem.class),
+                            context.consume(CurateOutcomeBuildItem.class), classLoadingConfig));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public String getId() {
+                return ApplicationIndexBuildStep.class.getName() + "#build";
+            }
+        }).consumes(ArchiveRootBuildItem.class).consumes(CurateOutcomeBuildItem.class)
+                .produces(ApplicationIndexBuildItem.class).setCacheable(true).build();
+        builder.addFinal(ApplicationIndexBuildItem.class);
+        return builder.build();
+    }
+
+    private static BuildResult runApplicationIndex(BuildChain chain, Path classes, ApplicationModel model, Path cacheDir,
+            Path checkout) throws Exception {
+        // the content hashes are remembered per checkout, as they would be in the build output directory
+        final ContentHashes contentHashes = ContentHashes.load(checkout.resolve("content-hashes.properties"));
+        final BuildExecutionBuilder execution = chain.createExecutionBuilder("app")
+                .setStepCache(BuildStepCaches.create(cacheDir, BuildStepCaches.salt(model, contentHashes),
+                        CacheableBuildStepsTest.class.getClassLoader(), contentHashes))
+                .produce(new ArchiveRootBuildItem(classes))
+                .produce(new CurateOutcomeBuildItem(model));
+        final BuildResult result = execution.execute();
+        contentHashes.save();
+        return result;
+    }
+
+    private static boolean isCached(BuildResult result) {
+        return result.getMetrics().getRecords().stream().anyMatch(r -> r.cached);
+    }
+
+    private static Path copyClass(Path classes, Class<?> clazz) throws IOException {
+        final Path target = classes.resolve(classFile(clazz));
+        Files.createDirectories(target.getParent());
+        try (InputStream in = clazz.getClassLoader().getResourceAsStream(classFile(clazz))) {
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return classes;
+    }
+
+    private static String classFile(Class<?> clazz) {
+        return clazz.getName().replace('.', '/') + ".class";
+    }
+
+    @Test
+    public void testProducedItemsAreRestored() {
+        FileBuildStepCache cache = new FileBuildStepCache(dir, "salt", getClass().getClassLoader(),
+                Set.of(ConfigurationBuildItem.class));
+        List<BuildItem> items = List.of(ReflectiveClassBuildItem.builder("org.acme.Builder").build(),
+                new NativeImageResourceBuildItem("META-INF/defaults"),
+                new StaticInitConfigBuilderBuildItem("org.acme.Builder"),
+                new RunTimeConfigBuilderBuildItem("org.acme.Builder"));
+        for (BuildItem item : items) {
+            assertNotNull(cache.fingerprint(item), item.getClass().getName());
+        }
+        cache.store("buildTimeRunTimeConfig", "key", items);
+
+        List<BuildItem> loaded = cache.load("buildTimeRunTimeConfig", "key");
+        assertNotNull(loaded);
+        assertEquals(items.size(), loaded.size());
+        ReflectiveClassBuildItem reflectiveClass = (ReflectiveClassBuildItem) loaded.get(0);
+        assertEquals(List.of("org.acme.Builder"), reflectiveClass.getClassNames());
+        assertFalse(reflectiveClass.isWeak());
+        assertEquals(List.of("META-INF/defaults"), ((NativeImageResourceBuildItem) loaded.get(1)).getResources());
+        assertEquals("org.acme.Builder", ((StaticInitConfigBuilderBuildItem) loaded.get(2)).getBuilderClassName());
+        assertEquals("org.acme.Builder", ((RunTimeConfigBuilderBuildItem) loaded.get(3)).getBuilderClassName());
+    }
+}
@@ -0,0 +1,155 @@
+package io.quarkus.deployment.steps;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.ClassVisitor;
+
+import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
+
+public class PersistentTransformationCacheTest {
+
+    private static final byte[] CLASS_DATA = "original".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TRANSFORMED = "transformed".getBytes(StandardCharsets.UTF_8);
+    private static final Duration MAX_AGE = Duration.ofDays(7);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testTransformationIsReusedAcrossInstances() {
+        AtomicInteger transformed = new AtomicInteger();
+
+        byte[] first = new PersistentTransformationCache(dir, MAX_AGE).getOrTransform("Foo", CLASS_DATA, List.of("a"), 0,
+                countingTransformer(transformed));
+        byte[] second = new PersistentTransformationCache(dir, MAX_AGE).getOrTransform("Foo", CLASS_DATA, List.of("a"), 0,
+                countingTransformer(transformed));
+
+        assertEquals(1, transformed.get());
+        assertArrayEquals(TRANSFORMED, first);
+        assertArrayEquals(TRANSFORMED, second);
+    }
+
+    @Test
+    public void testKeyDependsOnAllInputs() {
+        String key = PersistentTransformationCache.key(CLASS_DATA, List.of("a", "b"), 0);
+        assertEquals(key, PersistentTransformationCache.key(CLASS_DATA, List.of("a", "b"), 0));
+        assertNotEquals(key, PersistentTransformationCache.key(CLASS_DATA, List.of("b", "a"), 0));
+        assertNotEquals(key, PersistentTransformationCache.key(CLASS_DATA, List.of("a", "b"), 8));
+        assertNotEquals(key, PersistentTransformationCache.key(TRANSFORMED, List.of("a", "b"), 0));
+    }
+
+    @Test
+    public void testFailedTransformationIsNotStored() {
+        AtomicInteger transformed = new AtomicInteger();
+        PersistentTransformationCache cache = new PersistentTransformationCache(dir, MAX_AGE);
+
+        cache.getOrTransform("Foo", CLASS_DATA, List.of("a"), 0, () -> {
+            transformed.incrementAndGet();
+            return null;
+        });
+        byte[] data = cache.getOrTransform("Foo", CLASS_DATA, List.of("a"), 0, countingTransformer(transformed));
+
+        assertEquals(2, transformed.get());
+        assertArrayEquals(TRANSFORMED, data);
+    }
+
+    @Test
+    public void testTransformerKeyCoversTheTransformerClass() {
+        PersistentTransformationCache cache = new PersistentTransformationCache(dir, MAX_AGE);
+
+        String key = cache.cacheKey(transformer(new FirstVisitor(), "a"));
+        assertNotNull(key);
+        assertEquals(key, cache.cacheKey(transformer(new FirstVisitor(), "a")));
+        assertNotEquals(key, cache.cacheKey(transformer(new SecondVisitor(), "a")));
+        assertNotEquals(key, cache.cacheKey(transformer(new FirstVisitor(), "b")));
+        assertNull(cache.cacheKey(transformer(new FirstVisitor(), null)));
+    }
+
+    @Test
+    public void testUnusedEntriesArePruned() throws IOException {
+        PersistentTransformationCache cache = new PersistentTransformationCache(dir, MAX_AGE);
+        AtomicInteger transformed = new AtomicInteger();
+        byte[] otherClassData = "other".getBytes(StandardCharsets.UTF_8);
+        cache.getOrTransform("Foo", CLASS_DATA, List.of("a"), 0, countingTransformer(transformed));
+        cache.getOrTransform("Bar", otherClassData, List.of("a"), 0, countingTransformer(transformed));
+        FileTime old = FileTime.from(Instant.now().minus(MAX_AGE).minus(Duration.ofDays(1)));
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.filter(f -> f.toString().endsWith(".class")).collect(Collectors.toList())) {
+                Files.setLastModifiedTime(file, old);
+            }
+        }
+
+        // a build that uses one of the entries only
+        cache = new PersistentTransformationCache(dir, MAX_AGE);
+        cache.getOrTransform("Foo", CLASS_DATA, List.of("a"), 0, countingTransformer(transformed));
+        cache.prune();
+
+        cache = new PersistentTransformationCache(dir, MAX_AGE);
+        cache.getOrTransform("Foo", CLASS_DATA, List.of("a"), 0, countingTransformer(transformed));
+        assertEquals(2, transformed.get());
+        cache.getOrTransform("Bar", otherClassData, List.of("a"), 0, countingTransformer(transformed));
+        assertEquals(3, transformed.get());
+    }
+
+    @Test
+    public void testClassesCacheKey() {
+        ClassLoader classLoader = getClass().getClassLoader();
+        String key = BytecodeTransformerBuildItem.classesCacheKey(classLoader,
+                List.of(FirstVisitor.class.getName(), SecondVisitor.class.getName()));
+        assertNotNull(key);
+        assertEquals(key, BytecodeTransformerBuildItem.classesCacheKey(classLoader,
+                List.of(SecondVisitor.class.getName(), FirstVisitor.class.getName())));
+        assertNotEquals(key, BytecodeTransformerBuildItem.classesCacheKey(classLoader,
+                List.of(FirstVisitor.class.getName())));
+        assertNull(BytecodeTransformerBuildItem.classesCacheKey(classLoader, List.of("org.acme.Missing")));
+    }
+
+    private static BytecodeTransformerBuildItem transformer(BiFunction<String, ClassVisitor, ClassVisitor> visitor,
+            String cacheKey) {
+        return new BytecodeTransformerBuildItem.Builder()
+                .setClassToTransform("Foo")
+                .setVisitorFunction(visitor)
+                .setCacheKey(cacheKey)
+                .build();
+    }
+
+    static class FirstVisitor implements BiFunction<String, ClassVisitor, ClassVisitor> {
+        @Override
+        public ClassVisitor apply(String className, ClassVisitor classVisitor) {
+            return classVisitor;
+        }
+    }
+
+    static class SecondVisitor implements BiFunction<String, ClassVisitor, ClassVisitor> {
+        @Override
+        public ClassVisitor apply(String className, ClassVisitor classVisitor) {
+            return classVisitor;
+        }
+    }
+
+    private static PersistentTransformationCache.ClassTransformer countingTransformer(AtomicInteger transformed) {
+        return () -> {
+            transformed.incrementAndGet();
+            return TRANSFORMED;
+        };
+    }
+}
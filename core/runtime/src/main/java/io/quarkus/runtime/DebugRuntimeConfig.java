@@ -13,4 +13,12 @@ public class DebugRuntimeConfig {
      */
     @ConfigItem(defaultValue = "false")
     boolean printStartupTimes;
+
+    /**
+     * If set to {@code true}, Quarkus records the startup phases, e.g. the startup tasks, the startup observers and the
+     * HTTP server bind, and the time spent loading classes, so that they can be reported once the application started.
+     * Note that this has to be set as a system property, as the recording starts before the configuration is read.
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean startupTimeline;
 }
@@ -9,6 +9,7 @@
 
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.jboss.logging.Logger;
 
 import io.quarkus.runtime.ImageMode;
@@ -76,14 +77,31 @@ public static void unknown(NameIterator name) {
      * @param properties the set of possible unused properties
      */
     public static void unknownProperties(Set<String> properties) {
+        if (properties.isEmpty()) {
+            return;
+        }
+        Config config = ConfigProvider.getConfig();
         Set<String> usedProperties = new HashSet<>();
-        for (String property : ConfigProvider.getConfig().getPropertyNames()) {
+        for (String property : config.getPropertyNames()) {
             if (properties.contains(property)) {
                 continue;
             }
 
             usedProperties.add(StringUtil.replaceNonAlphanumericByUnderscores(property));
         }
+        // the defaults only list the keys that cannot be read by name
+        for (ConfigSource configSource : config.getConfigSources()) {
+            ConfigSource source = configSource instanceof DisableableConfigSource
+                    ? ((DisableableConfigSource) configSource).getActiveSource()
+                    : configSource;
+            if (source instanceof IndexedDefaultsConfigSource) {
+                for (String property : ((IndexedDefaultsConfigSource) source).getAllPropertyNames()) {
+                    if (!properties.contains(property)) {
+                        usedProperties.add(StringUtil.replaceNonAlphanumericByUnderscores(property));
+                    }
+                }
+            }
+        }
         usedProperties.removeAll(properties);
 
         for (String property : properties) {
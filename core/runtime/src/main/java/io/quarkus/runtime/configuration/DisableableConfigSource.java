@@ -64,6 +64,10 @@ public String getName() {
         return source.getName();
     }
 
+    ConfigSource getActiveSource() {
+        return activeSource.get();
+    }
+
     public void enable() {
         activeSource.compareAndSet(emptySource, source);
     }
@@ -0,0 +1,354 @@
+package io.quarkus.runtime.configuration;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import io.quarkus.runtime.annotations.StaticInitSafe;
+import io.smallrye.config.KeyMap;
+import io.smallrye.config.common.AbstractConfigSource;
+
+/**
+ * A config source of default values backed by a sorted string table written at build time.
+ * <p>
+ * Keys are looked up with a binary search directly on the UTF-8 encoded table, and only the value of a matching key is
+ * decoded, so the defaults of all the extensions do not have to be turned into a {@code HashMap} on startup. Identical
+ * values are only stored once. Wildcard keys are stored in a separate section and loaded eagerly, as they are few and
+ * must not be exposed by {@link #getPropertyNames()}.
+ * <p>
+ * {@link #getPropertyNames()} only returns the keys that were listed when the table was written, i.e. the keys that
+ * cannot be found without enumerating the property names, such as the keys of a map. The config is read on startup by
+ * looking up every known property by name, so the other keys do not need to be decoded on startup.
+ * {@link #getAllPropertyNames()} returns all the keys.
+ * <p>
+ * The table is memory-mapped when the resource is a plain file, and read into a single array otherwise, e.g. when it is
+ * a compressed jar entry.
+ */
+@StaticInitSafe
+public class IndexedDefaultsConfigSource extends AbstractConfigSource {
+    private static final int MAGIC = 0x51434446;
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 8;
+
+    private final ByteBuffer table;
+    private final int count;
+    private final int listedCount;
+    private final int keyOffsets;
+    private final int listed;
+    private final int valueEntries;
+    private final int keyData;
+    private final int valueData;
+    private final KeyMap<String> wildcards;
+    private volatile Set<String> propertyNames;
+
+    public IndexedDefaultsConfigSource(final ByteBuffer table, final String name, final int ordinal) {
+        super(name, ordinal);
+        this.table = table;
+        int section = checkHeader(table);
+        this.count = table.getInt(section);
+        this.listedCount = table.getInt(section + 8);
+        this.keyOffsets = section + 12;
+        this.valueEntries = keyOffsets + (count + 1) * 4;
+        this.listed = valueEntries + count * 8;
+        this.keyData = listed + listedCount * 4;
+        this.valueData = keyData + table.getInt(keyOffsets + count * 4);
+        this.wildcards = readWildcards(table, valueData + table.getInt(section + 4));
+    }
+
+    @Override
+    public String getValue(final String propertyName) {
+        int index = indexOf(propertyName);
+        if (index >= 0) {
+            int entry = valueEntries + index * 8;
+            return decode(valueData + table.getInt(entry), table.getInt(entry + 4));
+        }
+        return wildcards.findRootValue(propertyName);
+    }
+
+    /**
+     * Returns the keys that were listed when the table was written, see {@link #write(Map, Predicate)}.
+     */
+    @Override
+    public Set<String> getPropertyNames() {
+        Set<String> names = propertyNames;
+        if (names == null) {
+            names = new HashSet<>(listedCount * 4 / 3 + 1);
+            for (int i = 0; i < listedCount; i++) {
+                names.add(key(table.getInt(listed + i * 4)));
+            }
+            propertyNames = names = Collections.unmodifiableSet(names);
+        }
+        return names;
+    }
+
+    /**
+     * Returns all the keys of the table, except the wildcard keys. The keys are decoded on each call.
+     */
+    public Set<String> getAllPropertyNames() {
+        Set<String> names = new HashSet<>(count * 4 / 3 + 1);
+        for (int i = 0; i < count; i++) {
+            names.add(key(i));
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+    private String key(final int index) {
+        int start = table.getInt(keyOffsets + index * 4);
+        return decode(keyData + start, table.getInt(keyOffsets + (index + 1) * 4) - start);
+    }
+
+    @Override
+    public Map<String, String> getProperties() {
+        Map<String, String> properties = new HashMap<>(count * 4 / 3 + 1);
+        for (int i = 0; i < count; i++) {
+            int entry = valueEntries + i * 8;
+            properties.put(key(i), decode(valueData + table.getInt(entry), table.getInt(entry + 4)));
+        }
+        return Collections.unmodifiableMap(properties);
+    }
+
+    private int indexOf(final String key) {
+        byte[] encoded = null;
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int start = table.getInt(keyOffsets + mid * 4);
+            int length = table.getInt(keyOffsets + (mid + 1) * 4) - start;
+            int cmp = compareAscii(key, keyData + start, length);
+            if (cmp == Integer.MIN_VALUE) {
+                // the key is not plain ASCII, compare the encoded bytes instead
+                if (encoded == null) {
+                    encoded = key.getBytes(StandardCharsets.UTF_8);
+                }
+                cmp = compareBytes(encoded, keyData + start, length);
+            }
+            if (cmp > 0) {
+                low = mid + 1;
+            } else if (cmp < 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compares the key with the table entry without encoding it, returns {@link Integer#MIN_VALUE} if a non ASCII
+     * character is reached before the result is known.
+     */
+    private int compareAscii(final String key, final int offset, final int length) {
+        int max = Math.min(key.length(), length);
+        for (int i = 0; i < max; i++) {
+            char c = key.charAt(i);
+            if (c >= 0x80) {
+                return Integer.MIN_VALUE;
+            }
+            int b = table.get(offset + i) & 0xFF;
+            if (c != b) {
+                return c - b;
+            }
+        }
+        if (key.length() > length) {
+            // the remaining characters may be encoded on several bytes, but the key is longer either way
+            return 1;
+        }
+        return key.length() - length;
+    }
+
+    private int compareBytes(final byte[] key, final int offset, final int length) {
+        int max = Math.min(key.length, length);
+        for (int i = 0; i < max; i++) {
+            int a = key[i] & 0xFF;
+            int b = table.get(offset + i) & 0xFF;
+            if (a != b) {
+                return a - b;
+            }
+        }
+        return key.length - length;
+    }
+
+    private String decode(final int offset, final int length) {
+        return decode(table, offset, length);
+    }
+
+    private static String decode(final ByteBuffer table, final int offset, final int length) {
+        if (table.hasArray()) {
+            return new String(table.array(), table.arrayOffset() + offset, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = table.get(offset + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int checkHeader(final ByteBuffer table) {
+        if (table.getInt(0) != MAGIC || table.getInt(4) != VERSION) {
+            throw new IllegalStateException("Invalid config defaults table");
+        }
+        return HEADER_SIZE;
+    }
+
+    private static KeyMap<String> readWildcards(final ByteBuffer table, final int offset) {
+        KeyMap<String> wildcards = new KeyMap<>();
+        int size = table.getInt(offset);
+        int position = offset + 4;
+        for (int i = 0; i < size; i++) {
+            int keyLength = table.getInt(position);
+            String key = decode(table, position + 4, keyLength);
+            position += 4 + keyLength;
+            int valueLength = table.getInt(position);
+            wildcards.findOrAdd(key).putRootValue(decode(table, position + 4, valueLength));
+            position += 4 + valueLength;
+        }
+        return wildcards;
+    }
+
+    /**
+     * Loads a table written by {@link #write(Map)}.
+     *
+     * @param owner the class whose class loader holds the resource
+     * @param resource the name of the resource
+     * @return the table
+     */
+    protected static ByteBuffer load(final Class<?> owner, final String resource) {
+        URL url = owner.getClassLoader().getResource(resource);
+        if (url == null) {
+            throw new IllegalStateException("Config defaults table " + resource + " not found");
+        }
+        return load(url);
+    }
+
+    static ByteBuffer load(final URL url) {
+        try {
+            if ("file".equals(url.getProtocol())) {
+                Path path = Paths.get(url.toURI());
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+            }
+            try (InputStream in = url.openStream()) {
+                return ByteBuffer.wrap(in.readAllBytes());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load config defaults table " + url, e);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Failed to load config defaults table " + url, e);
+        }
+    }
+
+    /**
+     * Writes the table read by this config source, with all the keys listed.
+     *
+     * @param properties the default values, keys may contain wildcards
+     * @return the table
+     */
+    public static byte[] write(final Map<String, String> properties) {
+        return write(properties, key -> true);
+    }
+
+    /**
+     * Writes the table read by this config source.
+     *
+     * @param properties the default values, keys may contain wildcards
+     * @param listed the keys returned by {@link #getPropertyNames()}
+     * @return the table
+     */
+    public static byte[] write(final Map<String, String> properties, final Predicate<String> listed) {
+        List<Map.Entry<byte[], String>> entries = new ArrayList<>(properties.size());
+        Map<String, String> wildcards = new TreeMap<>();
+        for (Map.Entry<String, String> entry : properties.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            if (entry.getKey().contains("*")) {
+                wildcards.put(entry.getKey(), entry.getValue());
+            } else {
+                entries.add(Map.entry(entry.getKey().getBytes(StandardCharsets.UTF_8), entry.getValue()));
+            }
+        }
+        // unsigned byte order is the order the lookups rely on
+        entries.sort((a, b) -> Arrays.compareUnsigned(a.getKey(), b.getKey()));
+
+        try {
+            ByteArrayOutputStream keyData = new ByteArrayOutputStream();
+            ByteArrayOutputStream valueData = new ByteArrayOutputStream();
+            Map<String, Integer> valueOffsets = new HashMap<>();
+            int[] keyOffsets = new int[entries.size() + 1];
+            int[] valueEntries = new int[entries.size() * 2];
+            List<Integer> listedIndexes = new ArrayList<>();
+            for (int i = 0; i < entries.size(); i++) {
+                Map.Entry<byte[], String> entry = entries.get(i);
+                if (listed.test(new String(entry.getKey(), StandardCharsets.UTF_8))) {
+                    listedIndexes.add(i);
+                }
+                keyOffsets[i] = keyData.size();
+                keyData.write(entry.getKey());
+                byte[] value = entry.getValue().getBytes(StandardCharsets.UTF_8);
+                Integer valueOffset = valueOffsets.get(entry.getValue());
+                if (valueOffset == null) {
+                    valueOffset = valueData.size();
+                    valueOffsets.put(entry.getValue(), valueOffset);
+                    valueData.write(value);
+                }
+                valueEntries[i * 2] = valueOffset;
+                valueEntries[i * 2 + 1] = value.length;
+            }
+            keyOffsets[entries.size()] = keyData.size();
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(entries.size());
+            out.writeInt(valueData.size());
+            out.writeInt(listedIndexes.size());
+            for (int keyOffset : keyOffsets) {
+                out.writeInt(keyOffset);
+            }
+            for (int valueEntry : valueEntries) {
+                out.writeInt(valueEntry);
+            }
+            for (int listedIndex : listedIndexes) {
+                out.writeInt(listedIndex);
+            }
+            keyData.writeTo(out);
+            valueData.writeTo(out);
+            out.writeInt(wildcards.size());
+            for (Map.Entry<String, String> entry : wildcards.entrySet()) {
+                byte[] key = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                byte[] value = entry.getValue().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(key.length);
+                out.write(key);
+                out.writeInt(value.length);
+                out.write(value);
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -4,6 +4,7 @@
 import com.oracle.svm.core.annotate.Substitute;
 import com.oracle.svm.core.annotate.TargetClass;
 
+import io.quarkus.bootstrap.runner.StartupTimeline;
 import io.quarkus.bootstrap.runner.Timing;
 
 @TargetClass(Timing.class)
@@ -15,6 +16,8 @@ final class TimingReplacement {
     @Substitute
     public static void mainStarted() {
         main.bootStartTime = System.nanoTime();
+        //the timeline was initialized when the image was built
+        StartupTimeline.reset();
     }
 
 }
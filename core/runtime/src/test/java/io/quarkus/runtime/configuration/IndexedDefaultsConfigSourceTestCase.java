@@ -0,0 +1,102 @@
+package io.quarkus.runtime.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class IndexedDefaultsConfigSourceTestCase {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testLookups() {
+        IndexedDefaultsConfigSource source = new IndexedDefaultsConfigSource(ByteBuffer.wrap(IndexedDefaultsConfigSource
+                .write(defaults())), "test", 100);
+
+        assertEquals("8080", source.getValue("quarkus.http.port"));
+        assertEquals("true", source.getValue("quarkus.log.console.enable"));
+        assertEquals("true", source.getValue("quarkus.banner.enabled"));
+        assertEquals("", source.getValue("quarkus.empty"));
+        assertEquals("café", source.getValue("quarkus.accentué"));
+        assertEquals("ascii", source.getValue("quarkus.accent"));
+        assertEquals("INFO", source.getValue("quarkus.log.category.\"io.quarkus\".level"));
+        assertNull(source.getValue("quarkus.http"));
+        assertNull(source.getValue("quarkus.http.port.other"));
+        assertNull(source.getValue("quarkus.accentu"));
+        assertNull(source.getValue("quarkus.accentuée"));
+        assertNull(source.getValue(""));
+    }
+
+    @Test
+    public void testWildcards() {
+        IndexedDefaultsConfigSource source = new IndexedDefaultsConfigSource(ByteBuffer.wrap(IndexedDefaultsConfigSource
+                .write(defaults())), "test", 100);
+
+        assertEquals("DEBUG", source.getValue("quarkus.log.category.foo.level"));
+        assertEquals("INFO", source.getValue("quarkus.log.category.\"io.quarkus\".level"));
+        assertEquals(Set.of("quarkus.http.port", "quarkus.log.console.enable", "quarkus.banner.enabled", "quarkus.empty",
+                "quarkus.accentué", "quarkus.accent", "quarkus.log.category.\"io.quarkus\".level"),
+                source.getPropertyNames());
+    }
+
+    @Test
+    public void testListedNames() {
+        IndexedDefaultsConfigSource source = new IndexedDefaultsConfigSource(ByteBuffer.wrap(IndexedDefaultsConfigSource
+                .write(defaults(), name -> name.startsWith("quarkus.log.category."))), "test", 100);
+
+        assertEquals(Set.of("quarkus.log.category.\"io.quarkus\".level"), source.getPropertyNames());
+        assertEquals(defaultsWithoutWildcards().keySet(), source.getAllPropertyNames());
+        assertEquals("8080", source.getValue("quarkus.http.port"));
+        assertEquals("DEBUG", source.getValue("quarkus.log.category.foo.level"));
+    }
+
+    @Test
+    public void testEmptyTable() {
+        IndexedDefaultsConfigSource source = new IndexedDefaultsConfigSource(ByteBuffer.wrap(IndexedDefaultsConfigSource
+                .write(Map.of())), "test", 100);
+
+        assertNull(source.getValue("quarkus.http.port"));
+        assertEquals(Set.of(), source.getPropertyNames());
+    }
+
+    @Test
+    public void testMappedTable() throws Exception {
+        Path table = dir.resolve("defaults");
+        Files.write(table, IndexedDefaultsConfigSource.write(defaults()));
+
+        IndexedDefaultsConfigSource source = new IndexedDefaultsConfigSource(
+                IndexedDefaultsConfigSource.load(table.toUri().toURL()), "test", 100);
+
+        assertEquals("8080", source.getValue("quarkus.http.port"));
+        assertEquals("café", source.getValue("quarkus.accentué"));
+        assertEquals(defaultsWithoutWildcards(), source.getProperties());
+    }
+
+    private static Map<String, String> defaults() {
+        Map<String, String> defaults = defaultsWithoutWildcards();
+        defaults.put("quarkus.log.category.*.level", "DEBUG");
+        return defaults;
+    }
+
+    private static Map<String, String> defaultsWithoutWildcards() {
+        Map<String, String> defaults = new HashMap<>();
+        defaults.put("quarkus.http.port", "8080");
+        defaults.put("quarkus.log.console.enable", "true");
+        defaults.put("quarkus.banner.enabled", "true");
+        defaults.put("quarkus.empty", "");
+        defaults.put("quarkus.accentué", "café");
+        defaults.put("quarkus.accent", "ascii");
+        defaults.put("quarkus.log.category.\"io.quarkus\".level", "INFO");
+        return defaults;
+    }
+}
@@ -1,5 +1,6 @@
 package io.quarkus.amazon.lambda.runtime;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -7,7 +8,9 @@
 import java.net.SocketException;
 import java.net.URL;
 import java.net.UnknownHostException;
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 import org.jboss.logging.Logger;
 import org.jboss.logging.MDC;
@@ -34,13 +37,24 @@ public abstract class AbstractLambdaPollLoop {
     private final LaunchMode launchMode;
     private static final String LAMBDA_TRACE_HEADER_PROP = "com.amazonaws.xray.traceHeader";
     private static final String MDC_AWS_REQUEST_ID_KEY = "AWSRequestId";
+    private final LambdaRuntimeApiConfig runtimeApiConfig;
 
     public AbstractLambdaPollLoop(ObjectMapper objectMapper, ObjectReader cognitoIdReader, ObjectReader clientCtxReader,
             LaunchMode launchMode) {
+        this(objectMapper, cognitoIdReader, clientCtxReader, launchMode, null);
+    }
+
+    /**
+     * @param runtimeApiConfig the configuration of the connections to the Runtime API, the defaults are used if
+     *        {@code null}
+     */
+    public AbstractLambdaPollLoop(ObjectMapper objectMapper, ObjectReader cognitoIdReader, ObjectReader clientCtxReader,
+            LaunchMode launchMode, LambdaRuntimeApiConfig runtimeApiConfig) {
         this.objectMapper = objectMapper;
         this.cognitoIdReader = cognitoIdReader;
         this.clientCtxReader = clientCtxReader;
         this.launchMode = launchMode;
+        this.runtimeApiConfig = runtimeApiConfig;
     }
 
     protected boolean shouldLog(Exception e) {
@@ -51,13 +65,14 @@ protected boolean shouldLog(Exception e) {
 
     protected HttpURLConnection requestConnection = null;
 
+    private volatile Transport transport;
+
     public void startPollLoop(ShutdownContext context) {
         final AtomicBoolean running = new AtomicBoolean(true);
         // flag to check whether to interrupt.
         final AtomicBoolean shouldInterrupt = new AtomicBoolean(true);
         String baseUrl = AmazonLambdaApi.baseUrl();
         final Thread pollingThread = new Thread(new Runnable() {
-            @SuppressWarnings("unchecked")
             @Override
             public void run() {
                 try {
@@ -75,107 +90,13 @@ public void run() {
                         // looks for "Listening on" in log to ensure native executable booted
                         log.info("Listening on: " + requestUrl.toString());
                     }
-                    while (running.get()) {
-
-                        try {
-                            requestConnection = (HttpURLConnection) requestUrl.openConnection();
-                            requestConnection.setRequestProperty(USER_AGENT, USER_AGENT_VALUE);
-                        } catch (IOException e) {
-                            if (!running.get()) {
-                                // just return gracefully as we were probably shut down by
-                                // shutdown task
-                                return;
-                            }
-                            if (abortGracefully(e)) {
-                                return;
-                            }
-                            throw e;
-                        }
-                        try {
-                            String requestId = requestConnection.getHeaderField(AmazonLambdaApi.LAMBDA_RUNTIME_AWS_REQUEST_ID);
-                            if (requestId != null) {
-                                MDC.put(MDC_AWS_REQUEST_ID_KEY, requestId);
-                            }
-                            if (requestConnection.getResponseCode() != 200) {
-                                // connection should be closed by finally clause
-                                continue;
-                            }
-                            try {
-                                if (LambdaHotReplacementRecorder.enabled && launchMode == LaunchMode.DEVELOPMENT) {
-                                    try {
-                                        // do not interrupt during a hot replacement
-                                        // as shutdown will abort and do nasty things.
-                                        shouldInterrupt.set(false);
-                                        if (LambdaHotReplacementRecorder.checkHotReplacement()) {
-                                            // hot replacement happened in dev mode
-                                            // so we requeue the request as quarkus will restart
-                                            // and the message will not be processed
-                                            // FYI: this requeue endpoint is something only the mock event server implements
-                                            requeue(baseUrl, requestId);
-                                            return;
-                                        }
-                                    } finally {
-                                        shouldInterrupt.set(true);
-                                    }
-                                }
-                                String traceId = requestConnection.getHeaderField(AmazonLambdaApi.LAMBDA_TRACE_HEADER_KEY);
-                                if (traceId != null) {
-                                    System.setProperty(LAMBDA_TRACE_HEADER_PROP, traceId);
-                                }
-                                URL url = AmazonLambdaApi.invocationResponse(baseUrl, requestId);
-                                if (isStream()) {
-                                    HttpURLConnection responseConnection = responseStream(url);
-                                    if (running.get()) {
-                                        processRequest(requestConnection.getInputStream(), responseConnection.getOutputStream(),
-                                                createContext(requestConnection));
-                                        while (responseConnection.getInputStream().read() != -1) {
-                                            // Read data
-                                        }
-                                    }
-                                } else {
-                                    Object input = null;
-                                    if (running.get()) {
-                                        LambdaInputReader inputReader = getInputReader();
-                                        if (inputReader != null) {
-                                            input = inputReader.readValue(requestConnection.getInputStream());
-                                        }
-                                        Object output = processRequest(input, createContext(requestConnection));
-                                        postResponse(url, output);
-                                    }
-                                }
-                            } catch (Exception e) {
-                                if (abortGracefully(e)) {
-                                    return;
-                                }
-                                if (shouldLog(e)) {
-                                    log.error("Failed to run lambda (" + launchMode + ")", e);
-                                }
-
-                                postError(AmazonLambdaApi.invocationError(baseUrl, requestId),
-                                        new FunctionError(e.getClass().getName(), e.getMessage()));
-                                continue;
-                            }
-
-                        } catch (Exception e) {
-                            if (!abortGracefully(e))
-                                log.error("Error running lambda (" + launchMode + ")", e);
-                            Application app = Application.currentApplication();
-                            if (app != null) {
-                                try {
-                                    app.stop();
-                                } catch (Exception ignored) {
-
-                                }
-                            }
-                            return;
-                        } finally {
-                            MDC.remove(MDC_AWS_REQUEST_ID_KEY);
-                            try {
-                                requestConnection.getInputStream().close();
-                            } catch (IOException ignored) {
-                            }
-                        }
-
+                    try (Transport transport = runtimeApiConfig != null && runtimeApiConfig.keepAlive
+                            ? new KeepAliveTransport(baseUrl, requestUrl, runtimeApiConfig.maxIdleTime)
+                            : new UrlConnectionTransport(baseUrl, requestUrl)) {
+                        AbstractLambdaPollLoop.this.transport = transport;
+                        pollLoop(transport, baseUrl, running, shouldInterrupt);
+                    } finally {
+                        AbstractLambdaPollLoop.this.transport = null;
                     }
                 } catch (Exception e) {
                     try {
@@ -200,10 +121,10 @@ public void run() {
         pollingThread.setDaemon(true);
         context.addShutdownTask(() -> {
             running.set(false);
-            try {
-                //note that interrupting does not seem to be 100% reliable in unblocking the thread
-                requestConnection.disconnect();
-            } catch (Exception ignore) {
+            //note that interrupting does not seem to be 100% reliable in unblocking the thread
+            Transport transport = this.transport;
+            if (transport != null) {
+                transport.close();
             }
             if (shouldInterrupt.get()) {
                 pollingThread.interrupt();
@@ -213,6 +134,102 @@ public void run() {
 
     }
 
+    private void pollLoop(Transport transport, String baseUrl, AtomicBoolean running, AtomicBoolean shouldInterrupt)
+            throws Exception {
+        while (running.get()) {
+
+            Invocation invocation;
+            try {
+                invocation = transport.next();
+            } catch (IOException e) {
+                if (!running.get()) {
+                    // just return gracefully as we were probably shut down by
+                    // shutdown task
+                    return;
+                }
+                if (abortGracefully(e)) {
+                    return;
+                }
+                throw e;
+            }
+            try {
+                String requestId = invocation.header(AmazonLambdaApi.LAMBDA_RUNTIME_AWS_REQUEST_ID);
+                if (requestId != null) {
+                    MDC.put(MDC_AWS_REQUEST_ID_KEY, requestId);
+                }
+                if (invocation.status() != 200) {
+                    // connection should be closed by finally clause
+                    continue;
+                }
+                try {
+                    if (LambdaHotReplacementRecorder.enabled && launchMode == LaunchMode.DEVELOPMENT) {
+                        try {
+                            // do not interrupt during a hot replacement
+                            // as shutdown will abort and do nasty things.
+                            shouldInterrupt.set(false);
+                            if (LambdaHotReplacementRecorder.checkHotReplacement()) {
+                                // hot replacement happened in dev mode
+                                // so we requeue the request as quarkus will restart
+                                // and the message will not be processed
+                                // FYI: this requeue endpoint is something only the mock event server implements
+                                requeue(baseUrl, requestId);
+                                return;
+                            }
+                        } finally {
+                            shouldInterrupt.set(true);
+                        }
+                    }
+                    String traceId = invocation.header(AmazonLambdaApi.LAMBDA_TRACE_HEADER_KEY);
+                    if (traceId != null) {
+                        System.setProperty(LAMBDA_TRACE_HEADER_PROP, traceId);
+                    }
+                    if (running.get()) {
+                        AmazonLambdaContext lambdaContext = invocation.createContext();
+                        if (isStream()) {
+                            transport.streamResponse(requestId,
+                                    out -> processRequest(invocation.body(), out, lambdaContext));
+                        } else {
+                            Object input = null;
+                            LambdaInputReader inputReader = getInputReader();
+                            if (inputReader != null) {
+                                input = inputReader.readValue(invocation.body());
+                            }
+                            Object output = processRequest(input, lambdaContext);
+                            transport.postResponse(requestId, output);
+                        }
+                    }
+                } catch (Exception e) {
+                    if (abortGracefully(e)) {
+                        return;
+                    }
+                    if (shouldLog(e)) {
+                        log.error("Failed to run lambda (" + launchMode + ")", e);
+                    }
+
+                    transport.postError(requestId, new FunctionError(e.getClass().getName(), e.getMessage()));
+                    continue;
+                }
+
+            } catch (Exception e) {
+                if (!abortGracefully(e))
+                    log.error("Error running lambda (" + launchMode + ")", e);
+                Application app = Application.currentApplication();
+                if (app != null) {
+                    try {
+                        app.stop();
+                    } catch (Exception ignored) {
+
+                    }
+                }
+                return;
+            } finally {
+                MDC.remove(MDC_AWS_REQUEST_ID_KEY);
+                invocation.close();
+            }
+
+        }
+    }
+
     /**
      * Invoke actual app code with unmarshalled input.
      *
@@ -234,6 +251,10 @@ protected AmazonLambdaContext createContext(HttpURLConnection requestConnection)
         return new AmazonLambdaContext(requestConnection, cognitoIdReader, clientCtxReader);
     }
 
+    protected AmazonLambdaContext createContext(Function<String, String> headers) throws IOException {
+        return new AmazonLambdaContext(headers, cognitoIdReader, clientCtxReader);
+    }
+
     private void checkQuarkusBootstrapped() {
         // todo we need a better way to do this.
         if (Application.currentApplication() == null) {
@@ -290,6 +311,196 @@ protected HttpURLConnection responseStream(URL url) throws IOException {
         return responseConnection;
     }
 
+    /**
+     * The connections used by the poll loop to receive the invocations and to post their results.
+     */
+    private interface Transport extends Closeable {
+
+        /**
+         * Waits for the next invocation.
+         */
+        Invocation next() throws IOException;
+
+        void postResponse(String requestId, Object output) throws Exception;
+
+        void streamResponse(String requestId, LambdaRuntimeClient.BodyWriter output) throws Exception;
+
+        void postError(String requestId, FunctionError error) throws Exception;
+
+        /**
+         * Closes the connections, a request blocked in the poll loop fails.
+         */
+        @Override
+        void close();
+    }
+
+    private interface Invocation {
+
+        int status() throws IOException;
+
+        String header(String name);
+
+        InputStream body() throws IOException;
+
+        AmazonLambdaContext createContext() throws IOException;
+
+        void close();
+    }
+
+    /**
+     * Opens a new {@link HttpURLConnection} for every request.
+     */
+    private final class UrlConnectionTransport implements Transport {
+
+        private final String baseUrl;
+        private final URL requestUrl;
+
+        UrlConnectionTransport(String baseUrl, URL requestUrl) {
+            this.baseUrl = baseUrl;
+            this.requestUrl = requestUrl;
+        }
+
+        @Override
+        public Invocation next() throws IOException {
+            HttpURLConnection connection = (HttpURLConnection) requestUrl.openConnection();
+            connection.setRequestProperty(USER_AGENT, USER_AGENT_VALUE);
+            requestConnection = connection;
+            return new Invocation() {
+                @Override
+                public int status() throws IOException {
+                    return connection.getResponseCode();
+                }
+
+                @Override
+                public String header(String name) {
+                    return connection.getHeaderField(name);
+                }
+
+                @Override
+                public InputStream body() throws IOException {
+                    return connection.getInputStream();
+                }
+
+                @Override
+                public AmazonLambdaContext createContext() throws IOException {
+                    return AbstractLambdaPollLoop.this.createContext(connection);
+                }
+
+                @Override
+                public void close() {
+                    try {
+                        connection.getInputStream().close();
+                    } catch (IOException ignored) {
+                    }
+                }
+            };
+        }
+
+        @Override
+        public void postResponse(String requestId, Object output) throws IOException {
+            AbstractLambdaPollLoop.this.postResponse(AmazonLambdaApi.invocationResponse(baseUrl, requestId), output);
+        }
+
+        @Override
+        public void streamResponse(String requestId, LambdaRuntimeClient.BodyWriter output) throws Exception {
+            HttpURLConnection responseConnection = responseStream(AmazonLambdaApi.invocationResponse(baseUrl, requestId));
+            output.write(responseConnection.getOutputStream());
+            while (responseConnection.getInputStream().read() != -1) {
+                // Read data
+            }
+        }
+
+        @Override
+        public void postError(String requestId, FunctionError error) throws IOException {
+            AbstractLambdaPollLoop.this.postError(AmazonLambdaApi.invocationError(baseUrl, requestId), error);
+        }
+
+        @Override
+        public void close() {
+            try {
+                requestConnection.disconnect();
+            } catch (Exception ignore) {
+            }
+        }
+    }
+
+    /**
+     * Receives the invocations and posts their results on two persistent connections.
+     */
+    private final class KeepAliveTransport implements Transport {
+
+        private final String baseUrl;
+        private final String nextPath;
+        private final LambdaRuntimeClient invocations;
+        private final LambdaRuntimeClient results;
+
+        KeepAliveTransport(String baseUrl, URL requestUrl, Duration maxIdleTime) {
+            this.baseUrl = baseUrl;
+            this.nextPath = requestUrl.getFile();
+            this.invocations = new LambdaRuntimeClient(baseUrl, USER_AGENT_VALUE, maxIdleTime);
+            this.results = new LambdaRuntimeClient(baseUrl, USER_AGENT_VALUE, maxIdleTime);
+        }
+
+        @Override
+        public Invocation next() throws IOException {
+            LambdaRuntimeClient.Response response = invocations.get(nextPath);
+            return new Invocation() {
+                @Override
+                public int status() {
+                    return response.status;
+                }
+
+                @Override
+                public String header(String name) {
+                    return response.header(name);
+                }
+
+                @Override
+                public InputStream body() {
+                    return response.body();
+                }
+
+                @Override
+                public AmazonLambdaContext createContext() throws IOException {
+                    return AbstractLambdaPollLoop.this.createContext(response::header);
+                }
+
+                @Override
+                public void close() {
+                    // the body is discarded by the next request
+                }
+            };
+        }
+
+        @Override
+        public void postResponse(String requestId, Object output) throws Exception {
+            String path = AmazonLambdaApi.invocationResponse(baseUrl, requestId).getFile();
+            if (output == null) {
+                results.post(path, null, null);
+            } else {
+                LambdaOutputWriter outputWriter = getOutputWriter();
+                results.post(path, outputWriter.contentType(), out -> outputWriter.writeValue(out, output));
+            }
+        }
+
+        @Override
+        public void streamResponse(String requestId, LambdaRuntimeClient.BodyWriter output) throws Exception {
+            results.post(AmazonLambdaApi.invocationResponse(baseUrl, requestId).getFile(), null, output);
+        }
+
+        @Override
+        public void postError(String requestId, FunctionError error) throws Exception {
+            results.post(AmazonLambdaApi.invocationError(baseUrl, requestId).getFile(), "application/json",
+                    out -> objectMapper.writeValue(out, error));
+        }
+
+        @Override
+        public void close() {
+            invocations.close();
+            results.close();
+        }
+    }
+
     boolean abortGracefully(Exception ex) {
         // if we are running in test mode, or native mode outside the lambda container, then don't output stack trace for socket errors
 
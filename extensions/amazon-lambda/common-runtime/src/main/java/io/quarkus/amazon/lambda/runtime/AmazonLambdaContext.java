@@ -13,6 +13,7 @@
 
 import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.util.function.Function;
 
 import com.amazonaws.services.lambda.runtime.ClientContext;
 import com.amazonaws.services.lambda.runtime.CognitoIdentity;
@@ -37,19 +38,27 @@ public class AmazonLambdaContext implements Context {
 
     public AmazonLambdaContext(HttpURLConnection request, ObjectReader cognitoReader, ObjectReader clientCtxReader)
             throws IOException {
-        awsRequestId = request.getHeaderField(LAMBDA_RUNTIME_AWS_REQUEST_ID);
+        this(request::getHeaderField, cognitoReader, clientCtxReader);
+    }
+
+    /**
+     * @param headers returns the value of a header of the invocation, or {@code null}
+     */
+    public AmazonLambdaContext(Function<String, String> headers, ObjectReader cognitoReader,
+            ObjectReader clientCtxReader) throws IOException {
+        awsRequestId = headers.apply(LAMBDA_RUNTIME_AWS_REQUEST_ID);
         logGroupName = logGroupName();
         logStreamName = logStreamName();
         functionName = functionName();
         functionVersion = functionVersion();
-        invokedFunctionArn = request.getHeaderField(LAMBDA_RUNTIME_INVOKED_FUNCTION_ARN);
+        invokedFunctionArn = headers.apply(LAMBDA_RUNTIME_INVOKED_FUNCTION_ARN);
 
-        String cognitoIdentityHeader = request.getHeaderField(LAMBDA_RUNTIME_COGNITO_IDENTITY);
+        String cognitoIdentityHeader = headers.apply(LAMBDA_RUNTIME_COGNITO_IDENTITY);
         if (cognitoIdentityHeader != null) {
             cognitoIdentity = cognitoReader.readValue(cognitoIdentityHeader);
         }
 
-        String clientContextHeader = request.getHeaderField(LAMBDA_RUNTIME_CLIENT_CONTEXT);
+        String clientContextHeader = headers.apply(LAMBDA_RUNTIME_CLIENT_CONTEXT);
         if (clientContextHeader != null) {
             clientContext = clientCtxReader.readValue(clientContextHeader);
         }
@@ -57,7 +66,7 @@ public AmazonLambdaContext(HttpURLConnection request, ObjectReader cognitoReader
         String functionMemorySize = functionMemorySize();
         memoryLimitInMB = functionMemorySize != null ? Integer.valueOf(functionMemorySize) : 0;
 
-        String runtimeDeadline = request.getHeaderField(LAMBDA_RUNTIME_DEADLINE_MS);
+        String runtimeDeadline = headers.apply(LAMBDA_RUNTIME_DEADLINE_MS);
         if (runtimeDeadline != null) {
             runtimeDeadlineMs = Long.valueOf(runtimeDeadline);
         }
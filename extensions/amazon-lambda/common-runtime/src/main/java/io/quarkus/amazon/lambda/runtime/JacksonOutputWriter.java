@@ -20,7 +20,12 @@ public void writeValue(OutputStream os, Object obj) throws IOException {
 
     @Override
     public void writeHeaders(HttpURLConnection conn) {
-        conn.setRequestProperty("Content-Type", "application/json");
+        conn.setRequestProperty("Content-Type", contentType());
+    }
+
+    @Override
+    public String contentType() {
+        return "application/json";
     }
 
 }
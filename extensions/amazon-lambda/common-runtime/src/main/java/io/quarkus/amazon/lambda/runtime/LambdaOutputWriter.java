@@ -9,4 +9,11 @@ public interface LambdaOutputWriter {
 
     default void writeHeaders(HttpURLConnection conn) {
     }
+
+    /**
+     * @return the content type of the values, used when the response is not posted with an {@link HttpURLConnection}
+     */
+    default String contentType() {
+        return null;
+    }
 }
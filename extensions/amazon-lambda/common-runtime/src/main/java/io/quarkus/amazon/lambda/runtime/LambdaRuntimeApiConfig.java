@@ -0,0 +1,34 @@
+package io.quarkus.amazon.lambda.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+/**
+ * Configuration of the connection to the Lambda Runtime API.
+ */
+@ConfigRoot(name = "lambda.runtime-api", phase = ConfigPhase.RUN_TIME)
+public class LambdaRuntimeApiConfig {
+
+    /**
+     * If the poll loop should keep its connections to the Runtime API open between invocations.
+     * <p>
+     * By default, a new {@link java.net.HttpURLConnection} is opened for every request to the Runtime API. When enabled,
+     * the poll loop uses two persistent HTTP/1.1 connections, one to receive the invocations and one to post the results,
+     * and reuses its buffers across invocations. Results that do not fit in a 64 KiB buffer are streamed to the Runtime API.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean keepAlive;
+
+    /**
+     * The maximum time a persistent connection to the Runtime API stays idle before it is reopened.
+     * <p>
+     * A connection that was idle for longer may have been closed by the Runtime API, or lost while the execution
+     * environment was frozen between invocations, so it is reopened before the next request instead of being reused.
+     * Only used when {@code keep-alive} is enabled.
+     */
+    @ConfigItem(defaultValue = "60S")
+    public Duration maxIdleTime;
+}
@@ -0,0 +1,528 @@
+package io.quarkus.amazon.lambda.runtime;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A minimal HTTP/1.1 client for the Lambda Runtime API that keeps its connection open between requests.
+ * <p>
+ * The Runtime API is a plain HTTP endpoint on the local host, so this client only supports what the API needs: requests
+ * without a body or with a body written by a {@link BodyWriter}, and responses with a fixed length or chunked body.
+ * The socket streams, the buffer of the request bodies and the buffer used to discard response bodies are reused for all
+ * requests. Request bodies are sent with a {@code Content-Length} up to the size of the body buffer, larger bodies are
+ * streamed with the chunked transfer encoding.
+ * <p>
+ * A connection is not checked before it is reused, as that would need a read with a timeout for every request. A
+ * connection which was idle for longer than the maximum idle time may have been closed by the server, and is reopened
+ * before a request is written to it. If a reused connection fails once a request was written, only a {@code GET} is
+ * sent again on a new connection: a {@code POST} may already have been processed by the Runtime API.
+ * <p>
+ * A client is not thread safe, the poll loop uses one client to receive the invocations and another one to post the
+ * results, so that an invocation can be streamed into its result.
+ */
+final class LambdaRuntimeClient implements Closeable {
+
+    static final int BODY_BUFFER_SIZE = 64 * 1024;
+
+    private static final byte[] CRLF = { '\r', '\n' };
+    private static final byte[] LAST_CHUNK = { '0', '\r', '\n', '\r', '\n' };
+
+    private final String host;
+    private final int port;
+    private final String hostHeader;
+    private final String userAgent;
+    private final long maxIdleNanos;
+    private final BodyBuffer bodyBuffer = new BodyBuffer();
+    private final byte[] discardBuffer = new byte[8192];
+
+    private Socket socket;
+    private boolean reusedConnection;
+    private InputStream in;
+    private OutputStream out;
+    private Response current;
+    private long lastResponse;
+
+    /**
+     * @param maxIdleTime the connection is reopened before a request once it was idle for longer than this time
+     */
+    LambdaRuntimeClient(String baseUrl, String userAgent, Duration maxIdleTime) {
+        URI uri = URI.create(baseUrl);
+        this.host = uri.getHost();
+        this.port = uri.getPort() == -1 ? 80 : uri.getPort();
+        this.hostHeader = uri.getPort() == -1 ? host : host + ":" + port;
+        this.userAgent = userAgent;
+        this.maxIdleNanos = maxIdleTime.toNanos();
+    }
+
+    /**
+     * Sends a {@code GET} request. The body of the previous response is discarded if it was not fully read.
+     */
+    Response get(String path) throws IOException {
+        try {
+            return send("GET", path, null, null);
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            //cannot happen without a body writer
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Sends a {@code POST} request and discards the body of the response.
+     *
+     * @param contentType the content type of the body, may be {@code null}
+     * @param body writes the body, may be {@code null}
+     * @return the status code of the response
+     * @throws Exception if the request failed, or the exception thrown by the body writer
+     */
+    int post(String path, String contentType, BodyWriter body) throws Exception {
+        Response response = send("POST", path, contentType, body);
+        response.discard();
+        return response.status;
+    }
+
+    private Response send(String method, String path, String contentType, BodyWriter body) throws Exception {
+        finishCurrent();
+        bodyBuffer.start(method, path, contentType);
+        if (body != null) {
+            try {
+                body.write(bodyBuffer);
+            } catch (UncheckedIOException e) {
+                //the body was streamed and the connection failed
+                closeSocket();
+                throw e.getCause();
+            } catch (Exception e) {
+                if (bodyBuffer.streamed) {
+                    //the request cannot be completed
+                    closeSocket();
+                }
+                throw e;
+            }
+        }
+        try {
+            bodyBuffer.finish();
+            return readResponse();
+        } catch (IOException e) {
+            closeSocket();
+            //the request may have been processed by the Runtime API before the connection failed, so only a GET is
+            //sent again, when the connection was reused and may have been closed by the server while it was idle
+            if (!reusedConnection || !"GET".equals(method)) {
+                throw e;
+            }
+        } catch (RuntimeException e) {
+            closeSocket();
+            throw e;
+        }
+        try {
+            bodyBuffer.finish();
+            return readResponse();
+        } catch (IOException | RuntimeException e) {
+            closeSocket();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a connection before the first bytes of a request are written, unless the current connection can be reused.
+     */
+    private void ensureConnected() throws IOException {
+        if (socket != null && System.nanoTime() - lastResponse < maxIdleNanos) {
+            reusedConnection = true;
+            return;
+        }
+        closeSocket();
+        connect();
+        reusedConnection = false;
+    }
+
+    private void connect() throws IOException {
+        Socket socket = new Socket();
+        socket.setTcpNoDelay(true);
+        socket.setKeepAlive(true);
+        socket.connect(new InetSocketAddress(host, port));
+        this.socket = socket;
+        this.in = new BufferedInputStream(socket.getInputStream(), 8192);
+        this.out = new BufferedOutputStream(socket.getOutputStream(), 8192);
+    }
+
+    /**
+     * @param contentLength the length of the body, or {@code -1} for a chunked body
+     */
+    private void writeHead(String method, String path, String contentType, long contentLength) throws IOException {
+        ensureConnected();
+        StringBuilder head = new StringBuilder(128)
+                .append(method).append(' ').append(path).append(" HTTP/1.1\r\n")
+                .append("Host: ").append(hostHeader).append("\r\n")
+                .append("User-Agent: ").append(userAgent).append("\r\n");
+        if (contentType != null) {
+            head.append("Content-Type: ").append(contentType).append("\r\n");
+        }
+        if (contentLength < 0) {
+            head.append("Transfer-Encoding: chunked\r\n");
+        } else {
+            head.append("Content-Length: ").append(contentLength).append("\r\n");
+        }
+        head.append("\r\n");
+        out.write(head.toString().getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private Response readResponse() throws IOException {
+        String statusLine = readLine();
+        if (statusLine == null) {
+            throw new EOFException("Connection closed by the Runtime API");
+        }
+        int firstSpace = statusLine.indexOf(' ');
+        if (!statusLine.startsWith("HTTP/1.") || firstSpace < 0 || statusLine.length() < firstSpace + 4) {
+            throw new IOException("Invalid status line: " + statusLine);
+        }
+        int status = Integer.parseInt(statusLine.substring(firstSpace + 1, firstSpace + 4));
+        Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        String line;
+        while ((line = readLine()) != null && !line.isEmpty()) {
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                headers.put(line.substring(0, colon).trim(), line.substring(colon + 1).trim());
+            }
+        }
+        if (line == null) {
+            throw new EOFException("Connection closed by the Runtime API");
+        }
+        boolean keepAlive = !"close".equalsIgnoreCase(headers.get("Connection"))
+                && !statusLine.startsWith("HTTP/1.0");
+        InputStream body;
+        String contentLength = headers.get("Content-Length");
+        if ("chunked".equalsIgnoreCase(headers.get("Transfer-Encoding"))) {
+            body = new ChunkedInputStream();
+        } else if (contentLength != null) {
+            body = new FixedLengthInputStream(Long.parseLong(contentLength));
+        } else if (status == 204 || status == 304 || (status >= 100 && status < 200)) {
+            body = new FixedLengthInputStream(0);
+        } else {
+            //the body ends when the connection is closed
+            body = new FixedLengthInputStream(Long.MAX_VALUE);
+            keepAlive = false;
+        }
+        current = new Response(status, headers, body, keepAlive);
+        lastResponse = System.nanoTime();
+        return current;
+    }
+
+    private String readLine() throws IOException {
+        StringBuilder line = new StringBuilder(64);
+        int c;
+        while ((c = in.read()) != -1) {
+            if (c == '\n') {
+                int length = line.length();
+                if (length > 0 && line.charAt(length - 1) == '\r') {
+                    line.setLength(length - 1);
+                }
+                return line.toString();
+            }
+            line.append((char) c);
+        }
+        return line.length() == 0 ? null : line.toString();
+    }
+
+    private void finishCurrent() throws IOException {
+        Response response = current;
+        if (response != null) {
+            response.discard();
+        }
+    }
+
+    private void closeSocket() {
+        current = null;
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+            socket = null;
+            in = null;
+            out = null;
+        }
+    }
+
+    /**
+     * Closes the connection, a request blocked in another thread fails.
+     */
+    @Override
+    public void close() {
+        Socket socket = this.socket;
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface BodyWriter {
+
+        void write(OutputStream out) throws Exception;
+    }
+
+    final class Response {
+
+        final int status;
+        private final Map<String, String> headers;
+        private final InputStream body;
+        private final boolean keepAlive;
+
+        Response(int status, Map<String, String> headers, InputStream body, boolean keepAlive) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+            this.keepAlive = keepAlive;
+        }
+
+        String header(String name) {
+            return headers.get(name);
+        }
+
+        InputStream body() {
+            return body;
+        }
+
+        /**
+         * Reads the rest of the body, so that the connection can be reused.
+         */
+        void discard() throws IOException {
+            if (current != this) {
+                return;
+            }
+            try {
+                while (body.read(discardBuffer, 0, discardBuffer.length) != -1) {
+                    // discard
+                }
+            } catch (IOException e) {
+                closeSocket();
+                throw e;
+            }
+            current = null;
+            if (!keepAlive) {
+                closeSocket();
+            }
+        }
+    }
+
+    private final class FixedLengthInputStream extends InputStream {
+
+        private long remaining;
+
+        FixedLengthInputStream(long length) {
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = in.read();
+            if (b == -1) {
+                return eof();
+            }
+            remaining--;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = in.read(b, off, (int) Math.min(len, remaining));
+            if (read == -1) {
+                return eof();
+            }
+            remaining -= read;
+            return read;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(in.available(), remaining);
+        }
+
+        private int eof() throws IOException {
+            if (remaining != Long.MAX_VALUE) {
+                throw new EOFException("Connection closed before the end of the body");
+            }
+            remaining = 0;
+            return -1;
+        }
+
+        @Override
+        public void close() {
+            //the body is discarded by the next request
+        }
+    }
+
+    private final class ChunkedInputStream extends InputStream {
+
+        private long remaining;
+        private boolean last;
+
+        @Override
+        public int read() throws IOException {
+            if (!nextChunk()) {
+                return -1;
+            }
+            int b = in.read();
+            if (b == -1) {
+                throw new EOFException("Connection closed before the end of the body");
+            }
+            remaining--;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (!nextChunk()) {
+                return -1;
+            }
+            int read = in.read(b, off, (int) Math.min(len, remaining));
+            if (read == -1) {
+                throw new EOFException("Connection closed before the end of the body");
+            }
+            remaining -= read;
+            return read;
+        }
+
+        private boolean nextChunk() throws IOException {
+            if (last) {
+                return false;
+            }
+            if (remaining > 0) {
+                return true;
+            }
+            String size = readLine();
+            if (size == null) {
+                throw new EOFException("Connection closed before the end of the body");
+            }
+            if (size.isEmpty()) {
+                //the CRLF that ends the previous chunk
+                size = readLine();
+                if (size == null) {
+                    throw new EOFException("Connection closed before the end of the body");
+                }
+            }
+            int extension = size.indexOf(';');
+            remaining = Long.parseLong((extension < 0 ? size : size.substring(0, extension)).trim(), 16);
+            if (remaining == 0) {
+                last = true;
+                //skip the trailers
+                String line;
+                while ((line = readLine()) != null && !line.isEmpty()) {
+                    // skip
+                }
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public void close() {
+            //the body is discarded by the next request
+        }
+    }
+
+    /**
+     * Buffers the request body, and switches to the chunked encoding once the body does not fit in the buffer.
+     */
+    private final class BodyBuffer extends ByteArrayOutputStream {
+
+        private String method;
+        private String path;
+        private String contentType;
+        private boolean streamed;
+
+        BodyBuffer() {
+            super(BODY_BUFFER_SIZE);
+        }
+
+        void start(String method, String path, String contentType) {
+            this.count = 0;
+            this.streamed = false;
+            this.method = method;
+            this.path = path;
+            this.contentType = contentType;
+        }
+
+        @Override
+        public void write(int b) {
+            if (streamed || count == buf.length) {
+                write(new byte[] { (byte) b }, 0, 1);
+            } else {
+                super.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            try {
+                if (!streamed && count + len <= buf.length) {
+                    super.write(b, off, len);
+                    return;
+                }
+                if (!streamed) {
+                    streamed = true;
+                    writeHead(method, path, contentType, -1);
+                    writeChunk(buf, 0, count);
+                }
+                writeChunk(b, off, len);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (streamed) {
+                out.flush();
+            }
+        }
+
+        @Override
+        public void close() {
+            //finished by the client
+        }
+
+        void finish() throws IOException {
+            if (streamed) {
+                out.write(LAST_CHUNK);
+            } else {
+                writeHead(method, path, contentType, count);
+                out.write(buf, 0, count);
+            }
+            out.flush();
+        }
+
+        private void writeChunk(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return;
+            }
+            out.write(Integer.toHexString(len).getBytes(StandardCharsets.ISO_8859_1));
+            out.write(CRLF);
+            out.write(b, off, len);
+            out.write(CRLF);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package io.quarkus.amazon.lambda.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.ShutdownContext;
+
+/**
+ * Runs {@link AbstractLambdaPollLoop} against a mock of the Runtime API, with and without the keep-alive connections.
+ */
+public class LambdaPollLoopTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static HttpServer server;
+    private static ExecutorService executor;
+    private static final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+    private static final List<Integer> clientPorts = new CopyOnWriteArrayList<>();
+    private static final Map<String, String> responses = new ConcurrentHashMap<>();
+    private static final Map<String, String> errors = new ConcurrentHashMap<>();
+    private static final AtomicInteger requestCount = new AtomicInteger();
+
+    private final List<Runnable> shutdownTasks = new CopyOnWriteArrayList<>();
+
+    @BeforeAll
+    public static void startRuntimeApi() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/2018-06-01/runtime/invocation/next", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            String event;
+            try {
+                event = events.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                event = null;
+            }
+            if (event == null) {
+                // the poll loop asks again
+                exchange.sendResponseHeaders(204, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().add(AmazonLambdaApi.LAMBDA_RUNTIME_AWS_REQUEST_ID,
+                    "request-" + requestCount.incrementAndGet());
+            respond(exchange, 200, event.getBytes(StandardCharsets.UTF_8));
+        });
+        server.createContext("/2018-06-01/runtime/invocation/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            String[] path = exchange.getRequestURI().getPath().split("/");
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            if ("error".equals(path[path.length - 1])) {
+                errors.put(path[path.length - 2], body);
+            } else {
+                responses.put(path[path.length - 2], body);
+            }
+            respond(exchange, 202, "{\"status\":\"OK\"}".getBytes(StandardCharsets.UTF_8));
+        });
+        server.start();
+        System.setProperty(AmazonLambdaApi.QUARKUS_INTERNAL_AWS_LAMBDA_TEST_API,
+                "localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterAll
+    public static void stopRuntimeApi() {
+        System.clearProperty(AmazonLambdaApi.QUARKUS_INTERNAL_AWS_LAMBDA_TEST_API);
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @BeforeEach
+    public void clear() {
+        events.clear();
+        clientPorts.clear();
+        responses.clear();
+        errors.clear();
+    }
+
+    @AfterEach
+    public void shutdown() throws InterruptedException {
+        for (Runnable task : shutdownTasks) {
+            task.run();
+        }
+        // let the pending requests of the stopped loop end, so that they do not take the events of the next test
+        Thread.sleep(200);
+    }
+
+    @Test
+    public void testPollLoop() throws Exception {
+        runInvocations(false, false);
+    }
+
+    @Test
+    public void testKeepAlivePollLoop() throws Exception {
+        runInvocations(true, false);
+        // one connection receives the invocations, the other one posts the results
+        Assertions.assertEquals(2, clientPorts.stream().distinct().count());
+    }
+
+    @Test
+    public void testKeepAliveStreamPollLoop() throws Exception {
+        runInvocations(true, true);
+        Assertions.assertEquals(2, clientPorts.stream().distinct().count());
+    }
+
+    private void runInvocations(boolean keepAlive, boolean stream) throws Exception {
+        LambdaRuntimeApiConfig config = new LambdaRuntimeApiConfig();
+        config.keepAlive = keepAlive;
+        new GreetingPollLoop(config, stream).startPollLoop(new ShutdownContext() {
+            @Override
+            public void addShutdownTask(Runnable runnable) {
+                shutdownTasks.add(runnable);
+            }
+
+            @Override
+            public void addLastShutdownTask(Runnable runnable) {
+                shutdownTasks.add(runnable);
+            }
+        });
+
+        int first = requestCount.get() + 1;
+        events.add("{\"name\":\"Bill\"}");
+        events.add("{\"name\":\"fail\"}");
+        events.add("{\"name\":\"Stu\"}");
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (responses.size() + errors.size() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        Assertions.assertEquals("\"Hello Bill\"", responses.get("request-" + first));
+        Assertions.assertEquals("\"Hello Stu\"", responses.get("request-" + (first + 2)));
+        JsonNode error = OBJECT_MAPPER.readTree(errors.get("request-" + (first + 1)));
+        Assertions.assertEquals(IllegalStateException.class.getName(), error.get("errorType").asText());
+        Assertions.assertEquals("Cannot greet fail", error.get("errorMessage").asText());
+        Assertions.assertEquals(2, responses.size());
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+
+    private static String greet(JsonNode input) {
+        String name = input.get("name").asText();
+        if ("fail".equals(name)) {
+            throw new IllegalStateException("Cannot greet " + name);
+        }
+        return "Hello " + name;
+    }
+
+    private static final class GreetingPollLoop extends AbstractLambdaPollLoop {
+
+        private final boolean stream;
+
+        GreetingPollLoop(LambdaRuntimeApiConfig config, boolean stream) {
+            super(OBJECT_MAPPER, OBJECT_MAPPER.readerFor(CognitoIdentity.class),
+                    OBJECT_MAPPER.readerFor(ClientContext.class), LaunchMode.TEST, config);
+            this.stream = stream;
+        }
+
+        @Override
+        protected boolean isStream() {
+            return stream;
+        }
+
+        @Override
+        protected Object processRequest(Object input, AmazonLambdaContext context) {
+            return greet((JsonNode) input);
+        }
+
+        @Override
+        protected void processRequest(InputStream input, OutputStream output, AmazonLambdaContext context)
+                throws Exception {
+            OBJECT_MAPPER.writeValue(output, greet(OBJECT_MAPPER.readTree(input)));
+        }
+
+        @Override
+        protected LambdaInputReader<JsonNode> getInputReader() {
+            return in -> OBJECT_MAPPER.readTree(in);
+        }
+
+        @Override
+        protected LambdaOutputWriter getOutputWriter() {
+            return new JacksonOutputWriter(OBJECT_MAPPER.writer());
+        }
+    }
+}
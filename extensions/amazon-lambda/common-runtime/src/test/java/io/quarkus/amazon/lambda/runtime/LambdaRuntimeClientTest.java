@@ -0,0 +1,284 @@
+package io.quarkus.amazon.lambda.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests {@link LambdaRuntimeClient} against a mock of the Runtime API.
+ */
+public class LambdaRuntimeClientTest {
+
+    private static final Duration MAX_IDLE_TIME = Duration.ofSeconds(60);
+
+    private HttpServer server;
+    private LambdaRuntimeClient client;
+    private final List<Integer> clientPorts = new CopyOnWriteArrayList<>();
+    private final List<String> contentTypes = new CopyOnWriteArrayList<>();
+    private final List<String> transferEncodings = new CopyOnWriteArrayList<>();
+    private final List<byte[]> bodies = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/2018-06-01/runtime/invocation/next", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            exchange.getResponseHeaders().add(AmazonLambdaApi.LAMBDA_RUNTIME_AWS_REQUEST_ID, "request-" + clientPorts.size());
+            respond(exchange, 200, "{\"name\":\"Bill\"}".getBytes(StandardCharsets.UTF_8));
+        });
+        server.createContext("/2018-06-01/runtime/invocation/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            contentTypes.add(String.valueOf(exchange.getRequestHeaders().getFirst("Content-Type")));
+            transferEncodings.add(String.valueOf(exchange.getRequestHeaders().getFirst("Transfer-Encoding")));
+            bodies.add(exchange.getRequestBody().readAllBytes());
+            respond(exchange, 202, "{\"status\":\"OK\"}".getBytes(StandardCharsets.UTF_8));
+        });
+        server.createContext("/close", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            exchange.getResponseHeaders().add("Connection", "close");
+            respond(exchange, 200, new byte[0]);
+        });
+        server.start();
+        client = new LambdaRuntimeClient("http://localhost:" + server.getAddress().getPort(), "test", MAX_IDLE_TIME);
+    }
+
+    @AfterEach
+    public void stop() {
+        client.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void testConnectionIsReused() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            LambdaRuntimeClient.Response invocation = client.get("/2018-06-01/runtime/invocation/next");
+            Assertions.assertEquals(200, invocation.status);
+            Assertions.assertEquals("request-" + (2 * i - 1), invocation.header(AmazonLambdaApi.LAMBDA_RUNTIME_AWS_REQUEST_ID));
+            Assertions.assertEquals("{\"name\":\"Bill\"}", read(invocation.body()));
+            int status = client.post("/2018-06-01/runtime/invocation/" + i + "/response", "application/json",
+                    out -> out.write("\"Hello Bill\"".getBytes(StandardCharsets.UTF_8)));
+            Assertions.assertEquals(202, status);
+        }
+        Assertions.assertEquals(6, clientPorts.size());
+        Assertions.assertEquals(1, clientPorts.stream().distinct().count());
+        Assertions.assertEquals(List.of("application/json", "application/json", "application/json"), contentTypes);
+        Assertions.assertEquals("\"Hello Bill\"", new String(bodies.get(2), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testUnreadBodyIsDiscarded() throws Exception {
+        client.get("/2018-06-01/runtime/invocation/next");
+        LambdaRuntimeClient.Response invocation = client.get("/2018-06-01/runtime/invocation/next");
+        Assertions.assertEquals("{\"name\":\"Bill\"}", read(invocation.body()));
+        Assertions.assertEquals(1, clientPorts.stream().distinct().count());
+    }
+
+    @Test
+    public void testEmptyBody() throws Exception {
+        Assertions.assertEquals(202, client.post("/2018-06-01/runtime/invocation/1/response", null, null));
+        Assertions.assertEquals("null", contentTypes.get(0));
+        Assertions.assertEquals(0, bodies.get(0).length);
+    }
+
+    @Test
+    public void testLargeBodyIsStreamed() throws Exception {
+        byte[] body = new byte[LambdaRuntimeClient.BODY_BUFFER_SIZE * 3 + 17];
+        for (int i = 0; i < body.length; i++) {
+            body[i] = (byte) i;
+        }
+        client.post("/2018-06-01/runtime/invocation/1/response", "application/octet-stream", out -> {
+            out.write(body, 0, 100);
+            out.write(body[100]);
+            out.write(body, 101, body.length - 101);
+        });
+        client.post("/2018-06-01/runtime/invocation/2/response", "application/octet-stream",
+                out -> out.write(body, 0, 100));
+        Assertions.assertEquals("chunked", transferEncodings.get(0));
+        Assertions.assertArrayEquals(body, bodies.get(0));
+        Assertions.assertEquals("null", transferEncodings.get(1));
+        Assertions.assertEquals(100, bodies.get(1).length);
+        Assertions.assertEquals(1, clientPorts.stream().distinct().count());
+    }
+
+    @Test
+    public void testBodyWriterFailure() throws Exception {
+        IllegalStateException failure = new IllegalStateException("failed");
+        Assertions.assertSame(failure, Assertions.assertThrows(IllegalStateException.class,
+                () -> client.post("/2018-06-01/runtime/invocation/1/response", null, out -> {
+                    out.write(1);
+                    throw failure;
+                })));
+        Assertions.assertEquals(202, client.post("/2018-06-01/runtime/invocation/1/error", "application/json",
+                out -> out.write("{}".getBytes(StandardCharsets.UTF_8))));
+        Assertions.assertEquals(1, bodies.size());
+    }
+
+    @Test
+    public void testReconnect() throws Exception {
+        Assertions.assertEquals(200, client.get("/close").status);
+        Assertions.assertEquals(200, client.get("/2018-06-01/runtime/invocation/next").status);
+        Assertions.assertEquals(2, clientPorts.stream().distinct().count());
+    }
+
+    @Test
+    public void testConnectionIdleForTooLongIsReopenedBeforePost() throws Exception {
+        CountDownLatch closed = new CountDownLatch(1);
+        List<String> requests = new CopyOnWriteArrayList<>();
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            Thread runtimeApi = new Thread(() -> {
+                try {
+                    try (Socket connection = serverSocket.accept()) {
+                        requests.add(readRequest(connection.getInputStream()));
+                        // closes the connection without announcing it
+                        connection.getOutputStream().write(
+                                "HTTP/1.1 200 OK\r\nContent-Length: 0\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+                    }
+                    closed.countDown();
+                    try (Socket connection = serverSocket.accept()) {
+                        requests.add(readRequest(connection.getInputStream()));
+                        connection.getOutputStream().write(
+                                "HTTP/1.1 202 Accepted\r\nContent-Length: 0\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+                    }
+                } catch (IOException ignored) {
+                }
+            });
+            runtimeApi.start();
+            try (LambdaRuntimeClient client = new LambdaRuntimeClient("http://localhost:" + serverSocket.getLocalPort(),
+                    "test", Duration.ofMillis(100))) {
+                Assertions.assertEquals(200, client.get("/2018-06-01/runtime/invocation/next").status);
+                Assertions.assertTrue(closed.await(5, TimeUnit.SECONDS));
+                Thread.sleep(200);
+                Assertions.assertEquals(202, client.post("/2018-06-01/runtime/invocation/1/response", null,
+                        out -> out.write("\"Hello Bill\"".getBytes(StandardCharsets.UTF_8))));
+            }
+            runtimeApi.join(5000);
+        }
+        Assertions.assertEquals(2, requests.size());
+        Assertions.assertTrue(requests.get(1).startsWith("POST "));
+    }
+
+    @Test
+    public void testGetIsSentAgainWhenConnectionWasClosedWhileIdle() throws Exception {
+        CountDownLatch closed = new CountDownLatch(1);
+        List<String> requests = new CopyOnWriteArrayList<>();
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            Thread runtimeApi = new Thread(() -> {
+                try {
+                    try (Socket connection = serverSocket.accept()) {
+                        requests.add(readRequest(connection.getInputStream()));
+                        // closes the connection without announcing it
+                        connection.getOutputStream().write(
+                                "HTTP/1.1 200 OK\r\nContent-Length: 0\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+                    }
+                    closed.countDown();
+                    try (Socket connection = serverSocket.accept()) {
+                        requests.add(readRequest(connection.getInputStream()));
+                        connection.getOutputStream().write(
+                                "HTTP/1.1 200 OK\r\nContent-Length: 0\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+                    }
+                } catch (IOException ignored) {
+                }
+            });
+            runtimeApi.start();
+            try (LambdaRuntimeClient client = new LambdaRuntimeClient("http://localhost:" + serverSocket.getLocalPort(),
+                    "test", MAX_IDLE_TIME)) {
+                Assertions.assertEquals(200, client.get("/2018-06-01/runtime/invocation/next").status);
+                Assertions.assertTrue(closed.await(5, TimeUnit.SECONDS));
+                Assertions.assertEquals(200, client.get("/2018-06-01/runtime/invocation/next").status);
+            }
+            runtimeApi.join(5000);
+        }
+        Assertions.assertEquals(2, requests.size());
+        Assertions.assertTrue(requests.get(1).startsWith("GET "));
+    }
+
+    @Test
+    public void testPostIsNotSentAgainOnceWritten() throws Exception {
+        AtomicInteger posts = new AtomicInteger();
+        AtomicBoolean reconnected = new AtomicBoolean();
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            Thread runtimeApi = new Thread(() -> {
+                try {
+                    try (Socket connection = serverSocket.accept()) {
+                        readRequest(connection.getInputStream());
+                        connection.getOutputStream().write(
+                                "HTTP/1.1 200 OK\r\nContent-Length: 0\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1));
+                        // the post is received, but the connection fails before the response
+                        readRequest(connection.getInputStream());
+                        posts.incrementAndGet();
+                    }
+                    serverSocket.setSoTimeout(500);
+                    try (Socket connection = serverSocket.accept()) {
+                        reconnected.set(true);
+                    }
+                } catch (IOException ignored) {
+                }
+            });
+            runtimeApi.start();
+            try (LambdaRuntimeClient client = new LambdaRuntimeClient("http://localhost:" + serverSocket.getLocalPort(),
+                    "test", MAX_IDLE_TIME)) {
+                Assertions.assertEquals(200, client.get("/2018-06-01/runtime/invocation/next").status);
+                Assertions.assertThrows(IOException.class, () -> client.post("/2018-06-01/runtime/invocation/1/response",
+                        null, out -> out.write("\"Hello Bill\"".getBytes(StandardCharsets.UTF_8))));
+            }
+            runtimeApi.join(5000);
+        }
+        Assertions.assertEquals(1, posts.get());
+        Assertions.assertFalse(reconnected.get());
+    }
+
+    /**
+     * Reads the head and the body of a request with a {@code Content-Length}.
+     */
+    private static String readRequest(InputStream in) throws IOException {
+        StringBuilder head = new StringBuilder();
+        while (head.indexOf("\r\n\r\n") < 0) {
+            int c = in.read();
+            if (c == -1) {
+                throw new EOFException();
+            }
+            head.append((char) c);
+        }
+        int contentLength = 0;
+        for (String line : head.toString().split("\r\n")) {
+            if (line.regionMatches(true, 0, "Content-Length:", 0, 15)) {
+                contentLength = Integer.parseInt(line.substring(15).trim());
+            }
+        }
+        in.readNBytes(contentLength);
+        return head.toString();
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+
+    private static String read(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        in.transferTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -27,6 +27,7 @@
 import io.quarkus.amazon.lambda.runtime.AmazonLambdaStaticRecorder;
 import io.quarkus.amazon.lambda.runtime.FunctionError;
 import io.quarkus.amazon.lambda.runtime.LambdaBuildTimeConfig;
+import io.quarkus.amazon.lambda.runtime.LambdaRuntimeApiConfig;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.builder.BuildException;
@@ -288,9 +289,10 @@ public void recordHandlerClass(List<AmazonLambdaBuildItem> lambdas,
     void startPoolLoop(AmazonLambdaRecorder recorder,
             ShutdownContextBuildItem shutdownContextBuildItem,
             LaunchModeBuildItem launchModeBuildItem,
+            LambdaRuntimeApiConfig runtimeApiConfig,
             List<ServiceStartBuildItem> orderServicesFirst // try to order this after service recorders
     ) {
-        recorder.startPollLoop(shutdownContextBuildItem, launchModeBuildItem.getLaunchMode());
+        recorder.startPollLoop(shutdownContextBuildItem, launchModeBuildItem.getLaunchMode(), runtimeApiConfig);
     }
 
     @BuildStep
@@ -298,10 +300,11 @@ void startPoolLoop(AmazonLambdaRecorder recorder,
     void startPoolLoopDevOrTest(AmazonLambdaRecorder recorder,
             List<ServiceStartBuildItem> orderServicesFirst, // force some ordering of recorders
             ShutdownContextBuildItem shutdownContextBuildItem,
-            LaunchModeBuildItem launchModeBuildItem) {
+            LaunchModeBuildItem launchModeBuildItem,
+            LambdaRuntimeApiConfig runtimeApiConfig) {
         LaunchMode mode = launchModeBuildItem.getLaunchMode();
         if (mode.isDevOrTest()) {
-            recorder.startPollLoop(shutdownContextBuildItem, mode);
+            recorder.startPollLoop(shutdownContextBuildItem, mode, runtimeApiConfig);
         }
     }
 
@@ -157,9 +157,10 @@ public void chooseHandlerClass(List<Class<? extends RequestHandler<?, ?>>> unnam
     }
 
     @SuppressWarnings("rawtypes")
-    public void startPollLoop(ShutdownContext context, LaunchMode launchMode) {
+    public void startPollLoop(ShutdownContext context, LaunchMode launchMode, LambdaRuntimeApiConfig runtimeApiConfig) {
         AbstractLambdaPollLoop loop = new AbstractLambdaPollLoop(AmazonLambdaMapperRecorder.objectMapper,
-                AmazonLambdaMapperRecorder.cognitoIdReader, AmazonLambdaMapperRecorder.clientCtxReader, launchMode) {
+                AmazonLambdaMapperRecorder.cognitoIdReader, AmazonLambdaMapperRecorder.clientCtxReader, launchMode,
+                runtimeApiConfig) {
 
             @Override
             protected Object processRequest(Object input, AmazonLambdaContext context) throws Exception {
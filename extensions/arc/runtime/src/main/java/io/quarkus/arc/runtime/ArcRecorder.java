@@ -11,6 +11,9 @@
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import jakarta.enterprise.inject.spi.EventContext;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
@@ -21,7 +24,9 @@
 import io.quarkus.arc.InjectableBean.Kind;
 import io.quarkus.arc.SyntheticCreationalContext;
 import io.quarkus.arc.impl.ArcContainerImpl;
+import io.quarkus.arc.impl.ObserverNotificationListener;
 import io.quarkus.arc.runtime.test.PreloadedTestApplicationClassPredicate;
+import io.quarkus.bootstrap.runner.StartupTimeline;
 import io.quarkus.runtime.ApplicationLifecycleManager;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
@@ -152,7 +157,17 @@ private void fireLifecycleEvent(ArcContainerImpl container, Object event, List<C
                 container.mockObserversFor(beanClass, true);
             }
         }
-        container.beanManager().getEvent().fire(event);
+        if (event instanceof StartupEvent && StartupTimeline.isEnabled()) {
+            //every observer of the startup event is a phase of the startup timeline
+            container.setObserverNotificationListener(new StartupObserverTimeline());
+            try {
+                container.beanManager().getEvent().fire(event);
+            } finally {
+                container.setObserverNotificationListener(null);
+            }
+        } else {
+            container.beanManager().getEvent().fire(event);
+        }
         if (!mockBeanClasses.isEmpty()) {
             for (Class<?> beanClass : mockBeanClasses) {
                 container.mockObserversFor(beanClass, false);
@@ -160,4 +175,21 @@ private void fireLifecycleEvent(ArcContainerImpl container, Object event, List<C
         }
     }
 
+    private static final class StartupObserverTimeline implements ObserverNotificationListener {
+
+        @Override
+        public Object beforeNotify(ObserverMethod<?> observerMethod, EventContext<?> eventContext) {
+            if (eventContext.getEvent() instanceof StartupEvent) {
+                return StartupTimeline.begin(StartupTimeline.CATEGORY_STARTUP_OBSERVER, observerMethod.getClass().getName());
+            }
+            //an event fired by a startup observer
+            return null;
+        }
+
+        @Override
+        public void afterNotify(Object state) {
+            StartupTimeline.end((StartupTimeline.Phase) state);
+        }
+    }
+
 }
@@ -7,6 +7,7 @@
 import java.util.Optional;
 
 import io.quarkus.amazon.lambda.deployment.LambdaObjectMapperInitializedBuildItem;
+import io.quarkus.amazon.lambda.runtime.LambdaRuntimeApiConfig;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.builder.item.SimpleBuildItem;
 import io.quarkus.deployment.annotations.BuildProducer;
@@ -60,9 +61,10 @@ public void startPoolLoop(FunqyLambdaBindingRecorder recorder,
             RuntimeComplete ignored,
             ShutdownContextBuildItem shutdownContextBuildItem,
             LaunchModeBuildItem launchModeBuildItem,
+            LambdaRuntimeApiConfig runtimeApiConfig,
             List<ServiceStartBuildItem> orderServicesFirst // try to order this after service recorders
     ) {
-        recorder.startPollLoop(shutdownContextBuildItem, launchModeBuildItem.getLaunchMode());
+        recorder.startPollLoop(shutdownContextBuildItem, launchModeBuildItem.getLaunchMode(), runtimeApiConfig);
     }
 
     @BuildStep
@@ -71,10 +73,11 @@ public void startPoolLoopDevOrTest(RuntimeComplete ignored,
             FunqyLambdaBindingRecorder recorder,
             List<ServiceStartBuildItem> orderServicesFirst, // force some ordering of recorders
             ShutdownContextBuildItem shutdownContextBuildItem,
-            LaunchModeBuildItem launchModeBuildItem) {
+            LaunchModeBuildItem launchModeBuildItem,
+            LambdaRuntimeApiConfig runtimeApiConfig) {
         LaunchMode mode = launchModeBuildItem.getLaunchMode();
         if (mode.isDevOrTest()) {
-            recorder.startPollLoop(shutdownContextBuildItem, mode);
+            recorder.startPollLoop(shutdownContextBuildItem, mode, runtimeApiConfig);
         }
     }
 }
@@ -19,6 +19,7 @@
 import io.quarkus.amazon.lambda.runtime.JacksonOutputWriter;
 import io.quarkus.amazon.lambda.runtime.LambdaInputReader;
 import io.quarkus.amazon.lambda.runtime.LambdaOutputWriter;
+import io.quarkus.amazon.lambda.runtime.LambdaRuntimeApiConfig;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.funqy.runtime.FunctionConstructor;
@@ -108,9 +109,10 @@ public static void handle(InputStream inputStream, OutputStream outputStream, Co
     }
 
     @SuppressWarnings("rawtypes")
-    public void startPollLoop(ShutdownContext context, LaunchMode launchMode) {
+    public void startPollLoop(ShutdownContext context, LaunchMode launchMode, LambdaRuntimeApiConfig runtimeApiConfig) {
         AbstractLambdaPollLoop loop = new AbstractLambdaPollLoop(AmazonLambdaMapperRecorder.objectMapper,
-                AmazonLambdaMapperRecorder.cognitoIdReader, AmazonLambdaMapperRecorder.clientCtxReader, launchMode) {
+                AmazonLambdaMapperRecorder.cognitoIdReader, AmazonLambdaMapperRecorder.clientCtxReader, launchMode,
+                runtimeApiConfig) {
 
             @Override
             protected Object processRequest(Object input, AmazonLambdaContext context) throws Exception {
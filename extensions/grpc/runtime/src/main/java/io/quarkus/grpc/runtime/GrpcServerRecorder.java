@@ -50,6 +50,7 @@
 import io.quarkus.grpc.runtime.reflection.ReflectionService;
 import io.quarkus.grpc.runtime.supports.CompressionInterceptor;
 import io.quarkus.grpc.runtime.supports.blocking.BlockingServerInterceptor;
+import io.quarkus.grpc.runtime.supports.marshalling.PooledProtobufMarshalling;
 import io.quarkus.grpc.spi.GrpcBuilderProvider;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.QuarkusBindException;
@@ -150,7 +151,7 @@ private void buildGrpcServer(Vertx vertx, GrpcServerConfiguration configuration,
         for (GrpcServiceDefinition service : toBeRegistered) {
             ServerServiceDefinition defWithInterceptors = serviceWithInterceptors(
                     vertx, grpcContainer, blockingMethodsPerService, compressionInterceptor, service,
-                    launchMode == LaunchMode.DEVELOPMENT);
+                    launchMode == LaunchMode.DEVELOPMENT, configuration.pooledProtobufMarshalling);
             LOGGER.debugf("Registered gRPC service '%s'", service.definition.getServiceDescriptor().getName());
             ServerServiceDefinition serviceDefinition = ServerInterceptors.intercept(defWithInterceptors, globalInterceptors);
             GrpcServiceBridge bridge = GrpcServiceBridge.bridge(serviceDefinition);
@@ -396,7 +397,7 @@ private void devModeReload(GrpcContainer grpcContainer, Vertx vertx, GrpcServerC
         for (GrpcServiceDefinition service : services) {
             servicesWithInterceptors.add(
                     serviceWithInterceptors(vertx, grpcContainer, blockingMethodsPerService,
-                            compressionInterceptor, service, true));
+                            compressionInterceptor, service, true, configuration.pooledProtobufMarshalling));
         }
 
         for (ServerServiceDefinition serviceWithInterceptors : servicesWithInterceptors) {
@@ -484,7 +485,8 @@ private Map.Entry<Integer, Server> buildServer(Vertx vertx, GrpcServerConfigurat
         for (GrpcServiceDefinition service : toBeRegistered) {
             builder.addService(
                     serviceWithInterceptors(vertx, grpcContainer, blockingMethodsPerService,
-                            compressionInterceptor, service, launchMode == LaunchMode.DEVELOPMENT));
+                            compressionInterceptor, service, launchMode == LaunchMode.DEVELOPMENT,
+                            configuration.pooledProtobufMarshalling));
             LOGGER.debugf("Registered gRPC service '%s'", service.definition.getServiceDescriptor().getName());
             definitions.add(service.definition);
         }
@@ -524,7 +526,7 @@ private CompressionInterceptor prepareCompressionInterceptor(GrpcServerConfigura
 
     private ServerServiceDefinition serviceWithInterceptors(Vertx vertx, GrpcContainer grpcContainer,
             Map<String, List<String>> blockingMethodsPerService, CompressionInterceptor compressionInterceptor,
-            GrpcServiceDefinition service, boolean devMode) {
+            GrpcServiceDefinition service, boolean devMode, boolean pooledProtobufMarshalling) {
         List<ServerInterceptor> interceptors = new ArrayList<>();
         if (compressionInterceptor != null) {
             interceptors.add(compressionInterceptor);
@@ -539,7 +541,12 @@ private ServerServiceDefinition serviceWithInterceptors(Vertx vertx, GrpcContain
                 interceptors.add(new BlockingServerInterceptor(vertx, list, devMode));
             }
         }
-        return ServerInterceptors.intercept(service.definition, interceptors);
+        ServerServiceDefinition definition = ServerInterceptors.intercept(service.definition, interceptors);
+        if (pooledProtobufMarshalling) {
+            // interceptors keep the method descriptors, so the marshallers can be replaced on the intercepted definition
+            definition = PooledProtobufMarshalling.apply(definition);
+        }
+        return definition;
     }
 
     private class GrpcServerVerticle extends AbstractVerticle {
@@ -195,4 +195,12 @@ public class GrpcClientConfiguration {
      */
     @ConfigItem
     public Optional<Duration> deadline;
+
+    /**
+     * Whether protobuf messages are serialized directly into pooled Netty buffers and parsed from the received
+     * buffers, without the intermediate {@code byte[]} copies of the default protobuf marshaller.
+     * This mostly benefits clients exchanging large messages.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean pooledProtobufMarshalling;
 }
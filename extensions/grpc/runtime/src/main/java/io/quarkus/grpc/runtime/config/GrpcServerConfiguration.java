@@ -117,4 +117,12 @@ public class GrpcServerConfiguration {
      */
     @ConfigItem
     public Optional<String> compression;
+
+    /**
+     * Whether protobuf messages are serialized directly into pooled Netty buffers and parsed from the received
+     * buffers, without the intermediate {@code byte[]} copies of the default protobuf marshaller.
+     * This mostly benefits services exchanging large messages.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean pooledProtobufMarshalling;
 }
@@ -56,6 +56,7 @@
 import io.quarkus.grpc.runtime.stork.StorkGrpcChannel;
 import io.quarkus.grpc.runtime.stork.StorkMeasuringGrpcInterceptor;
 import io.quarkus.grpc.runtime.stork.VertxStorkMeasuringGrpcInterceptor;
+import io.quarkus.grpc.runtime.supports.marshalling.PooledProtobufMarshallingClientInterceptor;
 import io.quarkus.grpc.spi.GrpcBuilderProvider;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.util.ClassPathUtils;
@@ -235,6 +236,10 @@ public static Channel createChannel(String name, Set<String> perClientIntercepto
                 ncBuilder.sslContext(context);
             }
 
+            if (config.pooledProtobufMarshalling) {
+                // registered first, so that it is the closest to the channel
+                builder.intercept(new PooledProtobufMarshallingClientInterceptor());
+            }
             interceptorContainer.getSortedPerServiceInterceptors(perClientInterceptors).forEach(builder::intercept);
             interceptorContainer.getSortedGlobalInterceptors().forEach(builder::intercept);
 
@@ -299,6 +304,10 @@ public static Channel createChannel(String name, Set<String> perClientIntercepto
             LOGGER.debugf("Target for client '%s': %s", name, host + ":" + port);
 
             List<ClientInterceptor> interceptors = new ArrayList<>();
+            if (config.pooledProtobufMarshalling) {
+                // added first, so that it is the closest to the channel
+                interceptors.add(new PooledProtobufMarshallingClientInterceptor());
+            }
             interceptors.addAll(interceptorContainer.getSortedPerServiceInterceptors(perClientInterceptors));
             interceptors.addAll(interceptorContainer.getSortedGlobalInterceptors());
 
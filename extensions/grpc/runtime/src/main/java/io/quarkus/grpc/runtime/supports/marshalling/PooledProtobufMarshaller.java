@@ -0,0 +1,281 @@
+package io.quarkus.grpc.runtime.supports.marshalling;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+
+import io.grpc.Detachable;
+import io.grpc.Drainable;
+import io.grpc.HasByteBuffer;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * A protobuf marshaller avoiding the intermediate {@code byte[]} copies done by the default
+ * {@code ProtoLiteUtils} marshaller.
+ * <p>
+ * Outgoing messages are serialized with a {@link CodedOutputStream} writing directly into a pooled {@link ByteBuf}
+ * (or into the buffer of the target stream, if it is a {@link ByteBufOutputStream}). Incoming messages are parsed
+ * from the {@link ByteBuffer}s backing the stream when it implements {@link HasByteBuffer} and supports marking,
+ * without aggregating composite buffers into a single array.
+ *
+ * @param <T> the message type
+ */
+public final class PooledProtobufMarshaller<T extends MessageLite> implements MethodDescriptor.PrototypeMarshaller<T> {
+
+    private static final ByteBufAllocator ALLOCATOR = PooledByteBufAllocator.DEFAULT;
+
+    private final T defaultInstance;
+    private final Parser<T> parser;
+
+    @SuppressWarnings("unchecked")
+    public PooledProtobufMarshaller(T defaultInstance) {
+        this.defaultInstance = defaultInstance;
+        this.parser = (Parser<T>) defaultInstance.getParserForType();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Class<T> getMessageClass() {
+        return (Class<T>) defaultInstance.getClass();
+    }
+
+    @Override
+    public T getMessagePrototype() {
+        return defaultInstance;
+    }
+
+    @Override
+    public InputStream stream(T value) {
+        return new MessageInputStream(value);
+    }
+
+    @Override
+    public T parse(InputStream stream) {
+        try {
+            if (stream instanceof MessageInputStream) {
+                MessageInputStream messageStream = (MessageInputStream) stream;
+                // the message can be reused if it has not been consumed and comes from the same parser
+                if (messageStream.message != null && messageStream.message.getParserForType() == parser) {
+                    @SuppressWarnings("unchecked")
+                    T message = (T) messageStream.message;
+                    return message;
+                }
+            }
+            if (stream instanceof HasByteBuffer && ((HasByteBuffer) stream).byteBufferSupported()
+                    && stream.markSupported()) {
+                return parseFromByteBuffers(stream);
+            }
+            if (stream instanceof KnownLength || stream instanceof ByteArrayInputStream) {
+                // available() is exact for these streams
+                int size = stream.available();
+                if (size == 0) {
+                    return defaultInstance;
+                }
+                return parseFromPooledBuffer(stream, size);
+            }
+            return parse(CodedInputStream.newInstance(stream));
+        } catch (IOException e) {
+            throw Status.INTERNAL.withDescription("Unable to read the protobuf message").withCause(e)
+                    .asRuntimeException();
+        }
+    }
+
+    /**
+     * The buffers exposed by a gRPC readable buffer are released as soon as they have been read past, unless the
+     * stream is marked. The stream is detached to take the ownership of the buffers, marked while they are collected
+     * and reset before they are parsed, and the detached stream is closed, releasing the buffers, once the message has
+     * been parsed.
+     */
+    private T parseFromByteBuffers(InputStream stream) throws IOException {
+        InputStream owned = stream instanceof Detachable ? ((Detachable) stream).detach() : stream;
+        try {
+            HasByteBuffer hasByteBuffer = (HasByteBuffer) owned;
+            List<ByteBuffer> buffers = new ArrayList<>();
+            owned.mark(owned.available());
+            while (owned.available() != 0) {
+                ByteBuffer buffer = hasByteBuffer.getByteBuffer();
+                if (buffer == null) {
+                    break;
+                }
+                int remaining = buffer.remaining();
+                if (owned.skip(remaining) != remaining) {
+                    throw new IOException("Unable to skip " + remaining + " bytes of the protobuf message stream");
+                }
+                buffers.add(buffer);
+            }
+            // keeps the collected buffers alive until the detached stream is closed
+            owned.reset();
+            if (buffers.isEmpty()) {
+                return defaultInstance;
+            }
+            if (buffers.size() == 1) {
+                return parse(CodedInputStream.newInstance(buffers.get(0)));
+            }
+            return parse(CodedInputStream.newInstance(buffers));
+        } finally {
+            if (owned != stream) {
+                owned.close();
+            }
+        }
+    }
+
+    private T parseFromPooledBuffer(InputStream stream, int size) throws IOException {
+        ByteBuf buffer = ALLOCATOR.heapBuffer(size, size);
+        try {
+            while (buffer.isWritable()) {
+                if (buffer.writeBytes(stream, buffer.writableBytes()) < 0) {
+                    break;
+                }
+            }
+            return parse(CodedInputStream.newInstance(buffer.nioBuffer()));
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private T parse(CodedInputStream stream) {
+        stream.setSizeLimit(Integer.MAX_VALUE);
+        try {
+            T message = parser.parseFrom(stream, ExtensionRegistryLite.getEmptyRegistry());
+            stream.checkLastTagWas(0);
+            return message;
+        } catch (InvalidProtocolBufferException e) {
+            throw Status.INTERNAL.withDescription("Invalid protobuf byte sequence").withCause(e).asRuntimeException();
+        }
+    }
+
+    /**
+     * Serializes the given message into the writable area of the given buffer, growing it if needed.
+     *
+     * @return {@code false} if the buffer cannot be exposed as a single NIO buffer, in which case nothing was written
+     */
+    static boolean writeTo(MessageLite message, int size, ByteBuf target) throws IOException {
+        target.ensureWritable(size);
+        if (target.nioBufferCount() != 1) {
+            return false;
+        }
+        int writerIndex = target.writerIndex();
+        CodedOutputStream output = CodedOutputStream.newInstance(target.nioBuffer(writerIndex, size));
+        message.writeTo(output);
+        output.flush();
+        output.checkNoSpaceLeft();
+        target.writerIndex(writerIndex + size);
+        return true;
+    }
+
+    static final class MessageInputStream extends InputStream implements Drainable, KnownLength {
+
+        // set to null once the message has been serialized
+        private MessageLite message;
+        private ByteArrayInputStream partial;
+
+        MessageInputStream(MessageLite message) {
+            this.message = message;
+        }
+
+        @Override
+        public int drainTo(OutputStream target) throws IOException {
+            int written;
+            if (message != null) {
+                written = message.getSerializedSize();
+                if (written > 0) {
+                    drainMessage(target, written);
+                }
+                message = null;
+            } else if (partial != null) {
+                written = (int) partial.transferTo(target);
+                partial = null;
+            } else {
+                written = 0;
+            }
+            return written;
+        }
+
+        private void drainMessage(OutputStream target, int size) throws IOException {
+            if (target instanceof ByteBufOutputStream) {
+                // write straight into the buffer of the transport
+                ByteBufOutputStream bufferStream = (ByteBufOutputStream) target;
+                if (writeTo(message, size, bufferStream.buffer())) {
+                    return;
+                }
+            }
+            ByteBuf buffer = ALLOCATOR.heapBuffer(size, size);
+            try {
+                if (writeTo(message, size, buffer)) {
+                    buffer.readBytes(target, size);
+                } else {
+                    message.writeTo(target);
+                }
+            } finally {
+                buffer.release();
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (message != null) {
+                partial = new ByteArrayInputStream(message.toByteArray());
+                message = null;
+            }
+            if (partial != null) {
+                return partial.read();
+            }
+            return -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (message != null) {
+                int size = message.getSerializedSize();
+                if (size == 0) {
+                    message = null;
+                    partial = null;
+                    return -1;
+                }
+                if (len >= size) {
+                    // serialize directly into the target array
+                    CodedOutputStream output = CodedOutputStream.newInstance(b, off, size);
+                    message.writeTo(output);
+                    output.flush();
+                    output.checkNoSpaceLeft();
+                    message = null;
+                    partial = null;
+                    return size;
+                }
+                partial = new ByteArrayInputStream(message.toByteArray());
+                message = null;
+            }
+            if (partial != null) {
+                return partial.read(b, off, len);
+            }
+            return -1;
+        }
+
+        @Override
+        public int available() {
+            if (message != null) {
+                return message.getSerializedSize();
+            } else if (partial != null) {
+                return partial.available();
+            }
+            return 0;
+        }
+    }
+}
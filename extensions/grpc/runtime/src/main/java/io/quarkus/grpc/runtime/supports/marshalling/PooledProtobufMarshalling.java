@@ -0,0 +1,86 @@
+package io.quarkus.grpc.runtime.supports.marshalling;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.protobuf.MessageLite;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+
+/**
+ * Replaces the protobuf marshallers of gRPC method descriptors with {@link PooledProtobufMarshaller}s.
+ */
+public final class PooledProtobufMarshalling {
+
+    private PooledProtobufMarshalling() {
+    }
+
+    /**
+     * @param definition the service definition
+     * @return a service definition using pooled protobuf marshallers for all its protobuf methods
+     */
+    public static ServerServiceDefinition apply(ServerServiceDefinition definition) {
+        ServiceDescriptor serviceDescriptor = definition.getServiceDescriptor();
+        List<ServerMethodDefinition<?, ?>> methods = new ArrayList<>();
+        boolean changed = false;
+        for (ServerMethodDefinition<?, ?> method : definition.getMethods()) {
+            ServerMethodDefinition<?, ?> updated = apply(method);
+            changed |= updated != method;
+            methods.add(updated);
+        }
+        if (!changed) {
+            return definition;
+        }
+
+        // the service descriptor must reference the very same method descriptor instances
+        ServiceDescriptor.Builder serviceDescriptorBuilder = ServiceDescriptor.newBuilder(serviceDescriptor.getName())
+                .setSchemaDescriptor(serviceDescriptor.getSchemaDescriptor());
+        for (ServerMethodDefinition<?, ?> method : methods) {
+            serviceDescriptorBuilder.addMethod(method.getMethodDescriptor());
+        }
+        ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(serviceDescriptorBuilder.build());
+        for (ServerMethodDefinition<?, ?> method : methods) {
+            builder.addMethod(method);
+        }
+        return builder.build();
+    }
+
+    private static <ReqT, RespT> ServerMethodDefinition<ReqT, RespT> apply(ServerMethodDefinition<ReqT, RespT> method) {
+        MethodDescriptor<ReqT, RespT> descriptor = apply(method.getMethodDescriptor());
+        if (descriptor == method.getMethodDescriptor()) {
+            return method;
+        }
+        return ServerMethodDefinition.create(descriptor, method.getServerCallHandler());
+    }
+
+    /**
+     * @param descriptor the method descriptor
+     * @return a method descriptor using pooled protobuf marshallers, or the given descriptor if its request and response
+     *         marshallers are not protobuf marshallers
+     */
+    public static <ReqT, RespT> MethodDescriptor<ReqT, RespT> apply(MethodDescriptor<ReqT, RespT> descriptor) {
+        MethodDescriptor.Marshaller<ReqT> requestMarshaller = pooled(descriptor.getRequestMarshaller());
+        MethodDescriptor.Marshaller<RespT> responseMarshaller = pooled(descriptor.getResponseMarshaller());
+        if (requestMarshaller == null || responseMarshaller == null) {
+            return descriptor;
+        }
+        return descriptor.toBuilder(requestMarshaller, responseMarshaller).build();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static <T> MethodDescriptor.Marshaller<T> pooled(MethodDescriptor.Marshaller<T> marshaller) {
+        if (marshaller instanceof PooledProtobufMarshaller) {
+            return marshaller;
+        }
+        if (marshaller instanceof MethodDescriptor.PrototypeMarshaller) {
+            Object prototype = ((MethodDescriptor.PrototypeMarshaller<T>) marshaller).getMessagePrototype();
+            if (prototype instanceof MessageLite) {
+                return new PooledProtobufMarshaller((MessageLite) prototype);
+            }
+        }
+        return null;
+    }
+}
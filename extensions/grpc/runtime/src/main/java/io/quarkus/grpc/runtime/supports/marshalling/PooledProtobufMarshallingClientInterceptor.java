@@ -0,0 +1,31 @@
+package io.quarkus.grpc.runtime.supports.marshalling;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.MethodDescriptor;
+
+/**
+ * Client interceptor switching the calls of the channel to {@link PooledProtobufMarshaller}s.
+ * <p>
+ * It has to be the innermost interceptor, i.e. the one closest to the channel, so that the other interceptors still
+ * observe the original method descriptors.
+ */
+public class PooledProtobufMarshallingClientInterceptor implements ClientInterceptor {
+
+    // method descriptors are static constants of the generated stubs, so this cache stays small
+    private final Map<MethodDescriptor<?, ?>, MethodDescriptor<?, ?>> descriptors = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+            CallOptions callOptions, Channel next) {
+        MethodDescriptor<ReqT, RespT> pooled = (MethodDescriptor<ReqT, RespT>) descriptors.computeIfAbsent(method,
+                PooledProtobufMarshalling::apply);
+        return next.newCall(pooled, callOptions);
+    }
+}
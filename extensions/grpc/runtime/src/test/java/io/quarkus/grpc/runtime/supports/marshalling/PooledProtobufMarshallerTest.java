@@ -0,0 +1,289 @@
+package io.quarkus.grpc.runtime.supports.marshalling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.BytesValue;
+
+import io.grpc.Drainable;
+import io.grpc.HasByteBuffer;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.internal.AbstractReadableBuffer;
+import io.grpc.internal.CompositeReadableBuffer;
+import io.grpc.internal.ReadableBuffer;
+import io.grpc.internal.ReadableBuffers;
+import io.grpc.protobuf.lite.ProtoLiteUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+
+class PooledProtobufMarshallerTest {
+
+    private final PooledProtobufMarshaller<BytesValue> marshaller = new PooledProtobufMarshaller<>(
+            BytesValue.getDefaultInstance());
+
+    @Test
+    void testDrainToOutputStream() throws IOException {
+        BytesValue message = message(2 * 1024 * 1024);
+        InputStream stream = marshaller.stream(message);
+        assertThat(stream).isInstanceOf(KnownLength.class);
+        assertThat(stream.available()).isEqualTo(message.getSerializedSize());
+
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        int written = ((Drainable) stream).drainTo(target);
+
+        assertThat(written).isEqualTo(message.getSerializedSize());
+        assertThat(target.toByteArray()).isEqualTo(message.toByteArray());
+        assertThat(stream.available()).isZero();
+    }
+
+    @Test
+    void testDrainToByteBufOutputStream() throws IOException {
+        BytesValue message = message(1024 * 1024);
+        ByteBuf buffer = Unpooled.buffer(16);
+        try {
+            int written = ((Drainable) marshaller.stream(message)).drainTo(new ByteBufOutputStream(buffer));
+            assertThat(written).isEqualTo(message.getSerializedSize());
+            assertThat(buffer.readableBytes()).isEqualTo(written);
+            assertThat(BytesValue.parseFrom(buffer.nioBuffer())).isEqualTo(message);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    void testReadIntoArray() throws IOException {
+        BytesValue message = message(4096);
+        assertThat(marshaller.stream(message).readAllBytes()).isEqualTo(message.toByteArray());
+    }
+
+    @Test
+    void testParseFromByteArrayStream() {
+        BytesValue message = message(3 * 1024 * 1024);
+        assertThat(marshaller.parse(new ByteArrayInputStream(message.toByteArray()))).isEqualTo(message);
+    }
+
+    @Test
+    void testParseFromCompositeBuffers() {
+        BytesValue message = message(4 * 1024 * 1024);
+        assertThat(marshaller.parse(new ByteBuffersInputStream(message.toByteArray(), 8192, true))).isEqualTo(message);
+        assertThat(marshaller.parse(new ByteBuffersInputStream(message.toByteArray(), 8192, false))).isEqualTo(message);
+    }
+
+    @Test
+    void testParseFromReleasableBuffers() throws IOException {
+        BytesValue message = message(1024 * 1024);
+        byte[] content = message.toByteArray();
+        List<ByteBuf> chunks = new ArrayList<>();
+        CompositeReadableBuffer composite = new CompositeReadableBuffer();
+        for (int offset = 0; offset < content.length; offset += 8192) {
+            ByteBuf chunk = Unpooled.directBuffer(8192).writeBytes(content, offset, Math.min(8192, content.length - offset));
+            chunks.add(chunk);
+            composite.addBuffer(new ByteBufReadableBuffer(chunk));
+        }
+        InputStream stream = ReadableBuffers.openStream(composite, true);
+
+        assertThat(marshaller.parse(stream)).isEqualTo(message);
+        // the buffers are released once the message has been parsed
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.refCnt()).isZero());
+        stream.close();
+    }
+
+    @Test
+    void testEmptyMessage() {
+        assertThat(marshaller.parse(new ByteArrayInputStream(new byte[0]))).isEqualTo(BytesValue.getDefaultInstance());
+        assertThat(marshaller.parse(new ByteBuffersInputStream(new byte[0], 10, true)))
+                .isEqualTo(BytesValue.getDefaultInstance());
+    }
+
+    @Test
+    void testCompatibleWithDefaultMarshaller() {
+        MethodDescriptor.Marshaller<BytesValue> defaultMarshaller = ProtoLiteUtils
+                .marshaller(BytesValue.getDefaultInstance());
+        BytesValue message = message(100_000);
+        assertThat(defaultMarshaller.parse(marshaller.stream(message))).isEqualTo(message);
+        assertThat(marshaller.parse(defaultMarshaller.stream(message))).isEqualTo(message);
+    }
+
+    @Test
+    void testMethodDescriptor() {
+        MethodDescriptor<BytesValue, BytesValue> descriptor = MethodDescriptor.<BytesValue, BytesValue> newBuilder()
+                .setType(MethodDescriptor.MethodType.UNARY)
+                .setFullMethodName("test/echo")
+                .setRequestMarshaller(ProtoLiteUtils.marshaller(BytesValue.getDefaultInstance()))
+                .setResponseMarshaller(ProtoLiteUtils.marshaller(BytesValue.getDefaultInstance()))
+                .build();
+        MethodDescriptor<BytesValue, BytesValue> pooled = PooledProtobufMarshalling.apply(descriptor);
+        assertThat(pooled.getFullMethodName()).isEqualTo("test/echo");
+        assertThat(pooled.getRequestMarshaller()).isInstanceOf(PooledProtobufMarshaller.class);
+        assertThat(pooled.getResponseMarshaller()).isInstanceOf(PooledProtobufMarshaller.class);
+        assertThat(PooledProtobufMarshalling.apply(pooled).getRequestMarshaller()).isSameAs(pooled.getRequestMarshaller());
+    }
+
+    private static BytesValue message(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return BytesValue.newBuilder().setValue(ByteString.copyFrom(bytes)).build();
+    }
+
+    /**
+     * A readable buffer backed by a reference counted buffer, released when it has been read, as the buffers of the
+     * Netty transport. Its content is cleared when it is released, so that reading it afterwards gives wrong results.
+     */
+    private static final class ByteBufReadableBuffer extends AbstractReadableBuffer {
+
+        private final ByteBuf buffer;
+
+        ByteBufReadableBuffer(ByteBuf buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int readableBytes() {
+            return buffer.readableBytes();
+        }
+
+        @Override
+        public int readUnsignedByte() {
+            return buffer.readUnsignedByte();
+        }
+
+        @Override
+        public void skipBytes(int length) {
+            buffer.skipBytes(length);
+        }
+
+        @Override
+        public void readBytes(byte[] dest, int destOffset, int length) {
+            buffer.readBytes(dest, destOffset, length);
+        }
+
+        @Override
+        public void readBytes(ByteBuffer dest) {
+            buffer.readBytes(dest);
+        }
+
+        @Override
+        public void readBytes(OutputStream dest, int length) throws IOException {
+            buffer.readBytes(dest, length);
+        }
+
+        @Override
+        public ReadableBuffer readBytes(int length) {
+            return new ByteBufReadableBuffer(buffer.readRetainedSlice(length));
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public void mark() {
+            buffer.markReaderIndex();
+        }
+
+        @Override
+        public void reset() {
+            buffer.resetReaderIndex();
+        }
+
+        @Override
+        public boolean byteBufferSupported() {
+            return buffer.nioBufferCount() > 0;
+        }
+
+        @Override
+        public ByteBuffer getByteBuffer() {
+            return buffer.nioBuffer();
+        }
+
+        @Override
+        public void close() {
+            if (buffer.refCnt() > 0) {
+                buffer.setZero(0, buffer.capacity());
+                buffer.release();
+            }
+        }
+    }
+
+    /**
+     * Exposes the content as a sequence of buffers, similarly to the readable buffers of the gRPC transports.
+     */
+    private static final class ByteBuffersInputStream extends InputStream implements KnownLength, HasByteBuffer {
+
+        private final Deque<ByteBuffer> buffers = new ArrayDeque<>();
+
+        ByteBuffersInputStream(byte[] content, int chunkSize, boolean direct) {
+            for (int offset = 0; offset < content.length; offset += chunkSize) {
+                int length = Math.min(chunkSize, content.length - offset);
+                ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(length) : ByteBuffer.allocate(length);
+                buffer.put(content, offset, length).flip();
+                buffers.add(buffer);
+            }
+        }
+
+        @Override
+        public boolean byteBufferSupported() {
+            return true;
+        }
+
+        @Override
+        public ByteBuffer getByteBuffer() {
+            ByteBuffer buffer = buffers.peek();
+            return buffer == null ? null : buffer.asReadOnlyBuffer();
+        }
+
+        @Override
+        public int read() {
+            ByteBuffer buffer = buffers.peek();
+            if (buffer == null) {
+                return -1;
+            }
+            int value = buffer.get() & 0xFF;
+            if (!buffer.hasRemaining()) {
+                buffers.poll();
+            }
+            return value;
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = 0;
+            while (skipped < n && !buffers.isEmpty()) {
+                ByteBuffer buffer = buffers.peek();
+                int step = (int) Math.min(n - skipped, buffer.remaining());
+                buffer.position(buffer.position() + step);
+                skipped += step;
+                if (!buffer.hasRemaining()) {
+                    buffers.poll();
+                }
+            }
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            int available = 0;
+            for (ByteBuffer buffer : buffers) {
+                available += buffer.remaining();
+            }
+            return available;
+        }
+    }
+}
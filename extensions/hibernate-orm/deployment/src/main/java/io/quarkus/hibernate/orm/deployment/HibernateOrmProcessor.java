@@ -43,6 +43,7 @@
 import jakarta.transaction.TransactionManager;
 import jakarta.xml.bind.JAXBElement;
 
+import org.hibernate.Version;
 import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
 import org.hibernate.boot.archive.scan.spi.PackageDescriptor;
 import org.hibernate.boot.beanvalidation.BeanValidationIntegrator;
@@ -1235,8 +1236,19 @@ private void enhanceEntities(final JpaModelBuildItem jpaModel,
             List<AdditionalJpaModelBuildItem> additionalJpaModelBuildItems,
             BuildProducer<GeneratedClassBuildItem> additionalClasses) {
         HibernateEntityEnhancer hibernateEntityEnhancer = new HibernateEntityEnhancer();
+        // the enhancement of an entity depends on the mapping of the other model classes, e.g. its superclasses and
+        // embeddables, and on the version of Hibernate ORM
+        String modelCacheKey = BytecodeTransformerBuildItem.classesCacheKey(
+                Thread.currentThread().getContextClassLoader(), jpaModel.getAllModelClassNames());
+        String cacheKey = modelCacheKey == null ? null : Version.getVersionString() + ':' + modelCacheKey;
         for (String i : jpaModel.getAllModelClassNames()) {
-            transformers.produce(new BytecodeTransformerBuildItem(true, i, hibernateEntityEnhancer, true));
+            transformers.produce(new BytecodeTransformerBuildItem.Builder()
+                    .setEager(true)
+                    .setClassToTransform(i)
+                    .setVisitorFunction(hibernateEntityEnhancer)
+                    .setCacheable(true)
+                    .setCacheKey(cacheKey)
+                    .build());
         }
         for (AdditionalJpaModelBuildItem additionalJpaModel : additionalJpaModelBuildItems) {
             String className = additionalJpaModel.getClassName();
@@ -89,6 +89,7 @@
 import io.quarkus.deployment.builditem.nativeimage.NativeImageSecurityProviderBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
 import io.quarkus.infinispan.client.InfinispanClientName;
 import io.quarkus.infinispan.client.Remote;
@@ -101,6 +102,8 @@
 import io.quarkus.infinispan.client.runtime.cache.CacheInvalidateAllInterceptor;
 import io.quarkus.infinispan.client.runtime.cache.CacheInvalidateInterceptor;
 import io.quarkus.infinispan.client.runtime.cache.CacheResultInterceptor;
+import io.quarkus.infinispan.client.runtime.cache.NearCache;
+import io.quarkus.infinispan.client.runtime.cache.NearCaches;
 import io.quarkus.infinispan.client.runtime.cache.SynchronousInfinispanGet;
 import io.quarkus.infinispan.client.runtime.graal.DisableLoggingFeature;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
@@ -202,6 +205,7 @@ InfinispanPropertiesBuildItem setup(ApplicationArchivesBuildItem applicationArch
         additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(CacheResultInterceptor.class));
         additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(CacheInvalidateInterceptor.class));
         additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(SynchronousInfinispanGet.class));
+        additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(NearCaches.class));
         additionalBeans.produce(AdditionalBeanBuildItem.builder().addBeanClass(InfinispanClientName.class).build());
         additionalBeans.produce(AdditionalBeanBuildItem.builder().addBeanClass(Remote.class).build());
 
@@ -310,6 +314,9 @@ InfinispanPropertiesBuildItem setup(ApplicationArchivesBuildItem applicationArch
         reflectiveClass.produce(ReflectiveClassBuildItem.builder(
                 "org.infinispan.client.hotrod.near.NearCacheService$InvalidatedNearCacheListener")
                 .methods().build());
+        // We use reflection to invalidate the near caches of the caching annotations
+        reflectiveClass.produce(ReflectiveClassBuildItem.builder(NearCache.InvalidationListener.class)
+                .methods().build());
         // This is required when a cache is clustered to tell us topology
         reflectiveClass.produce(
                 ReflectiveClassBuildItem.builder(
@@ -464,6 +471,15 @@ UnremovableBeanBuildItem ensureBeanLookupAvailable() {
                 RawProtobufMarshaller.class, FileDescriptorSource.class);
     }
 
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    void registerNearCacheMetrics(InfinispanRecorder recorder, InfinispanClientsBuildTimeConfig buildTimeConfig,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (buildTimeConfig.metricsEnabled) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerNearCacheMetrics()));
+        }
+    }
+
     @BuildStep
     HealthBuildItem addHealthCheck(InfinispanClientsBuildTimeConfig buildTimeConfig) {
         return new HealthBuildItem("io.quarkus.infinispan.client.runtime.health.InfinispanHealthCheck",
@@ -1,5 +1,6 @@
 package io.quarkus.infinispan.client.runtime;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -231,6 +232,24 @@ public static class RemoteCacheConfig {
         // @formatter:on
         @ConfigItem
         public Optional<Boolean> nearCacheUseBloomFilter;
+
+        // @formatter:off
+        /**
+         * The maximum number of results of the methods annotated with `@CacheResult` to keep in memory for the
+         * specified cache. Setting it enables a near cache in front of the caching annotations, whose entries are
+         * invalidated by a client listener when they are modified, removed or expired on the server.
+         * Unlike `near-cache-mode`, it only applies to the caching annotations and supports an expiration.
+         */
+        // @formatter:on
+        @ConfigItem
+        public Optional<Integer> resultNearCacheMaxEntries;
+
+        /**
+         * The time after which a result kept in the near cache of the caching annotations expires, whether it has been
+         * invalidated or not. By default, the results do not expire.
+         */
+        @ConfigItem
+        public Optional<Duration> resultNearCacheExpireAfterWrite;
     }
 
     @Override
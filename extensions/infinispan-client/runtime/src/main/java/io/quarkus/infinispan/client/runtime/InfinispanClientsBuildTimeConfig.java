@@ -31,6 +31,15 @@ public class InfinispanClientsBuildTimeConfig {
     @ConfigItem(name = "health.enabled", defaultValue = "true")
     public boolean healthEnabled;
 
+    /**
+     * Whether or not the metrics of the near caches of the caching annotations are published in case a metrics
+     * extension is present.
+     * <p>
+     * This is a global setting and is not specific to an Infinispan Client.
+     */
+    @ConfigItem(name = "metrics.enabled", defaultValue = "true")
+    public boolean metricsEnabled;
+
     public Set<String> getInfinispanNamedClientConfigNames() {
         return Collections.unmodifiableSet(new HashSet<>(namedInfinispanClients.keySet()));
     }
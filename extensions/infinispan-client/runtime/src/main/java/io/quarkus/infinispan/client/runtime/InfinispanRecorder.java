@@ -2,6 +2,7 @@
 
 import java.util.Map;
 import java.util.Properties;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -15,9 +16,12 @@
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.runtime.BeanContainerListener;
+import io.quarkus.infinispan.client.runtime.cache.NearCache;
+import io.quarkus.infinispan.client.runtime.cache.NearCaches;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.annotations.RelaxedValidation;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 @Recorder
 public class InfinispanRecorder {
@@ -56,6 +60,40 @@ public RemoteCache<K, V> apply(InfinispanClientProducer infinispanClientProducer
         });
     }
 
+    public Consumer<MetricsFactory> registerNearCacheMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                for (NearCache nearCache : Arc.container().instance(NearCaches.class).get().getNearCaches()) {
+                    metricsFactory.builder("infinispan.client.near.cache.hits")
+                            .description("Number of times a result was found in the near cache.")
+                            .tag("cache", nearCache.getCacheName())
+                            .buildCounter(nearCache::getHits);
+                    metricsFactory.builder("infinispan.client.near.cache.misses")
+                            .description("Number of times a result was not found in the near cache.")
+                            .tag("cache", nearCache.getCacheName())
+                            .buildCounter(nearCache::getMisses);
+                    metricsFactory.builder("infinispan.client.near.cache.hit.ratio")
+                            .description("Ratio of the lookups which found a result in the near cache, NaN before the first lookup.")
+                            .tag("cache", nearCache.getCacheName())
+                            .buildGauge(nearCache::getHitRatio);
+                    metricsFactory.builder("infinispan.client.near.cache.invalidations")
+                            .description("Number of invalidations of the near cache, of one or all of its entries.")
+                            .tag("cache", nearCache.getCacheName())
+                            .buildCounter(nearCache::getInvalidations);
+                    metricsFactory.builder("infinispan.client.near.cache.reconnects")
+                            .description("Number of times the near cache was cleared because the client failed over.")
+                            .tag("cache", nearCache.getCacheName())
+                            .buildCounter(nearCache::getReconnects);
+                    metricsFactory.builder("infinispan.client.near.cache.size")
+                            .description("Approximate number of entries in the near cache, including the results being loaded.")
+                            .tag("cache", nearCache.getCacheName())
+                            .buildGauge(nearCache::getSize);
+                }
+            }
+        };
+    }
+
     public RuntimeValue<RemoteCacheManager> getClient(String name) {
         return new RuntimeValue<>(Arc.container().instance(RemoteCacheManager.class, literal(name)).get());
     }
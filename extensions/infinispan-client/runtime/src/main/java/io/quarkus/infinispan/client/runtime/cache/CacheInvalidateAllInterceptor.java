@@ -5,6 +5,7 @@
 import java.util.function.Supplier;
 
 import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
 import jakarta.interceptor.AroundInvoke;
 import jakarta.interceptor.Interceptor;
 import jakarta.interceptor.InvocationContext;
@@ -25,6 +26,9 @@ public class CacheInvalidateAllInterceptor extends CacheInterceptor {
     private static final Logger LOGGER = Logger.getLogger(CacheInvalidateAllInterceptor.class);
     private static final String INTERCEPTOR_BINDINGS_ERROR_MSG = "The Quarkus Infinispan Client extension is not working properly (CacheInvalidateAll interceptor bindings retrieval failed), please create a GitHub issue in the Quarkus repository to help the maintainers fix this bug";
 
+    @Inject
+    NearCaches nearCaches;
+
     @AroundInvoke
     public Object intercept(InvocationContext invocationContext) throws Exception {
         CacheInterceptionContext<CacheInvalidateAll> interceptionContext = getInterceptionContext(invocationContext,
@@ -77,11 +81,22 @@ private Object invalidateAllBlocking(InvocationContext invocationContext,
     private Uni<Void> invalidateAll(CacheInvalidateAll binding) {
         RemoteCache cache = getRemoteCacheManager().getCache(binding.cacheName());
         LOGGER.debugf("Invalidating all entries from cache [%s]", binding.cacheName());
-        return Uni.createFrom().completionStage(new Supplier<>() {
+        NearCache nearCache = nearCaches.find(binding.cacheName());
+        Uni<Void> clear = Uni.createFrom().completionStage(new Supplier<>() {
             @Override
             public CompletionStage<Void> get() {
                 return cache.clearAsync();
             }
         });
+        if (nearCache == null) {
+            return clear;
+        }
+        // a clear doesn't notify the listeners
+        return clear.onItem().invoke(new Runnable() {
+            @Override
+            public void run() {
+                nearCache.invalidateAll();
+            }
+        });
     }
 }
@@ -6,6 +6,7 @@
 import java.util.function.Supplier;
 
 import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
 import jakarta.interceptor.AroundInvoke;
 import jakarta.interceptor.Interceptor;
 import jakarta.interceptor.InvocationContext;
@@ -26,6 +27,9 @@ public class CacheInvalidateInterceptor extends CacheInterceptor {
     private static final Logger LOGGER = Logger.getLogger(CacheInvalidateInterceptor.class);
     private static final String INTERCEPTOR_BINDINGS_ERROR_MSG = "The Quarkus Infinispan Client extension is not working properly (CacheInvalidate interceptor bindings retrieval failed), please create a GitHub issue in the Quarkus repository to help the maintainers fix this bug";
 
+    @Inject
+    NearCaches nearCaches;
+
     @AroundInvoke
     public Object intercept(InvocationContext invocationContext) throws Exception {
         CacheInterceptionContext<CacheInvalidate> interceptionContext = getInterceptionContext(invocationContext,
@@ -81,11 +85,22 @@ private Uni<Void> invalidate(CacheInvalidate binding, Object[] parameters) {
         RemoteCache cache = getRemoteCacheManager().getCache(binding.cacheName());
         Object key = getCacheKey(parameters);
         LOGGER.debugf("Invalidating entry with key [%s] from cache [%s]", key, binding.cacheName());
-        return Uni.createFrom().completionStage(new Supplier<>() {
+        NearCache nearCache = nearCaches.find(binding.cacheName());
+        Uni<Void> removal = Uni.createFrom().completionStage(new Supplier<>() {
             @Override
             public CompletionStage<Void> get() {
                 return cache.removeAsync(key);
             }
         });
+        if (nearCache == null) {
+            return removal;
+        }
+        // don't wait for the listener to be notified of the removal
+        return removal.onItem().invoke(new Runnable() {
+            @Override
+            public void run() {
+                nearCache.invalidate(key);
+            }
+        });
     }
 }
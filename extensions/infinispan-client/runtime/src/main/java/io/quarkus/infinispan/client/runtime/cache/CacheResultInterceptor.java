@@ -30,6 +30,9 @@ public class CacheResultInterceptor extends CacheInterceptor {
     @Inject
     SynchronousInfinispanGet syncronousInfinispanGet;
 
+    @Inject
+    NearCaches nearCaches;
+
     @AroundInvoke
     public Object intercept(InvocationContext invocationContext) throws Throwable {
         /*
@@ -53,10 +56,24 @@ public Object intercept(InvocationContext invocationContext) throws Throwable {
         RemoteCache remoteCache = getRemoteCacheManager()
                 .getCache(binding.cacheName());
         Object key = getCacheKey(invocationContext.getParameters());
-        InfinispanGetWrapper cache = new InfinispanGetWrapper(remoteCache, syncronousInfinispanGet.get(remoteCache.getName()));
+        ReturnType returnType = determineReturnType(invocationContext.getMethod().getReturnType());
+
+        NearCache nearCache = nearCaches.get(remoteCache);
+        if (nearCache != null) {
+            Object nearValue = nearCache.get(key);
+            if (nearValue != null) {
+                LOGGER.debugf("Entry with key [%s] found in the near cache of cache [%s]", key, binding.cacheName());
+                if (returnType == ReturnType.NonAsync) {
+                    return nearValue;
+                }
+                return createAsyncResult(Uni.createFrom().item(nearValue), returnType);
+            }
+        }
+
+        InfinispanGetWrapper cache = new InfinispanGetWrapper(remoteCache, syncronousInfinispanGet.get(remoteCache.getName()),
+                nearCache);
         LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, binding.cacheName());
 
-        ReturnType returnType = determineReturnType(invocationContext.getMethod().getReturnType());
         if (returnType != ReturnType.NonAsync) {
             Uni<Object> cacheValue = cache.get(key, new Function<Object, Object>() {
                 @Override
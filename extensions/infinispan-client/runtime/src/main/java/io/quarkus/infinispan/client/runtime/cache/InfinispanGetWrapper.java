@@ -14,10 +14,17 @@
 public class InfinispanGetWrapper {
     final RemoteCache cache;
     final Map<Object, CompletableFuture<Object>> synchronousGets;
+    final NearCache nearCache;
 
     public InfinispanGetWrapper(RemoteCache cache, Map<Object, CompletableFuture<Object>> synchronousGetLocks) {
+        this(cache, synchronousGetLocks, null);
+    }
+
+    public InfinispanGetWrapper(RemoteCache cache, Map<Object, CompletableFuture<Object>> synchronousGetLocks,
+            NearCache nearCache) {
         this.cache = cache;
         this.synchronousGets = synchronousGetLocks;
+        this.nearCache = nearCache;
     }
 
     public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
@@ -42,26 +49,33 @@ private <K, V> CompletableFuture<Object> getFromInfinispan(K key, Function<K, V>
             if ((prev = synchronousGets.putIfAbsent(key, stage)) != null) {
                 return prev;
             }
+            Object nearCacheStamp = nearCache == null ? null : nearCache.stamp(key);
             cache.getAsync(key)
                     .whenComplete((valGet, tGet) -> {
                         if (tGet != null) {
+                            discardNearCacheStamp(key, nearCacheStamp);
                             stage.completeExceptionally((Throwable) tGet);
                             synchronousGets.remove(key);
                         } else if (valGet != null) {
+                            putInNearCache(key, valGet, nearCacheStamp);
                             stage.complete(valGet);
                             synchronousGets.remove(key);
                         } else {
                             Object newValue = valueLoader.apply(key);
                             if (newValue == null) {
+                                discardNearCacheStamp(key, nearCacheStamp);
                                 synchronousGets.remove(key);
                                 stage.complete(null);
                             } else {
                                 cache.putIfAbsentAsync(key, newValue)
                                         .whenComplete((valPut, tPut) -> {
                                             if (tPut != null) {
+                                                discardNearCacheStamp(key, nearCacheStamp);
                                                 stage.completeExceptionally((Throwable) tPut);
                                             } else {
-                                                stage.complete(valPut == null ? newValue : valPut);
+                                                Object value = valPut == null ? newValue : valPut;
+                                                putInNearCache(key, value, nearCacheStamp);
+                                                stage.complete(value);
                                             }
                                             synchronousGets.remove(key);
                                         });
@@ -76,6 +90,24 @@ private <K, V> CompletableFuture<Object> getFromInfinispan(K key, Function<K, V>
         return stage;
     }
 
+    private void putInNearCache(Object key, Object value, Object stamp) {
+        if (nearCache == null) {
+            return;
+        }
+        // the value of an asynchronous method is only known once replaced, the replacement invalidates the key anyway
+        if (value != UnresolvedUniValue.INSTANCE) {
+            nearCache.put(key, value, stamp);
+        } else {
+            nearCache.discard(key, stamp);
+        }
+    }
+
+    private void discardNearCacheStamp(Object key, Object stamp) {
+        if (nearCache != null) {
+            nearCache.discard(key, stamp);
+        }
+    }
+
     private <T> T cast(Object value) {
         try {
             return (T) value;
@@ -0,0 +1,236 @@
+package io.quarkus.infinispan.client.runtime.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryExpired;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryModified;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryRemoved;
+import org.infinispan.client.hotrod.annotation.ClientCacheFailover;
+import org.infinispan.client.hotrod.annotation.ClientListener;
+import org.infinispan.client.hotrod.event.ClientCacheEntryExpiredEvent;
+import org.infinispan.client.hotrod.event.ClientCacheEntryModifiedEvent;
+import org.infinispan.client.hotrod.event.ClientCacheEntryRemovedEvent;
+import org.infinispan.client.hotrod.event.ClientCacheFailoverEvent;
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * Bounded in-memory copy of the values loaded by the {@code @CacheResult} interceptor from a remote cache.
+ * <p>
+ * The entries are invalidated by a client listener registered on the remote cache, when they are modified, removed or
+ * expired on the server, and all of them are dropped when the client fails over to another server, since the events
+ * sent in the meantime are lost. The near cache is only used once the listener is registered.
+ */
+public class NearCache {
+
+    private static final Logger LOGGER = Logger.getLogger(NearCache.class);
+
+    private static final int NOT_LISTENING = 0;
+    private static final int REGISTERING = 1;
+    private static final int LISTENING = 2;
+
+    private static final long MIN_RETRY_DELAY = TimeUnit.SECONDS.toNanos(1);
+    private static final long MAX_RETRY_DELAY = TimeUnit.MINUTES.toNanos(1);
+
+    private final String cacheName;
+    private final Cache<Object, Object> entries;
+    private final AtomicInteger state = new AtomicInteger(NOT_LISTENING);
+    /*
+     * The failed registrations in a row and the time of the next attempt, only written by the registering thread before
+     * the state goes back to NOT_LISTENING.
+     */
+    private int failedRegistrations;
+    private long nextRegistration;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder reconnects = new LongAdder();
+
+    NearCache(String cacheName, int maxEntries, Optional<Duration> expireAfterWrite) {
+        this.cacheName = cacheName;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(maxEntries);
+        if (expireAfterWrite.isPresent()) {
+            builder.expireAfterWrite(expireAfterWrite.get());
+        }
+        this.entries = builder.build();
+    }
+
+    /**
+     * Registers the invalidation listener on the remote cache if it is not registered yet. The registration is blocking,
+     * so it is done on a worker thread. After a failure, the next attempts are delayed exponentially, up to a minute.
+     *
+     * @return whether the near cache can be used
+     */
+    boolean listen(RemoteCache<?, ?> remoteCache) {
+        int current = state.get();
+        if (current == LISTENING) {
+            return true;
+        }
+        if (current == NOT_LISTENING && (failedRegistrations == 0 || System.nanoTime() - nextRegistration >= 0)
+                && state.compareAndSet(NOT_LISTENING, REGISTERING)) {
+            Infrastructure.getDefaultWorkerPool().execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        remoteCache.addClientListener(new InvalidationListener());
+                        // the values cached before the registration may have missed an invalidation
+                        invalidateAll();
+                        failedRegistrations = 0;
+                        state.set(LISTENING);
+                        LOGGER.debugf("Near cache of cache [%s] enabled", cacheName);
+                    } catch (RuntimeException e) {
+                        registrationFailed(e);
+                        state.set(NOT_LISTENING);
+                    }
+                }
+            });
+        }
+        return false;
+    }
+
+    private void registrationFailed(RuntimeException e) {
+        long delay = Math.min(MIN_RETRY_DELAY << Math.min(failedRegistrations, 6), MAX_RETRY_DELAY);
+        nextRegistration = System.nanoTime() + delay;
+        // only the first failure is logged as a warning, the server may be unavailable for a while
+        if (failedRegistrations++ == 0) {
+            LOGGER.warnf(e, "Unable to register the near cache listener on cache [%s], "
+                    + "the near cache is disabled until a later attempt succeeds", cacheName);
+        } else {
+            LOGGER.debugf(e, "Unable to register the near cache listener on cache [%s], next attempt in %d ms", cacheName,
+                    TimeUnit.NANOSECONDS.toMillis(delay));
+        }
+    }
+
+    /**
+     * @return the value of the key, or {@code null} if it is not in the near cache
+     */
+    Object get(Object key) {
+        Object value = entries.getIfPresent(key);
+        if (value == null || value instanceof Loading) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return value;
+    }
+
+    /**
+     * Records that a value of the key is being loaded from the server. The record is removed by the invalidations of the
+     * key, a value loaded from the server is only kept if the key was not invalidated since the load started, otherwise
+     * it may be older than the invalidated one.
+     *
+     * @return the stamp to pass to {@link #put(Object, Object, Object)} or {@link #discard(Object, Object)}, taken before
+     *         loading a value from the server
+     */
+    Object stamp(Object key) {
+        return entries.asMap().compute(key, new BiFunction<Object, Object, Object>() {
+            @Override
+            public Object apply(Object k, Object current) {
+                // a value put in the meantime is kept, the loaded one is then dropped
+                return current == null ? new Loading() : current;
+            }
+        });
+    }
+
+    void put(Object key, Object value, Object stamp) {
+        // the stamp is checked while the key is locked by the map, and the invalidations lock the key too
+        entries.asMap().compute(key, new BiFunction<Object, Object, Object>() {
+            @Override
+            public Object apply(Object k, Object current) {
+                return current == stamp && current instanceof Loading ? value : current;
+            }
+        });
+    }
+
+    /**
+     * Removes the record of a load which did not produce a value.
+     */
+    void discard(Object key, Object stamp) {
+        if (stamp instanceof Loading) {
+            entries.asMap().remove(key, stamp);
+        }
+    }
+
+    void invalidate(Object key) {
+        invalidations.increment();
+        entries.invalidate(key);
+    }
+
+    void invalidateAll() {
+        invalidations.increment();
+        entries.invalidateAll();
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long requestCount = hitCount + misses.sum();
+        return requestCount == 0 ? Double.NaN : (double) hitCount / requestCount;
+    }
+
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    public long getReconnects() {
+        return reconnects.sum();
+    }
+
+    public long getSize() {
+        return entries.estimatedSize();
+    }
+
+    @ClientListener
+    public class InvalidationListener {
+
+        @ClientCacheEntryModified
+        public void modified(ClientCacheEntryModifiedEvent<?> event) {
+            invalidate(event.getKey());
+        }
+
+        @ClientCacheEntryRemoved
+        public void removed(ClientCacheEntryRemovedEvent<?> event) {
+            invalidate(event.getKey());
+        }
+
+        @ClientCacheEntryExpired
+        public void expired(ClientCacheEntryExpiredEvent<?> event) {
+            invalidate(event.getKey());
+        }
+
+        @ClientCacheFailover
+        public void failover(ClientCacheFailoverEvent event) {
+            LOGGER.debugf("Client failed over, clearing the near cache of cache [%s]", cacheName);
+            reconnects.increment();
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Recorded in place of the value of a key while it is being loaded from the server.
+     */
+    private static final class Loading {
+    }
+}
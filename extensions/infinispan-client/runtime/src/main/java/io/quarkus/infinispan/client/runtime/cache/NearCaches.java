@@ -0,0 +1,69 @@
+package io.quarkus.infinispan.client.runtime.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import org.infinispan.client.hotrod.RemoteCache;
+
+import io.quarkus.infinispan.client.runtime.InfinispanClientRuntimeConfig;
+import io.quarkus.infinispan.client.runtime.InfinispanClientsRuntimeConfig;
+
+/**
+ * The near caches of the caching annotations, for the caches of the default client having
+ * {@code result-near-cache-max-entries} configured.
+ */
+@ApplicationScoped
+public class NearCaches {
+
+    @Inject
+    Instance<InfinispanClientsRuntimeConfig> infinispanClientsRuntimeConfigHandle;
+
+    private Map<String, NearCache> nearCaches;
+
+    @PostConstruct
+    void init() {
+        Map<String, NearCache> configured = new HashMap<>();
+        InfinispanClientRuntimeConfig clientConfig = infinispanClientsRuntimeConfigHandle.get().defaultInfinispanClient;
+        if (clientConfig != null) {
+            for (Map.Entry<String, InfinispanClientRuntimeConfig.RemoteCacheConfig> cacheConfig : clientConfig.cache
+                    .entrySet()) {
+                InfinispanClientRuntimeConfig.RemoteCacheConfig config = cacheConfig.getValue();
+                if (config.resultNearCacheMaxEntries.isPresent() && config.resultNearCacheMaxEntries.get() > 0) {
+                    configured.put(cacheConfig.getKey(), new NearCache(cacheConfig.getKey(),
+                            config.resultNearCacheMaxEntries.get(), config.resultNearCacheExpireAfterWrite));
+                }
+            }
+        }
+        nearCaches = Collections.unmodifiableMap(configured);
+    }
+
+    /**
+     * @return the near cache to read the values from, or {@code null} if the cache has no near cache or if its
+     *         invalidation listener is not registered yet
+     */
+    NearCache get(RemoteCache<?, ?> remoteCache) {
+        NearCache nearCache = nearCaches.get(remoteCache.getName());
+        if (nearCache == null || !nearCache.listen(remoteCache)) {
+            return null;
+        }
+        return nearCache;
+    }
+
+    /**
+     * @return the near cache to invalidate, or {@code null} if the cache has no near cache
+     */
+    NearCache find(String cacheName) {
+        return nearCaches.get(cacheName);
+    }
+
+    public Collection<NearCache> getNearCaches() {
+        return nearCaches.values();
+    }
+}
@@ -0,0 +1,119 @@
+package io.quarkus.infinispan.client.runtime.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.infinispan.client.hotrod.RemoteCache;
+import org.junit.jupiter.api.Test;
+
+public class NearCacheTest {
+
+    @Test
+    public void testHitsAndMisses() {
+        NearCache nearCache = new NearCache("books", 10, Optional.empty());
+        assertThat(nearCache.getHitRatio()).isNaN();
+        assertThat(nearCache.get("k1")).isNull();
+        nearCache.put("k1", "v1", nearCache.stamp("k1"));
+        assertThat(nearCache.get("k1")).isEqualTo("v1");
+        assertThat(nearCache.get("k1")).isEqualTo("v1");
+
+        assertThat(nearCache.getHits()).isEqualTo(2);
+        assertThat(nearCache.getMisses()).isEqualTo(1);
+        assertThat(nearCache.getHitRatio()).isEqualTo(2.0 / 3);
+        assertThat(nearCache.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void testInvalidation() {
+        NearCache nearCache = new NearCache("books", 10, Optional.empty());
+        nearCache.put("k1", "v1", nearCache.stamp("k1"));
+        nearCache.put("k2", "v2", nearCache.stamp("k2"));
+
+        nearCache.invalidate("k1");
+        assertThat(nearCache.get("k1")).isNull();
+        assertThat(nearCache.get("k2")).isEqualTo("v2");
+
+        nearCache.invalidateAll();
+        assertThat(nearCache.get("k2")).isNull();
+        assertThat(nearCache.getInvalidations()).isEqualTo(2);
+    }
+
+    @Test
+    public void testValueLoadedBeforeAnInvalidationIsNotKept() {
+        NearCache nearCache = new NearCache("books", 10, Optional.empty());
+        Object stamp = nearCache.stamp("k1");
+        // the key is modified on the server while the old value is being loaded
+        nearCache.invalidate("k1");
+        nearCache.put("k1", "old", stamp);
+        assertThat(nearCache.get("k1")).isNull();
+
+        nearCache.put("k1", "new", nearCache.stamp("k1"));
+        assertThat(nearCache.get("k1")).isEqualTo("new");
+    }
+
+    @Test
+    public void testInvalidationOfAnotherKeyDoesNotDropALoadedValue() {
+        NearCache nearCache = new NearCache("books", 10, Optional.empty());
+        Object stamp = nearCache.stamp("k1");
+        // the value of a key being loaded is not a hit
+        assertThat(nearCache.get("k1")).isNull();
+        nearCache.invalidate("k2");
+        nearCache.put("k1", "v1", stamp);
+        assertThat(nearCache.get("k1")).isEqualTo("v1");
+    }
+
+    @Test
+    public void testDiscardedLoadIsNotKept() {
+        NearCache nearCache = new NearCache("books", 10, Optional.empty());
+        Object stamp = nearCache.stamp("k1");
+        nearCache.discard("k1", stamp);
+        assertThat(nearCache.getSize()).isZero();
+        nearCache.put("k1", "v1", stamp);
+        assertThat(nearCache.get("k1")).isNull();
+    }
+
+    @Test
+    public void testFailoverClearsTheNearCache() {
+        NearCache nearCache = new NearCache("books", 10, Optional.empty());
+        nearCache.put("k1", "v1", nearCache.stamp("k1"));
+
+        nearCache.new InvalidationListener().failover(null);
+        assertThat(nearCache.get("k1")).isNull();
+        assertThat(nearCache.getReconnects()).isEqualTo(1);
+    }
+
+    @Test
+    public void testFailedRegistrationIsNotRetriedImmediately() throws InterruptedException {
+        NearCache nearCache = new NearCache("books", 10, Optional.empty());
+        AtomicInteger registrations = new AtomicInteger();
+        CountDownLatch failed = new CountDownLatch(1);
+        RemoteCache<?, ?> remoteCache = (RemoteCache<?, ?>) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { RemoteCache.class }, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        if (method.getName().equals("addClientListener")) {
+                            registrations.incrementAndGet();
+                            failed.countDown();
+                            throw new IllegalStateException("Server unavailable");
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+
+        assertThat(nearCache.listen(remoteCache)).isFalse();
+        assertThat(failed.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 10; i++) {
+            assertThat(nearCache.listen(remoteCache)).isFalse();
+            Thread.sleep(20);
+        }
+        // the next attempt is delayed
+        assertThat(registrations.get()).isEqualTo(1);
+    }
+}
@@ -3,6 +3,7 @@
 import static org.awaitility.Awaitility.await;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import jakarta.annotation.PostConstruct;
@@ -25,6 +26,7 @@
 import io.vertx.mutiny.core.http.HttpServer;
 import io.vertx.mutiny.core.http.WebSocket;
 import io.vertx.mutiny.ext.web.Router;
+import io.vertx.mutiny.ext.web.RoutingContext;
 import io.vertx.mutiny.ext.web.client.HttpResponse;
 import io.vertx.mutiny.ext.web.client.WebClient;
 import io.vertx.mutiny.ext.web.handler.BodyHandler;
@@ -52,7 +54,7 @@ private Search getMeter(String name) {
     }
 
     @Test
-    void testWebClientMetrics() {
+    void testWebClientMetrics() throws Exception {
         server.start();
         client.init();
 
@@ -98,6 +100,28 @@ void testWebClientMetrics() {
                     .tag("clientName", "my-client").timer().totalTime(TimeUnit.NANOSECONDS) > 0);
 
             await().until(() -> getMeter("http.client.queue.size").gauge().value() == 0.0);
+            await().until(() -> getMeter("http.client.pending").gauge().value() == 0.0);
+            Assertions.assertTrue(getMeter("http.client.endpoint.connections").gauge().value() >= 1);
+            await().until(() -> getMeter("http.client.endpoint.active.requests").gauge().value() == 0.0);
+
+            // A request is pending until its response is received
+            CompletableFuture<String> slow = client.getSlow();
+            await().until(() -> Metrics.globalRegistry.find("http.client.pending")
+                    .tag("clientName", "my-client").gauge().value() == 1.0);
+            Assertions.assertEquals(1.0, Metrics.globalRegistry.find("http.client.endpoint.active.requests")
+                    .tag("clientName", "my-client").gauge().value());
+            await().until(server::isHoldingRequest);
+            server.release();
+            Assertions.assertEquals("slow", slow.get(10, TimeUnit.SECONDS));
+            await().until(() -> Metrics.globalRegistry.find("http.client.pending")
+                    .tag("clientName", "my-client").gauge().value() == 0.0);
+
+            // The gauges of a server are removed when the client is closed
+            client.close();
+            await().until(() -> Metrics.globalRegistry.find("http.client.endpoint.connections")
+                    .tag("clientName", "my-client").gauge() == null);
+            Assertions.assertNull(Metrics.globalRegistry.find("http.client.endpoint.active.requests")
+                    .tag("clientName", "my-client").gauge());
         } finally {
             server.stop();
         }
@@ -121,10 +145,13 @@ static class App {
         @Inject
         Vertx vertx;
         private HttpServer server;
+        private volatile RoutingContext slow;
 
         public void start() {
             Router router = Router.router(vertx);
             router.route().handler(BodyHandler.create());
+            // Answered when the test releases it
+            router.get("/slow").handler(rc -> slow = rc);
             router.get().handler(rc -> rc.endAndForget("ok"));
             router.post("/post")
                     .handler(rc -> rc.response().endAndForget(rc.body().asString().toUpperCase()));
@@ -144,6 +171,14 @@ public void start() {
                     .listenAndAwait(8888);
         }
 
+        public boolean isHoldingRequest() {
+            return slow != null;
+        }
+
+        public void release() {
+            slow.endAndForget("slow");
+        }
+
         public void stop() {
             server.closeAndAwait();
         }
@@ -194,6 +229,13 @@ public String get() {
                     .await().atMost(Duration.ofSeconds(10));
         }
 
+        public CompletableFuture<String> getSlow() {
+            return client.getAbs("http://localhost:8888/slow")
+                    .send()
+                    .map(HttpResponse::bodyAsString)
+                    .subscribeAsCompletionStage();
+        }
+
         public String post(String payload) {
             return client.postAbs("http://localhost:8888/post")
                     .sendBuffer(Buffer.buffer(payload))
@@ -201,9 +243,16 @@ public String post(String payload) {
                     .await().atMost(Duration.ofSeconds(10));
         }
 
+        public void close() {
+            if (client != null) {
+                client.close();
+                client = null;
+            }
+        }
+
         @PreDestroy
         public void cleanup() {
-            client.close();
+            close();
         }
     }
 
@@ -33,6 +33,7 @@ class VertxHttpClientMetrics extends VertxTcpClientMetrics
 
     private final Timer queueDelay;
     private final Map<String, LongAdder> webSockets = new ConcurrentHashMap<>();
+    private final Map<String, EndpointUsage> endpoints = new ConcurrentHashMap<>();
     private final HttpBinderConfiguration config;
 
     VertxHttpClientMetrics(MeterRegistry registry, String prefix, Tags tags, HttpBinderConfiguration httpBinderConfiguration) {
@@ -59,14 +60,40 @@ public Number get() {
             public Number get() {
                 return pending.longValue();
             }
-        }).description("Number of requests waiting for a response");
+        }).description("Number of requests waiting for a response")
+                .tags(tags)
+                .strongReference(true)
+                .register(registry);
     }
 
     @Override
     public ClientMetrics<RequestTracker, EventTiming, HttpRequest, HttpResponse> createEndpointMetrics(
             SocketAddress remoteAddress, int maxPoolSize) {
         String remote = NetworkMetrics.toString(remoteAddress);
-        return new ClientMetrics<RequestTracker, EventTiming, HttpRequest, HttpResponse>() {
+        EndpointUsage usage = endpoints.compute(remote, (k, existing) -> {
+            EndpointUsage u = existing == null ? new EndpointUsage(remote) : existing;
+            u.endpoints++;
+            return u;
+        });
+        return new EndpointMetrics() {
+
+            @Override
+            EndpointUsage usage() {
+                return usage;
+            }
+
+            @Override
+            public void close() {
+                // the gauges of a server are removed once all the endpoints to it are closed
+                endpoints.computeIfPresent(remote, (k, existing) -> {
+                    if (existing != usage || --existing.endpoints > 0) {
+                        return existing;
+                    }
+                    existing.remove();
+                    return null;
+                });
+            }
+
             @Override
             public EventTiming enqueueRequest() {
                 queue.increment();
@@ -81,6 +108,7 @@ public void dequeueRequest(EventTiming event) {
 
             @Override
             public RequestTracker requestBegin(String uri, HttpRequest request) {
+                usage.activeRequests.increment();
                 RequestTracker handler = new RequestTracker(tags, remote, request.uri(), request.method().name());
                 String path = handler.getNormalizedUriPath(
                         config.getServerMatchPatterns(),
@@ -105,6 +133,7 @@ public void requestEnd(RequestTracker tracker, long bytesWritten) {
 
             @Override
             public void requestReset(RequestTracker tracker) {
+                usage.activeRequests.decrement();
                 if (tracker == null) {
                     return;
                 }
@@ -122,6 +151,7 @@ public void responseBegin(RequestTracker tracker, HttpResponse response) {
 
             @Override
             public void responseEnd(RequestTracker tracker, long bytesRead) {
+                usage.activeRequests.decrement();
                 if (tracker == null) {
                     return;
                 }
@@ -140,6 +170,20 @@ public void responseEnd(RequestTracker tracker, long bytesRead) {
         };
     }
 
+    @Override
+    public void endpointConnected(ClientMetrics<RequestTracker, EventTiming, ?, ?> endpointMetric) {
+        if (endpointMetric instanceof EndpointMetrics) {
+            ((EndpointMetrics) endpointMetric).usage().connections.increment();
+        }
+    }
+
+    @Override
+    public void endpointDisconnected(ClientMetrics<RequestTracker, EventTiming, ?, ?> endpointMetric) {
+        if (endpointMetric instanceof EndpointMetrics) {
+            ((EndpointMetrics) endpointMetric).usage().connections.decrement();
+        }
+    }
+
     @Override
     public String connected(WebSocket webSocket) {
         String remote = webSocket.remoteAddress().toString();
@@ -165,6 +209,43 @@ public void disconnected(String remote) {
         }
     }
 
+    private abstract static class EndpointMetrics
+            implements ClientMetrics<RequestTracker, EventTiming, HttpRequest, HttpResponse> {
+
+        abstract EndpointUsage usage();
+    }
+
+    /**
+     * The connections and the requests in progress to a server. With HTTP/2, the requests in progress per connection are
+     * the concurrent streams.
+     */
+    private final class EndpointUsage {
+
+        final LongAdder connections = new LongAdder();
+        final LongAdder activeRequests = new LongAdder();
+        private final Gauge connectionsGauge;
+        private final Gauge activeRequestsGauge;
+        // the open endpoints to the server, only accessed while computing the entry of the server
+        int endpoints;
+
+        EndpointUsage(String remote) {
+            Tags endpointTags = tags.and("address", remote);
+            connectionsGauge = Gauge.builder("http.client.endpoint.connections", connections::longValue)
+                    .description("The number of connections to the server")
+                    .tags(endpointTags)
+                    .register(registry);
+            activeRequestsGauge = Gauge.builder("http.client.endpoint.active.requests", activeRequests::longValue)
+                    .description("The number of requests in progress to the server")
+                    .tags(endpointTags)
+                    .register(registry);
+        }
+
+        void remove() {
+            registry.remove(connectionsGauge);
+            registry.remove(activeRequestsGauge);
+        }
+    }
+
     public static class RequestTracker extends RequestMetricInfo {
         private final Tags tags;
         private final String path;
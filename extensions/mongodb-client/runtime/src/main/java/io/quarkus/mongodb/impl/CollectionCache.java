@@ -0,0 +1,310 @@
+package io.quarkus.mongodb.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonInt32;
+import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.jboss.logging.Logger;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.reactivestreams.client.ClientSession;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
+import mutiny.zero.flow.adapters.AdaptersToFlow;
+
+/**
+ * Keeps the documents of a collection in memory.
+ * <p>
+ * The collection is read when the cache starts, and then kept up to date using a change stream opened at the time of
+ * the read. If the change stream fails or is invalidated, for example when the resume point is no longer in the oplog,
+ * the cache stops answering queries and the collection is read again.
+ */
+final class CollectionCache {
+
+    private static final Logger LOGGER = Logger.getLogger(CollectionCache.class);
+
+    private static final Duration INITIAL_RETRY_DELAY = Duration.ofSeconds(1);
+    private static final Duration MAX_RETRY_DELAY = Duration.ofMinutes(1);
+    private static final BsonDocument PING = new BsonDocument("ping", new BsonInt32(1));
+
+    private final MongoClient client;
+    private final MongoDatabase database;
+    private final MongoCollection<BsonDocument> collection;
+
+    /**
+     * The documents by id, {@code null} while the collection is being loaded.
+     */
+    private volatile Map<BsonValue, BsonDocument> documents;
+    private Generation current;
+    private Duration retryDelay = INITIAL_RETRY_DELAY;
+    private boolean closed;
+
+    CollectionCache(MongoClient client, MongoNamespace namespace) {
+        this.client = client;
+        this.database = client.getDatabase(namespace.getDatabaseName());
+        this.collection = database.getCollection(namespace.getCollectionName(), BsonDocument.class);
+    }
+
+    MongoNamespace getNamespace() {
+        return collection.getNamespace();
+    }
+
+    /**
+     * @return whether the collection is loaded, and the queries it supports are answered from memory
+     */
+    boolean isLoaded() {
+        return documents != null;
+    }
+
+    synchronized void start() {
+        if (closed) {
+            return;
+        }
+        Generation generation = new Generation();
+        current = generation;
+        documents = null;
+        generation.start();
+    }
+
+    synchronized void close() {
+        closed = true;
+        documents = null;
+        if (current != null) {
+            current.cancel();
+            current = null;
+        }
+    }
+
+    /**
+     * @return the documents matching the filter, decoded to the given class, or {@code null} if the query must be sent
+     *         to the server because the collection is not loaded or the filter is not supported
+     */
+    <D> List<D> find(Bson filter, Class<D> clazz, CodecRegistry registry) {
+        Map<BsonValue, BsonDocument> snapshot = documents;
+        if (snapshot == null) {
+            return null;
+        }
+        Collection<BsonDocument> matching;
+        if (filter == null) {
+            matching = snapshot.values();
+        } else {
+            BsonDocument query = filter.toBsonDocument(BsonDocument.class, registry);
+            BsonValue id = FilterMatcher.idEquality(query);
+            if (id != null) {
+                BsonDocument document = snapshot.get(id);
+                matching = document == null ? Collections.emptyList() : Collections.singletonList(document);
+            } else {
+                FilterMatcher matcher = FilterMatcher.of(query);
+                if (matcher == null) {
+                    return null;
+                }
+                matching = new ArrayList<>();
+                try {
+                    for (BsonDocument document : snapshot.values()) {
+                        if (matcher.matches(document)) {
+                            matching.add(document);
+                        }
+                    }
+                } catch (FilterMatcher.UnsupportedFilterException e) {
+                    return null;
+                }
+            }
+        }
+        Decoder<D> decoder = registry.get(clazz);
+        DecoderContext context = DecoderContext.builder().build();
+        List<D> result = new ArrayList<>(matching.size());
+        for (BsonDocument document : matching) {
+            result.add(decoder.decode(new BsonDocumentReader(document), context));
+        }
+        return result;
+    }
+
+    private synchronized void restart(Generation failed, Throwable failure) {
+        if (closed || current != failed) {
+            return;
+        }
+        failed.cancel();
+        current = null;
+        documents = null;
+        Duration delay = retryDelay;
+        retryDelay = delay.multipliedBy(2).compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : delay.multipliedBy(2);
+        if (failure != null) {
+            LOGGER.warnf(failure, "Unable to keep the collection %s in memory, retrying in %s", getNamespace(), delay);
+        } else {
+            LOGGER.infof("The change stream of the collection %s has been invalidated, reloading it in %s",
+                    getNamespace(), delay);
+        }
+        Uni.createFrom().voidItem().onItem().delayIt().by(delay)
+                .subscribe().with(ignored -> start());
+    }
+
+    private synchronized void ready(Generation generation, Map<BsonValue, BsonDocument> loaded) {
+        if (closed || current != generation) {
+            return;
+        }
+        retryDelay = INITIAL_RETRY_DELAY;
+        documents = loaded;
+        LOGGER.debugf("Loaded %d documents of the collection %s", loaded.size(), getNamespace());
+    }
+
+    /**
+     * A load of the collection and the change stream which follows it.
+     */
+    private final class Generation {
+
+        private final Map<BsonValue, BsonDocument> loaded = new ConcurrentHashMap<>();
+        /**
+         * The changes received while reading the collection, {@code null} once it has been read.
+         */
+        private List<ChangeStreamDocument<BsonDocument>> pending = new ArrayList<>();
+        private volatile Cancellable changeStream;
+        private volatile Cancellable scan;
+        private volatile boolean cancelled;
+
+        void start() {
+            // the operation time of a command is the point from which the change stream replays the changes
+            Uni<BsonTimestamp> operationTime = Uni.createFrom()
+                    .publisher(AdaptersToFlow.publisher(client.startSession()))
+                    .onItem().transformToUni(session -> Uni.createFrom()
+                            .publisher(AdaptersToFlow.publisher(database.runCommand(session, PING)))
+                            .onItemOrFailure().transform((ignored, failure) -> {
+                                BsonTimestamp time = session.getOperationTime();
+                                closeQuietly(session);
+                                if (failure != null) {
+                                    throw new IllegalStateException(failure);
+                                }
+                                return time;
+                            }));
+            operationTime.subscribe().with(this::watchAndScan, failure -> restart(this, failure));
+        }
+
+        /**
+         * Does not hold the monitor of the generation when calling {@link #restart(Generation, Throwable)}, as
+         * {@link CollectionCache#close()} cancels the generation while holding the monitor of the cache.
+         */
+        private void watchAndScan(BsonTimestamp operationTime) {
+            if (cancelled) {
+                return;
+            }
+            if (operationTime == null) {
+                restart(this, new IllegalStateException("The deployment does not support change streams, "
+                        + "it must be a replica set or a sharded cluster"));
+                return;
+            }
+            Multi<ChangeStreamDocument<BsonDocument>> changes = Multi.createFrom()
+                    .publisher(AdaptersToFlow.publisher(collection.watch(BsonDocument.class)
+                            .fullDocument(FullDocument.UPDATE_LOOKUP)
+                            .startAtOperationTime(operationTime)));
+            Cancellable stream = changes.subscribe().with(this::onChange,
+                    failure -> restart(this, failure),
+                    () -> restart(this, null));
+            changeStream = stream;
+            Cancellable read = Multi.createFrom().publisher(AdaptersToFlow.publisher(collection.find()))
+                    .subscribe().with(document -> loaded.put(document.get("_id"), document),
+                            failure -> restart(this, failure),
+                            this::onScanned);
+            scan = read;
+            if (cancelled) {
+                // cancelled before the subscriptions were visible to cancel()
+                stream.cancel();
+                read.cancel();
+            }
+        }
+
+        private void onChange(ChangeStreamDocument<BsonDocument> change) {
+            synchronized (this) {
+                if (pending != null) {
+                    pending.add(change);
+                    return;
+                }
+            }
+            apply(change);
+        }
+
+        private void onScanned() {
+            // the changes received while reading may be older than the documents read, applying all of them in order
+            // leads to the latest state anyway
+            while (true) {
+                List<ChangeStreamDocument<BsonDocument>> changes;
+                synchronized (this) {
+                    changes = pending;
+                    if (changes.isEmpty()) {
+                        pending = null;
+                        break;
+                    }
+                    pending = new ArrayList<>();
+                }
+                for (ChangeStreamDocument<BsonDocument> change : changes) {
+                    apply(change);
+                }
+            }
+            ready(this, loaded);
+        }
+
+        private void apply(ChangeStreamDocument<BsonDocument> change) {
+            BsonDocument key = change.getDocumentKey();
+            BsonValue id = key == null ? null : key.get("_id");
+            switch (change.getOperationType()) {
+                case INSERT:
+                case REPLACE:
+                case UPDATE:
+                    BsonDocument document = change.getFullDocument();
+                    if (document != null) {
+                        loaded.put(document.get("_id"), document);
+                    } else if (id != null) {
+                        // deleted before the lookup
+                        loaded.remove(id);
+                    }
+                    break;
+                case DELETE:
+                    if (id != null) {
+                        loaded.remove(id);
+                    }
+                    break;
+                default:
+                    // the drop and rename events are followed by an invalidate event, which completes the stream
+                    break;
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            Cancellable stream = changeStream;
+            if (stream != null) {
+                stream.cancel();
+            }
+            Cancellable read = scan;
+            if (read != null) {
+                read.cancel();
+            }
+        }
+    }
+
+    private static void closeQuietly(ClientSession session) {
+        try {
+            session.close();
+        } catch (RuntimeException e) {
+            LOGGER.debug("Unable to close the session", e);
+        }
+    }
+}
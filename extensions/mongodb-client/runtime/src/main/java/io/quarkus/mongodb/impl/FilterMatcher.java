@@ -0,0 +1,336 @@
+package io.quarkus.mongodb.impl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.types.Decimal128;
+
+/**
+ * Evaluates a query filter against documents held in memory.
+ * <p>
+ * Only the filters made of equality ({@code {field: value}}, {@code $eq}, {@code $in}) and range ({@code $gt},
+ * {@code $gte}, {@code $lt}, {@code $lte}) conditions, possibly combined with {@code $and}, are supported. The semantics
+ * follow the ones of the server: a condition on an array field matches if the array or one of its elements matches,
+ * and values of different types are never ordered.
+ */
+final class FilterMatcher {
+
+    private final Predicate<BsonDocument> predicate;
+
+    private FilterMatcher(Predicate<BsonDocument> predicate) {
+        this.predicate = predicate;
+    }
+
+    /**
+     * @return the matcher of the given filter, or {@code null} if the filter is not supported
+     */
+    static FilterMatcher of(BsonDocument filter) {
+        Predicate<BsonDocument> predicate = compile(filter);
+        return predicate == null ? null : new FilterMatcher(predicate);
+    }
+
+    /**
+     * @throws UnsupportedFilterException if the filter cannot be evaluated against this document, e.g. a path that
+     *         goes through an array
+     */
+    boolean matches(BsonDocument document) {
+        return predicate.test(document);
+    }
+
+    /**
+     * @return the value of the {@code _id} field if the filter is a simple equality on it, {@code null} otherwise
+     */
+    static BsonValue idEquality(BsonDocument filter) {
+        if (filter.size() != 1) {
+            return null;
+        }
+        BsonValue id = filter.get("_id");
+        // the numbers of different types are equal for the server but not as keys
+        if (id == null || id.isDocument() || id.isArray() || id.isRegularExpression() || id.isNull() || id.isNumber()
+                || id.isDecimal128()) {
+            return null;
+        }
+        return id;
+    }
+
+    private static Predicate<BsonDocument> compile(BsonDocument filter) {
+        List<Predicate<BsonDocument>> predicates = new ArrayList<>();
+        for (Map.Entry<String, BsonValue> entry : filter.entrySet()) {
+            String key = entry.getKey();
+            if (key.equals("$and")) {
+                if (!entry.getValue().isArray() || entry.getValue().asArray().isEmpty()) {
+                    return null;
+                }
+                for (BsonValue element : entry.getValue().asArray()) {
+                    if (!element.isDocument()) {
+                        return null;
+                    }
+                    Predicate<BsonDocument> predicate = compile(element.asDocument());
+                    if (predicate == null) {
+                        return null;
+                    }
+                    predicates.add(predicate);
+                }
+            } else if (key.startsWith("$")) {
+                return null;
+            } else {
+                Predicate<BsonDocument> predicate = compileField(key, entry.getValue());
+                if (predicate == null) {
+                    return null;
+                }
+                predicates.add(predicate);
+            }
+        }
+        return document -> {
+            for (Predicate<BsonDocument> predicate : predicates) {
+                if (!predicate.test(document)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static Predicate<BsonDocument> compileField(String path, BsonValue condition) {
+        if (condition.isRegularExpression()) {
+            return null;
+        }
+        if (!isOperatorDocument(condition)) {
+            Predicate<BsonValue> equality = value -> isEqual(value, condition);
+            return document -> test(resolve(document, path), equality);
+        }
+        List<Predicate<BsonValue>> predicates = new ArrayList<>();
+        for (Map.Entry<String, BsonValue> operator : condition.asDocument().entrySet()) {
+            BsonValue argument = operator.getValue();
+            switch (operator.getKey()) {
+                case "$eq":
+                    if (argument.isRegularExpression()) {
+                        return null;
+                    }
+                    predicates.add(value -> isEqual(value, argument));
+                    break;
+                case "$in":
+                    if (!argument.isArray()) {
+                        return null;
+                    }
+                    BsonArray values = argument.asArray();
+                    for (BsonValue value : values) {
+                        if (value.isRegularExpression()) {
+                            return null;
+                        }
+                    }
+                    predicates.add(value -> {
+                        for (BsonValue candidate : values) {
+                            if (isEqual(value, candidate)) {
+                                return true;
+                            }
+                        }
+                        return false;
+                    });
+                    break;
+                case "$gt":
+                    predicates.add(value -> compare(value, argument) > 0);
+                    break;
+                case "$gte":
+                    predicates.add(value -> compare(value, argument) >= 0);
+                    break;
+                case "$lt":
+                    predicates.add(value -> {
+                        int result = compare(value, argument);
+                        return result < 0 && result != INCOMPARABLE;
+                    });
+                    break;
+                case "$lte":
+                    predicates.add(value -> {
+                        int result = compare(value, argument);
+                        return result <= 0 && result != INCOMPARABLE;
+                    });
+                    break;
+                default:
+                    return null;
+            }
+        }
+        return document -> {
+            BsonValue value = resolve(document, path);
+            // like on the server, each condition may be satisfied by a different element of an array
+            for (Predicate<BsonValue> predicate : predicates) {
+                if (!test(value, predicate)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static boolean isOperatorDocument(BsonValue condition) {
+        if (!condition.isDocument() || condition.asDocument().isEmpty()) {
+            return false;
+        }
+        for (String key : condition.asDocument().keySet()) {
+            if (!key.startsWith("$")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the value of the field, {@code null} if it is missing
+     */
+    private static BsonValue resolve(BsonDocument document, String path) {
+        BsonValue current = document;
+        int start = 0;
+        while (true) {
+            int end = path.indexOf('.', start);
+            String segment = end < 0 ? path.substring(start) : path.substring(start, end);
+            if (current.isArray()) {
+                // the server matches the elements of the array, this is not supported
+                throw UnsupportedFilterException.INSTANCE;
+            }
+            if (!current.isDocument()) {
+                return null;
+            }
+            current = current.asDocument().get(segment);
+            if (current == null || end < 0) {
+                return current;
+            }
+            start = end + 1;
+        }
+    }
+
+    private static boolean test(BsonValue value, Predicate<BsonValue> predicate) {
+        if (predicate.test(value)) {
+            return true;
+        }
+        if (value != null && value.isArray()) {
+            for (BsonValue element : value.asArray()) {
+                if (predicate.test(element)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isEqual(BsonValue value, BsonValue expected) {
+        if (expected.isNull()) {
+            return value == null || value.isNull();
+        }
+        if (value == null) {
+            return false;
+        }
+        return isSameValue(value, expected);
+    }
+
+    /**
+     * Compares the numbers by value and the embedded documents field by field, in order.
+     */
+    private static boolean isSameValue(BsonValue value, BsonValue expected) {
+        if (value.isNumber() || value.isDecimal128()) {
+            return (expected.isNumber() || expected.isDecimal128()) && compareNumbers(value, expected) == 0;
+        }
+        if (value.isDocument() && expected.isDocument()) {
+            BsonDocument document = value.asDocument();
+            BsonDocument other = expected.asDocument();
+            if (document.size() != other.size()) {
+                return false;
+            }
+            Iterator<Map.Entry<String, BsonValue>> entries = document.entrySet().iterator();
+            for (Map.Entry<String, BsonValue> otherEntry : other.entrySet()) {
+                Map.Entry<String, BsonValue> entry = entries.next();
+                if (!entry.getKey().equals(otherEntry.getKey()) || !isSameValue(entry.getValue(), otherEntry.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (value.isArray() && expected.isArray()) {
+            BsonArray array = value.asArray();
+            BsonArray other = expected.asArray();
+            if (array.size() != other.size()) {
+                return false;
+            }
+            for (int i = 0; i < array.size(); i++) {
+                if (!isSameValue(array.get(i), other.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return value.equals(expected);
+    }
+
+    private static final int INCOMPARABLE = Integer.MIN_VALUE;
+
+    /**
+     * @return the comparison of the value with the argument, or {@link #INCOMPARABLE} if they have different types
+     */
+    private static int compare(BsonValue value, BsonValue argument) {
+        if (value == null) {
+            return INCOMPARABLE;
+        }
+        if ((value.isNumber() || value.isDecimal128()) && (argument.isNumber() || argument.isDecimal128())) {
+            return Integer.signum(compareNumbers(value, argument));
+        }
+        if (value.getBsonType() != argument.getBsonType()) {
+            return INCOMPARABLE;
+        }
+        switch (value.getBsonType()) {
+            case STRING:
+                return Integer.signum(value.asString().getValue().compareTo(argument.asString().getValue()));
+            case DATE_TIME:
+                return Long.compare(value.asDateTime().getValue(), argument.asDateTime().getValue());
+            case TIMESTAMP:
+                return Integer.signum(value.asTimestamp().compareTo(argument.asTimestamp()));
+            case OBJECT_ID:
+                return Integer.signum(value.asObjectId().getValue().compareTo(argument.asObjectId().getValue()));
+            case BOOLEAN:
+                return Boolean.compare(value.asBoolean().getValue(), argument.asBoolean().getValue());
+            default:
+                return INCOMPARABLE;
+        }
+    }
+
+    private static int compareNumbers(BsonValue value, BsonValue other) {
+        if (value.isDecimal128() || other.isDecimal128()) {
+            return decimal(value).compareTo(decimal(other));
+        }
+        if (value.isDouble() || other.isDouble()) {
+            return Double.compare(value.asNumber().doubleValue(), other.asNumber().doubleValue());
+        }
+        return Long.compare(value.asNumber().longValue(), other.asNumber().longValue());
+    }
+
+    private static BigDecimal decimal(BsonValue value) {
+        if (value.isDecimal128()) {
+            Decimal128 decimal = value.asDecimal128().getValue();
+            if (decimal.isNaN() || decimal.isInfinite()) {
+                throw UnsupportedFilterException.INSTANCE;
+            }
+            return decimal.bigDecimalValue();
+        }
+        if (value.isDouble()) {
+            return new BigDecimal(value.asDouble().getValue());
+        }
+        return BigDecimal.valueOf(value.asNumber().longValue());
+    }
+
+    /**
+     * Thrown when a filter cannot be evaluated in memory, the query is then sent to the server.
+     */
+    static final class UnsupportedFilterException extends RuntimeException {
+
+        static final UnsupportedFilterException INSTANCE = new UnsupportedFilterException();
+
+        private UnsupportedFilterException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package io.quarkus.mongodb.impl;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.bson.Document;
 import org.bson.conversions.Bson;
 
 import com.mongodb.ClientSessionOptions;
+import com.mongodb.MongoNamespace;
 import com.mongodb.client.model.changestream.ChangeStreamDocument;
 import com.mongodb.reactivestreams.client.ChangeStreamPublisher;
 import com.mongodb.reactivestreams.client.ClientSession;
@@ -22,18 +26,39 @@
 public class ReactiveMongoClientImpl implements ReactiveMongoClient {
 
     private final MongoClient client;
+    private final Map<MongoNamespace, CollectionCache> caches;
 
     public ReactiveMongoClientImpl(MongoClient client) {
+        this(client, Collections.emptyList());
+    }
+
+    /**
+     * @param cachedCollections the collections to keep in memory, see {@link CollectionCache}
+     */
+    public ReactiveMongoClientImpl(MongoClient client, List<MongoNamespace> cachedCollections) {
         this.client = client;
+        if (cachedCollections.isEmpty()) {
+            this.caches = Collections.emptyMap();
+        } else {
+            this.caches = new HashMap<>();
+            for (MongoNamespace namespace : cachedCollections) {
+                CollectionCache cache = new CollectionCache(client, namespace);
+                caches.put(namespace, cache);
+                cache.start();
+            }
+        }
     }
 
     @Override
     public ReactiveMongoDatabase getDatabase(String name) {
-        return new ReactiveMongoDatabaseImpl(client.getDatabase(name));
+        return new ReactiveMongoDatabaseImpl(client.getDatabase(name), caches);
     }
 
     @Override
     public void close() {
+        for (CollectionCache cache : caches.values()) {
+            cache.close();
+        }
         client.close();
     }
 
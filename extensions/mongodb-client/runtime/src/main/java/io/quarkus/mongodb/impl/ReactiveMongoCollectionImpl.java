@@ -53,9 +53,11 @@
 public class ReactiveMongoCollectionImpl<T> implements ReactiveMongoCollection<T> {
 
     private final MongoCollection<T> collection;
+    private final CollectionCache cache;
 
-    ReactiveMongoCollectionImpl(MongoCollection<T> collection) {
+    ReactiveMongoCollectionImpl(MongoCollection<T> collection, CollectionCache cache) {
         this.collection = collection;
+        this.cache = cache;
     }
 
     @Override
@@ -159,22 +161,36 @@ public <D> Multi<D> distinct(ClientSession clientSession, String fieldName, Bson
 
     @Override
     public Multi<T> find() {
-        return Wrappers.toMulti(collection.find());
+        return cached(null, collection.getDocumentClass(), collection.find());
     }
 
     @Override
     public <D> Multi<D> find(Class<D> clazz) {
-        return Wrappers.toMulti(collection.find(clazz));
+        return cached(null, clazz, collection.find(clazz));
     }
 
     @Override
     public Multi<T> find(Bson filter) {
-        return Wrappers.toMulti(collection.find(filter));
+        return cached(filter, collection.getDocumentClass(), collection.find(filter));
     }
 
     @Override
     public <D> Multi<D> find(Bson filter, Class<D> clazz) {
-        return Wrappers.toMulti(collection.find(filter, clazz));
+        return cached(filter, clazz, collection.find(filter, clazz));
+    }
+
+    /**
+     * Answers the query from the collection kept in memory if possible, and falls back to the server otherwise.
+     */
+    private <D> Multi<D> cached(Bson filter, Class<D> clazz, FindPublisher<D> publisher) {
+        Multi<D> fromServer = Wrappers.toMulti(publisher);
+        if (cache == null) {
+            return fromServer;
+        }
+        return Multi.createFrom().deferred(() -> {
+            List<D> documents = cache.find(filter, clazz, collection.getCodecRegistry());
+            return documents != null ? Multi.createFrom().iterable(documents) : fromServer;
+        });
     }
 
     @Override
@@ -826,11 +842,11 @@ public CodecRegistry getCodecRegistry() {
 
     @Override
     public <NewTDocument> ReactiveMongoCollection<NewTDocument> withDocumentClass(Class<NewTDocument> clazz) {
-        return new ReactiveMongoCollectionImpl<>(this.collection.withDocumentClass(clazz));
+        return new ReactiveMongoCollectionImpl<>(this.collection.withDocumentClass(clazz), cache);
     }
 
     @Override
     public ReactiveMongoCollectionImpl<T> withReadPreference(ReadPreference readPreference) {
-        return new ReactiveMongoCollectionImpl<>(this.collection.withReadPreference(readPreference));
+        return new ReactiveMongoCollectionImpl<>(this.collection.withReadPreference(readPreference), cache);
     }
 }
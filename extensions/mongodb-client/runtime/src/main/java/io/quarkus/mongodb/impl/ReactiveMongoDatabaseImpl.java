@@ -1,11 +1,13 @@
 package io.quarkus.mongodb.impl;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Flow;
 
 import org.bson.Document;
 import org.bson.conversions.Bson;
 
+import com.mongodb.MongoNamespace;
 import com.mongodb.ReadPreference;
 import com.mongodb.client.model.CreateCollectionOptions;
 import com.mongodb.client.model.CreateViewOptions;
@@ -28,9 +30,11 @@
 public class ReactiveMongoDatabaseImpl implements ReactiveMongoDatabase {
 
     private final MongoDatabase database;
+    private final Map<MongoNamespace, CollectionCache> caches;
 
-    ReactiveMongoDatabaseImpl(MongoDatabase database) {
+    ReactiveMongoDatabaseImpl(MongoDatabase database, Map<MongoNamespace, CollectionCache> caches) {
         this.database = database;
+        this.caches = caches;
     }
 
     @Override
@@ -40,12 +44,19 @@ public String getName() {
 
     @Override
     public ReactiveMongoCollection<Document> getCollection(String collectionName) {
-        return new ReactiveMongoCollectionImpl<>(database.getCollection(collectionName));
+        return new ReactiveMongoCollectionImpl<>(database.getCollection(collectionName), cache(collectionName));
     }
 
     @Override
     public <T> ReactiveMongoCollection<T> getCollection(String collectionName, Class<T> clazz) {
-        return new ReactiveMongoCollectionImpl<>(database.getCollection(collectionName, clazz));
+        return new ReactiveMongoCollectionImpl<>(database.getCollection(collectionName, clazz), cache(collectionName));
+    }
+
+    private CollectionCache cache(String collectionName) {
+        if (caches.isEmpty()) {
+            return null;
+        }
+        return caches.get(new MongoNamespace(database.getName(), collectionName));
     }
 
     @Override
@@ -185,6 +185,20 @@ public class MongoClientConfig {
     @ConfigItem
     public Optional<String> readPreference;
 
+    /**
+     * The collections kept in memory by the reactive client, as {@code database.collection}, or as {@code collection}
+     * to use the configured database.
+     * <p>
+     * Each collection is loaded at startup and kept up to date using a change stream, so the deployment must be a
+     * replica set or a sharded cluster. The {@code find} methods of the reactive collection without session and options
+     * are then answered from memory when the filter only contains equality and range conditions ({@code $eq},
+     * {@code $in}, {@code $gt}, {@code $gte}, {@code $lt}, {@code $lte} and {@code $and}). The results are eventually
+     * consistent: a write may not be visible immediately, even to the client which did it. If the change stream is
+     * interrupted, the queries are sent to the server until the collection is loaded again.
+     */
+    @ConfigItem
+    public Optional<List<String>> cachedCollections;
+
     /**
      * Credentials and authentication mechanism
      */
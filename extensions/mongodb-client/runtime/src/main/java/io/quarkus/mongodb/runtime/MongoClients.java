@@ -41,6 +41,7 @@
 import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoCredential;
 import com.mongodb.MongoException;
+import com.mongodb.MongoNamespace;
 import com.mongodb.ReadConcern;
 import com.mongodb.ReadConcernLevel;
 import com.mongodb.ReadPreference;
@@ -127,14 +128,34 @@ public MongoClient createMongoClient(String clientName) throws MongoException {
 
     public ReactiveMongoClient createReactiveMongoClient(String clientName)
             throws MongoException {
-        MongoClientSettings mongoConfiguration = createMongoConfiguration(getMatchingMongoClientConfig(clientName));
+        MongoClientConfig config = getMatchingMongoClientConfig(clientName);
+        MongoClientSettings mongoConfiguration = createMongoConfiguration(config);
         com.mongodb.reactivestreams.client.MongoClient client = com.mongodb.reactivestreams.client.MongoClients
                 .create(mongoConfiguration);
-        ReactiveMongoClientImpl reactive = new ReactiveMongoClientImpl(client);
+        ReactiveMongoClientImpl reactive = new ReactiveMongoClientImpl(client, cachedCollections(config));
         reactiveMongoClients.put(clientName, reactive);
         return reactive;
     }
 
+    private static List<MongoNamespace> cachedCollections(MongoClientConfig config) {
+        if (config.cachedCollections.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<MongoNamespace> namespaces = new ArrayList<>();
+        for (String name : config.cachedCollections.get()) {
+            int dot = name.indexOf('.');
+            if (dot > 0) {
+                namespaces.add(new MongoNamespace(name.substring(0, dot), name.substring(dot + 1)));
+            } else if (config.database.isPresent()) {
+                namespaces.add(new MongoNamespace(config.database.get(), name));
+            } else {
+                throw new IllegalArgumentException("The cached collection '" + name
+                        + "' must be prefixed by its database as no database is configured");
+            }
+        }
+        return namespaces;
+    }
+
     public MongoClientConfig getMatchingMongoClientConfig(String clientName) {
         return MongoClientBeanUtil.isDefault(clientName) ? mongodbConfig.defaultMongoClientConfig
                 : mongodbConfig.mongoClientConfigs.get(clientName);
@@ -0,0 +1,163 @@
+package io.quarkus.mongodb.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Updates;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+
+import io.quarkus.mongodb.reactive.MongoWithReplicasTestBase;
+import io.quarkus.mongodb.reactive.ReactiveMongoClient;
+import io.quarkus.mongodb.reactive.ReactiveMongoCollection;
+import io.smallrye.mutiny.Multi;
+
+class CollectionCacheTest extends MongoWithReplicasTestBase {
+
+    private static final String CONNECTION_STRING = "mongodb://localhost:27018,localhost:27019/?replicaSet=test001";
+    private static final String DATABASE = "cache";
+    private static final String COLLECTION = "people";
+
+    /**
+     * The filters of the {@code find} commands sent by the cached client.
+     */
+    private final List<BsonDocument> finds = new CopyOnWriteArrayList<>();
+
+    private ReactiveMongoClient writer;
+    private MongoClient client;
+    private CollectionCache cache;
+    private ReactiveMongoCollection<Document> people;
+
+    @BeforeEach
+    void init() {
+        writer = new ReactiveMongoClientImpl(MongoClients.create(CONNECTION_STRING));
+        writer.getDatabase(DATABASE).getCollection(COLLECTION).insertMany(List.of(
+                new Document("_id", "neo").append("age", 42).append("city", "Zion"),
+                new Document("_id", "trinity").append("age", 38).append("city", "Zion"),
+                new Document("_id", "smith").append("age", 50).append("city", "Matrix")))
+                .await().indefinitely();
+
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(CONNECTION_STRING))
+                .addCommandListener(new CommandListener() {
+                    @Override
+                    public void commandStarted(CommandStartedEvent event) {
+                        if (event.getCommandName().equals("find")) {
+                            BsonDocument filter = event.getCommand().getDocument("filter", new BsonDocument());
+                            finds.add(filter);
+                        }
+                    }
+                })
+                .build());
+        cache = new CollectionCache(client, new MongoNamespace(DATABASE, COLLECTION));
+        cache.start();
+        people = new ReactiveMongoCollectionImpl<>(client.getDatabase(DATABASE).getCollection(COLLECTION), cache);
+
+        await().atMost(Duration.ofSeconds(10)).until(cache::isLoaded);
+        // the find sent to load the collection
+        finds.clear();
+    }
+
+    @AfterEach
+    void cleanup() {
+        cache.close();
+        client.close();
+        writer.getDatabase(DATABASE).drop().await().indefinitely();
+        writer.close();
+    }
+
+    @Test
+    void testQueriesAreAnsweredFromMemory() {
+        assertThat(ids(people.find(Filters.eq("_id", "neo")))).containsExactly("neo");
+        assertThat(ids(people.find(Filters.eq("city", "Zion")))).containsExactlyInAnyOrder("neo", "trinity");
+        assertThat(ids(people.find(Filters.and(Filters.gte("age", 40), Filters.lt("age", 60)))))
+                .containsExactlyInAnyOrder("neo", "smith");
+        assertThat(ids(people.find(Filters.in("_id", "neo", "morpheus")))).containsExactly("neo");
+        assertThat(ids(people.find())).hasSize(3);
+        assertThat(finds).isEmpty();
+
+        // not supported by the cache, sent to the server
+        assertThat(ids(people.find(Filters.or(Filters.eq("_id", "neo"), Filters.eq("_id", "smith")))))
+                .containsExactlyInAnyOrder("neo", "smith");
+        assertThat(finds).hasSize(1);
+        assertThat(finds.get(0).containsKey("$or")).isTrue();
+    }
+
+    @Test
+    void testChangesAreApplied() {
+        ReactiveMongoCollection<Document> written = writer.getDatabase(DATABASE).getCollection(COLLECTION);
+
+        written.insertOne(new Document("_id", "morpheus").append("age", 45).append("city", "Zion"))
+                .await().indefinitely();
+        written.updateOne(Filters.eq("_id", "smith"), Updates.set("city", "Zion")).await().indefinitely();
+        written.deleteOne(Filters.eq("_id", "trinity")).await().indefinitely();
+
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertThat(ids(people.find(Filters.eq("city", "Zion"))))
+                        .containsExactlyInAnyOrder("neo", "smith", "morpheus"));
+        assertThat(ids(people.find(Filters.eq("_id", "smith")))).containsExactly("smith");
+        // the changes were received by the change stream, the collection was not read again
+        assertThat(cache.isLoaded()).isTrue();
+        assertThat(finds).isEmpty();
+    }
+
+    @Test
+    void testDecodingToAnotherClass() {
+        List<BsonDocument> found = people.find(Filters.eq("_id", "neo"), BsonDocument.class)
+                .collect().asList().await().indefinitely();
+        assertThat(found).hasSize(1);
+        assertThat(found.get(0).getInt32("age").getValue()).isEqualTo(42);
+        assertThat(finds).isEmpty();
+    }
+
+    @Test
+    void testDroppedCollectionIsReloaded() {
+        ReactiveMongoCollection<Document> written = writer.getDatabase(DATABASE).getCollection(COLLECTION);
+
+        // the change stream is invalidated, it cannot be resumed and the collection is read again
+        written.drop().await().indefinitely();
+        written.insertOne(new Document("_id", "morpheus").append("age", 45).append("city", "Zion"))
+                .await().indefinitely();
+
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> {
+                    assertThat(cache.isLoaded()).isTrue();
+                    assertThat(ids(people.find())).containsExactly("morpheus");
+                });
+        finds.clear();
+        assertThat(ids(people.find(Filters.eq("city", "Zion")))).containsExactly("morpheus");
+        assertThat(finds).isEmpty();
+    }
+
+    @Test
+    void testRenamedCollectionIsReloaded() {
+        writer.getDatabase(DATABASE).getCollection(COLLECTION)
+                .renameCollection(new MongoNamespace(DATABASE, "former-people")).await().indefinitely();
+
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> {
+                    assertThat(cache.isLoaded()).isTrue();
+                    assertThat(ids(people.find())).isEmpty();
+                });
+    }
+
+    private static List<Object> ids(Multi<Document> documents) {
+        return documents.map(document -> document.get("_id")).collect().asList().await().indefinitely();
+    }
+}
@@ -0,0 +1,121 @@
+package io.quarkus.mongodb.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+class FilterMatcherTest {
+
+    private static final BsonDocument DOCUMENT = BsonDocument.parse("{_id: 1, name: 'neo', age: 42, "
+            + "score: {$numberLong: '7'}, tags: ['a', 'b'], address: {city: 'Paris', zip: '75001'}, "
+            + "nothing: null, items: [{price: 3}]}");
+
+    @Test
+    void testEquality() {
+        assertThat(matches("{name: 'neo'}")).isTrue();
+        assertThat(matches("{name: 'trinity'}")).isFalse();
+        assertThat(matches("{name: {$eq: 'neo'}}")).isTrue();
+        assertThat(matches("{name: 'neo', age: 42}")).isTrue();
+        assertThat(matches("{name: 'neo', age: 41}")).isFalse();
+        assertThat(matches("{address: {city: 'Paris', zip: '75001'}}")).isTrue();
+        assertThat(matches("{address: {zip: '75001', city: 'Paris'}}")).isFalse();
+    }
+
+    @Test
+    void testNumbersAreComparedByValue() {
+        assertThat(matches("{age: {$numberLong: '42'}}")).isTrue();
+        assertThat(matches("{age: 42.0}")).isTrue();
+        assertThat(matches("{score: 7}")).isTrue();
+        assertThat(matches("{score: {$numberDecimal: '7.00'}}")).isTrue();
+        assertThat(matches("{age: '42'}")).isFalse();
+    }
+
+    @Test
+    void testNull() {
+        assertThat(matches("{nothing: null}")).isTrue();
+        assertThat(matches("{missing: null}")).isTrue();
+        assertThat(matches("{name: null}")).isFalse();
+    }
+
+    @Test
+    void testDottedPath() {
+        assertThat(matches("{'address.city': 'Paris'}")).isTrue();
+        assertThat(matches("{'address.city': 'Lyon'}")).isFalse();
+        assertThat(matches("{'address.street.number': 1}")).isFalse();
+        assertThat(matches("{'name.first': 'neo'}")).isFalse();
+    }
+
+    @Test
+    void testArrays() {
+        assertThat(matches("{tags: 'a'}")).isTrue();
+        assertThat(matches("{tags: 'c'}")).isFalse();
+        assertThat(matches("{tags: ['a', 'b']}")).isTrue();
+        assertThat(matches("{tags: {$in: ['c', 'b']}}")).isTrue();
+        assertThat(matches("{tags: {$gt: 'a'}}")).isTrue();
+        assertThatThrownBy(() -> matches("{'items.price': 3}"))
+                .isInstanceOf(FilterMatcher.UnsupportedFilterException.class);
+    }
+
+    @Test
+    void testRanges() {
+        assertThat(matches("{age: {$gt: 41}}")).isTrue();
+        assertThat(matches("{age: {$gt: 42}}")).isFalse();
+        assertThat(matches("{age: {$gte: 42}}")).isTrue();
+        assertThat(matches("{age: {$lt: 42.5}}")).isTrue();
+        assertThat(matches("{age: {$lte: 41}}")).isFalse();
+        assertThat(matches("{age: {$gt: 40, $lt: 50}}")).isTrue();
+        assertThat(matches("{age: {$gt: 40, $lt: 42}}")).isFalse();
+        assertThat(matches("{name: {$gte: 'n', $lt: 'o'}}")).isTrue();
+    }
+
+    @Test
+    void testRangesDoNotCompareDifferentTypes() {
+        assertThat(matches("{age: {$gt: 'a'}}")).isFalse();
+        assertThat(matches("{age: {$lt: 'a'}}")).isFalse();
+        assertThat(matches("{name: {$lt: 1}}")).isFalse();
+        assertThat(matches("{missing: {$lt: 1}}")).isFalse();
+        assertThat(matches("{missing: {$gte: 1}}")).isFalse();
+    }
+
+    @Test
+    void testIn() {
+        assertThat(matches("{age: {$in: [1, 42]}}")).isTrue();
+        assertThat(matches("{age: {$in: [1, 2]}}")).isFalse();
+        assertThat(matches("{missing: {$in: [1, null]}}")).isTrue();
+    }
+
+    @Test
+    void testAnd() {
+        assertThat(matches("{$and: [{name: 'neo'}, {age: {$gt: 40}}]}")).isTrue();
+        assertThat(matches("{$and: [{name: 'neo'}, {age: {$gt: 42}}]}")).isFalse();
+    }
+
+    @Test
+    void testUnsupportedFilters() {
+        assertThat(FilterMatcher.of(BsonDocument.parse("{$or: [{name: 'neo'}, {age: 1}]}"))).isNull();
+        assertThat(FilterMatcher.of(BsonDocument.parse("{name: {$ne: 'neo'}}"))).isNull();
+        assertThat(FilterMatcher.of(BsonDocument.parse("{name: {$regex: '^n'}}"))).isNull();
+        assertThat(FilterMatcher.of(BsonDocument.parse("{name: /^n/}"))).isNull();
+        assertThat(FilterMatcher.of(BsonDocument.parse("{tags: {$in: [/^a/]}}"))).isNull();
+        assertThat(FilterMatcher.of(BsonDocument.parse("{$where: 'true'}"))).isNull();
+    }
+
+    @Test
+    void testIdEquality() {
+        assertThat(FilterMatcher.idEquality(BsonDocument.parse("{_id: 'a'}"))).isNotNull();
+        assertThat(FilterMatcher.idEquality(BsonDocument.parse("{_id: {$oid: '5f1b2c3d4e5f6a7b8c9d0e1f'}}")))
+                .isNotNull();
+        // the numbers of different types are equal but have different keys
+        assertThat(FilterMatcher.idEquality(BsonDocument.parse("{_id: 1}"))).isNull();
+        assertThat(FilterMatcher.idEquality(BsonDocument.parse("{_id: {$gt: 'a'}}"))).isNull();
+        assertThat(FilterMatcher.idEquality(BsonDocument.parse("{_id: 'a', name: 'neo'}"))).isNull();
+    }
+
+    private static boolean matches(String filter) {
+        FilterMatcher matcher = FilterMatcher.of(BsonDocument.parse(filter));
+        assertThat(matcher).isNotNull();
+        return matcher.matches(DOCUMENT);
+    }
+}
@@ -22,6 +22,7 @@
 import io.quarkus.deployment.builditem.ExtensionSslNativeSupportBuildItem;
 import io.quarkus.deployment.builditem.RuntimeConfigSetupCompleteBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.oidc.SecurityEvent;
 import io.quarkus.oidc.TokenIntrospectionCache;
 import io.quarkus.oidc.UserInfoCache;
@@ -102,6 +103,12 @@ public SyntheticBeanBuildItem addDefaultCacheBean(OidcConfig config,
                 .done();
     }
 
+    @BuildStep(onlyIf = IsCacheEnabled.class)
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public MetricsFactoryConsumerBuildItem registerTokenCacheMetrics(OidcRecorder recorder) {
+        return new MetricsFactoryConsumerBuildItem(recorder.registerTokenCacheMetrics());
+    }
+
     @BuildStep
     ExtensionSslNativeSupportBuildItem enableSslInNative() {
         return new ExtensionSslNativeSupportBuildItem(Feature.OIDC);
@@ -1201,6 +1201,16 @@ public static Token fromAudience(String... audience) {
         @ConfigItem(defaultValue = "10M")
         public Duration forcedJwkRefreshInterval = Duration.ofMinutes(10);
 
+        /**
+         * Maximum number of locally verified JWT tokens whose verification result is cached.
+         * Requests which repeatedly use the same token can then skip the token signature verification.
+         * Cached results never outlive the token expiry time and are discarded when the JWK set is refreshed
+         * or when a back-channel logout request with the matching 'sub' or 'sid' claim is received.
+         * The cache is disabled by default.
+         */
+        @ConfigItem(defaultValue = "0")
+        public int verificationCacheSize = 0;
+
         /**
          * Custom HTTP header that contains a bearer token.
          * This option is valid only when the application is of type {@link ApplicationType#SERVICE}}.
@@ -1339,6 +1349,14 @@ public void setRefreshTokenTimeSkew(Duration refreshTokenTimeSkew) {
             this.refreshTokenTimeSkew = Optional.of(refreshTokenTimeSkew);
         }
 
+        public int getVerificationCacheSize() {
+            return verificationCacheSize;
+        }
+
+        public void setVerificationCacheSize(int verificationCacheSize) {
+            this.verificationCacheSize = verificationCacheSize;
+        }
+
         public boolean isAllowJwtIntrospection() {
             return allowJwtIntrospection;
         }
@@ -85,6 +85,7 @@ public void accept(MultiMap form) {
                                                 .verifyLogoutJwtToken(encodedLogoutToken);
 
                                         if (verifyLogoutTokenClaims(result)) {
+                                            tenantContext.provider.invalidateVerifiedTokens(result);
                                             resolver.getBackChannelLogoutTokens().put(oidcTenantConfig.tenantId.get(),
                                                     result);
                                             if (resolver.isSecurityEventObserved()) {
@@ -1,11 +1,11 @@
 package io.quarkus.oidc.runtime;
 
-import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.IntUnaryOperator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
 
 import io.quarkus.oidc.OidcRequestContext;
 import io.quarkus.oidc.OidcTenantConfig;
@@ -13,6 +13,7 @@
 import io.quarkus.oidc.TokenIntrospectionCache;
 import io.quarkus.oidc.UserInfo;
 import io.quarkus.oidc.UserInfoCache;
+import io.quarkus.oidc.common.runtime.OidcConstants;
 import io.quarkus.oidc.runtime.OidcConfig.TokenCache;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Handler;
@@ -27,15 +28,24 @@
  * <p>
  * In either case, if a remote request to fetch UserInfo is required then it will be the same access token
  * which has been introspected which will be used to request UserInfo.
+ * <p>
+ * The cache is split into a number of independently locked shards, each of them evicting its least recently used entry
+ * when it is full. Entries expire once the configured time to live has elapsed, or earlier if the token introspection
+ * 'exp' claim says that the token expires before.
  */
 public class DefaultTokenIntrospectionUserInfoCache implements TokenIntrospectionCache, UserInfoCache {
+    private static final Logger LOG = Logger.getLogger(DefaultTokenIntrospectionUserInfoCache.class);
     private static final Uni<TokenIntrospection> NULL_INTROSPECTION_UNI = Uni.createFrom().nullItem();
     private static final Uni<UserInfo> NULL_USERINFO_UNI = Uni.createFrom().nullItem();
+    private static final int MAX_SHARDS = 16;
+    private static final int MIN_SHARD_SIZE = 32;
 
     private TokenCache cacheConfig;
 
-    private Map<String, CacheEntry> cacheMap;
-    private AtomicInteger size = new AtomicInteger();
+    private CacheShard[] shards;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
 
     public DefaultTokenIntrospectionUserInfoCache(OidcConfig oidcConfig, Vertx vertx) {
         this.cacheConfig = oidcConfig.tokenCache;
@@ -44,7 +54,13 @@ public DefaultTokenIntrospectionUserInfoCache(OidcConfig oidcConfig, Vertx vertx
 
     private void init(Vertx vertx) {
         if (cacheConfig.maxSize > 0) {
-            cacheMap = new ConcurrentHashMap<>();
+            // Small caches are not sharded, so that the least recently used entry is always the one being evicted
+            int shardCount = Integer.highestOneBit(Math.max(1, Math.min(MAX_SHARDS, cacheConfig.maxSize / MIN_SHARD_SIZE)));
+            shards = new CacheShard[shardCount];
+            for (int i = 0; i < shardCount; i++) {
+                int shardSize = cacheConfig.maxSize / shardCount + (i < cacheConfig.maxSize % shardCount ? 1 : 0);
+                shards[i] = new CacheShard(shardSize);
+            }
             if (cacheConfig.cleanUpTimerInterval.isPresent()) {
                 vertx.setPeriodic(cacheConfig.cleanUpTimerInterval.get().toMillis(), new Handler<Long>() {
                     @Override
@@ -55,7 +71,7 @@ public void handle(Long event) {
                 });
             }
         } else {
-            cacheMap = Collections.emptyMap();
+            shards = new CacheShard[0];
         }
     }
 
@@ -63,11 +79,16 @@ public void handle(Long event) {
     public Uni<Void> addIntrospection(String token, TokenIntrospection introspection, OidcTenantConfig oidcTenantConfig,
             OidcRequestContext<Void> requestContext) {
         if (cacheConfig.maxSize > 0) {
-            CacheEntry entry = findValidCacheEntry(token);
-            if (entry != null) {
-                entry.introspection = introspection;
-            } else if (prepareSpaceForNewCacheEntry()) {
-                cacheMap.put(token, new CacheEntry(introspection));
+            long expiresAt = entryExpiryTime(introspection);
+            CacheShard shard = shardFor(token);
+            synchronized (shard) {
+                CacheEntry entry = shard.findValidEntry(token, now());
+                if (entry != null) {
+                    entry.introspection = introspection;
+                    entry.expiresAt = Math.min(entry.expiresAt, expiresAt);
+                } else {
+                    shard.put(token, new CacheEntry(introspection, expiresAt));
+                }
             }
         }
 
@@ -78,18 +99,24 @@ public Uni<Void> addIntrospection(String token, TokenIntrospection introspection
     public Uni<TokenIntrospection> getIntrospection(String token, OidcTenantConfig oidcConfig,
             OidcRequestContext<TokenIntrospection> requestContext) {
         CacheEntry entry = findValidCacheEntry(token);
-        return entry == null ? NULL_INTROSPECTION_UNI : Uni.createFrom().item(entry.introspection);
+        TokenIntrospection introspection = entry == null ? null : entry.introspection;
+        recordAccess(introspection != null);
+        return introspection == null ? NULL_INTROSPECTION_UNI : Uni.createFrom().item(introspection);
     }
 
     @Override
     public Uni<Void> addUserInfo(String token, UserInfo userInfo, OidcTenantConfig oidcTenantConfig,
             OidcRequestContext<Void> requestContext) {
         if (cacheConfig.maxSize > 0) {
-            CacheEntry entry = findValidCacheEntry(token);
-            if (entry != null) {
-                entry.userInfo = userInfo;
-            } else if (prepareSpaceForNewCacheEntry()) {
-                cacheMap.put(token, new CacheEntry(userInfo));
+            CacheShard shard = shardFor(token);
+            synchronized (shard) {
+                long now = now();
+                CacheEntry entry = shard.findValidEntry(token, now);
+                if (entry != null) {
+                    entry.userInfo = userInfo;
+                } else {
+                    shard.put(token, new CacheEntry(userInfo, now + cacheConfig.timeToLive.toMillis()));
+                }
             }
         }
 
@@ -100,87 +127,149 @@ public Uni<Void> addUserInfo(String token, UserInfo userInfo, OidcTenantConfig o
     public Uni<UserInfo> getUserInfo(String token, OidcTenantConfig oidcConfig,
             OidcRequestContext<UserInfo> requestContext) {
         CacheEntry entry = findValidCacheEntry(token);
-        return entry == null ? NULL_USERINFO_UNI : Uni.createFrom().item(entry.userInfo);
+        UserInfo userInfo = entry == null ? null : entry.userInfo;
+        recordAccess(userInfo != null);
+        return userInfo == null ? NULL_USERINFO_UNI : Uni.createFrom().item(userInfo);
     }
 
     public int getCacheSize() {
-        return cacheMap.size();
+        int size = 0;
+        for (CacheShard shard : shards) {
+            synchronized (shard) {
+                size += shard.size();
+            }
+        }
+        return size;
     }
 
     public void clearCache() {
-        cacheMap.clear();
-        size.set(0);
+        for (CacheShard shard : shards) {
+            synchronized (shard) {
+                shard.clear();
+            }
+        }
+    }
+
+    /**
+     * @return the number of lookups which found a cached token introspection or UserInfo
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return the number of lookups which did not find a cached token introspection or UserInfo
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return the number of valid entries which have been evicted because the cache was full
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
     }
 
     private void removeInvalidEntries() {
         long now = now();
-        for (Iterator<Map.Entry<String, CacheEntry>> it = cacheMap.entrySet().iterator(); it.hasNext();) {
-            Map.Entry<String, CacheEntry> next = it.next();
-            if (isEntryExpired(next.getValue(), now)) {
-                it.remove();
-                size.decrementAndGet();
+        for (CacheShard shard : shards) {
+            synchronized (shard) {
+                for (Iterator<CacheEntry> it = shard.values().iterator(); it.hasNext();) {
+                    if (it.next().isExpired(now)) {
+                        it.remove();
+                    }
+                }
             }
         }
     }
 
-    private boolean prepareSpaceForNewCacheEntry() {
-        int currentSize;
-        do {
-            currentSize = size.get();
-            if (currentSize == cacheConfig.maxSize) {
-                return false;
-            }
-        } while (!size.compareAndSet(currentSize, currentSize + 1));
-        return true;
+    private CacheEntry findValidCacheEntry(String token) {
+        if (shards.length == 0) {
+            return null;
+        }
+        CacheShard shard = shardFor(token);
+        synchronized (shard) {
+            return shard.findValidEntry(token, now());
+        }
     }
 
-    private CacheEntry findValidCacheEntry(String token) {
-        CacheEntry entry = cacheMap.get(token);
-        if (entry != null) {
-            long now = now();
-            if (isEntryExpired(entry, now)) {
-                // Entry has expired, remote introspection will be required
-                entry = null;
-                cacheMap.remove(token);
-                size.decrementAndGet();
-            }
+    private void recordAccess(boolean hit) {
+        if (shards.length == 0) {
+            return;
+        }
+        if (hit) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
         }
-        return entry;
     }
 
-    private boolean isEntryExpired(CacheEntry entry, long now) {
-        return entry.createdTime + cacheConfig.timeToLive.toMillis() < now;
+    private CacheShard shardFor(String token) {
+        int h = token.hashCode();
+        return shards[(h ^ (h >>> 16)) & (shards.length - 1)];
+    }
+
+    private long entryExpiryTime(TokenIntrospection introspection) {
+        long expiresAt = now() + cacheConfig.timeToLive.toMillis();
+        Long exp = introspection.getLong(OidcConstants.INTROSPECTION_TOKEN_EXP);
+        return exp != null ? Math.min(expiresAt, exp * 1000) : expiresAt;
     }
 
     private static long now() {
         return System.currentTimeMillis();
     }
 
-    private static class CacheEntry {
-        volatile TokenIntrospection introspection;
-        volatile UserInfo userInfo;
-        long createdTime = System.currentTimeMillis();
+    private class CacheShard extends LinkedHashMap<String, CacheEntry> {
+        private static final long serialVersionUID = 1L;
 
-        public CacheEntry(TokenIntrospection introspection) {
-            this.introspection = introspection;
+        private final int maxSize;
+
+        CacheShard(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
         }
 
-        public CacheEntry(UserInfo userInfo) {
-            this.userInfo = userInfo;
+        CacheEntry findValidEntry(String token, long now) {
+            CacheEntry entry = get(token);
+            if (entry != null && entry.isExpired(now)) {
+                // Entry has expired, remote introspection will be required
+                remove(token);
+                entry = null;
+            }
+            return entry;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+            if (size() > maxSize) {
+                if (!eldest.getValue().isExpired(now())) {
+                    evictionCount.increment();
+                    LOG.debug("Token cache is full, the least recently used entry has been evicted");
+                }
+                return true;
+            }
+            return false;
         }
     }
 
-    private static class IncrementOperator implements IntUnaryOperator {
-        int maxSize;
+    private static class CacheEntry {
+        volatile TokenIntrospection introspection;
+        volatile UserInfo userInfo;
+        volatile long expiresAt;
 
-        IncrementOperator(int maxSize) {
-            this.maxSize = maxSize;
+        public CacheEntry(TokenIntrospection introspection, long expiresAt) {
+            this.introspection = introspection;
+            this.expiresAt = expiresAt;
         }
 
-        @Override
-        public int applyAsInt(int n) {
-            return n < maxSize ? n + 1 : n;
+        public CacheEntry(UserInfo userInfo, long expiresAt) {
+            this.userInfo = userInfo;
+            this.expiresAt = expiresAt;
         }
 
+        boolean isExpired(long now) {
+            return expiresAt < now;
+        }
     }
 }
@@ -447,8 +447,15 @@ private Uni<TokenVerificationResult> introspectTokenUni(TenantConfigContext reso
         if (tokenIntrospectionUni == null) {
             tokenIntrospectionUni = newTokenIntrospectionUni(resolvedContext, token);
         } else {
+            // The introspection request is only prepared on a cache miss, concurrent misses for the same token
+            // are coalesced by the provider
             tokenIntrospectionUni = tokenIntrospectionUni.onItem().ifNull()
-                    .switchTo(newTokenIntrospectionUni(resolvedContext, token));
+                    .switchTo(new Supplier<Uni<? extends TokenIntrospection>>() {
+                        @Override
+                        public Uni<? extends TokenIntrospection> get() {
+                            return newTokenIntrospectionUni(resolvedContext, token);
+                        }
+                    });
         }
         return tokenIntrospectionUni.onItem().transform(t -> new TokenVerificationResult(null, t));
     }
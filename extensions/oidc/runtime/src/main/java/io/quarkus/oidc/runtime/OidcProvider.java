@@ -5,8 +5,10 @@
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.eclipse.microprofile.jwt.Claims;
 import org.jboss.logging.Logger;
@@ -59,6 +61,8 @@ public class OidcProvider implements Closeable {
     final String[] audience;
     final Map<String, String> requiredClaims;
     final Key tokenDecryptionKey;
+    final VerifiedTokenCache verifiedTokenCache;
+    final Map<String, Uni<TokenIntrospection>> inflightIntrospections = new ConcurrentHashMap<>();
 
     public OidcProvider(OidcProviderClient client, OidcTenantConfig oidcConfig, JsonWebKeySet jwks, Key tokenDecryptionKey) {
         this.client = client;
@@ -70,6 +74,7 @@ public OidcProvider(OidcProviderClient client, OidcTenantConfig oidcConfig, Json
         this.audience = checkAudienceProp();
         this.requiredClaims = checkRequiredClaimsProp();
         this.tokenDecryptionKey = tokenDecryptionKey;
+        this.verifiedTokenCache = createVerifiedTokenCache();
     }
 
     public OidcProvider(String publicKeyEnc, OidcTenantConfig oidcConfig, Key tokenDecryptionKey) {
@@ -80,6 +85,14 @@ public OidcProvider(String publicKeyEnc, OidcTenantConfig oidcConfig, Key tokenD
         this.audience = checkAudienceProp();
         this.requiredClaims = checkRequiredClaimsProp();
         this.tokenDecryptionKey = tokenDecryptionKey;
+        this.verifiedTokenCache = createVerifiedTokenCache();
+    }
+
+    private VerifiedTokenCache createVerifiedTokenCache() {
+        if (oidcConfig == null || oidcConfig.token.verificationCacheSize <= 0) {
+            return null;
+        }
+        return new VerifiedTokenCache(oidcConfig.token.verificationCacheSize, oidcConfig.token.lifespanGrace.orElse(0));
     }
 
     private String checkIssuerProp() {
@@ -107,7 +120,31 @@ public TokenVerificationResult verifySelfSignedJwtToken(String token) throws Inv
     }
 
     public TokenVerificationResult verifyJwtToken(String token) throws InvalidJwtException {
-        return verifyJwtTokenInternal(token, ASYMMETRIC_ALGORITHM_CONSTRAINTS, asymmetricKeyResolver, true);
+        if (verifiedTokenCache != null) {
+            TokenVerificationResult cachedResult = verifiedTokenCache.get(token);
+            if (cachedResult != null) {
+                // The signature, issuer, audience and the required claims have already been verified,
+                // the cache entry does not outlive the token expiry but the token age must still be checked
+                verifyTokenAge(cachedResult.localVerificationResult.getLong(Claims.iat.name()));
+                return cachedResult;
+            }
+        }
+        TokenVerificationResult result = verifyJwtTokenInternal(token, ASYMMETRIC_ALGORITHM_CONSTRAINTS,
+                asymmetricKeyResolver, true);
+        if (verifiedTokenCache != null) {
+            verifiedTokenCache.add(token, result);
+        }
+        return result;
+    }
+
+    /**
+     * Removes the cached verification results of the tokens matching the 'sub' or 'sid' claims of the given
+     * back-channel logout token.
+     */
+    void invalidateVerifiedTokens(TokenVerificationResult logoutTokenResult) {
+        if (verifiedTokenCache != null) {
+            verifiedTokenCache.invalidate(logoutTokenResult.localVerificationResult);
+        }
     }
 
     public TokenVerificationResult verifyLogoutJwtToken(String token) throws InvalidJwtException {
@@ -217,6 +254,30 @@ public Uni<TokenIntrospection> introspectToken(String token) {
                     oidcConfig.clientId.get());
             throw new AuthenticationFailedException();
         }
+        // Concurrent requests with the same token share a single introspection request, the request is only registered
+        // once subscribed to and removed once it terminates, so that a Uni which is never subscribed to leaves no entry
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends TokenIntrospection>>() {
+
+            @Override
+            public Uni<? extends TokenIntrospection> get() {
+                return inflightIntrospections.computeIfAbsent(token, new Function<String, Uni<TokenIntrospection>>() {
+
+                    @Override
+                    public Uni<TokenIntrospection> apply(String t) {
+                        return newTokenIntrospectionUni(t).onTermination().invoke(new Runnable() {
+
+                            @Override
+                            public void run() {
+                                inflightIntrospections.remove(t);
+                            }
+                        }).memoize().indefinitely();
+                    }
+                });
+            }
+        });
+    }
+
+    private Uni<TokenIntrospection> newTokenIntrospectionUni(String token) {
         return client.introspectToken(token).onItemOrFailure()
                 .transform(new BiFunction<TokenIntrospection, Throwable, TokenIntrospection>() {
 
@@ -364,6 +425,10 @@ public Uni<Void> refresh() {
                     @Override
                     public Uni<? extends Void> apply(JsonWebKeySet t) {
                         jwks = t;
+                        if (verifiedTokenCache != null) {
+                            // Tokens verified with the keys which may have been rotated out must be verified again
+                            verifiedTokenCache.clear();
+                        }
                         return Uni.createFrom().voidItem();
                     }
 
@@ -8,6 +8,7 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -29,6 +30,7 @@
 import io.quarkus.runtime.TlsConfig;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.smallrye.jwt.algorithm.KeyEncryptionAlgorithm;
 import io.smallrye.jwt.util.KeyUtils;
 import io.smallrye.mutiny.Uni;
@@ -54,6 +56,28 @@ public DefaultTokenIntrospectionUserInfoCache get() {
         };
     }
 
+    public Consumer<MetricsFactory> registerTokenCacheMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                DefaultTokenIntrospectionUserInfoCache cache = Arc.container()
+                        .instance(DefaultTokenIntrospectionUserInfoCache.class).get();
+                metricsFactory.builder("oidc.token.cache.hits")
+                        .description("Number of lookups which found a cached token introspection or UserInfo.")
+                        .buildCounter(cache::getHitCount);
+                metricsFactory.builder("oidc.token.cache.misses")
+                        .description("Number of lookups which did not find a cached token introspection or UserInfo.")
+                        .buildCounter(cache::getMissCount);
+                metricsFactory.builder("oidc.token.cache.evictions")
+                        .description("Number of valid entries evicted because the token cache was full.")
+                        .buildCounter(cache::getEvictionCount);
+                metricsFactory.builder("oidc.token.cache.size")
+                        .description("Number of entries in the token cache.")
+                        .buildGauge(cache::getCacheSize);
+            }
+        };
+    }
+
     public Supplier<TenantConfigBean> setup(OidcConfig config, Supplier<Vertx> vertx, TlsConfig tlsConfig) {
         final Vertx vertxValue = vertx.get();
 
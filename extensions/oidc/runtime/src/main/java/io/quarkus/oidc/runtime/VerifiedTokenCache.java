@@ -0,0 +1,121 @@
+package io.quarkus.oidc.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.jwt.Claims;
+
+import io.quarkus.oidc.OIDCException;
+import io.quarkus.oidc.common.runtime.OidcConstants;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Bounded cache of the locally verified JWT tokens.
+ * <p>
+ * Entries are keyed on the SHA-256 hash of the token, so the tokens themselves are not retained,
+ * and never outlive the token expiry time. The least recently used entry is evicted when the cache is full.
+ */
+final class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final long lifespanGraceMillis;
+    private final Map<String, CacheEntry> cacheMap;
+
+    VerifiedTokenCache(int maxSize, int lifespanGrace) {
+        this.maxSize = maxSize;
+        this.lifespanGraceMillis = lifespanGrace * 1000L;
+        this.cacheMap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > VerifiedTokenCache.this.maxSize;
+            }
+        };
+    }
+
+    TokenVerificationResult get(String token) {
+        String key = hash(token);
+        synchronized (cacheMap) {
+            CacheEntry entry = cacheMap.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt < now()) {
+                cacheMap.remove(key);
+                return null;
+            }
+            return entry.result;
+        }
+    }
+
+    void add(String token, TokenVerificationResult result) {
+        Long exp = result.localVerificationResult.getLong(Claims.exp.name());
+        if (exp == null) {
+            // only the tokens whose lifetime is known can be cached
+            return;
+        }
+        CacheEntry entry = new CacheEntry(result, exp * 1000 + lifespanGraceMillis);
+        String key = hash(token);
+        synchronized (cacheMap) {
+            cacheMap.put(key, entry);
+        }
+    }
+
+    /**
+     * Removes the entries whose subject or session id matches the given back-channel logout token claims.
+     */
+    void invalidate(JsonObject logoutToken) {
+        String sub = logoutToken.getString(Claims.sub.name());
+        String sid = logoutToken.getString(OidcConstants.BACK_CHANNEL_LOGOUT_SID_CLAIM);
+        if (sub == null && sid == null) {
+            return;
+        }
+        synchronized (cacheMap) {
+            for (Iterator<CacheEntry> it = cacheMap.values().iterator(); it.hasNext();) {
+                JsonObject claims = it.next().result.localVerificationResult;
+                if ((sub != null && sub.equals(claims.getString(Claims.sub.name())))
+                        || (sid != null && sid.equals(claims.getString(OidcConstants.BACK_CHANNEL_LOGOUT_SID_CLAIM)))) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    void clear() {
+        synchronized (cacheMap) {
+            cacheMap.clear();
+        }
+    }
+
+    int size() {
+        synchronized (cacheMap) {
+            return cacheMap.size();
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(OidcUtils.getSha256Digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new OIDCException(ex);
+        }
+    }
+
+    private static long now() {
+        return System.currentTimeMillis();
+    }
+
+    private static class CacheEntry {
+        final TokenVerificationResult result;
+        final long expiresAt;
+
+        CacheEntry(TokenVerificationResult result, long expiresAt) {
+            this.result = result;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package io.quarkus.oidc.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.oidc.TokenIntrospection;
+import io.quarkus.oidc.UserInfo;
+import io.vertx.core.json.JsonObject;
+
+public class DefaultTokenIntrospectionUserInfoCacheTest {
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        DefaultTokenIntrospectionUserInfoCache cache = createCache(2, Duration.ofMinutes(3));
+
+        cache.addIntrospection("1", introspection(null), null, null).await().indefinitely();
+        cache.addIntrospection("2", introspection(null), null, null).await().indefinitely();
+        assertNotNull(getIntrospection(cache, "1"));
+        cache.addIntrospection("3", introspection(null), null, null).await().indefinitely();
+
+        assertEquals(2, cache.getCacheSize());
+        assertEquals(1, cache.getEvictionCount());
+        assertNull(getIntrospection(cache, "2"));
+        assertNotNull(getIntrospection(cache, "1"));
+        assertNotNull(getIntrospection(cache, "3"));
+        assertEquals(3, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testShardedCacheKeepsMaxSize() {
+        DefaultTokenIntrospectionUserInfoCache cache = createCache(1000, Duration.ofMinutes(3));
+        for (int i = 0; i < 5000; i++) {
+            cache.addIntrospection("token" + i, introspection(null), null, null).await().indefinitely();
+        }
+        assertEquals(1000, cache.getCacheSize());
+        assertNotNull(getIntrospection(cache, "token4999"));
+
+        cache.clearCache();
+        assertEquals(0, cache.getCacheSize());
+    }
+
+    @Test
+    public void testEntryExpiresWithToken() {
+        DefaultTokenIntrospectionUserInfoCache cache = createCache(10, Duration.ofMinutes(3));
+        long now = System.currentTimeMillis() / 1000;
+
+        cache.addIntrospection("expired", introspection(now - 1), null, null).await().indefinitely();
+        cache.addIntrospection("valid", introspection(now + 60), null, null).await().indefinitely();
+
+        assertNull(getIntrospection(cache, "expired"));
+        assertNotNull(getIntrospection(cache, "valid"));
+        assertEquals(1, cache.getCacheSize());
+    }
+
+    @Test
+    public void testEntryExpiresWithTimeToLive() {
+        DefaultTokenIntrospectionUserInfoCache cache = createCache(10, Duration.ofMillis(-1));
+
+        cache.addIntrospection("token", introspection(System.currentTimeMillis() / 1000 + 60), null, null)
+                .await().indefinitely();
+        assertNull(getIntrospection(cache, "token"));
+    }
+
+    @Test
+    public void testIntrospectionAndUserInfoShareEntry() {
+        DefaultTokenIntrospectionUserInfoCache cache = createCache(10, Duration.ofMinutes(3));
+
+        cache.addUserInfo("token", new UserInfo("{\"sub\":\"alice\"}"), null, null).await().indefinitely();
+        assertNull(getIntrospection(cache, "token"));
+        cache.addIntrospection("token", introspection(null), null, null).await().indefinitely();
+
+        assertEquals(1, cache.getCacheSize());
+        assertNotNull(getIntrospection(cache, "token"));
+        assertEquals("alice", cache.getUserInfo("token", null, null).await().indefinitely().getString("sub"));
+    }
+
+    private static TokenIntrospection getIntrospection(DefaultTokenIntrospectionUserInfoCache cache, String token) {
+        return cache.getIntrospection(token, null, null).await().indefinitely();
+    }
+
+    private static TokenIntrospection introspection(Long exp) {
+        JsonObject json = new JsonObject().put("active", true);
+        if (exp != null) {
+            json.put("exp", exp);
+        }
+        return new TokenIntrospection(json.encode());
+    }
+
+    private static DefaultTokenIntrospectionUserInfoCache createCache(int maxSize, Duration timeToLive) {
+        OidcConfig config = new OidcConfig();
+        config.tokenCache.maxSize = maxSize;
+        config.tokenCache.timeToLive = timeToLive;
+        return new DefaultTokenIntrospectionUserInfoCache(config, null);
+    }
+}
@@ -0,0 +1,105 @@
+package io.quarkus.oidc.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.security.KeyPair;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.oidc.OidcTenantConfig;
+import io.smallrye.jwt.build.Jwt;
+import io.smallrye.jwt.util.KeyUtils;
+import io.vertx.core.json.JsonObject;
+
+public class VerifiedTokenCacheTest {
+
+    @Test
+    public void testExpiredEntryIsRemoved() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, 0);
+        long now = System.currentTimeMillis() / 1000;
+
+        cache.add("valid", result(new JsonObject().put("exp", now + 60)));
+        cache.add("expired", result(new JsonObject().put("exp", now - 60)));
+        cache.add("noexp", result(new JsonObject()));
+
+        assertEquals(2, cache.size());
+        assertEquals(now + 60, cache.get("valid").localVerificationResult.getLong("exp"));
+        assertNull(cache.get("expired"));
+        assertNull(cache.get("noexp"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testLifespanGrace() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, 120);
+        TokenVerificationResult result = result(new JsonObject().put("exp", System.currentTimeMillis() / 1000 - 60));
+        cache.add("token", result);
+        assertSame(result, cache.get("token"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, 0);
+        long exp = System.currentTimeMillis() / 1000 + 60;
+
+        cache.add("1", result(new JsonObject().put("exp", exp)));
+        cache.add("2", result(new JsonObject().put("exp", exp)));
+        cache.get("1");
+        cache.add("3", result(new JsonObject().put("exp", exp)));
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get("2"));
+        assertEquals(exp, cache.get("1").localVerificationResult.getLong("exp"));
+        assertEquals(exp, cache.get("3").localVerificationResult.getLong("exp"));
+    }
+
+    @Test
+    public void testInvalidate() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, 0);
+        long exp = System.currentTimeMillis() / 1000 + 60;
+
+        cache.add("1", result(new JsonObject().put("exp", exp).put("sub", "alice").put("sid", "session1")));
+        cache.add("2", result(new JsonObject().put("exp", exp).put("sub", "alice").put("sid", "session2")));
+        cache.add("3", result(new JsonObject().put("exp", exp).put("sub", "bob").put("sid", "session3")));
+
+        cache.invalidate(new JsonObject().put("sid", "session2"));
+        assertEquals(2, cache.size());
+        assertNull(cache.get("2"));
+
+        cache.invalidate(new JsonObject().put("sub", "alice"));
+        assertEquals(1, cache.size());
+        assertNull(cache.get("1"));
+
+        cache.invalidate(new JsonObject());
+        assertEquals(1, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testProviderUsesCache() throws Exception {
+        KeyPair keyPair = KeyUtils.generateKeyPair(2048);
+        OidcTenantConfig config = new OidcTenantConfig();
+        config.token.setVerificationCacheSize(10);
+        OidcProvider provider = new OidcProvider(
+                Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()), config, null);
+
+        String token = Jwt.subject("alice").claim("sid", "session1").jws().keyId("1").sign(keyPair.getPrivate());
+
+        TokenVerificationResult result = provider.verifyJwtToken(token);
+        assertEquals("alice", result.localVerificationResult.getString("sub"));
+        assertSame(result, provider.verifyJwtToken(token));
+
+        provider.invalidateVerifiedTokens(result(new JsonObject().put("sid", "session1")));
+        assertNotSame(result, provider.verifyJwtToken(token));
+    }
+
+    private static TokenVerificationResult result(JsonObject json) {
+        return new TokenVerificationResult(json, null);
+    }
+}
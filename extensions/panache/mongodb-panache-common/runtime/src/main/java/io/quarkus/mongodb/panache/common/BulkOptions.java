@@ -0,0 +1,80 @@
+package io.quarkus.mongodb.panache.common;
+
+/**
+ * Options of the bulk operations ({@code bulkPersist}, {@code bulkUpdate} and {@code bulkDelete}).
+ * <p>
+ * The entities are sent to the database in batches of {@link #batchSize(int)} writes, each batch being a single
+ * {@code bulkWrite} command. The entities are read from their source one batch at a time, so only a batch is kept in
+ * memory at once.
+ */
+public class BulkOptions {
+
+    /**
+     * The default number of writes sent in a single command.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private boolean ordered = true;
+    private int concurrency = 1;
+
+    /**
+     * Sets the number of writes sent in a single command, 1000 by default.
+     *
+     * @param batchSize the number of writes per command, must be positive
+     * @return this
+     */
+    public BulkOptions batchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Sets whether the writes are executed in order, {@code true} by default.
+     * <p>
+     * An ordered bulk operation stops at the first failed write. An unordered one lets the database execute the writes
+     * of a batch in any order, and continue after a failure, which is faster. In both cases, no batch is sent after a
+     * failed one.
+     *
+     * @param ordered whether the writes are executed in order
+     * @return this
+     */
+    public BulkOptions ordered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of batches sent at the same time by the reactive operations, 1 by default.
+     * <p>
+     * Each batch in progress uses a connection of the pool, so this value must stay well below the maximum size of the
+     * pool, to leave connections for the rest of the application. The entities are only requested from the source
+     * when a batch can be sent. This option is ignored by ordered bulk operations, whose batches are sent one after the
+     * other, and by the imperative operations.
+     *
+     * @param concurrency the maximum number of batches in progress, must be positive
+     * @return this
+     */
+    public BulkOptions concurrency(int concurrency) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("The concurrency must be positive");
+        }
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+}
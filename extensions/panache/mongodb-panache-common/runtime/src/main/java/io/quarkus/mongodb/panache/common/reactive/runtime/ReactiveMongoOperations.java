@@ -11,6 +11,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -24,12 +25,15 @@
 import org.jboss.logging.Logger;
 
 import com.mongodb.ReadPreference;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteOneModel;
 import com.mongodb.client.model.InsertOneModel;
 import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ReplaceOptions;
 import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 
+import io.quarkus.mongodb.panache.common.BulkOptions;
 import io.quarkus.mongodb.panache.common.MongoEntity;
 import io.quarkus.mongodb.panache.common.binder.NativeQueryBinder;
 import io.quarkus.mongodb.panache.common.binder.PanacheQlQueryBinder;
@@ -216,6 +220,19 @@ public Uni<Void> delete(Object entity) {
         return collection.deleteOne(query).onItem().ignore().andContinueWithNull();
     }
 
+    public Uni<Void> bulkPersist(Multi<?> entities, BulkOptions options) {
+        return bulkWrite(entities, options, (collection, entity) -> new InsertOneModel(entity));
+    }
+
+    public Uni<Void> bulkUpdate(Multi<?> entities, BulkOptions options) {
+        return bulkWrite(entities, options,
+                (collection, entity) -> new ReplaceOneModel(idQuery(collection, entity), entity));
+    }
+
+    public Uni<Void> bulkDelete(Multi<?> entities, BulkOptions options) {
+        return bulkWrite(entities, options, (collection, entity) -> new DeleteOneModel(idQuery(collection, entity)));
+    }
+
     public ReactiveMongoCollection mongoCollection(Class<?> entityClass) {
         MongoEntity mongoEntity = entityClass.getAnnotation(MongoEntity.class);
         ReactiveMongoDatabase database = mongoDatabase(mongoEntity);
@@ -312,6 +329,33 @@ private Uni<Void> persistOrUpdate(ReactiveMongoCollection collection, List<Objec
         return collection.bulkWrite(bulk).onItem().ignore().andContinueWithNull();
     }
 
+    private Uni<Void> bulkWrite(Multi<?> entities, BulkOptions options,
+            BiFunction<ReactiveMongoCollection, Object, WriteModel> toWriteModel) {
+        BulkWriteOptions bulkWriteOptions = new BulkWriteOptions().ordered(options.isOrdered());
+        // the batches of an ordered operation must not overlap, and the number of batches in progress is limited so
+        // that the entities are requested from the source as fast as the database accepts them
+        int concurrency = options.isOrdered() ? 1 : options.getConcurrency();
+        return entities.group().intoLists().of(options.getBatchSize())
+                .onItem().transformToUni(batch -> {
+                    // get the first entity to be able to retrieve the collection with it
+                    ReactiveMongoCollection collection = mongoCollection(batch.get(0));
+                    List<WriteModel> writes = new ArrayList<>(batch.size());
+                    for (Object entity : batch) {
+                        writes.add(toWriteModel.apply(collection, entity));
+                    }
+                    return collection.bulkWrite(writes, bulkWriteOptions);
+                }).merge(concurrency)
+                .onItem().ignoreAsUni();
+    }
+
+    private BsonDocument idQuery(ReactiveMongoCollection collection, Object entity) {
+        BsonValue id = getBsonDocument(collection, entity).get(ID);
+        if (id == null) {
+            throw new IllegalArgumentException("The entity " + entity + " must have an id to be updated or deleted");
+        }
+        return new BsonDocument().append(ID, id);
+    }
+
     private BsonDocument getBsonDocument(ReactiveMongoCollection collection, Object entity) {
         BsonDocument document = new BsonDocument();
         Codec codec = collection.getCodecRegistry().get(entity.getClass());
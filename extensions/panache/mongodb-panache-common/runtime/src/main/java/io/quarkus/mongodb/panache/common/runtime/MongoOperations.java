@@ -6,6 +6,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -29,6 +30,8 @@
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteOneModel;
 import com.mongodb.client.model.InsertOneModel;
 import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ReplaceOptions;
@@ -37,6 +40,7 @@
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.mongodb.panache.common.BulkOptions;
 import io.quarkus.mongodb.panache.common.MongoEntity;
 import io.quarkus.mongodb.panache.common.binder.NativeQueryBinder;
 import io.quarkus.mongodb.panache.common.binder.PanacheQlQueryBinder;
@@ -188,6 +192,19 @@ public void delete(Object entity) {
         }
     }
 
+    public void bulkPersist(Iterable<?> entities, BulkOptions options) {
+        bulkWrite(entities, options, (collection, entity) -> new InsertOneModel(entity));
+    }
+
+    public void bulkUpdate(Iterable<?> entities, BulkOptions options) {
+        bulkWrite(entities, options,
+                (collection, entity) -> new ReplaceOneModel(idQuery(collection, entity), entity));
+    }
+
+    public void bulkDelete(Iterable<?> entities, BulkOptions options) {
+        bulkWrite(entities, options, (collection, entity) -> new DeleteOneModel(idQuery(collection, entity)));
+    }
+
     public MongoCollection mongoCollection(Class<?> entityClass) {
         MongoEntity mongoEntity = entityClass.getAnnotation(MongoEntity.class);
         MongoDatabase database = mongoDatabase(mongoEntity);
@@ -322,6 +339,48 @@ private void persistOrUpdate(List<Object> entities) {
         }
     }
 
+    private void bulkWrite(Iterable<?> entities, BulkOptions options,
+            BiFunction<MongoCollection, Object, WriteModel> toWriteModel) {
+        MongoCollection collection = null;
+        ClientSession session = null;
+        BulkWriteOptions bulkWriteOptions = new BulkWriteOptions()
+                .ordered(options.isOrdered());
+        // the entities are consumed one batch at a time, so the iterable can be backed by a cursor or a lazy source
+        List<WriteModel> batch = new ArrayList<>(Math.min(options.getBatchSize(), 1024));
+        for (Object entity : entities) {
+            if (collection == null) {
+                // get the first entity to be able to retrieve the collection with it
+                collection = mongoCollection(entity);
+                session = getSession(entity);
+            }
+            batch.add(toWriteModel.apply(collection, entity));
+            if (batch.size() == options.getBatchSize()) {
+                bulkWrite(collection, session, batch, bulkWriteOptions);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            bulkWrite(collection, session, batch, bulkWriteOptions);
+        }
+    }
+
+    private void bulkWrite(MongoCollection collection, ClientSession session, List<WriteModel> batch,
+            BulkWriteOptions bulkWriteOptions) {
+        if (session == null) {
+            collection.bulkWrite(batch, bulkWriteOptions);
+        } else {
+            collection.bulkWrite(session, batch, bulkWriteOptions);
+        }
+    }
+
+    private BsonDocument idQuery(MongoCollection collection, Object entity) {
+        BsonValue id = getBsonDocument(collection, entity).get(ID);
+        if (id == null) {
+            throw new IllegalArgumentException("The entity " + entity + " must have an id to be updated or deleted");
+        }
+        return new BsonDocument().append(ID, id);
+    }
+
     private BsonDocument getBsonDocument(MongoCollection collection, Object entity) {
         BsonDocument document = new BsonDocument();
         Codec codec = collection.getCodecRegistry().get(entity.getClass());
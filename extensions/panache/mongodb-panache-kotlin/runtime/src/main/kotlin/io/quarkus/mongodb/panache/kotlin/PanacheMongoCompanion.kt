@@ -2,6 +2,7 @@
 
 import com.mongodb.client.MongoCollection
 import com.mongodb.client.MongoDatabase
+import io.quarkus.mongodb.panache.common.BulkOptions
 import io.quarkus.mongodb.panache.kotlin.runtime.KotlinMongoOperations.Companion.INSTANCE
 import io.quarkus.panache.common.Parameters
 import io.quarkus.panache.common.Sort
@@ -655,6 +656,58 @@ fun persistOrUpdate(entities: Stream<Entity>) = INSTANCE.persistOrUpdate(entitie
     fun persistOrUpdate(firstEntity: Entity, vararg entities: Entity) =
         INSTANCE.persistOrUpdate(firstEntity, *entities)
 
+    /**
+     * Insert all given entities, using bulk writes of [BulkOptions.DEFAULT_BATCH_SIZE] entities.
+     *
+     * @param entities the entities to insert
+     */
+    fun bulkPersist(entities: Iterable<Entity>) = INSTANCE.bulkPersist(entities, BulkOptions())
+
+    /**
+     * Insert all given entities, using bulk writes. The iterable is consumed one batch at a time.
+     *
+     * @param entities the entities to insert
+     * @param options the batch size and mode of the bulk writes
+     */
+    fun bulkPersist(entities: Iterable<Entity>, options: BulkOptions) =
+        INSTANCE.bulkPersist(entities, options)
+
+    /**
+     * Update all given entities, matched by their ID, using bulk writes of
+     * [BulkOptions.DEFAULT_BATCH_SIZE] entities.
+     *
+     * @param entities the entities to update
+     */
+    fun bulkUpdate(entities: Iterable<Entity>) = INSTANCE.bulkUpdate(entities, BulkOptions())
+
+    /**
+     * Update all given entities, matched by their ID, using bulk writes. The iterable is consumed
+     * one batch at a time.
+     *
+     * @param entities the entities to update
+     * @param options the batch size and mode of the bulk writes
+     */
+    fun bulkUpdate(entities: Iterable<Entity>, options: BulkOptions) =
+        INSTANCE.bulkUpdate(entities, options)
+
+    /**
+     * Delete all given entities, matched by their ID, using bulk writes of
+     * [BulkOptions.DEFAULT_BATCH_SIZE] entities.
+     *
+     * @param entities the entities to delete
+     */
+    fun bulkDelete(entities: Iterable<Entity>) = INSTANCE.bulkDelete(entities, BulkOptions())
+
+    /**
+     * Delete all given entities, matched by their ID, using bulk writes. The iterable is consumed
+     * one batch at a time.
+     *
+     * @param entities the entities to delete
+     * @param options the batch size and mode of the bulk writes
+     */
+    fun bulkDelete(entities: Iterable<Entity>, options: BulkOptions) =
+        INSTANCE.bulkDelete(entities, options)
+
     /**
      * Update all entities of this type using the given update document with optional indexed
      * parameters. The returned [io.quarkus.mongodb.panache.common.PanacheUpdate] object will allow
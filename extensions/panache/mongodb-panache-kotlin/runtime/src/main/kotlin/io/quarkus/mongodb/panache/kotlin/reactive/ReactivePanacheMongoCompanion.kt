@@ -1,5 +1,6 @@
 package io.quarkus.mongodb.panache.kotlin.reactive
 
+import io.quarkus.mongodb.panache.common.BulkOptions
 import io.quarkus.mongodb.panache.kotlin.reactive.runtime.KotlinReactiveMongoOperations.Companion.INSTANCE
 import io.quarkus.mongodb.reactive.ReactiveMongoCollection
 import io.quarkus.mongodb.reactive.ReactiveMongoDatabase
@@ -740,6 +741,62 @@ fun persistOrUpdate(entities: Stream<Entity>): Uni<Void> = INSTANCE.persistOrUpd
     fun persistOrUpdate(firstEntity: Entity, vararg entities: Entity): Uni<Void> =
         INSTANCE.persistOrUpdate(firstEntity, *entities)
 
+    /**
+     * Insert all given entities, using bulk writes of [BulkOptions.DEFAULT_BATCH_SIZE] entities.
+     *
+     * @param entities the entities to insert
+     */
+    fun bulkPersist(entities: Multi<Entity>): Uni<Void> =
+        INSTANCE.bulkPersist(entities, BulkOptions())
+
+    /**
+     * Insert all given entities, using bulk writes. The entities are requested from the stream one
+     * batch at a time.
+     *
+     * @param entities the entities to insert
+     * @param options the batch size and mode of the bulk writes
+     */
+    fun bulkPersist(entities: Multi<Entity>, options: BulkOptions): Uni<Void> =
+        INSTANCE.bulkPersist(entities, options)
+
+    /**
+     * Update all given entities, matched by their ID, using bulk writes of
+     * [BulkOptions.DEFAULT_BATCH_SIZE] entities.
+     *
+     * @param entities the entities to update
+     */
+    fun bulkUpdate(entities: Multi<Entity>): Uni<Void> =
+        INSTANCE.bulkUpdate(entities, BulkOptions())
+
+    /**
+     * Update all given entities, matched by their ID, using bulk writes. The entities are requested
+     * from the stream one batch at a time.
+     *
+     * @param entities the entities to update
+     * @param options the batch size and mode of the bulk writes
+     */
+    fun bulkUpdate(entities: Multi<Entity>, options: BulkOptions): Uni<Void> =
+        INSTANCE.bulkUpdate(entities, options)
+
+    /**
+     * Delete all given entities, matched by their ID, using bulk writes of
+     * [BulkOptions.DEFAULT_BATCH_SIZE] entities.
+     *
+     * @param entities the entities to delete
+     */
+    fun bulkDelete(entities: Multi<Entity>): Uni<Void> =
+        INSTANCE.bulkDelete(entities, BulkOptions())
+
+    /**
+     * Delete all given entities, matched by their ID, using bulk writes. The entities are requested
+     * from the stream one batch at a time.
+     *
+     * @param entities the entities to delete
+     * @param options the batch size and mode of the bulk writes
+     */
+    fun bulkDelete(entities: Multi<Entity>, options: BulkOptions): Uni<Void> =
+        INSTANCE.bulkDelete(entities, options)
+
     /**
      * Update all entities of this type by the given update document, with optional indexed
      * parameters. The returned [io.quarkus.mongodb.panache.common.reactive.ReactivePanacheUpdate]
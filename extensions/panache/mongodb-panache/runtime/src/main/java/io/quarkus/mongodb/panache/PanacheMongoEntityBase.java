@@ -12,6 +12,7 @@
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 
+import io.quarkus.mongodb.panache.common.BulkOptions;
 import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.Sort;
 import io.quarkus.panache.common.impl.GenerateBridge;
@@ -881,6 +882,75 @@ public static void persistOrUpdate(Object firstEntity, Object... entities) {
         INSTANCE.persistOrUpdate(firstEntity, entities);
     }
 
+    /**
+     * Insert all given entities, using bulk writes of {@link BulkOptions#DEFAULT_BATCH_SIZE} entities.
+     *
+     * @param entities the entities to insert
+     * @see #bulkPersist(Iterable, BulkOptions)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static void bulkPersist(Iterable<?> entities) {
+        INSTANCE.bulkPersist(entities, new BulkOptions());
+    }
+
+    /**
+     * Insert all given entities, using bulk writes. The iterable is consumed one batch at a time.
+     *
+     * @param entities the entities to insert
+     * @param options the batch size and mode of the bulk writes
+     * @see #bulkPersist(Iterable)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static void bulkPersist(Iterable<?> entities, BulkOptions options) {
+        INSTANCE.bulkPersist(entities, options);
+    }
+
+    /**
+     * Update all given entities, matched by their ID, using bulk writes of {@link BulkOptions#DEFAULT_BATCH_SIZE} entities.
+     *
+     * @param entities the entities to update
+     * @see #bulkUpdate(Iterable, BulkOptions)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static void bulkUpdate(Iterable<?> entities) {
+        INSTANCE.bulkUpdate(entities, new BulkOptions());
+    }
+
+    /**
+     * Update all given entities, matched by their ID, using bulk writes. The iterable is consumed one batch at a time.
+     *
+     * @param entities the entities to update
+     * @param options the batch size and mode of the bulk writes
+     * @see #bulkUpdate(Iterable)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static void bulkUpdate(Iterable<?> entities, BulkOptions options) {
+        INSTANCE.bulkUpdate(entities, options);
+    }
+
+    /**
+     * Delete all given entities, matched by their ID, using bulk writes of {@link BulkOptions#DEFAULT_BATCH_SIZE} entities.
+     *
+     * @param entities the entities to delete
+     * @see #bulkDelete(Iterable, BulkOptions)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static void bulkDelete(Iterable<?> entities) {
+        INSTANCE.bulkDelete(entities, new BulkOptions());
+    }
+
+    /**
+     * Delete all given entities, matched by their ID, using bulk writes. The iterable is consumed one batch at a time.
+     *
+     * @param entities the entities to delete
+     * @param options the batch size and mode of the bulk writes
+     * @see #bulkDelete(Iterable)
+     */
+    @GenerateBridge(callSuperMethod = true)
+    public static void bulkDelete(Iterable<?> entities, BulkOptions options) {
+        INSTANCE.bulkDelete(entities, options);
+    }
+
     /**
      * Update all entities of this type by the given update document, with optional indexed parameters.
      * The returned {@link io.quarkus.mongodb.panache.common.PanacheUpdate} object will allow to restrict on which document the
@@ -9,6 +9,7 @@
 
 import org.bson.Document;
 
+import io.quarkus.mongodb.panache.common.BulkOptions;
 import io.quarkus.mongodb.reactive.ReactiveMongoCollection;
 import io.quarkus.mongodb.reactive.ReactiveMongoDatabase;
 import io.quarkus.panache.common.Parameters;
@@ -882,6 +883,71 @@ default Uni<Void> persistOrUpdate(Entity firstEntity, Entity... entities) {
         return INSTANCE.persistOrUpdate(firstEntity, entities);
     }
 
+    /**
+     * Insert all given entities, using bulk writes of {@link BulkOptions#DEFAULT_BATCH_SIZE} entities.
+     *
+     * @param entities the entities to insert
+     * @see #bulkPersist(Multi, BulkOptions)
+     */
+    default Uni<Void> bulkPersist(Multi<Entity> entities) {
+        return INSTANCE.bulkPersist(entities, new BulkOptions());
+    }
+
+    /**
+     * Insert all given entities, using bulk writes. The entities are requested from the stream one batch at a time.
+     *
+     * @param entities the entities to insert
+     * @param options the batch size and mode of the bulk writes
+     * @see #bulkPersist(Multi)
+     */
+    default Uni<Void> bulkPersist(Multi<Entity> entities, BulkOptions options) {
+        return INSTANCE.bulkPersist(entities, options);
+    }
+
+    /**
+     * Update all given entities, matched by their ID, using bulk writes of {@link BulkOptions#DEFAULT_BATCH_SIZE} entities.
+     *
+     * @param entities the entities to update
+     * @see #bulkUpdate(Multi, BulkOptions)
+     */
+    default Uni<Void> bulkUpdate(Multi<Entity> entities) {
+        return INSTANCE.bulkUpdate(entities, new BulkOptions());
+    }
+
+    /**
+     * Update all given entities, matched by their ID, using bulk writes. The entities are requested from the stream one batch
+     * at a time.
+     *
+     * @param entities the entities to update
+     * @param options the batch size and mode of the bulk writes
+     * @see #bulkUpdate(Multi)
+     */
+    default Uni<Void> bulkUpdate(Multi<Entity> entities, BulkOptions options) {
+        return INSTANCE.bulkUpdate(entities, options);
+    }
+
+    /**
+     * Delete all given entities, matched by their ID, using bulk writes of {@link BulkOptions#DEFAULT_BATCH_SIZE} entities.
+     *
+     * @param entities the entities to delete
+     * @see #bulkDelete(Multi, BulkOptions)
+     */
+    default Uni<Void> bulkDelete(Multi<Entity> entities) {
+        return INSTANCE.bulkDelete(entities, new BulkOptions());
+    }
+
+    /**
+     * Delete all given entities, matched by their ID, using bulk writes. The entities are requested from the stream one batch
+     * at a time.
+     *
+     * @param entities the entities to delete
+     * @param options the batch size and mode of the bulk writes
+     * @see #bulkDelete(Multi)
+     */
+    default Uni<Void> bulkDelete(Multi<Entity> entities, BulkOptions options) {
+        return INSTANCE.bulkDelete(entities, options);
+    }
+
     /**
      * Update all entities of this type by the given update document, with optional indexed parameters.
      * The returned {@link io.quarkus.mongodb.panache.common.reactive.ReactivePanacheUpdate } object will allow to restrict on
@@ -16,6 +16,10 @@ public void addEntityModel(EntityModel entityModel) {
         entities.put(entityModel.name, entityModel);
     }
 
+    public Set<String> getEntityClassNames() {
+        return entities.keySet();
+    }
+
     public Set<String> getEntitiesWithPublicFields() {
         return entities.entrySet().stream()
                 .filter(e -> {
@@ -97,12 +97,21 @@ void replaceFieldAccesses(CombinedIndexBuildItem index,
             return;
         }
 
+        // Both enhancers only depend on the fields of the model classes.
+        String cacheKey = BytecodeTransformerBuildItem.classesCacheKey(Thread.currentThread().getContextClassLoader(),
+                modelInfo.getEntityClassNames());
+
         // Generate accessors for public fields in entities, mapped superclasses
         // (and embeddables, see where we build modelInfo above).
         PanacheJpaEntityAccessorsEnhancer entityAccessorsEnhancer = new PanacheJpaEntityAccessorsEnhancer(index.getIndex(),
                 modelInfo);
         for (String entityClassName : entitiesWithPublicFields) {
-            transformers.produce(new BytecodeTransformerBuildItem(true, entityClassName, entityAccessorsEnhancer));
+            transformers.produce(new BytecodeTransformerBuildItem.Builder()
+                    .setEager(true)
+                    .setClassToTransform(entityClassName)
+                    .setVisitorFunction(entityAccessorsEnhancer)
+                    .setCacheKey(cacheKey)
+                    .build());
         }
 
         // Replace field access in application code with calls to accessors
@@ -124,7 +133,7 @@ void replaceFieldAccesses(CombinedIndexBuildItem index,
             String cn = i.name().toString();
             produced.add(cn);
             transformers.produce(
-                    new BytecodeTransformerBuildItem(cn, panacheFieldAccessEnhancer, entityClassNamesInternal));
+                    fieldAccessTransformer(cn, panacheFieldAccessEnhancer, entityClassNamesInternal, cacheKey));
         }
 
         for (ClassPathElement i : archives) {
@@ -136,12 +145,22 @@ void replaceFieldAccesses(CombinedIndexBuildItem index,
                     }
                     produced.add(cn);
                     transformers.produce(
-                            new BytecodeTransformerBuildItem(cn, panacheFieldAccessEnhancer, entityClassNamesInternal));
+                            fieldAccessTransformer(cn, panacheFieldAccessEnhancer, entityClassNamesInternal, cacheKey));
                 }
             }
         }
     }
 
+    private static BytecodeTransformerBuildItem fieldAccessTransformer(String className,
+            PanacheFieldAccessEnhancer panacheFieldAccessEnhancer, Set<String> entityClassNamesInternal, String cacheKey) {
+        return new BytecodeTransformerBuildItem.Builder()
+                .setClassToTransform(className)
+                .setVisitorFunction(panacheFieldAccessEnhancer)
+                .setRequireConstPoolEntry(entityClassNamesInternal)
+                .setCacheKey(cacheKey)
+                .build();
+    }
+
     private EntityModel createEntityModel(ClassInfo classInfo) {
         EntityModel entityModel = new EntityModel(classInfo);
         for (FieldInfo fieldInfo : classInfo.fields()) {
@@ -51,6 +51,8 @@ void transformToJakarta(BuildProducer<BytecodeTransformerBuildItem> transformers
                         .setClassToTransform(classname)
                         .setClassReaderOptions(ClassReader.SKIP_DEBUG)
                         .setInputTransformer(tr::transform)
+                        // the output only depends on the class bytes and on the transformer version
+                        .setCacheKey(JakartaEnablement.class.getName())
                         .build();
                 transformers.produce(item);
             }
@@ -1,6 +1,7 @@
 package io.quarkus.restclient.config;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -49,6 +50,11 @@ public class RestClientConfig {
         EMPTY.userAgent = Optional.empty();
         EMPTY.http2 = Optional.empty();
         EMPTY.alpn = Optional.empty();
+        EMPTY.http2ConnectionPoolSize = Optional.empty();
+        EMPTY.http2MultiplexingLimit = Optional.empty();
+        EMPTY.http2ClearTextUpgrade = Optional.empty();
+        EMPTY.coalesceRequests = Optional.empty();
+        EMPTY.coalesceRequestHeaders = Optional.empty();
     }
 
     /**
@@ -262,6 +268,51 @@ public class RestClientConfig {
     @ConfigItem
     public Optional<Boolean> alpn;
 
+    /**
+     * The maximum number of HTTP/2 connections per server. A new connection is only opened when all the existing ones have
+     * reached their maximum number of concurrent streams. Defaults to the `connection-pool-size`.
+     *
+     * This property is applicable to reactive REST clients only.
+     */
+    @ConfigItem
+    public Optional<Integer> http2ConnectionPoolSize;
+
+    /**
+     * The maximum number of concurrent streams per HTTP/2 connection. Defaults to the limit advertised by the server.
+     *
+     * This property is applicable to reactive REST clients only.
+     */
+    @ConfigItem
+    public Optional<Integer> http2MultiplexingLimit;
+
+    /**
+     * If set to false, the HTTP/2 clear text (h2c) connections are started with prior knowledge instead of an HTTP/1.1
+     * upgrade request. The server must then support HTTP/2.
+     *
+     * This property is applicable to reactive REST clients only.
+     */
+    @ConfigItem
+    public Optional<Boolean> http2ClearTextUpgrade;
+
+    /**
+     * If set to true, a single request is sent for the identical `GET` requests in progress at the same time, i.e. with the
+     * same URI and the same values for the `coalesce-request-headers`, and all of them receive the same response. Requests
+     * downloading files or streams are never coalesced.
+     *
+     * This property is applicable to reactive REST clients only.
+     */
+    @ConfigItem
+    public Optional<Boolean> coalesceRequests;
+
+    /**
+     * The headers whose values must be the same for requests to be coalesced. The other headers, e.g. the tracing
+     * headers, are ignored. Defaults to `Accept`, `Accept-Encoding`, `Accept-Language`, `Authorization` and `Cookie`.
+     *
+     * This property is applicable to reactive REST clients only.
+     */
+    @ConfigItem
+    public Optional<List<String>> coalesceRequestHeaders;
+
     public static RestClientConfig load(String configKey) {
         final RestClientConfig instance = new RestClientConfig();
 
@@ -294,6 +345,13 @@ public static RestClientConfig load(String configKey) {
         instance.name = getConfigValue(configKey, "name", String.class);
         instance.userAgent = getConfigValue(configKey, "user-agent", String.class);
         instance.http2 = getConfigValue(configKey, "http2", Boolean.class);
+        instance.alpn = getConfigValue(configKey, "alpn", Boolean.class);
+        instance.http2ConnectionPoolSize = getConfigValue(configKey, "http2-connection-pool-size", Integer.class);
+        instance.http2MultiplexingLimit = getConfigValue(configKey, "http2-multiplexing-limit", Integer.class);
+        instance.http2ClearTextUpgrade = getConfigValue(configKey, "http2-clear-text-upgrade", Boolean.class);
+        instance.coalesceRequests = getConfigValue(configKey, "coalesce-requests", Boolean.class);
+        instance.coalesceRequestHeaders = getConfigValue(configKey, "coalesce-request-headers", String[].class)
+                .map(List::of);
 
         return instance;
     }
@@ -331,6 +389,12 @@ public static RestClientConfig load(Class<?> interfaceClass) {
         instance.userAgent = getConfigValue(interfaceClass, "user-agent", String.class);
         instance.http2 = getConfigValue(interfaceClass, "http2", Boolean.class);
         instance.alpn = getConfigValue(interfaceClass, "alpn", Boolean.class);
+        instance.http2ConnectionPoolSize = getConfigValue(interfaceClass, "http2-connection-pool-size", Integer.class);
+        instance.http2MultiplexingLimit = getConfigValue(interfaceClass, "http2-multiplexing-limit", Integer.class);
+        instance.http2ClearTextUpgrade = getConfigValue(interfaceClass, "http2-clear-text-upgrade", Boolean.class);
+        instance.coalesceRequests = getConfigValue(interfaceClass, "coalesce-requests", Boolean.class);
+        instance.coalesceRequestHeaders = getConfigValue(interfaceClass, "coalesce-request-headers", String[].class)
+                .map(List::of);
 
         return instance;
     }
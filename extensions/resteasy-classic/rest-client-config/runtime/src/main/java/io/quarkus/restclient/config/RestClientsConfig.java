@@ -1,5 +1,6 @@
 package io.quarkus.restclient.config;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -297,6 +298,61 @@ public class RestClientsConfig {
     @ConfigItem
     public Optional<Boolean> alpn;
 
+    /**
+     * The maximum number of HTTP/2 connections per server. A new connection is only opened when all the existing ones have
+     * reached their maximum number of concurrent streams. Defaults to the `connection-pool-size`.
+     *
+     * This property is applicable to reactive REST clients only.
+     *
+     * Can be overwritten by client-specific settings.
+     */
+    @ConfigItem
+    public Optional<Integer> http2ConnectionPoolSize;
+
+    /**
+     * The maximum number of concurrent streams per HTTP/2 connection. Defaults to the limit advertised by the server.
+     *
+     * This property is applicable to reactive REST clients only.
+     *
+     * Can be overwritten by client-specific settings.
+     */
+    @ConfigItem
+    public Optional<Integer> http2MultiplexingLimit;
+
+    /**
+     * If set to false, the HTTP/2 clear text (h2c) connections are started with prior knowledge instead of an HTTP/1.1
+     * upgrade request. The server must then support HTTP/2.
+     *
+     * This property is applicable to reactive REST clients only.
+     *
+     * Can be overwritten by client-specific settings.
+     */
+    @ConfigItem
+    public Optional<Boolean> http2ClearTextUpgrade;
+
+    /**
+     * If set to true, a single request is sent for the identical `GET` requests in progress at the same time, i.e. with the
+     * same URI and the same values for the `coalesce-request-headers`, and all of them receive the same response. Requests
+     * downloading files or streams are never coalesced.
+     *
+     * This property is applicable to reactive REST clients only.
+     *
+     * Can be overwritten by client-specific settings.
+     */
+    @ConfigItem
+    public Optional<Boolean> coalesceRequests;
+
+    /**
+     * The headers whose values must be the same for requests to be coalesced. The other headers, e.g. the tracing
+     * headers, are ignored.
+     *
+     * This property is applicable to reactive REST clients only.
+     *
+     * Can be overwritten by client-specific settings.
+     */
+    @ConfigItem(defaultValue = "Accept,Accept-Encoding,Accept-Language,Authorization,Cookie")
+    public List<String> coalesceRequestHeaders;
+
     public RestClientConfig getClientConfig(String configKey) {
         if (configKey == null) {
             return RestClientConfig.EMPTY;
@@ -0,0 +1,121 @@
+package io.quarkus.rest.client.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Context;
+
+import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpServerRequest;
+
+public class Http2ConnectionPoolSizeTest {
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(Client.class, SlowResource.class))
+            .overrideConfigKey("quarkus.micrometer.binder-enabled-default", "false")
+            .overrideConfigKey("quarkus.micrometer.binder.http-client.enabled", "true")
+            .overrideConfigKey("quarkus.micrometer.binder.vertx.enabled", "true");
+
+    private static final int CALLS = 10;
+
+    static final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @TestHTTPResource
+    URI uri;
+
+    @BeforeAll
+    static void setRegistry() {
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterAll
+    static void removeRegistry() {
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    @Timeout(10)
+    void shouldMultiplexConcurrentCallsOnTheConnectionPool() {
+        Client client = QuarkusRestClientBuilder.newBuilder().baseUri(uri)
+                // the Vert.x HTTP client metrics are only reported for a named client
+                .httpClientOptions(new HttpClientOptions().setMetricsName("http-client|h2"))
+                .property(QuarkusRestClientProperties.HTTP2, true)
+                .property(QuarkusRestClientProperties.HTTP2_CLEAR_TEXT_UPGRADE, false)
+                .property(QuarkusRestClientProperties.HTTP2_CONNECTION_POOL_SIZE, 1)
+                .build(Client.class);
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLS; i++) {
+            futures.add(client.get().subscribeAsCompletionStage());
+        }
+        // all the calls are in progress on the server
+        await().atMost(Duration.ofSeconds(5)).until(() -> SlowResource.PENDING.size() == CALLS);
+
+        assertThat(gauge("http.client.endpoint.active.requests").value()).isEqualTo(CALLS);
+        assertThat(gauge("http.client.endpoint.connections").value()).isEqualTo(1);
+
+        SlowResource.release();
+        for (CompletableFuture<String> future : futures) {
+            assertThat(future.orTimeout(3, TimeUnit.SECONDS).join()).isEqualTo("HTTP_2");
+        }
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> gauge("http.client.endpoint.active.requests").value() == 0);
+        assertThat(gauge("http.client.endpoint.connections").value()).isLessThanOrEqualTo(1);
+    }
+
+    private static Gauge gauge(String name) {
+        return registry.get(name).tag("clientName", "h2").gauge();
+    }
+
+    @Path("/slow")
+    public interface Client {
+        @GET
+        Uni<String> get();
+    }
+
+    @Path("/slow")
+    public static class SlowResource {
+        static final Queue<Runnable> PENDING = new ConcurrentLinkedQueue<>();
+
+        @GET
+        public Uni<String> getSlowly(@Context HttpServerRequest request) {
+            String version = request.version().name();
+            // answered when the test releases the calls
+            return Uni.createFrom().emitter(emitter -> PENDING.add(() -> emitter.complete(version)));
+        }
+
+        static void release() {
+            Runnable call;
+            while ((call = PENDING.poll()) != null) {
+                call.run();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,140 @@
+package io.quarkus.rest.client.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.Path;
+
+import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+
+public class RequestCoalescingTest {
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(Client.class, SlowResource.class));
+
+    @TestHTTPResource
+    URI uri;
+
+    @BeforeEach
+    void reset() {
+        SlowResource.CALLS.set(0);
+    }
+
+    @Test
+    @Timeout(5)
+    void shouldSendIdenticalRequestsOnce() {
+        Client client = QuarkusRestClientBuilder.newBuilder().baseUri(uri)
+                .property(QuarkusRestClientProperties.COALESCE_REQUESTS, true)
+                .build(Client.class);
+
+        List<String> results = executeCalls(client, 5, "a");
+
+        assertThat(results).containsOnly("hello a");
+        assertThat(SlowResource.CALLS.get()).isEqualTo(1);
+    }
+
+    @Test
+    @Timeout(5)
+    void shouldSendRequestsWithDifferentComparedHeadersSeparately() {
+        Client client = QuarkusRestClientBuilder.newBuilder().baseUri(uri)
+                .property(QuarkusRestClientProperties.COALESCE_REQUESTS, true)
+                .property(QuarkusRestClientProperties.COALESCE_REQUEST_HEADERS, List.of("Name"))
+                .build(Client.class);
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        futures.add(client.get("a").subscribeAsCompletionStage());
+        futures.add(client.get("b").subscribeAsCompletionStage());
+
+        assertThat(futures.get(0).join()).isEqualTo("hello a");
+        assertThat(futures.get(1).join()).isEqualTo("hello b");
+        assertThat(SlowResource.CALLS.get()).isEqualTo(2);
+    }
+
+    @Test
+    @Timeout(5)
+    void shouldIgnoreHeadersNotCompared() {
+        Client client = QuarkusRestClientBuilder.newBuilder().baseUri(uri)
+                .property(QuarkusRestClientProperties.COALESCE_REQUESTS, true)
+                .property(QuarkusRestClientProperties.COALESCE_REQUEST_HEADERS, List.of("name"))
+                .build(Client.class);
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(client.get("a", "request-" + i).subscribeAsCompletionStage());
+        }
+
+        for (CompletableFuture<String> future : futures) {
+            assertThat(future.orTimeout(3, TimeUnit.SECONDS).join()).isEqualTo("hello a");
+        }
+        assertThat(SlowResource.CALLS.get()).isEqualTo(1);
+    }
+
+    @Test
+    @Timeout(5)
+    void shouldNotCoalesceByDefault() {
+        Client client = QuarkusRestClientBuilder.newBuilder().baseUri(uri)
+                .build(Client.class);
+
+        List<String> results = executeCalls(client, 3, "a");
+
+        assertThat(results).containsOnly("hello a");
+        assertThat(SlowResource.CALLS.get()).isEqualTo(3);
+    }
+
+    private List<String> executeCalls(Client client, int callAmount, String name) {
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < callAmount; i++) {
+            futures.add(client.get(name).subscribeAsCompletionStage());
+        }
+        List<String> results = new ArrayList<>();
+        for (CompletableFuture<String> future : futures) {
+            results.add(future.orTimeout(3, TimeUnit.SECONDS).join());
+        }
+        return results;
+    }
+
+    @Path("/coalesced")
+    public interface Client {
+        @GET
+        Uni<String> get(@HeaderParam("name") String name);
+
+        @GET
+        Uni<String> get(@HeaderParam("name") String name, @HeaderParam("X-Request-Id") String requestId);
+    }
+
+    @Path("/coalesced")
+    public static class SlowResource {
+        static final AtomicInteger CALLS = new AtomicInteger();
+
+        @Inject
+        Vertx vertx;
+
+        @GET
+        public Uni<String> getSlowly(@HeaderParam("name") String name) {
+            CALLS.incrementAndGet();
+            return Uni.createFrom().emitter(emitter -> vertx.setTimer(500 /* ms */,
+                    val -> emitter.complete("hello " + name)));
+        }
+    }
+
+}
@@ -0,0 +1,162 @@
+package io.quarkus.rest.client.reactive.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.FormParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.MediaType;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.jboss.resteasy.reactive.MultipartForm;
+import org.jboss.resteasy.reactive.PartFilename;
+import org.jboss.resteasy.reactive.PartType;
+import org.jboss.resteasy.reactive.multipart.FileUpload;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+
+public class StreamedMultipartUploadTest {
+    public static final int BYTES_SENT = 8_000_000; // 8 megs, below the default limit of the server
+
+    @TestHTTPResource
+    URI baseUri;
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Resource.class, FormData.class, Client.class, FileForm.class, InputStreamForm.class,
+                            GeneratedInputStream.class));
+
+    @Test
+    @Timeout(30)
+    void shouldUploadBigFile() throws IOException {
+        Client client = RestClientBuilder.newBuilder().baseUri(baseUri).build(Client.class);
+
+        File file = File.createTempFile("streamed-upload", ".bin");
+        file.deleteOnExit();
+        try (InputStream in = new GeneratedInputStream(BYTES_SENT, -1);
+                OutputStream out = Files.newOutputStream(file.toPath())) {
+            in.transferTo(out);
+        }
+
+        FileForm form = new FileForm();
+        form.file = file;
+        assertThat(client.postFile(form)).isEqualTo(file.getName());
+    }
+
+    @Test
+    @Timeout(30)
+    void shouldUploadBigInputStream() {
+        Client client = RestClientBuilder.newBuilder().baseUri(baseUri).build(Client.class);
+
+        InputStreamForm form = new InputStreamForm();
+        form.file = new GeneratedInputStream(BYTES_SENT, -1);
+        assertThat(client.postInputStream(form)).isEqualTo("stream.bin");
+    }
+
+    @Test
+    @Timeout(30)
+    void shouldFailOnInputStreamError() {
+        Client client = RestClientBuilder.newBuilder().baseUri(baseUri).build(Client.class);
+
+        InputStreamForm form = new InputStreamForm();
+        form.file = new GeneratedInputStream(BYTES_SENT, BYTES_SENT / 2);
+        assertThatThrownBy(() -> client.postInputStream(form)).isInstanceOf(Exception.class);
+    }
+
+    @Path("/streamed")
+    @ApplicationScoped
+    public static class Resource {
+        @POST
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        public String upload(@MultipartForm FormData form) {
+            FileUpload upload = form.myFile;
+            try (InputStream expected = new GeneratedInputStream(BYTES_SENT, -1);
+                    InputStream actual = new FileInputStream(upload.uploadedFile().toFile())) {
+                int position = 0;
+                int b;
+                while ((b = actual.read()) != -1) {
+                    if (b != expected.read()) {
+                        return "WRONG_BYTE_READ at pos " + position;
+                    }
+                    position++;
+                }
+                if (position != BYTES_SENT) {
+                    return "READ_WRONG_AMOUNT_OF_BYTES " + position;
+                }
+            } catch (IOException e) {
+                return "UNEXPECTED ERROR " + e.getMessage();
+            }
+            return upload.fileName();
+        }
+    }
+
+    /**
+     * Generates the bytes to send without keeping them in memory, and fails at the given position if positive.
+     */
+    public static class GeneratedInputStream extends InputStream {
+        private final int size;
+        private final int failAt;
+        private int position;
+
+        public GeneratedInputStream(int size, int failAt) {
+            this.size = size;
+            this.failAt = failAt;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (position == failAt) {
+                throw new IOException("forced");
+            }
+            if (position >= size) {
+                return -1;
+            }
+            return (position++ * 31) % 251;
+        }
+    }
+
+    public static class FormData {
+        @FormParam("myFile")
+        public FileUpload myFile;
+    }
+
+    @Path("/streamed")
+    public interface Client {
+        @POST
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        String postFile(@MultipartForm FileForm form);
+
+        @POST
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        String postInputStream(@MultipartForm InputStreamForm form);
+    }
+
+    public static class FileForm {
+        @FormParam("myFile")
+        @PartType(MediaType.APPLICATION_OCTET_STREAM)
+        public File file;
+    }
+
+    public static class InputStreamForm {
+        @FormParam("myFile")
+        @PartType(MediaType.APPLICATION_OCTET_STREAM)
+        @PartFilename("stream.bin")
+        public InputStream file;
+    }
+}
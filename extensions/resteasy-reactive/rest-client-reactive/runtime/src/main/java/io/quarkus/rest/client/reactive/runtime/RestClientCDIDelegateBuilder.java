@@ -12,6 +12,7 @@
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
@@ -129,6 +130,37 @@ private void configureCustomProperties(QuarkusRestClientBuilder builder) {
         if (alpn.isPresent()) {
             builder.property(QuarkusRestClientProperties.ALPN, alpn.get());
         }
+
+        Optional<Integer> http2ConnectionPoolSize = oneOf(clientConfigByClassName().http2ConnectionPoolSize,
+                clientConfigByConfigKey().http2ConnectionPoolSize, configRoot.http2ConnectionPoolSize);
+        if (http2ConnectionPoolSize.isPresent()) {
+            builder.property(QuarkusRestClientProperties.HTTP2_CONNECTION_POOL_SIZE, http2ConnectionPoolSize.get());
+        }
+
+        Optional<Integer> http2MultiplexingLimit = oneOf(clientConfigByClassName().http2MultiplexingLimit,
+                clientConfigByConfigKey().http2MultiplexingLimit, configRoot.http2MultiplexingLimit);
+        if (http2MultiplexingLimit.isPresent()) {
+            builder.property(QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT, http2MultiplexingLimit.get());
+        }
+
+        Optional<Boolean> http2ClearTextUpgrade = oneOf(clientConfigByClassName().http2ClearTextUpgrade,
+                clientConfigByConfigKey().http2ClearTextUpgrade, configRoot.http2ClearTextUpgrade);
+        if (http2ClearTextUpgrade.isPresent()) {
+            builder.property(QuarkusRestClientProperties.HTTP2_CLEAR_TEXT_UPGRADE, http2ClearTextUpgrade.get());
+        }
+
+        Optional<Boolean> coalesceRequests = oneOf(clientConfigByClassName().coalesceRequests,
+                clientConfigByConfigKey().coalesceRequests, configRoot.coalesceRequests);
+        if (coalesceRequests.isPresent()) {
+            builder.property(QuarkusRestClientProperties.COALESCE_REQUESTS, coalesceRequests.get());
+            if (coalesceRequests.get()) {
+                List<String> coalesceRequestHeaders = oneOf(clientConfigByClassName().coalesceRequestHeaders,
+                        clientConfigByConfigKey().coalesceRequestHeaders).orElse(configRoot.coalesceRequestHeaders);
+                if (coalesceRequestHeaders != null) {
+                    builder.property(QuarkusRestClientProperties.COALESCE_REQUEST_HEADERS, coalesceRequestHeaders);
+                }
+            }
+        }
     }
 
     private void configureProxy(QuarkusRestClientBuilder builder) {
@@ -9,6 +9,7 @@
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -105,6 +106,12 @@ public void testClientSpecificConfigs() {
         Mockito.verify(restClientBuilderMock).hostnameVerifier(Mockito.any(MyHostnameVerifier1.class));
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.CONNECTION_TTL, 10); // value converted to seconds
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.CONNECTION_POOL_SIZE, 103);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.HTTP2_CONNECTION_POOL_SIZE, 3);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT, 105);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.HTTP2_CLEAR_TEXT_UPGRADE, false);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.COALESCE_REQUESTS, true);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.COALESCE_REQUEST_HEADERS,
+                List.of("Accept", "Authorization"));
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.KEEP_ALIVE_ENABLED, false);
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.MAX_REDIRECTS, 104);
         Mockito.verify(restClientBuilderMock).followRedirects(true);
@@ -148,6 +155,10 @@ public void testGlobalConfigs() {
         Mockito.verify(restClientBuilderMock).hostnameVerifier(Mockito.any(MyHostnameVerifier2.class));
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.CONNECTION_TTL, 20);
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.CONNECTION_POOL_SIZE, 203);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.HTTP2_CONNECTION_POOL_SIZE, 4);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT, 205);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.HTTP2_CLEAR_TEXT_UPGRADE, true);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.COALESCE_REQUESTS, false);
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.KEEP_ALIVE_ENABLED, true);
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.MAX_REDIRECTS, 204);
         Mockito.verify(restClientBuilderMock).followRedirects(true);
@@ -178,6 +189,11 @@ private static RestClientsConfig createSampleConfigRoot() {
                 .of("io.quarkus.rest.client.reactive.runtime.RestClientCDIDelegateBuilderTest$MyHostnameVerifier2");
         configRoot.connectionTTL = Optional.of(20000); // value in ms, will be converted to seconds
         configRoot.connectionPoolSize = Optional.of(203);
+        configRoot.http2ConnectionPoolSize = Optional.of(4);
+        configRoot.http2MultiplexingLimit = Optional.of(205);
+        configRoot.http2ClearTextUpgrade = Optional.of(true);
+        configRoot.coalesceRequests = Optional.of(false);
+        configRoot.coalesceRequestHeaders = List.of("Accept");
         configRoot.keepAliveEnabled = Optional.of(true);
         configRoot.maxRedirects = Optional.of(204);
         configRoot.followRedirects = Optional.of(true);
@@ -217,6 +233,11 @@ private static RestClientConfig createSampleClientConfig() {
                 .of("io.quarkus.rest.client.reactive.runtime.RestClientCDIDelegateBuilderTest$MyHostnameVerifier1");
         clientConfig.connectionTTL = Optional.of(10000); // value in milliseconds, will be converted to seconds
         clientConfig.connectionPoolSize = Optional.of(103);
+        clientConfig.http2ConnectionPoolSize = Optional.of(3);
+        clientConfig.http2MultiplexingLimit = Optional.of(105);
+        clientConfig.http2ClearTextUpgrade = Optional.of(false);
+        clientConfig.coalesceRequests = Optional.of(true);
+        clientConfig.coalesceRequestHeaders = Optional.of(List.of("Accept", "Authorization"));
         clientConfig.keepAliveEnabled = Optional.of(false);
         clientConfig.maxRedirects = Optional.of(104);
         clientConfig.followRedirects = Optional.of(true);
@@ -0,0 +1,69 @@
+package io.quarkus.smallrye.health.test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Liveness;
+import org.eclipse.microprofile.health.Readiness;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.parsing.Parser;
+
+public class BackgroundHealthCheckTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(CountingHealthCheck.class)
+                    .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml"))
+            .overrideConfigKey("quarkus.smallrye-health.background.enabled", "true")
+            .overrideConfigKey("quarkus.smallrye-health.check.\""
+                    + CountingHealthCheck.class.getName() + "\".interval", "1H");
+
+    @Test
+    public void testLastResultIsServed() {
+        try {
+            RestAssured.defaultParser = Parser.JSON;
+            for (int i = 0; i < 5; i++) {
+                RestAssured.when().get("/q/health/live").then()
+                        .body("status", is("UP"),
+                                "checks.size()", is(1),
+                                "checks[0].name", is("counting"),
+                                "checks[0].data.evaluation", is(1),
+                                "checks[0].data.evaluation-time-ms", notNullValue(),
+                                "checks[0].data.age-ms", notNullValue());
+                RestAssured.when().get("/q/health/ready").then()
+                        .body("status", is("UP"),
+                                "checks[0].data.evaluation", is(1));
+            }
+            // the check is both a liveness and a readiness check, but it is only evaluated once per interval
+            Assertions.assertEquals(1, CountingHealthCheck.COUNT.get());
+        } finally {
+            RestAssured.reset();
+        }
+    }
+
+    @ApplicationScoped
+    @Liveness
+    @Readiness
+    public static class CountingHealthCheck implements HealthCheck {
+
+        static final AtomicInteger COUNT = new AtomicInteger();
+
+        @Override
+        public HealthCheckResponse call() {
+            return HealthCheckResponse.named("counting").up().withData("evaluation", COUNT.incrementAndGet()).build();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.quarkus.smallrye.health.test;
+
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Liveness;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.parsing.Parser;
+
+public class BackgroundHealthCheckTimeoutTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(HangingHealthCheck.class)
+                    .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml"))
+            .overrideConfigKey("quarkus.smallrye-health.background.enabled", "true")
+            .overrideConfigKey("quarkus.smallrye-health.background.interval", "500ms")
+            .overrideConfigKey("quarkus.smallrye-health.background.timeout", "200ms");
+
+    @Test
+    public void testTimedOutEvaluationIsDown() throws InterruptedException {
+        try {
+            RestAssured.defaultParser = Parser.JSON;
+            // the first evaluation hangs, it is reported as down once the timeout elapsed
+            RestAssured.when().get("/q/health/live").then()
+                    .body("status", is("DOWN"),
+                            "checks[0].data.timeout-ms", is(200));
+
+            // the check is not evaluated again while the first evaluation hangs, so that it does not pin more threads
+            Thread.sleep(1500);
+            RestAssured.when().get("/q/health/live").then()
+                    .body("status", is("DOWN"));
+            Assertions.assertEquals(1, HangingHealthCheck.COUNT.get());
+
+            // once the first evaluation returns, its result is served and the check is evaluated again
+            HangingHealthCheck.RELEASE.countDown();
+            long deadline = System.currentTimeMillis() + 10_000;
+            String status = "DOWN";
+            while (!status.equals("UP") && System.currentTimeMillis() < deadline) {
+                Thread.sleep(100);
+                status = RestAssured.when().get("/q/health/live").then().extract().path("status");
+            }
+            Assertions.assertEquals("UP", status);
+            while (HangingHealthCheck.COUNT.get() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(100);
+            }
+            Assertions.assertTrue(HangingHealthCheck.COUNT.get() >= 2);
+        } finally {
+            HangingHealthCheck.RELEASE.countDown();
+            RestAssured.reset();
+        }
+    }
+
+    @ApplicationScoped
+    @Liveness
+    public static class HangingHealthCheck implements HealthCheck {
+
+        static final AtomicInteger COUNT = new AtomicInteger();
+        static final CountDownLatch RELEASE = new CountDownLatch(1);
+
+        @Override
+        public HealthCheckResponse call() {
+            if (COUNT.incrementAndGet() == 1) {
+                try {
+                    RELEASE.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return HealthCheckResponse.up("org.acme.hanging");
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package io.quarkus.smallrye.health.runtime;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+import org.jboss.logging.Logger;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+
+/**
+ * A health check evaluated periodically on a Vert.x timer. The requests are served the last result, or a {@code DOWN}
+ * result if the last result is older than the maximum staleness.
+ * <p>
+ * An evaluation that does not complete before the timeout is reported as {@code DOWN}, but the check is not evaluated
+ * again until that evaluation returns: a blocking check cannot be interrupted, and evaluating it again would pin another
+ * worker thread each interval.
+ */
+class BackgroundHealthCheck {
+
+    private static final Logger LOG = Logger.getLogger(BackgroundHealthCheck.class);
+
+    private final Vertx vertx;
+    private final String name;
+    private final Uni<HealthCheckResponse> evaluation;
+    private final long interval;
+    private final long maxStaleness;
+    private final Duration timeout;
+    private final AtomicBoolean running = new AtomicBoolean();
+    //requests received before the first evaluation completes wait for it
+    private final CompletableFuture<Result> firstResult = new CompletableFuture<>();
+
+    private volatile Result result;
+    private volatile long maxEvaluationTime;
+    private long timerId = -1;
+
+    BackgroundHealthCheck(Vertx vertx, String name, Uni<HealthCheckResponse> evaluation, Duration interval,
+            Duration maxStaleness, Duration timeout) {
+        this.vertx = vertx;
+        this.name = name;
+        this.evaluation = evaluation;
+        this.interval = Math.max(1, interval.toMillis());
+        this.maxStaleness = maxStaleness.toNanos();
+        this.timeout = timeout;
+    }
+
+    synchronized void start() {
+        if (timerId < 0) {
+            evaluate();
+            timerId = vertx.setPeriodic(interval, id -> evaluate());
+        }
+    }
+
+    synchronized void stop() {
+        if (timerId >= 0) {
+            vertx.cancelTimer(timerId);
+            timerId = -1;
+        }
+    }
+
+    /**
+     * @return the last result, waiting for the first evaluation if it did not complete yet
+     */
+    Uni<HealthCheckResponse> get() {
+        return Uni.createFrom().deferred(() -> {
+            Result current = result;
+            if (current == null) {
+                return Uni.createFrom().completionStage(firstResult).map(r -> response(r, System.nanoTime()));
+            }
+            return Uni.createFrom().item(response(current, System.nanoTime()));
+        });
+    }
+
+    private void evaluate() {
+        //a check that takes longer than the interval, or that hangs, is not evaluated concurrently
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        long start = System.nanoTime();
+        AtomicBoolean completed = new AtomicBoolean();
+        long timeoutTimer = vertx.setTimer(Math.max(1, timeout.toMillis()), id -> {
+            if (!completed.get()) {
+                LOG.debugf("Background evaluation of the %s health check timed out after %s", name, timeout);
+                publish(timedOut(), start);
+            }
+        });
+        evaluation.subscribe().with(response -> {
+            completed.set(true);
+            vertx.cancelTimer(timeoutTimer);
+            publish(response, start);
+            running.set(false);
+        }, t -> {
+            completed.set(true);
+            vertx.cancelTimer(timeoutTimer);
+            running.set(false);
+            firstResult.completeExceptionally(t);
+            LOG.debugf(t, "Background evaluation of the %s health check failed", name);
+        });
+    }
+
+    private void publish(HealthCheckResponse response, long start) {
+        long end = System.nanoTime();
+        Result r = new Result(response, end - start, end);
+        if (r.evaluationTime > maxEvaluationTime) {
+            maxEvaluationTime = r.evaluationTime;
+        }
+        Result previous = result;
+        if (previous == null || previous.completed < end) {
+            result = r;
+        }
+        firstResult.complete(r);
+    }
+
+    private HealthCheckResponse timedOut() {
+        Result previous = result;
+        return HealthCheckResponse.named(previous != null ? previous.response.getName() : name)
+                .down()
+                .withData("timeout-ms", timeout.toMillis())
+                .build();
+    }
+
+    private HealthCheckResponse response(Result r, long now) {
+        long age = Math.max(0, now - r.completed);
+        if (age > maxStaleness) {
+            return HealthCheckResponse.named(r.response.getName())
+                    .down()
+                    .withData("stale", true)
+                    .withData("age-ms", age / 1_000_000)
+                    .build();
+        }
+        HealthCheckResponseBuilder builder = HealthCheckResponse.builder()
+                .name(r.response.getName())
+                .status(r.response.getStatus() == HealthCheckResponse.Status.UP);
+        if (r.response.getData().isPresent()) {
+            for (Map.Entry<String, Object> entry : r.response.getData().get().entrySet()) {
+                Object value = entry.getValue();
+                if (value instanceof Boolean) {
+                    builder.withData(entry.getKey(), (Boolean) value);
+                } else if (value instanceof Number) {
+                    builder.withData(entry.getKey(), ((Number) value).longValue());
+                } else {
+                    builder.withData(entry.getKey(), String.valueOf(value));
+                }
+            }
+        }
+        return builder.withData("evaluation-time-ms", r.evaluationTime / 1_000_000)
+                .withData("max-evaluation-time-ms", maxEvaluationTime / 1_000_000)
+                .withData("age-ms", age / 1_000_000)
+                .build();
+    }
+
+    private static final class Result {
+
+        final HealthCheckResponse response;
+        final long evaluationTime;
+        final long completed;
+
+        Result(HealthCheckResponse response, long evaluationTime, long completed) {
+            this.response = response;
+            this.evaluationTime = evaluationTime;
+            this.completed = completed;
+        }
+    }
+}
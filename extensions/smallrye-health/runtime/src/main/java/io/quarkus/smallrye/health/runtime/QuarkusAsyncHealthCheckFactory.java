@@ -1,5 +1,11 @@
 package io.quarkus.smallrye.health.runtime;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.annotation.PreDestroy;
 import jakarta.annotation.Priority;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Alternative;
@@ -18,6 +24,9 @@
 /**
  * Quarkus specific health check factory that runs blocking and reactive
  * health checks with different executors provided by {@link MutinyHelper}.
+ * <p>
+ * If the background evaluation is enabled, the checks are evaluated periodically and the requests are served the last
+ * results, see {@link BackgroundHealthCheck}.
  */
 @ApplicationScoped
 @Alternative
@@ -27,9 +36,17 @@ public class QuarkusAsyncHealthCheckFactory extends AsyncHealthCheckFactory {
     @Inject
     Vertx vertx;
 
+    @Inject
+    SmallRyeHealthRuntimeConfig config;
+
+    private final Map<Object, BackgroundHealthCheck> backgroundChecks = new ConcurrentHashMap<>();
+
     @Override
     public Uni<HealthCheckResponse> callSync(HealthCheck healthCheck) {
         Uni<HealthCheckResponse> healthCheckResponseUni = super.callSync(healthCheck);
+        if (config.background.enabled) {
+            return background(healthCheck, healthCheckResponseUni.runSubscriptionOn(MutinyHelper.blockingExecutor(vertx)));
+        }
         return BlockingOperationControl.isBlockingAllowed() ? healthCheckResponseUni
                 : healthCheckResponseUni.runSubscriptionOn(MutinyHelper.blockingExecutor(vertx));
     }
@@ -37,7 +54,45 @@ public Uni<HealthCheckResponse> callSync(HealthCheck healthCheck) {
     @Override
     public Uni<HealthCheckResponse> callAsync(AsyncHealthCheck asyncHealthCheck) {
         Uni<HealthCheckResponse> healthCheckResponseUni = super.callAsync(asyncHealthCheck);
+        if (config.background.enabled) {
+            return background(asyncHealthCheck, healthCheckResponseUni);
+        }
         return !BlockingOperationControl.isBlockingAllowed() ? healthCheckResponseUni
                 : healthCheckResponseUni.runSubscriptionOn(MutinyHelper.executor(vertx));
     }
+
+    @PreDestroy
+    void stopBackgroundChecks() {
+        for (BackgroundHealthCheck check : backgroundChecks.values()) {
+            check.stop();
+        }
+    }
+
+    /**
+     * A check is registered once per health type it belongs to, but it is only evaluated once per interval.
+     */
+    private Uni<HealthCheckResponse> background(Object healthCheck, Uni<HealthCheckResponse> evaluation) {
+        return backgroundChecks.computeIfAbsent(healthCheck, check -> {
+            Optional<SmallRyeHealthRuntimeConfig.Enabled> checkConfig = checkConfig(check.getClass());
+            Duration interval = checkConfig.flatMap(c -> c.interval).orElse(config.background.interval);
+            BackgroundHealthCheck backgroundCheck = new BackgroundHealthCheck(vertx, check.getClass().getName(),
+                    evaluation,
+                    interval,
+                    checkConfig.flatMap(c -> c.maxStaleness).orElse(config.background.maxStaleness),
+                    checkConfig.flatMap(c -> c.timeout).or(() -> config.background.timeout).orElse(interval));
+            backgroundCheck.start();
+            return backgroundCheck;
+        }).get();
+    }
+
+    /**
+     * The checks are configured by the name of the bean class, the check itself may be a client proxy or a subclass.
+     */
+    private Optional<SmallRyeHealthRuntimeConfig.Enabled> checkConfig(Class<?> checkClass) {
+        SmallRyeHealthRuntimeConfig.Enabled checkConfig = config.check.get(checkClass.getName());
+        if (checkConfig == null && checkClass.getSuperclass() != null) {
+            checkConfig = config.check.get(checkClass.getSuperclass().getName());
+        }
+        return Optional.ofNullable(checkConfig);
+    }
 }
@@ -1,6 +1,8 @@
 package io.quarkus.smallrye.health.runtime;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
@@ -28,13 +30,75 @@ public class SmallRyeHealthRuntimeConfig {
     @ConfigItem
     Map<String, Enabled> check;
 
+    /**
+     * Background evaluation of the health checks.
+     */
+    @ConfigItem
+    Background background;
+
     @ConfigGroup
     public static final class Enabled {
 
         /**
          * Whether the HealthCheck should be enabled.
          */
+        @ConfigItem(defaultValue = "true")
+        boolean enabled;
+
+        /**
+         * The interval between two background evaluations of the HealthCheck, overriding
+         * {@code quarkus.smallrye-health.background.interval}.
+         */
+        @ConfigItem
+        Optional<Duration> interval;
+
+        /**
+         * The maximum age of the last background result of the HealthCheck, overriding
+         * {@code quarkus.smallrye-health.background.max-staleness}.
+         */
+        @ConfigItem
+        Optional<Duration> maxStaleness;
+
+        /**
+         * The maximum duration of a background evaluation of the HealthCheck, overriding
+         * {@code quarkus.smallrye-health.background.timeout}.
+         */
         @ConfigItem
+        Optional<Duration> timeout;
+    }
+
+    @ConfigGroup
+    public static final class Background {
+
+        /**
+         * If enabled, every health check is evaluated periodically in the background and the health endpoints serve the
+         * last result of each check, instead of calling every check for every request.
+         * <p>
+         * The responses of the checks then contain the {@code evaluation-time-ms}, {@code max-evaluation-time-ms} and
+         * {@code age-ms} data, i.e. the duration of the last evaluation, the longest evaluation and the age of the result.
+         */
+        @ConfigItem(defaultValue = "false")
         boolean enabled;
+
+        /**
+         * The interval between two evaluations of a health check.
+         */
+        @ConfigItem(defaultValue = "10S")
+        Duration interval;
+
+        /**
+         * The maximum age of the last result of a health check. An older result, e.g. because the check did not complete
+         * since, is reported as {@code DOWN}.
+         */
+        @ConfigItem(defaultValue = "60S")
+        Duration maxStaleness;
+
+        /**
+         * The maximum duration of an evaluation of a health check. An evaluation that did not complete in time is
+         * reported as {@code DOWN} for that round, and the check is evaluated again at the next interval. Defaults to
+         * the interval of the check.
+         */
+        @ConfigItem
+        Optional<Duration> timeout;
     }
 }
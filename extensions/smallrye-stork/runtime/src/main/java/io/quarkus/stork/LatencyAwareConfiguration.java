@@ -0,0 +1,79 @@
+package io.quarkus.stork;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.smallrye.stork.api.config.ConfigWithType;
+
+/**
+ * The configuration of the {@code latency-aware} load balancer.
+ */
+public class LatencyAwareConfiguration implements ConfigWithType {
+
+    public static final String DECAY_WINDOW = "decay-window";
+    public static final String ERROR_PENALTY = "error-penalty";
+    public static final String EJECTION_CONSECUTIVE_FAILURES = "ejection-consecutive-failures";
+    public static final String EJECTION_TIME = "ejection-time";
+    public static final String MAX_EJECTION_TIME = "max-ejection-time";
+
+    private final Map<String, String> parameters;
+
+    public LatencyAwareConfiguration(Map<String, String> parameters) {
+        this.parameters = parameters != null ? parameters : Collections.emptyMap();
+    }
+
+    @Override
+    public String type() {
+        return LatencyAwareLoadBalancerLoader.TYPE;
+    }
+
+    @Override
+    public Map<String, String> parameters() {
+        return parameters;
+    }
+
+    /**
+     * The time after which the weight of a recorded latency is divided by {@code e}, {@code 10s} by default.
+     */
+    public Duration getDecayWindow() {
+        return duration(DECAY_WINDOW, "10s");
+    }
+
+    /**
+     * The latency recorded for a failed call, {@code 1s} by default.
+     */
+    public Duration getErrorPenalty() {
+        return duration(ERROR_PENALTY, "1s");
+    }
+
+    /**
+     * The number of consecutive failures after which an instance is ejected, {@code 5} by default. {@code 0} disables
+     * the ejection.
+     */
+    public int getEjectionConsecutiveFailures() {
+        String value = parameters.get(EJECTION_CONSECUTIVE_FAILURES);
+        return value != null ? Integer.parseInt(value.trim()) : 5;
+    }
+
+    /**
+     * The time an instance is ejected for the first time, {@code 30s} by default. It is doubled each time the probe of
+     * the instance fails.
+     */
+    public Duration getEjectionTime() {
+        return duration(EJECTION_TIME, "30s");
+    }
+
+    /**
+     * The maximum time an instance is ejected, {@code 5m} by default.
+     */
+    public Duration getMaxEjectionTime() {
+        return duration(MAX_EJECTION_TIME, "5m");
+    }
+
+    private Duration duration(String name, String defaultValue) {
+        String value = parameters.get(name);
+        return DurationConverter.parseDuration(value != null ? value : defaultValue);
+    }
+}
@@ -0,0 +1,487 @@
+package io.quarkus.stork;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.jboss.logging.Logger;
+
+import io.smallrye.stork.api.LoadBalancer;
+import io.smallrye.stork.api.Metadata;
+import io.smallrye.stork.api.MetadataKey;
+import io.smallrye.stork.api.NoServiceInstanceFoundException;
+import io.smallrye.stork.api.ServiceInstance;
+
+/**
+ * A load balancer selecting the instance with the lowest expected latency.
+ * <p>
+ * The latency of each instance is a peak exponentially weighted moving average: a slower call is taken into account
+ * immediately, while faster calls lower the average progressively, depending on the decay window. The expected latency
+ * of an instance is its average multiplied by the number of calls in progress plus one. Two instances are picked
+ * randomly and the one with the lowest expected latency is selected, so that the load is spread even if all the
+ * instances have similar latencies.
+ * <p>
+ * An instance failing consecutively is ejected. Once the ejection time has elapsed, a single call is sent to the
+ * instance to probe it: if it succeeds the instance is selected again, otherwise it is ejected for twice as long. If all
+ * the instances are ejected, the selection falls back to all of them.
+ * <p>
+ * The statistics are recorded by the REST Client Reactive and the gRPC clients when they measure the calls. They are
+ * available from {@link #getStatistics()} only, they are not published as metrics.
+ *
+ * @see LatencyAwareConfiguration
+ */
+public class LatencyAwareLoadBalancer implements LoadBalancer {
+
+    private static final Logger LOG = Logger.getLogger(LatencyAwareLoadBalancer.class);
+
+    /**
+     * The expected latency of an instance without recorded latency that has calls in progress, so that it is only
+     * selected if the other instance is at least as busy.
+     */
+    private static final double UNMEASURED_PENALTY = Long.MAX_VALUE >> 16;
+
+    /**
+     * The number of selections between the removals of the statistics of the instances no longer discovered.
+     */
+    private static final int CLEANUP_INTERVAL = 1024;
+
+    private final double decayWindow;
+    private final long errorPenalty;
+    private final int ejectionConsecutiveFailures;
+    private final long ejectionTime;
+    private final long maxEjectionTime;
+    private final long retention;
+    private final LongSupplier clock;
+
+    private final ConcurrentMap<Long, InstanceState> states = new ConcurrentHashMap<>();
+    private final AtomicInteger selections = new AtomicInteger();
+
+    public LatencyAwareLoadBalancer(LatencyAwareConfiguration configuration) {
+        this(configuration, System::nanoTime);
+    }
+
+    /**
+     * @param clock the source of the time in nanoseconds, as returned by {@link System#nanoTime()}
+     */
+    LatencyAwareLoadBalancer(LatencyAwareConfiguration configuration, LongSupplier clock) {
+        this.clock = clock;
+        this.decayWindow = Math.max(1, configuration.getDecayWindow().toNanos());
+        this.errorPenalty = configuration.getErrorPenalty().toNanos();
+        this.ejectionConsecutiveFailures = configuration.getEjectionConsecutiveFailures();
+        this.ejectionTime = Math.max(1, configuration.getEjectionTime().toNanos());
+        this.maxEjectionTime = Math.max(ejectionTime, configuration.getMaxEjectionTime().toNanos());
+        this.retention = Math.max(maxEjectionTime, (long) decayWindow * 10);
+    }
+
+    @Override
+    public ServiceInstance selectServiceInstance(Collection<ServiceInstance> serviceInstances) {
+        if (serviceInstances.isEmpty()) {
+            throw new NoServiceInstanceFoundException("No services found.");
+        }
+        long now = clock.getAsLong();
+        List<InstanceState> candidates = new ArrayList<>(serviceInstances.size());
+        List<InstanceState> ejected = null;
+        InstanceState probe = null;
+        for (ServiceInstance instance : serviceInstances) {
+            InstanceState state = state(instance, now);
+            if (!state.isEjected(now)) {
+                candidates.add(state);
+            } else if (probe == null && state.tryProbe(now)) {
+                probe = state;
+            } else {
+                if (ejected == null) {
+                    ejected = new ArrayList<>();
+                }
+                ejected.add(state);
+            }
+        }
+        if (selections.incrementAndGet() % CLEANUP_INTERVAL == 0) {
+            removeStaleStates(now);
+        }
+        if (probe != null) {
+            return new MeasuredServiceInstance(probe.instance, probe, true);
+        }
+        if (candidates.isEmpty()) {
+            // All the instances are ejected, they are still better than no instance at all
+            candidates = ejected;
+        }
+        InstanceState selected = select(candidates, now);
+        return new MeasuredServiceInstance(selected.instance, selected, false);
+    }
+
+    @Override
+    public boolean requiresStrictRecording() {
+        // The number of calls in progress is only used to compare instances, it does not have to be exact
+        return false;
+    }
+
+    /**
+     * @return the statistics of the instances selected by this load balancer
+     */
+    public List<InstanceStatistics> getStatistics() {
+        long now = clock.getAsLong();
+        List<InstanceStatistics> statistics = new ArrayList<>(states.size());
+        for (InstanceState state : states.values()) {
+            statistics.add(state.statistics(now));
+        }
+        return statistics;
+    }
+
+    private InstanceState state(ServiceInstance instance, long now) {
+        InstanceState state = states.get(instance.getId());
+        if (state == null) {
+            state = states.computeIfAbsent(instance.getId(), id -> new InstanceState(instance));
+        }
+        state.instance = instance;
+        state.lastDiscovered = now;
+        return state;
+    }
+
+    private InstanceState select(List<InstanceState> candidates, long now) {
+        int size = candidates.size();
+        if (size == 1) {
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        InstanceState a = candidates.get(first);
+        InstanceState b = candidates.get(second);
+        return a.expectedLatency(now) <= b.expectedLatency(now) ? a : b;
+    }
+
+    private void removeStaleStates(long now) {
+        for (Iterator<InstanceState> it = states.values().iterator(); it.hasNext();) {
+            InstanceState state = it.next();
+            if (now - state.lastDiscovered > retention && state.inFlight.get() == 0) {
+                it.remove();
+            }
+        }
+    }
+
+    private final class InstanceState {
+
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicLong calls = new AtomicLong();
+        final AtomicLong failures = new AtomicLong();
+
+        volatile ServiceInstance instance;
+        volatile long lastDiscovered;
+
+        // Guarded by this
+        private double latency;
+        private long lastUpdate;
+        private int consecutiveFailures;
+        private int ejections;
+        private boolean ejected;
+        private long ejectedUntil;
+
+        InstanceState(ServiceInstance instance) {
+            this.instance = instance;
+        }
+
+        synchronized double expectedLatency(long now) {
+            int pending = inFlight.get();
+            if (latency == 0) {
+                return pending == 0 ? 0 : UNMEASURED_PENALTY + pending;
+            }
+            return decayedLatency(now) * (pending + 1);
+        }
+
+        synchronized boolean isEjected(long now) {
+            return ejected && now - ejectedUntil < 0;
+        }
+
+        synchronized boolean tryProbe(long now) {
+            if (!ejected || now - ejectedUntil < 0) {
+                return false;
+            }
+            // The instance stays ejected while it is probed, a probe that never completes does not prevent another one
+            // after the ejection time
+            ejectedUntil = now + ejectionTime(ejections);
+            return true;
+        }
+
+        synchronized void recordLatency(long duration, long now) {
+            double decayed = decayedLatency(now);
+            if (duration > decayed) {
+                latency = duration;
+            } else {
+                double weight = Math.exp(-Math.max(0, now - lastUpdate) / decayWindow);
+                latency = latency * weight + duration * (1 - weight);
+            }
+            lastUpdate = now;
+        }
+
+        synchronized void recordSuccess(boolean probe) {
+            calls.incrementAndGet();
+            consecutiveFailures = 0;
+            if (probe && ejected) {
+                ejected = false;
+                ejections = 0;
+                LOG.infof("Service instance %s:%d succeeded the probe, it is no longer ejected", instance.getHost(),
+                        instance.getPort());
+            }
+        }
+
+        synchronized void recordFailure(boolean probe, long now) {
+            calls.incrementAndGet();
+            failures.incrementAndGet();
+            consecutiveFailures++;
+            if (errorPenalty > 0) {
+                recordLatency(errorPenalty, now);
+            }
+            if (probe && ejected) {
+                eject(now);
+            } else if (!ejected && ejectionConsecutiveFailures > 0 && consecutiveFailures >= ejectionConsecutiveFailures) {
+                eject(now);
+            }
+        }
+
+        private void eject(long now) {
+            long duration = ejectionTime(ejections);
+            ejections++;
+            ejected = true;
+            ejectedUntil = now + duration;
+            LOG.infof("Service instance %s:%d ejected for %d ms after %d consecutive failures", instance.getHost(),
+                    instance.getPort(), duration / 1_000_000, consecutiveFailures);
+        }
+
+        private long ejectionTime(int ejections) {
+            long duration = ejectionTime;
+            for (int i = 0; i < ejections && duration < maxEjectionTime; i++) {
+                duration *= 2;
+            }
+            return Math.min(duration, maxEjectionTime);
+        }
+
+        private double decayedLatency(long now) {
+            if (latency == 0) {
+                return 0;
+            }
+            return latency * Math.exp(-Math.max(0, now - lastUpdate) / decayWindow);
+        }
+
+        long now() {
+            return clock.getAsLong();
+        }
+
+        synchronized InstanceStatistics statistics(long now) {
+            ServiceInstance current = instance;
+            return new InstanceStatistics(current.getId(), current.getHost(), current.getPort(),
+                    Duration.ofNanos((long) decayedLatency(now)), inFlight.get(), calls.get(), failures.get(),
+                    isEjected(now));
+        }
+    }
+
+    /**
+     * Records the statistics of a single call to an instance.
+     * <p>
+     * It is equal to the instance it wraps, as the clients look up their connections by the selected instance, e.g. the
+     * sub-channels of the gRPC load balancer.
+     */
+    private static final class MeasuredServiceInstance implements ServiceInstance {
+
+        private final ServiceInstance delegate;
+        private final InstanceState state;
+        private final boolean probe;
+
+        private volatile boolean started;
+        private volatile boolean replied;
+        private volatile boolean ended;
+        private volatile long start;
+
+        MeasuredServiceInstance(ServiceInstance delegate, InstanceState state, boolean probe) {
+            this.delegate = delegate;
+            this.state = state;
+            this.probe = probe;
+        }
+
+        @Override
+        public boolean gatherStatistics() {
+            return true;
+        }
+
+        @Override
+        public void recordStart(boolean measureTime) {
+            // The clients do not always end the calls they do not measure, they are not counted as in progress
+            if (measureTime && !started) {
+                started = true;
+                state.inFlight.incrementAndGet();
+                start = state.now();
+            }
+        }
+
+        @Override
+        public void recordReply() {
+            if (started && !replied) {
+                replied = true;
+                long now = state.now();
+                state.recordLatency(now - start, now);
+            }
+        }
+
+        @Override
+        public void recordEnd(Throwable failure) {
+            if (ended) {
+                return;
+            }
+            ended = true;
+            if (started) {
+                state.inFlight.decrementAndGet();
+            }
+            if (failure == null) {
+                recordReply();
+                state.recordSuccess(probe);
+            } else {
+                state.recordFailure(probe, state.now());
+            }
+        }
+
+        @Override
+        public long getId() {
+            return delegate.getId();
+        }
+
+        @Override
+        public String getHost() {
+            return delegate.getHost();
+        }
+
+        @Override
+        public int getPort() {
+            return delegate.getPort();
+        }
+
+        @Override
+        public Optional<String> getPath() {
+            return delegate.getPath();
+        }
+
+        @Override
+        public boolean isSecure() {
+            return delegate.isSecure();
+        }
+
+        @Override
+        public Metadata<? extends MetadataKey> getMetadata() {
+            return delegate.getMetadata();
+        }
+
+        @Override
+        public Map<String, String> getLabels() {
+            return delegate.getLabels();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o instanceof MeasuredServiceInstance) {
+                return delegate.equals(((MeasuredServiceInstance) o).delegate);
+            }
+            return delegate.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return delegate.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+
+    /**
+     * The statistics of a service instance.
+     */
+    public static final class InstanceStatistics {
+
+        private final long id;
+        private final String host;
+        private final int port;
+        private final Duration latency;
+        private final int inFlight;
+        private final long calls;
+        private final long failures;
+        private final boolean ejected;
+
+        InstanceStatistics(long id, String host, int port, Duration latency, int inFlight, long calls, long failures,
+                boolean ejected) {
+            this.id = id;
+            this.host = host;
+            this.port = port;
+            this.latency = latency;
+            this.inFlight = inFlight;
+            this.calls = calls;
+            this.failures = failures;
+            this.ejected = ejected;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getHost() {
+            return host;
+        }
+
+        public int getPort() {
+            return port;
+        }
+
+        /**
+         * @return the current moving average of the latency
+         */
+        public Duration getLatency() {
+            return latency;
+        }
+
+        /**
+         * @return the number of calls in progress
+         */
+        public int getInFlight() {
+            return inFlight;
+        }
+
+        /**
+         * @return the number of completed calls
+         */
+        public long getCalls() {
+            return calls;
+        }
+
+        /**
+         * @return the number of failed calls
+         */
+        public long getFailures() {
+            return failures;
+        }
+
+        public boolean isEjected() {
+            return ejected;
+        }
+
+        @Override
+        public String toString() {
+            return "InstanceStatistics{host=" + host + ", port=" + port + ", latency=" + latency + ", inFlight=" + inFlight
+                    + ", calls=" + calls + ", failures=" + failures + ", ejected=" + ejected + "}";
+        }
+    }
+}
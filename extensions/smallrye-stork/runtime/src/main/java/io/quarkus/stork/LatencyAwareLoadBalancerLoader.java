@@ -0,0 +1,24 @@
+package io.quarkus.stork;
+
+import io.smallrye.stork.api.LoadBalancer;
+import io.smallrye.stork.api.ServiceDiscovery;
+import io.smallrye.stork.api.config.ConfigWithType;
+import io.smallrye.stork.spi.internal.LoadBalancerLoader;
+
+/**
+ * Registers the {@code latency-aware} load balancer in Stork.
+ */
+public class LatencyAwareLoadBalancerLoader implements LoadBalancerLoader {
+
+    public static final String TYPE = "latency-aware";
+
+    @Override
+    public LoadBalancer createLoadBalancer(ConfigWithType config, ServiceDiscovery serviceDiscovery) {
+        return new LatencyAwareLoadBalancer(new LatencyAwareConfiguration(config.parameters()));
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,56 @@
+package io.quarkus.stork;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.stork.api.ServiceInstance;
+import io.smallrye.stork.impl.DefaultServiceInstance;
+
+public class LatencyAwareLoadBalancerTest {
+
+    private static final long DECAY_WINDOW = Duration.ofSeconds(10).toNanos();
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final LatencyAwareLoadBalancer loadBalancer = new LatencyAwareLoadBalancer(
+            new LatencyAwareConfiguration(Map.of(LatencyAwareConfiguration.DECAY_WINDOW, "10s")), clock::get);
+    private final ServiceInstance instance = new DefaultServiceInstance(1, "localhost", 8080, false);
+
+    @Test
+    public void testMovingAverage() {
+        call(Duration.ofMillis(100));
+        Assertions.assertEquals(Duration.ofMillis(100), latency());
+
+        clock.addAndGet(DECAY_WINDOW);
+        call(Duration.ofMillis(20));
+        // the second latency is recorded one decay window and 20 ms after the first one
+        double weight = Math.exp(-(double) (DECAY_WINDOW + Duration.ofMillis(20).toNanos()) / DECAY_WINDOW);
+        long expected = (long) (Duration.ofMillis(100).toNanos() * weight + Duration.ofMillis(20).toNanos() * (1 - weight));
+        Assertions.assertEquals(expected, latency().toNanos(), 1);
+    }
+
+    @Test
+    public void testSlowerCallIsTakenIntoAccountImmediately() {
+        call(Duration.ofMillis(20));
+        clock.addAndGet(DECAY_WINDOW);
+        call(Duration.ofMillis(100));
+        Assertions.assertEquals(Duration.ofMillis(100), latency());
+    }
+
+    private void call(Duration duration) {
+        ServiceInstance selected = loadBalancer.selectServiceInstance(List.of(instance));
+        selected.recordStart(true);
+        clock.addAndGet(duration.toNanos());
+        selected.recordEnd(null);
+    }
+
+    private Duration latency() {
+        List<LatencyAwareLoadBalancer.InstanceStatistics> statistics = loadBalancer.getStatistics();
+        Assertions.assertEquals(1, statistics.size());
+        return statistics.get(0).getLatency();
+    }
+}
@@ -22,6 +22,7 @@
 import io.quarkus.arc.processor.BuiltinScope;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
+import io.quarkus.bootstrap.runner.StartupTimeline;
 import io.quarkus.builder.BuildException;
 import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.Capability;
@@ -37,6 +38,7 @@
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.ShutdownListenerBuildItem;
+import io.quarkus.deployment.builditem.SystemPropertyBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
@@ -66,6 +68,7 @@
 import io.quarkus.vertx.http.runtime.filters.Filter;
 import io.quarkus.vertx.http.runtime.filters.GracefulShutdownFilter;
 import io.quarkus.vertx.http.runtime.management.ManagementInterfaceBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.management.StartupTimelineHandler;
 import io.vertx.core.Handler;
 import io.vertx.core.http.impl.Http1xServerRequest;
 import io.vertx.core.impl.VertxImpl;
@@ -153,6 +156,21 @@ UseManagementInterfaceBuildItem useManagementInterfaceBuildItem(ManagementInterf
         return null;
     }
 
+    @BuildStep
+    void startupTimeline(ManagementInterfaceBuildTimeConfig config, NonApplicationRootPathBuildItem nonApplicationRootPath,
+            BuildProducer<SystemPropertyBuildItem> systemProperties, BuildProducer<RouteBuildItem> routes) {
+        if (!config.startupTimelineEnabled) {
+            return;
+        }
+        systemProperties.produce(new SystemPropertyBuildItem(StartupTimeline.ENABLED_PROPERTY, "true"));
+        routes.produce(nonApplicationRootPath.routeBuilder()
+                .management()
+                .route("startup-timeline")
+                .handler(new StartupTimelineHandler())
+                .displayOnNotFoundPage()
+                .build());
+    }
+
     /**
      * Workaround for https://github.com/quarkusio/quarkus/issues/4720 by filtering Vertx multiple instance warning in dev
      * mode.
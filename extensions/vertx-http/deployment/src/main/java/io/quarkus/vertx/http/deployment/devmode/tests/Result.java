@@ -1,5 +1,7 @@
 package io.quarkus.vertx.http.deployment.devmode.tests;
 
+import java.util.List;
+
 import org.junit.platform.engine.TestExecutionResult;
 
 import io.quarkus.deployment.dev.testing.TestResult;
@@ -16,6 +18,8 @@ public class Result {
 
     private long runId;
 
+    private List<String> logOutput;
+
     public Result() {
     }
 
@@ -33,6 +37,7 @@ public Result(TestResult s) {
                 s.getTestExecutionResult().getThrowable().map(t -> t.getClass().getName()).orElse(null),
                 s.getTestExecutionResult().getThrowable().map(Throwable::getMessage).orElse(null),
                 s.getRunId());
+        this.logOutput = s.getLogOutput();
     }
 
     public String getName() {
@@ -79,4 +84,13 @@ public Result setRunId(long runId) {
         this.runId = runId;
         return this;
     }
+
+    public List<String> getLogOutput() {
+        return logOutput;
+    }
+
+    public Result setLogOutput(List<String> logOutput) {
+        this.logOutput = logOutput;
+        return this;
+    }
 }
@@ -0,0 +1,17 @@
+package io.quarkus.vertx.http.testrunner;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class ConcurrentLogging {
+
+    private static final CountDownLatch RUNNING = new CountDownLatch(2);
+
+    /**
+     * @return whether the other logging test class was running at the same time
+     */
+    public static boolean bothClassesRunning() throws InterruptedException {
+        RUNNING.countDown();
+        return RUNNING.await(30, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,71 @@
+package io.quarkus.vertx.http.testrunner;
+
+import java.util.function.Supplier;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.ContinuousTestingTestUtils;
+import io.quarkus.test.ContinuousTestingTestUtils.TestStatus;
+import io.quarkus.test.QuarkusDevModeTest;
+import io.quarkus.vertx.http.deployment.devmode.tests.ClassResult;
+import io.quarkus.vertx.http.deployment.devmode.tests.SuiteResult;
+import io.restassured.RestAssured;
+
+public class ConcurrentTestOutputTestCase {
+
+    @RegisterExtension
+    static QuarkusDevModeTest test = new QuarkusDevModeTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class).addClasses(HelloResource.class)
+                            .add(new StringAsset(
+                                    ContinuousTestingTestUtils.appProperties("quarkus.test.unit-test-parallelism=2")),
+                                    "application.properties");
+                }
+            })
+            .setTestArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class).addClasses(ConcurrentLogging.class,
+                            LoggingFirstET.class, LoggingSecondET.class);
+                }
+            });
+
+    @Test
+    public void testOutputIsCapturedPerClass() throws InterruptedException {
+        ContinuousTestingTestUtils utils = new ContinuousTestingTestUtils();
+        TestStatus ts = utils.waitForNextCompletion();
+
+        //the classes only pass if they ran at the same time
+        Assertions.assertEquals(0L, ts.getTestsFailed());
+        Assertions.assertEquals(2L, ts.getTestsPassed());
+
+        SuiteResult suiteResult = RestAssured.get("q/dev-v1/io.quarkus.quarkus-vertx-http/tests/result")
+                .as(SuiteResult.class);
+        Assertions.assertEquals(2, suiteResult.getResults().size());
+        for (ClassResult cr : suiteResult.getResults().values()) {
+            Assertions.assertEquals(1, cr.getPassing().size());
+            String output = String.join("\n", cr.getPassing().get(0).getLogOutput());
+            if (cr.getClassName().equals(LoggingFirstET.class.getName())) {
+                assertOutput(output, "first-class-message", "second-class-message");
+            } else if (cr.getClassName().equals(LoggingSecondET.class.getName())) {
+                assertOutput(output, "second-class-message", "first-class-message");
+            } else {
+                Assertions.fail("Unexpected test " + cr.getClassName());
+            }
+        }
+    }
+
+    private static void assertOutput(String output, String ownMessage, String otherMessage) {
+        for (int i = 0; i < 20; i++) {
+            Assertions.assertTrue(output.contains(ownMessage + " " + i + " logged"), output);
+        }
+        Assertions.assertFalse(output.contains(otherMessage), output);
+    }
+}
@@ -0,0 +1,19 @@
+package io.quarkus.vertx.http.testrunner;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LoggingSecondET {
+
+    private static final Logger log = Logger.getLogger(LoggingSecondET.class);
+
+    @Test
+    public void logWhileTheOtherClassLogs() throws InterruptedException {
+        Assertions.assertTrue(ConcurrentLogging.bothClassesRunning());
+        for (int i = 0; i < 20; i++) {
+            log.info("second-class-message " + i + " logged");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+/**
+ * Cache of the identities authenticated with the basic authentication mechanism.
+ */
+@ConfigGroup
+public class BasicAuthCacheConfig {
+
+    /**
+     * If the identities authenticated with basic authentication should be cached.
+     *
+     * When enabled, a request carrying the same credentials as a previous successfully authenticated request is
+     * authenticated without calling the identity providers again, which avoids verifying expensive password hashes
+     * such as bcrypt on every request. The credentials are only kept as a salted hash. Note that changes to the user
+     * credentials or roles are only picked up once the cached identity has expired.
+     */
+    @ConfigItem
+    public boolean enabled;
+
+    /**
+     * Maximum number of cached identities. The least recently used identity is removed when the cache is full.
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int maxSize;
+
+    /**
+     * How long an identity can be cached for.
+     */
+    @ConfigItem(defaultValue = "1M")
+    public Duration timeToLive;
+}
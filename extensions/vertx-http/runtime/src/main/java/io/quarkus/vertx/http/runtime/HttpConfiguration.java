@@ -149,6 +149,12 @@ public class HttpConfiguration {
     @ConfigItem(name = "auth.session.encryption-key")
     public Optional<String> encryptionKey;
 
+    /**
+     * Basic authentication identity cache
+     */
+    @ConfigItem(name = "auth.basic-cache")
+    public BasicAuthCacheConfig basicAuthCache;
+
     /**
      * Enable socket reuse port (linux/macOs native transport only)
      */
@@ -43,6 +43,7 @@
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.bootstrap.runner.StartupTimeline;
 import io.quarkus.bootstrap.runner.Timing;
 import io.quarkus.dev.spi.DevModeType;
 import io.quarkus.dev.spi.HotReplacementContext;
@@ -762,6 +763,7 @@ private static void doServerStart(Vertx vertx, HttpBuildTimeConfig httpBuildTime
             LaunchMode launchMode,
             Supplier<Integer> eventLoops, List<String> websocketSubProtocols, boolean auxiliaryApplication) throws IOException {
 
+        StartupTimeline.Phase bindPhase = StartupTimeline.begin(StartupTimeline.CATEGORY_HTTP, "server-bind");
         var mainServerFuture = initializeMainHttpServer(vertx, httpBuildTimeConfig, httpConfiguration, launchMode, eventLoops,
                 websocketSubProtocols);
         var managementInterfaceFuture = initializeManagementInterface(vertx, managementBuildTimeConfig, managementRouter,
@@ -778,6 +780,7 @@ private static void doServerStart(Vertx vertx, HttpBuildTimeConfig httpBuildTime
                 tmpManagementServer = managementInterfaceFuture.get();
                 tmpManagementServerUsingDomainSocket = managementInterfaceDomainSocketFuture.get();
             }
+            StartupTimeline.end(bindPhase);
             HttpServer managementServer = tmpManagementServer;
             HttpServer managementServerDomainSocket = tmpManagementServerUsingDomainSocket;
             if (deploymentIdIfAny != null) {
@@ -844,6 +847,9 @@ public void handle(AsyncResult<Void> event) {
             };
         } catch (InterruptedException | ExecutionException e) {
             throw new RuntimeException("Unable to start HTTP server", e);
+        } finally {
+            //the phase is ended once the servers are bound, this only ends it if the bind failed
+            StartupTimeline.end(bindPhase);
         }
 
         setHttpServerTiming(httpConfiguration.insecureRequests, httpMainServerOptions, httpMainSslServerOptions,
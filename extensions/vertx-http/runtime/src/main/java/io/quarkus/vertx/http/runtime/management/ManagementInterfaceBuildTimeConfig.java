@@ -67,4 +67,15 @@ public class ManagementInterfaceBuildTimeConfig {
      */
     @ConfigItem
     public OptionalInt compressionLevel;
+
+    /**
+     * If enabled, the phases of the application startup, e.g. the startup tasks, the startup observers and the HTTP server
+     * bind, and the time spent loading classes are recorded and exposed as a JSON report by the {@code startup-timeline}
+     * management endpoint.
+     * <p>
+     * The phases are also emitted as {@code quarkus.StartupPhase} JFR events when a recording is running, regardless of
+     * this property.
+     */
+    @ConfigItem(name = "startup-timeline.enabled", defaultValue = "false")
+    public boolean startupTimelineEnabled;
 }
@@ -0,0 +1,49 @@
+package io.quarkus.vertx.http.runtime.management;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import io.quarkus.bootstrap.runner.StartupTimeline;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Reports the {@link StartupTimeline} as JSON. All times are in milliseconds, the start of a phase is relative to the
+ * start of the timeline.
+ */
+public class StartupTimelineHandler implements Handler<RoutingContext> {
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        List<StartupTimeline.Phase> phases = new ArrayList<>(StartupTimeline.getPhases());
+        phases.sort(Comparator.comparingLong(StartupTimeline.Phase::getStart));
+        JsonArray phasesJson = new JsonArray();
+        for (StartupTimeline.Phase phase : phases) {
+            phasesJson.add(new JsonObject()
+                    .put("category", phase.getCategory())
+                    .put("name", phase.getName())
+                    .put("thread", phase.getThread())
+                    .put("start", millis(phase.getStart()))
+                    .put("duration", millis(phase.getDuration())));
+        }
+        long startupTime = StartupTimeline.getStartupTime();
+        JsonObject report = new JsonObject()
+                .put("collecting", StartupTimeline.isCollecting())
+                .put("startupTime", startupTime < 0 ? null : millis(startupTime))
+                .put("classLoading", new JsonObject()
+                        .put("count", StartupTimeline.getClassLoadingCount())
+                        .put("time", millis(StartupTimeline.getClassLoadingTime())))
+                .put("phases", phasesJson);
+        ctx.response().headers().set(HttpHeaders.CONTENT_TYPE, "application/json; charset=UTF-8");
+        ctx.response().end(report.encode());
+    }
+
+    private static double millis(long nanos) {
+        // keep microseconds precision
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
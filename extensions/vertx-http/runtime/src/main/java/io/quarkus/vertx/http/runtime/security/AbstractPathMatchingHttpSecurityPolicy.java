@@ -25,24 +25,22 @@
  */
 public class AbstractPathMatchingHttpSecurityPolicy {
 
-    private final PathMatcher<List<HttpMatcher>> pathMatcher = new PathMatcher<>();
+    private static final Uni<CheckResult> PERMIT_UNI = Uni.createFrom().item(CheckResult.PERMIT);
+    private static final Uni<CheckResult> DENY_UNI = Uni.createFrom().item(CheckResult.DENY);
+
+    private volatile ImmutablePathMatcher<PolicyChains> pathMatcher = ImmutablePathMatcher.<PolicyChains> builder().build();
 
     public String getAuthMechanismName(RoutingContext routingContext) {
-        PathMatcher.PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(routingContext.request().path());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
-            return null;
-        }
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.authMechanism != null) {
-                return i.authMechanism;
-            }
-        }
-        return null;
+        PolicyChains toCheck = pathMatcher.match(routingContext.request().path());
+        return toCheck == null ? null : toCheck.authMechanism;
     }
 
     public Uni<CheckResult> checkPermission(RoutingContext routingContext, Uni<SecurityIdentity> identity,
             AuthorizationRequestContext requestContext) {
         List<HttpSecurityPolicy> permissionCheckers = findPermissionCheckers(routingContext.request());
+        if (permissionCheckers.isEmpty()) {
+            return PERMIT_UNI;
+        }
         return doPermissionCheck(routingContext, identity, 0, null, permissionCheckers, requestContext);
     }
 
@@ -50,7 +48,7 @@ private Uni<CheckResult> doPermissionCheck(RoutingContext routingContext,
             Uni<SecurityIdentity> identity, int index, SecurityIdentity augmentedIdentity,
             List<HttpSecurityPolicy> permissionCheckers, AuthorizationRequestContext requestContext) {
         if (index == permissionCheckers.size()) {
-            return Uni.createFrom().item(new CheckResult(true, augmentedIdentity));
+            return augmentedIdentity == null ? PERMIT_UNI : Uni.createFrom().item(new CheckResult(true, augmentedIdentity));
         }
         //get the current checker
         HttpSecurityPolicy res = permissionCheckers.get(index);
@@ -59,7 +57,7 @@ private Uni<CheckResult> doPermissionCheck(RoutingContext routingContext,
                     @Override
                     public Uni<? extends CheckResult> apply(CheckResult checkResult) {
                         if (!checkResult.isPermitted()) {
-                            return Uni.createFrom().item(CheckResult.DENY);
+                            return DENY_UNI;
                         } else {
                             if (checkResult.getAugmentedIdentity() != null) {
 
@@ -100,55 +98,42 @@ public void init(Map<String, PolicyMappingConfig> permissions,
                     if (!path.startsWith("/")) {
                         path = rootPath + path;
                     }
-                    if (tempMap.containsKey(path)) {
-                        HttpMatcher m = new HttpMatcher(entry.getValue().authMechanism.orElse(null),
-                                new HashSet<>(entry.getValue().methods.orElse(Collections.emptyList())),
-                                checker);
-                        tempMap.get(path).add(m);
-                    } else {
-                        HttpMatcher m = new HttpMatcher(entry.getValue().authMechanism.orElse(null),
-                                new HashSet<>(entry.getValue().methods.orElse(Collections.emptyList())),
-                                checker);
-                        List<HttpMatcher> perms = new ArrayList<>();
-                        tempMap.put(path, perms);
-                        perms.add(m);
-                        if (path.endsWith("/*")) {
-                            String stripped = path.substring(0, path.length() - 2);
-                            pathMatcher.addPrefixPath(stripped.isEmpty() ? "/" : stripped, perms);
-                        } else if (path.endsWith("*")) {
-                            pathMatcher.addPrefixPath(path.substring(0, path.length() - 1), perms);
-                        } else {
-                            pathMatcher.addExactPath(path, perms);
+                    HttpMatcher m = new HttpMatcher(entry.getValue().authMechanism.orElse(null),
+                            new HashSet<>(entry.getValue().methods.orElse(Collections.emptyList())),
+                            checker);
+                    tempMap.computeIfAbsent(path, new Function<String, List<HttpMatcher>>() {
+                        @Override
+                        public List<HttpMatcher> apply(String s) {
+                            return new ArrayList<>();
                         }
-                    }
+                    }).add(m);
                 }
             }
         }
+
+        // resolve the policy chains of every path and method once, so that requests only need a lookup
+        ImmutablePathMatcher.Builder<PolicyChains> builder = ImmutablePathMatcher.builder();
+        for (Map.Entry<String, List<HttpMatcher>> entry : tempMap.entrySet()) {
+            String path = entry.getKey();
+            PolicyChains chains = new PolicyChains(entry.getValue());
+            if (path.endsWith("/*")) {
+                String stripped = path.substring(0, path.length() - 2);
+                builder.addPrefixPath(stripped.isEmpty() ? "/" : stripped, chains);
+            } else if (path.endsWith("*")) {
+                builder.addPrefixPath(path.substring(0, path.length() - 1), chains);
+            } else {
+                builder.addExactPath(path, chains);
+            }
+        }
+        pathMatcher = builder.build();
     }
 
     public List<HttpSecurityPolicy> findPermissionCheckers(HttpServerRequest request) {
-        PathMatcher.PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(request.path());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
+        PolicyChains toCheck = pathMatcher.match(request.path());
+        if (toCheck == null) {
             return Collections.emptyList();
         }
-        List<HttpSecurityPolicy> methodMatch = new ArrayList<>();
-        List<HttpSecurityPolicy> noMethod = new ArrayList<>();
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.methods == null || i.methods.isEmpty()) {
-                noMethod.add(i.checker);
-            } else if (i.methods.contains(request.method().toString())) {
-                methodMatch.add(i.checker);
-            }
-        }
-        if (!methodMatch.isEmpty()) {
-            return methodMatch;
-        } else if (!noMethod.isEmpty()) {
-            return noMethod;
-        } else {
-            //we deny if we did not match due to method filtering
-            return Collections.singletonList(DenySecurityPolicy.INSTANCE);
-        }
-
+        return toCheck.forMethod(request.method().name());
     }
 
     static class HttpMatcher {
@@ -163,4 +148,51 @@ static class HttpMatcher {
             this.authMechanism = authMechanism;
         }
     }
+
+    /**
+     * The policies to apply for a single path. Policies restricted to the request method take precedence over
+     * the ones which apply to all methods, requests with a method no policy applies to are denied.
+     */
+    static final class PolicyChains {
+
+        final String authMechanism;
+        final Map<String, List<HttpSecurityPolicy>> methodChains;
+        final List<HttpSecurityPolicy> defaultChain;
+
+        PolicyChains(List<HttpMatcher> matchers) {
+            String authMechanism = null;
+            List<HttpSecurityPolicy> noMethod = new ArrayList<>();
+            Map<String, List<HttpSecurityPolicy>> methodMatch = new HashMap<>();
+            for (HttpMatcher i : matchers) {
+                if (authMechanism == null) {
+                    authMechanism = i.authMechanism;
+                }
+                if (i.methods == null || i.methods.isEmpty()) {
+                    noMethod.add(i.checker);
+                } else {
+                    for (String method : i.methods) {
+                        methodMatch.computeIfAbsent(method, new Function<String, List<HttpSecurityPolicy>>() {
+                            @Override
+                            public List<HttpSecurityPolicy> apply(String s) {
+                                return new ArrayList<>();
+                            }
+                        }).add(i.checker);
+                    }
+                }
+            }
+            this.authMechanism = authMechanism;
+            Map<String, List<HttpSecurityPolicy>> methodChains = new HashMap<>();
+            for (Map.Entry<String, List<HttpSecurityPolicy>> entry : methodMatch.entrySet()) {
+                methodChains.put(entry.getKey(), List.copyOf(entry.getValue()));
+            }
+            this.methodChains = Map.copyOf(methodChains);
+            //we deny if we did not match due to method filtering
+            this.defaultChain = noMethod.isEmpty() ? List.of(DenySecurityPolicy.INSTANCE) : List.copyOf(noMethod);
+        }
+
+        List<HttpSecurityPolicy> forMethod(String method) {
+            List<HttpSecurityPolicy> chain = methodChains.get(method);
+            return chain != null ? chain : defaultChain;
+        }
+    }
 }
@@ -0,0 +1,127 @@
+package io.quarkus.vertx.http.runtime.security;
+
+import java.nio.charset.Charset;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.quarkus.security.identity.SecurityIdentity;
+
+/**
+ * Bounded cache of the identities authenticated with the basic authentication mechanism.
+ * <p>
+ * Entries are keyed on an HMAC of the decoded credentials computed with a random key generated when the cache
+ * is created, so neither the credentials nor a hash that could be attacked offline are retained. The least recently
+ * used entry is evicted when the cache is full, entries expire once the time to live has elapsed.
+ */
+final class BasicAuthenticationCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final int maxSize;
+    private final long timeToLiveMillis;
+    private final ThreadLocal<Mac> mac;
+    private final Map<CacheKey, CacheEntry> cacheMap;
+
+    BasicAuthenticationCache(int maxSize, Duration timeToLive) {
+        this.maxSize = maxSize;
+        this.timeToLiveMillis = timeToLive.toMillis();
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        SecretKeySpec key = new SecretKeySpec(secret, HMAC_ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        this.cacheMap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+                return size() > BasicAuthenticationCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Creates the cache key of the given decoded credentials.
+     */
+    CacheKey key(byte[] credentials, Charset charset) {
+        return new CacheKey(mac.get().doFinal(credentials), charset);
+    }
+
+    SecurityIdentity get(CacheKey key) {
+        synchronized (cacheMap) {
+            CacheEntry entry = cacheMap.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt < System.currentTimeMillis()) {
+                cacheMap.remove(key);
+                return null;
+            }
+            return entry.identity;
+        }
+    }
+
+    void put(CacheKey key, SecurityIdentity identity) {
+        CacheEntry entry = new CacheEntry(identity, System.currentTimeMillis() + timeToLiveMillis);
+        synchronized (cacheMap) {
+            cacheMap.put(key, entry);
+        }
+    }
+
+    int size() {
+        synchronized (cacheMap) {
+            return cacheMap.size();
+        }
+    }
+
+    static final class CacheKey {
+        private final byte[] digest;
+        private final Charset charset;
+        private final int hashCode;
+
+        private CacheKey(byte[] digest, Charset charset) {
+            this.digest = digest;
+            this.charset = charset;
+            this.hashCode = 31 * Arrays.hashCode(digest) + charset.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return Arrays.equals(digest, other.digest) && charset.equals(other.charset);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class CacheEntry {
+        final SecurityIdentity identity;
+        final long expiresAt;
+
+        CacheEntry(SecurityIdentity identity, long expiresAt) {
+            this.identity = identity;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -17,16 +17,23 @@
  */
 package io.quarkus.vertx.http.runtime.security;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.security.Permission;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 import jakarta.inject.Singleton;
@@ -36,6 +43,7 @@
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.quarkus.security.AuthenticationFailedException;
+import io.quarkus.security.credential.Credential;
 import io.quarkus.security.credential.PasswordCredential;
 import io.quarkus.security.identity.IdentityProviderManager;
 import io.quarkus.security.identity.SecurityIdentity;
@@ -70,9 +78,13 @@ public class BasicAuthenticationMechanism implements HttpAuthenticationMechanism
 
     private static final String BASIC = "basic";
     private static final String BASIC_PREFIX = BASIC + " ";
-    private static final String LOWERCASE_BASIC_PREFIX = BASIC_PREFIX.toLowerCase(Locale.ENGLISH);
     private static final int PREFIX_LENGTH = BASIC_PREFIX.length();
     private static final String COLON = ":";
+    /**
+     * The identity attributes under which the routing context of the authenticated request can be found.
+     */
+    private static final Set<String> ROUTING_CONTEXT_ATTRIBUTES = Set.of(RoutingContext.class.getName(),
+            HttpSecurityUtils.ROUTING_CONTEXT_ATTRIBUTE);
 
     /**
      * If silent is true then this mechanism will only take effect if there is an Authorization header.
@@ -84,6 +96,7 @@ public class BasicAuthenticationMechanism implements HttpAuthenticationMechanism
 
     private final Charset charset;
     private final Map<Pattern, Charset> userAgentCharsets;
+    private final BasicAuthenticationCache cache;
 
     public BasicAuthenticationMechanism(final String realmName) {
         this(realmName, false);
@@ -95,10 +108,20 @@ public BasicAuthenticationMechanism(final String realmName, final boolean silent
 
     public BasicAuthenticationMechanism(final String realmName, final boolean silent,
             Charset charset, Map<Pattern, Charset> userAgentCharsets) {
+        this(realmName, silent, charset, userAgentCharsets, 0, null);
+    }
+
+    /**
+     * @param cacheMaxSize the maximum number of authenticated identities to cache, the cache is disabled if it is 0
+     * @param cacheTimeToLive how long an authenticated identity can be cached for
+     */
+    public BasicAuthenticationMechanism(final String realmName, final boolean silent,
+            Charset charset, Map<Pattern, Charset> userAgentCharsets, int cacheMaxSize, Duration cacheTimeToLive) {
         this.challenge = realmName == null ? BASIC : BASIC_PREFIX + "realm=\"" + realmName + "\"";
         this.silent = silent;
         this.charset = charset;
         this.userAgentCharsets = Collections.unmodifiableMap(new LinkedHashMap<>(userAgentCharsets));
+        this.cache = cacheMaxSize > 0 ? new BasicAuthenticationCache(cacheMaxSize, cacheTimeToLive) : null;
     }
 
     @Deprecated
@@ -118,6 +141,7 @@ public BasicAuthenticationMechanism(final String realmName, final String mechani
         this.silent = silent;
         this.charset = charset;
         this.userAgentCharsets = Collections.unmodifiableMap(new LinkedHashMap<>(userAgentCharsets));
+        this.cache = null;
     }
 
     @Override
@@ -126,11 +150,12 @@ public Uni<SecurityIdentity> authenticate(RoutingContext context,
         List<String> authHeaders = context.request().headers().getAll(HttpHeaderNames.AUTHORIZATION);
         if (authHeaders != null) {
             for (String current : authHeaders) {
-                if (current.toLowerCase(Locale.ENGLISH).startsWith(LOWERCASE_BASIC_PREFIX)) {
+                if (current.regionMatches(true, 0, BASIC_PREFIX, 0, PREFIX_LENGTH)) {
 
-                    String base64Challenge = current.substring(PREFIX_LENGTH);
-                    String plainChallenge = null;
-                    byte[] decode = Base64.getDecoder().decode(base64Challenge);
+                    byte[] decode = decodeBase64(current);
+                    if (decode == null) {
+                        return Uni.createFrom().failure(new AuthenticationFailedException());
+                    }
 
                     Charset charset = this.charset;
                     if (!userAgentCharsets.isEmpty()) {
@@ -145,19 +170,51 @@ public Uni<SecurityIdentity> authenticate(RoutingContext context,
                         }
                     }
 
-                    plainChallenge = new String(decode, charset);
-                    int colonPos;
-                    if ((colonPos = plainChallenge.indexOf(COLON)) > -1) {
-                        String userName = plainChallenge.substring(0, colonPos);
-                        char[] password = plainChallenge.substring(colonPos + 1).toCharArray();
-                        log.debugf("Found basic auth header %s:***** (decoded using charset %s)", userName, charset);
+                    if (!isAsciiCompatible(charset)) {
+                        // the colon can only be searched for in the decoded bytes if it is encoded as a single byte
+                        byte[] utf8 = new String(decode, charset).getBytes(StandardCharsets.UTF_8);
+                        Arrays.fill(decode, (byte) 0);
+                        decode = utf8;
+                        charset = StandardCharsets.UTF_8;
+                    }
+
+                    try {
+                        int colonPos = indexOfColon(decode);
+                        if (colonPos > -1) {
+                            context.put(HttpAuthenticationMechanism.class.getName(), this);
+                            BasicAuthenticationCache.CacheKey cacheKey = null;
+                            if (cache != null) {
+                                cacheKey = cache.key(decode, charset);
+                                SecurityIdentity cached = cache.get(cacheKey);
+                                if (cached != null) {
+                                    return Uni.createFrom().item(withRoutingContext(cached, context));
+                                }
+                            }
 
-                        UsernamePasswordAuthenticationRequest credential = new UsernamePasswordAuthenticationRequest(userName,
-                                new PasswordCredential(password));
-                        HttpSecurityUtils.setRoutingContextAttribute(credential, context);
-                        context.put(HttpAuthenticationMechanism.class.getName(), this);
+                            String userName = new String(decode, 0, colonPos, charset);
+                            char[] password = decodePassword(decode, colonPos + 1, charset);
+                            log.debugf("Found basic auth header %s:***** (decoded using charset %s)", userName, charset);
 
-                        return identityProviderManager.authenticate(credential);
+                            UsernamePasswordAuthenticationRequest credential = new UsernamePasswordAuthenticationRequest(
+                                    userName, new PasswordCredential(password));
+                            HttpSecurityUtils.setRoutingContextAttribute(credential, context);
+
+                            Uni<SecurityIdentity> identity = identityProviderManager.authenticate(credential);
+                            if (cacheKey != null) {
+                                BasicAuthenticationCache.CacheKey key = cacheKey;
+                                identity = identity.invoke(new Consumer<SecurityIdentity>() {
+                                    @Override
+                                    public void accept(SecurityIdentity securityIdentity) {
+                                        if (securityIdentity != null && !securityIdentity.isAnonymous()) {
+                                            cache.put(key, securityIdentity);
+                                        }
+                                    }
+                                });
+                            }
+                            return identity;
+                        }
+                    } finally {
+                        Arrays.fill(decode, (byte) 0);
                     }
 
                     // By this point we had a header we should have been able to verify but for some reason
@@ -171,6 +228,130 @@ public Uni<SecurityIdentity> authenticate(RoutingContext context,
         return Uni.createFrom().optional(Optional.empty());
     }
 
+    /**
+     * Decodes the Base64 credentials that follow the scheme of the given header, without creating intermediate Strings.
+     *
+     * @return the decoded credentials, or null if they are not valid Base64
+     */
+    private static byte[] decodeBase64(String header) {
+        byte[] encoded = new byte[header.length() - PREFIX_LENGTH];
+        for (int i = 0; i < encoded.length; ++i) {
+            char c = header.charAt(PREFIX_LENGTH + i);
+            // non ASCII characters are mapped to a byte which is never valid Base64
+            encoded[i] = c < 0x80 ? (byte) c : (byte) '!';
+        }
+        try {
+            return Base64.getDecoder().decode(encoded);
+        } catch (IllegalArgumentException e) {
+            log.debug("Basic auth header is not valid Base64");
+            return null;
+        }
+    }
+
+    private static int indexOfColon(byte[] decoded) {
+        for (int i = 0; i < decoded.length; ++i) {
+            if (decoded[i] == ':') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static char[] decodePassword(byte[] decoded, int offset, Charset charset) {
+        CharBuffer chars = charset.decode(ByteBuffer.wrap(decoded, offset, decoded.length - offset));
+        char[] password = new char[chars.remaining()];
+        chars.get(password);
+        if (chars.hasArray()) {
+            Arrays.fill(chars.array(), '\0');
+        }
+        return password;
+    }
+
+    /**
+     * In an ASCII compatible charset a byte in the ASCII range always encodes the corresponding character.
+     */
+    private static boolean isAsciiCompatible(Charset charset) {
+        return StandardCharsets.UTF_8.equals(charset) || StandardCharsets.ISO_8859_1.equals(charset)
+                || StandardCharsets.US_ASCII.equals(charset);
+    }
+
+    /**
+     * A cached identity was created for an earlier request, the routing context it carries is replaced with the one
+     * of the current request.
+     */
+    private static SecurityIdentity withRoutingContext(SecurityIdentity identity, RoutingContext context) {
+        for (String name : ROUTING_CONTEXT_ATTRIBUTES) {
+            Object cachedContext = identity.getAttribute(name);
+            if (cachedContext != null && cachedContext != context) {
+                return new RoutingContextSecurityIdentity(identity, context);
+            }
+        }
+        return identity;
+    }
+
+    private static final class RoutingContextSecurityIdentity implements SecurityIdentity {
+
+        private final SecurityIdentity delegate;
+        private final Map<String, Object> attributes;
+
+        RoutingContextSecurityIdentity(SecurityIdentity identity, RoutingContext context) {
+            this.delegate = identity instanceof RoutingContextSecurityIdentity
+                    ? ((RoutingContextSecurityIdentity) identity).delegate
+                    : identity;
+            Map<String, Object> attributes = new HashMap<>(delegate.getAttributes());
+            for (String name : ROUTING_CONTEXT_ATTRIBUTES) {
+                attributes.computeIfPresent(name, (key, cachedContext) -> context);
+            }
+            this.attributes = Collections.unmodifiableMap(attributes);
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return delegate.getPrincipal();
+        }
+
+        @Override
+        public boolean isAnonymous() {
+            return delegate.isAnonymous();
+        }
+
+        @Override
+        public Set<String> getRoles() {
+            return delegate.getRoles();
+        }
+
+        @Override
+        public boolean hasRole(String role) {
+            return delegate.hasRole(role);
+        }
+
+        @Override
+        public <T extends Credential> T getCredential(Class<T> credentialType) {
+            return delegate.getCredential(credentialType);
+        }
+
+        @Override
+        public Set<Credential> getCredentials() {
+            return delegate.getCredentials();
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> T getAttribute(String name) {
+            return (T) attributes.get(name);
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public Uni<Boolean> checkPermission(Permission permission) {
+            return delegate.checkPermission(permission);
+        }
+    }
+
     @Override
     public Uni<ChallengeData> getChallenge(RoutingContext context) {
         if (silent) {
@@ -0,0 +1,142 @@
+package io.quarkus.vertx.http.runtime.security;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Read-only counterpart of {@link PathMatcher} that is built once and then matched without any allocation.
+ * <p>
+ * Exact paths are looked up in a hash map, prefix paths are stored in a character trie. Like with {@link PathMatcher},
+ * a prefix path only matches whole path segments, e.g. {@code /foo} matches {@code /foo} and {@code /foo/bar}, but not
+ * {@code /foobar}, and the longest matching prefix wins.
+ */
+final class ImmutablePathMatcher<T> {
+
+    private final T defaultHandler;
+    private final Map<String, T> exactPathMatches;
+    private final Node<T> root;
+
+    private ImmutablePathMatcher(T defaultHandler, Map<String, T> exactPathMatches, Node<T> root) {
+        this.defaultHandler = defaultHandler;
+        this.exactPathMatches = exactPathMatches;
+        this.root = root;
+    }
+
+    /**
+     * Matches a path against the registered handlers.
+     *
+     * @param path The relative path to match
+     * @return The matched handler, or the default handler if none matched
+     */
+    T match(String path) {
+        if (!exactPathMatches.isEmpty()) {
+            T match = exactPathMatches.get(path);
+            if (match != null) {
+                return match;
+            }
+        }
+        T match = defaultHandler;
+        Node<T> node = root;
+        int length = path.length();
+        for (int i = 0; i < length; ++i) {
+            char c = path.charAt(i);
+            if (c == '/' && node.value != null) {
+                match = node.value;
+            }
+            node = node.child(c);
+            if (node == null) {
+                return match;
+            }
+        }
+        return node.value != null ? node.value : match;
+    }
+
+    static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    static final class Builder<T> {
+
+        private T defaultHandler;
+        private final Map<String, T> exactPathMatches = new HashMap<>();
+        private final Node<T> root = new Node<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a path prefix and a handler for that path. If / is specified as the path then it will replace
+         * the default handler.
+         */
+        Builder<T> addPrefixPath(String path, T handler) {
+            if (path.isEmpty()) {
+                throw new IllegalArgumentException("Path not specified");
+            }
+            if ("/".equals(path)) {
+                defaultHandler = handler;
+                return this;
+            }
+            Node<T> node = root;
+            for (int i = 0; i < path.length(); ++i) {
+                node = node.getOrCreateChild(path.charAt(i));
+            }
+            node.value = handler;
+            return this;
+        }
+
+        Builder<T> addExactPath(String path, T handler) {
+            if (path.isEmpty()) {
+                throw new IllegalArgumentException("Path not specified");
+            }
+            exactPathMatches.put(path, handler);
+            return this;
+        }
+
+        ImmutablePathMatcher<T> build() {
+            return new ImmutablePathMatcher<>(defaultHandler, Map.copyOf(exactPathMatches), root);
+        }
+    }
+
+    /**
+     * Trie node, children are kept sorted by their character so that they can be binary searched.
+     */
+    private static final class Node<T> {
+
+        private static final char[] NO_KEYS = new char[0];
+
+        private char[] keys = NO_KEYS;
+        private Node<T>[] children = newArray(0);
+        private T value;
+
+        Node<T> child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index < 0 ? null : children[index];
+        }
+
+        Node<T> getOrCreateChild(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            Node<T> child = new Node<>();
+            char[] newKeys = new char[keys.length + 1];
+            Node<T>[] newChildren = newArray(children.length + 1);
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = c;
+            newChildren[insertAt] = child;
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Node<T>[] newArray(int size) {
+            return new Node[size];
+        }
+    }
+}
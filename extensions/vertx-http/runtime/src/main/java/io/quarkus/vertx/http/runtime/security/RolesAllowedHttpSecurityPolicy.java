@@ -1,7 +1,9 @@
 package io.quarkus.vertx.http.runtime.security;
 
+import java.lang.ref.WeakReference;
 import java.security.Permission;
 import java.security.Principal;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -17,6 +19,16 @@
  * permission checker that handles role based permissions
  */
 public class RolesAllowedHttpSecurityPolicy implements HttpSecurityPolicy {
+    /**
+     * Number of slots of the decision cache, must be a power of two
+     */
+    private static final int DECISION_CACHE_SIZE = 256;
+
+    /**
+     * Recent decisions, indexed on the identity hash code of the security identity. A security identity is immutable,
+     * so a decision made for one identity instance stays valid for as long as that instance is in use.
+     */
+    private final CachedDecision[] decisionCache = new CachedDecision[DECISION_CACHE_SIZE];
     private List<String> rolesAllowed;
     private final boolean grantPermissions;
     private final Map<String, Set<Permission>> roleToPermissions;
@@ -44,6 +56,7 @@ public List<String> getRolesAllowed() {
 
     public RolesAllowedHttpSecurityPolicy setRolesAllowed(List<String> rolesAllowed) {
         this.rolesAllowed = rolesAllowed;
+        Arrays.fill(decisionCache, null);
         return this;
     }
 
@@ -53,21 +66,36 @@ public Uni<CheckResult> checkPermission(RoutingContext request, Uni<SecurityIden
         return identity.map(new Function<SecurityIdentity, CheckResult>() {
             @Override
             public CheckResult apply(SecurityIdentity securityIdentity) {
-                for (String i : rolesAllowed) {
-                    if (securityIdentity.hasRole(i) || ("**".equals(i) && !securityIdentity.isAnonymous())) {
-                        if (grantPermissions) {
-                            // permit access and add augment security identity with additional permissions
-                            return grantPermissions(securityIdentity);
-                        }
-                        return CheckResult.PERMIT;
-                    }
+                int slot = System.identityHashCode(securityIdentity) & (DECISION_CACHE_SIZE - 1);
+                CachedDecision decision = decisionCache[slot];
+                if (decision == null || decision.identity.get() != securityIdentity) {
+                    decision = decide(securityIdentity);
+                    // racy publication is fine, the fields of a cached decision are final
+                    decisionCache[slot] = decision;
+                }
+                if (!decision.permitted) {
+                    return CheckResult.DENY;
+                }
+                if (decision.permissions != null) {
+                    // permit access and add augment security identity with additional permissions
+                    return new CheckResult(true, augmentIdentity(securityIdentity, decision.permissions));
                 }
-                return CheckResult.DENY;
+                return CheckResult.PERMIT;
             }
         });
     }
 
-    private CheckResult grantPermissions(SecurityIdentity securityIdentity) {
+    private CachedDecision decide(SecurityIdentity securityIdentity) {
+        for (String i : rolesAllowed) {
+            if (securityIdentity.hasRole(i) || ("**".equals(i) && !securityIdentity.isAnonymous())) {
+                return new CachedDecision(securityIdentity, true,
+                        grantPermissions ? grantedPermissions(securityIdentity) : null);
+            }
+        }
+        return new CachedDecision(securityIdentity, false, null);
+    }
+
+    private Set<Permission> grantedPermissions(SecurityIdentity securityIdentity) {
         Set<String> roles = securityIdentity.getRoles();
         if (roles != null && !roles.isEmpty()) {
             Set<Permission> permissions = new HashSet<>();
@@ -77,10 +105,10 @@ private CheckResult grantPermissions(SecurityIdentity securityIdentity) {
                 }
             }
             if (!permissions.isEmpty()) {
-                return new CheckResult(true, augmentIdentity(securityIdentity, permissions));
+                return permissions;
             }
         }
-        return CheckResult.PERMIT;
+        return null;
     }
 
     private static SecurityIdentity augmentIdentity(SecurityIdentity securityIdentity, Set<Permission> permissions) {
@@ -148,4 +176,16 @@ public boolean checkPermissionBlocking(Permission requiredPermission) {
             }
         };
     }
+
+    private static final class CachedDecision {
+        final WeakReference<SecurityIdentity> identity;
+        final boolean permitted;
+        final Set<Permission> permissions;
+
+        CachedDecision(SecurityIdentity identity, boolean permitted, Set<Permission> permissions) {
+            this.identity = new WeakReference<>(identity);
+            this.permitted = permitted;
+            this.permissions = permissions;
+        }
+    }
 }
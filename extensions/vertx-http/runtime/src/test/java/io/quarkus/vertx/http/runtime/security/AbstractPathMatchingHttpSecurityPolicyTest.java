@@ -0,0 +1,124 @@
+package io.quarkus.vertx.http.runtime.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.BasicPermission;
+import java.security.Permission;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.vertx.http.runtime.PolicyMappingConfig;
+import io.quarkus.vertx.http.runtime.security.HttpSecurityPolicy.CheckResult;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+
+public class AbstractPathMatchingHttpSecurityPolicyTest {
+
+    private static final HttpSecurityPolicy ADMIN = new RolesAllowedHttpSecurityPolicy(List.of("admin"));
+    private static final HttpSecurityPolicy USER = new RolesAllowedHttpSecurityPolicy(List.of("user"));
+
+    @Test
+    public void testPolicyChainSelection() {
+        Map<String, PolicyMappingConfig> permissions = new HashMap<>();
+        permissions.put("admin", permission("admin", List.of("/api/*"), List.of("POST", "DELETE"), "basic"));
+        permissions.put("user", permission("user", List.of("/api/*", "public"), List.of(), null));
+        permissions.put("get", permission("user", List.of("/get"), List.of("GET"), null));
+
+        AbstractPathMatchingHttpSecurityPolicy policy = new AbstractPathMatchingHttpSecurityPolicy();
+        policy.init(permissions, policies(), "/root/");
+
+        assertEquals(List.of(ADMIN), policy.findPermissionCheckers(request("/api/resource", HttpMethod.POST)));
+        assertEquals(List.of(USER), policy.findPermissionCheckers(request("/api/resource", HttpMethod.GET)));
+        assertEquals(List.of(USER), policy.findPermissionCheckers(request("/root/public", HttpMethod.PUT)));
+        assertEquals(List.of(USER), policy.findPermissionCheckers(request("/get", HttpMethod.GET)));
+        assertEquals(List.of(DenySecurityPolicy.INSTANCE), policy.findPermissionCheckers(request("/get", HttpMethod.PUT)));
+        assertTrue(policy.findPermissionCheckers(request("/other", HttpMethod.GET)).isEmpty());
+        assertSame(policy.findPermissionCheckers(request("/api/a", HttpMethod.GET)),
+                policy.findPermissionCheckers(request("/api/b", HttpMethod.HEAD)));
+    }
+
+    @Test
+    public void testRolesAllowedDecisionIsCachedPerIdentity() {
+        RolesAllowedHttpSecurityPolicy policy = new RolesAllowedHttpSecurityPolicy(List.of("admin"));
+        SecurityIdentity admin = identity("admin");
+        SecurityIdentity user = identity("user");
+
+        assertTrue(check(policy, admin).isPermitted());
+        assertTrue(check(policy, admin).isPermitted());
+        Mockito.verify(admin, Mockito.times(1)).hasRole("admin");
+        assertFalse(check(policy, user).isPermitted());
+        assertFalse(check(policy, user).isPermitted());
+        Mockito.verify(user, Mockito.times(1)).hasRole("admin");
+
+        policy.setRolesAllowed(List.of("user"));
+        assertTrue(check(policy, user).isPermitted());
+        assertFalse(check(policy, admin).isPermitted());
+    }
+
+    @Test
+    public void testRolesAllowedGrantsPermissionsPerIdentity() {
+        Permission permission = new BasicPermission("read") {
+        };
+        RolesAllowedHttpSecurityPolicy policy = new RolesAllowedHttpSecurityPolicy(List.of("admin"),
+                Map.of("admin", Set.of(permission)));
+        SecurityIdentity admin = identity("admin");
+
+        CheckResult first = check(policy, admin);
+        CheckResult second = check(policy, admin);
+        assertTrue(first.getAugmentedIdentity().checkPermissionBlocking(permission));
+        assertNotSame(first.getAugmentedIdentity(), second.getAugmentedIdentity());
+        assertTrue(second.getAugmentedIdentity().checkPermissionBlocking(permission));
+        assertNull(new RolesAllowedHttpSecurityPolicy(List.of("admin"), Map.of()).checkPermission(null,
+                Uni.createFrom().item(admin), null).await().indefinitely().getAugmentedIdentity());
+    }
+
+    private static CheckResult check(HttpSecurityPolicy policy, SecurityIdentity identity) {
+        return policy.checkPermission(null, Uni.createFrom().item(identity), null).await().indefinitely();
+    }
+
+    private static SecurityIdentity identity(String role) {
+        SecurityIdentity identity = Mockito.mock(SecurityIdentity.class);
+        Mockito.when(identity.hasRole(role)).thenReturn(true);
+        Mockito.when(identity.getRoles()).thenReturn(Set.of(role));
+        return identity;
+    }
+
+    private static HttpServerRequest request(String path, HttpMethod method) {
+        HttpServerRequest request = Mockito.mock(HttpServerRequest.class);
+        Mockito.when(request.path()).thenReturn(path);
+        Mockito.when(request.method()).thenReturn(method);
+        return request;
+    }
+
+    private static Map<String, Supplier<HttpSecurityPolicy>> policies() {
+        Map<String, Supplier<HttpSecurityPolicy>> policies = new HashMap<>();
+        policies.put("admin", new SupplierImpl<>(ADMIN));
+        policies.put("user", new SupplierImpl<>(USER));
+        return policies;
+    }
+
+    private static PolicyMappingConfig permission(String policy, List<String> paths, List<String> methods,
+            String authMechanism) {
+        PolicyMappingConfig config = new PolicyMappingConfig();
+        config.enabled = Optional.empty();
+        config.policy = policy;
+        config.paths = Optional.of(paths);
+        config.methods = Optional.of(methods);
+        config.authMechanism = Optional.ofNullable(authMechanism);
+        return config;
+    }
+}
@@ -0,0 +1,189 @@
+package io.quarkus.vertx.http.runtime.security;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import io.quarkus.security.AuthenticationFailedException;
+import io.quarkus.security.identity.IdentityProviderManager;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.AuthenticationRequest;
+import io.quarkus.security.identity.request.UsernamePasswordAuthenticationRequest;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+
+public class BasicAuthenticationMechanismTest {
+
+    @Test
+    public void testCredentialsAreDecoded() {
+        BasicAuthenticationMechanism mechanism = new BasicAuthenticationMechanism(null);
+        TestIdentityProviderManager manager = new TestIdentityProviderManager();
+
+        mechanism.authenticate(context(header("alice:pass:word", StandardCharsets.UTF_8), null), manager)
+                .await().indefinitely();
+        mechanism.authenticate(context("BASIC " + encode("bób:pässword", StandardCharsets.UTF_8), null), manager)
+                .await().indefinitely();
+
+        assertEquals("alice", manager.requests.get(0).getUsername());
+        assertArrayEquals("pass:word".toCharArray(), manager.requests.get(0).getPassword().getPassword());
+        assertEquals("bób", manager.requests.get(1).getUsername());
+        assertArrayEquals("pässword".toCharArray(), manager.requests.get(1).getPassword().getPassword());
+    }
+
+    @Test
+    public void testUserAgentCharset() {
+        BasicAuthenticationMechanism mechanism = new BasicAuthenticationMechanism(null, false, StandardCharsets.UTF_8,
+                Map.of(Pattern.compile("legacy"), StandardCharsets.UTF_16));
+        TestIdentityProviderManager manager = new TestIdentityProviderManager();
+
+        mechanism.authenticate(context(header("bób:pässword", StandardCharsets.UTF_16), "legacy-client"), manager)
+                .await().indefinitely();
+
+        assertEquals("bób", manager.requests.get(0).getUsername());
+        assertArrayEquals("pässword".toCharArray(), manager.requests.get(0).getPassword().getPassword());
+    }
+
+    @Test
+    public void testMalformedHeader() {
+        BasicAuthenticationMechanism mechanism = new BasicAuthenticationMechanism(null);
+        TestIdentityProviderManager manager = new TestIdentityProviderManager();
+
+        assertThrows(AuthenticationFailedException.class,
+                () -> mechanism.authenticate(context(header("nocolon", StandardCharsets.UTF_8), null), manager)
+                        .await().indefinitely());
+        assertThrows(AuthenticationFailedException.class,
+                () -> mechanism.authenticate(context("Basic not-base64!", null), manager).await().indefinitely());
+        assertNull(mechanism.authenticate(context("Bearer token", null), manager).await().indefinitely());
+        assertEquals(0, manager.requests.size());
+    }
+
+    @Test
+    public void testAuthenticatedIdentityIsCached() {
+        BasicAuthenticationMechanism mechanism = new BasicAuthenticationMechanism(null, false, StandardCharsets.UTF_8,
+                Collections.emptyMap(), 10, Duration.ofMinutes(1));
+        TestIdentityProviderManager manager = new TestIdentityProviderManager();
+
+        SecurityIdentity first = mechanism.authenticate(context(header("alice:secret", StandardCharsets.UTF_8), null), manager)
+                .await().indefinitely();
+        SecurityIdentity second = mechanism
+                .authenticate(context(header("alice:secret", StandardCharsets.UTF_8), null), manager)
+                .await().indefinitely();
+        assertSame(first, second);
+        assertEquals(1, manager.requests.size());
+
+        mechanism.authenticate(context(header("alice:other", StandardCharsets.UTF_8), null), manager).await().indefinitely();
+        assertEquals(2, manager.requests.size());
+    }
+
+    @Test
+    public void testCachedIdentityCarriesTheCurrentRoutingContext() {
+        BasicAuthenticationMechanism mechanism = new BasicAuthenticationMechanism(null, false, StandardCharsets.UTF_8,
+                Collections.emptyMap(), 10, Duration.ofMinutes(1));
+        RoutingContextIdentityProviderManager manager = new RoutingContextIdentityProviderManager();
+
+        RoutingContext firstContext = context(header("alice:secret", StandardCharsets.UTF_8), null);
+        SecurityIdentity first = mechanism.authenticate(firstContext, manager).await().indefinitely();
+        assertSame(firstContext, first.getAttribute(RoutingContext.class.getName()));
+        assertSame(firstContext, first.getAttributes().get(RoutingContext.class.getName()));
+
+        RoutingContext secondContext = context(header("alice:secret", StandardCharsets.UTF_8), null);
+        SecurityIdentity second = mechanism.authenticate(secondContext, manager).await().indefinitely();
+        assertSame(secondContext, second.getAttribute(RoutingContext.class.getName()));
+        assertSame(secondContext, second.getAttributes().get(RoutingContext.class.getName()));
+        assertEquals("alice", second.getPrincipal().getName());
+        assertEquals(Set.of("user"), second.getRoles());
+        // the second request was answered from the cache
+        assertEquals(1, manager.requests.size());
+        assertSame(firstContext, HttpSecurityUtils.getRoutingContextAttribute(manager.requests.get(0)));
+    }
+
+    @Test
+    public void testExpiredIdentityIsNotReused() {
+        BasicAuthenticationMechanism mechanism = new BasicAuthenticationMechanism(null, false, StandardCharsets.UTF_8,
+                Collections.emptyMap(), 10, Duration.ofMillis(-1));
+        TestIdentityProviderManager manager = new TestIdentityProviderManager();
+
+        mechanism.authenticate(context(header("alice:secret", StandardCharsets.UTF_8), null), manager).await().indefinitely();
+        mechanism.authenticate(context(header("alice:secret", StandardCharsets.UTF_8), null), manager).await().indefinitely();
+        assertEquals(2, manager.requests.size());
+    }
+
+    private static String header(String credentials, Charset charset) {
+        return "Basic " + encode(credentials, charset);
+    }
+
+    private static String encode(String credentials, Charset charset) {
+        return Base64.getEncoder().encodeToString(credentials.getBytes(charset));
+    }
+
+    private static RoutingContext context(String authorization, String userAgent) {
+        MultiMap headers = MultiMap.caseInsensitiveMultiMap().add("Authorization", authorization);
+        if (userAgent != null) {
+            headers.add("User-Agent", userAgent);
+        }
+        HttpServerRequest request = Mockito.mock(HttpServerRequest.class);
+        Mockito.when(request.headers()).thenReturn(headers);
+        RoutingContext context = Mockito.mock(RoutingContext.class);
+        Mockito.when(context.request()).thenReturn(request);
+        return context;
+    }
+
+    /**
+     * Creates identities which carry the routing context of the authentication request, as the OIDC identities do.
+     */
+    private static final class RoutingContextIdentityProviderManager implements IdentityProviderManager {
+
+        final List<AuthenticationRequest> requests = new ArrayList<>();
+
+        @Override
+        public Uni<SecurityIdentity> authenticate(AuthenticationRequest request) {
+            requests.add(request);
+            RoutingContext context = HttpSecurityUtils.getRoutingContextAttribute(request);
+            SecurityIdentity identity = Mockito.mock(SecurityIdentity.class);
+            Mockito.when(identity.getPrincipal()).thenReturn(() -> "alice");
+            Mockito.when(identity.getRoles()).thenReturn(Set.of("user"));
+            Mockito.when(identity.getAttribute(RoutingContext.class.getName())).thenReturn(context);
+            Mockito.when(identity.getAttributes()).thenReturn(Map.of(RoutingContext.class.getName(), context));
+            return Uni.createFrom().item(identity);
+        }
+
+        @Override
+        public SecurityIdentity authenticateBlocking(AuthenticationRequest request) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class TestIdentityProviderManager implements IdentityProviderManager {
+
+        final List<UsernamePasswordAuthenticationRequest> requests = new ArrayList<>();
+
+        @Override
+        public Uni<SecurityIdentity> authenticate(AuthenticationRequest request) {
+            requests.add((UsernamePasswordAuthenticationRequest) request);
+            return Uni.createFrom().item(Mockito.mock(SecurityIdentity.class));
+        }
+
+        @Override
+        public SecurityIdentity authenticateBlocking(AuthenticationRequest request) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
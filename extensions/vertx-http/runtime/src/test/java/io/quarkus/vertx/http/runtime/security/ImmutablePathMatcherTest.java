@@ -0,0 +1,51 @@
+package io.quarkus.vertx.http.runtime.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+public class ImmutablePathMatcherTest {
+
+    @Test
+    public void testExactPathTakesPrecedence() {
+        ImmutablePathMatcher<String> matcher = ImmutablePathMatcher.<String> builder()
+                .addExactPath("/api/secured", "exact")
+                .addPrefixPath("/api", "prefix")
+                .build();
+        assertEquals("exact", matcher.match("/api/secured"));
+        assertEquals("prefix", matcher.match("/api/secured/sub"));
+        assertEquals("prefix", matcher.match("/api"));
+        assertNull(matcher.match("/other"));
+    }
+
+    @Test
+    public void testPrefixMatchesWholeSegments() {
+        ImmutablePathMatcher<String> matcher = ImmutablePathMatcher.<String> builder()
+                .addPrefixPath("/foo", "foo")
+                .build();
+        assertEquals("foo", matcher.match("/foo"));
+        assertEquals("foo", matcher.match("/foo/"));
+        assertEquals("foo", matcher.match("/foo/bar"));
+        assertNull(matcher.match("/foobar"));
+        assertNull(matcher.match("/fo"));
+    }
+
+    @Test
+    public void testLongestPrefixWins() {
+        ImmutablePathMatcher<String> matcher = ImmutablePathMatcher.<String> builder()
+                .addPrefixPath("/", "root")
+                .addPrefixPath("/a", "a")
+                .addPrefixPath("/a/b/c", "c")
+                .addPrefixPath("/b", "b")
+                .build();
+        assertEquals("root", matcher.match("/"));
+        assertEquals("root", matcher.match("/c"));
+        assertEquals("a", matcher.match("/a/b"));
+        assertEquals("a", matcher.match("/a/b/cd"));
+        assertEquals("c", matcher.match("/a/b/c"));
+        assertEquals("c", matcher.match("/a/b/c/d/e"));
+        assertEquals("b", matcher.match("/b/c"));
+        assertEquals("root", matcher.match("/bc"));
+    }
+}
@@ -28,6 +28,7 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
@@ -44,9 +45,11 @@ public void registerCodecs(
             BeanArchiveIndexBuildItem beanArchiveIndexBuildItem,
             CombinedIndexBuildItem combinedIndex,
             BuildProducer<MessageCodecBuildItem> messageCodecs,
-            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
+            BuildProducer<GeneratedClassBuildItem> generatedClass) {
 
         final IndexView index = beanArchiveIndexBuildItem.getIndex();
+        RecordCodecGenerator recordCodecs = new RecordCodecGenerator(combinedIndex.getIndex(), generatedClass);
         Collection<AnnotationInstance> consumeEventAnnotationInstances = index.getAnnotations(CONSUME_EVENT);
         Map<DotName, DotName> codecByTypes = new HashMap<>();
         for (AnnotationInstance consumeEventAnnotationInstance : consumeEventAnnotationInstances) {
@@ -57,7 +60,8 @@ public void registerCodecs(
 
             MethodInfo method = typeTarget.asMethod();
             Type codecTargetFromReturnType = extractPayloadTypeFromReturn(method);
-            Type codecTargetFromParameter = extractPayloadTypeFromParameter(method);
+            Type codecTargetFromParameter = extractPayloadTypeFromParameter(method,
+                    VertxConstants.isBatch(consumeEventAnnotationInstance));
 
             // If the @ConsumeEvent set the codec, use this codec. It applies to the parameter
             AnnotationValue codec = consumeEventAnnotationInstance.value("codec");
@@ -67,8 +71,10 @@ public void registerCodecs(
                 }
                 codecByTypes.put(codecTargetFromParameter.name(), codec.asClass().asClassType().name());
             } else if (codecTargetFromParameter != null) {
-                // Codec is not set, check if we have a built-in codec
-                if (!hasBuiltInCodec(codecTargetFromParameter)) {
+                // Codec is not set, check if we have a built-in codec, or if it's a record that can be encoded by a
+                // generated codec
+                if (!hasBuiltInCodec(codecTargetFromParameter)
+                        && !registerRecordCodec(codecTargetFromParameter, codecByTypes, recordCodecs)) {
                     // Ensure local delivery.
                     AnnotationValue local = consumeEventAnnotationInstance.value("local");
                     if (local != null && !local.asBoolean()) {
@@ -85,6 +91,7 @@ public void registerCodecs(
             }
 
             if (codecTargetFromReturnType != null && !hasBuiltInCodec(codecTargetFromReturnType)
+                    && !registerRecordCodec(codecTargetFromReturnType, codecByTypes, recordCodecs)
                     && !codecByTypes.containsKey(codecTargetFromReturnType.name())) {
 
                 LOGGER.debugf("Local Message Codec registered for type %s", codecTargetFromReturnType);
@@ -163,7 +170,7 @@ private static Type extractPayloadTypeFromReturn(MethodInfo method) {
         return null;
     }
 
-    private static Type extractPayloadTypeFromParameter(MethodInfo method) {
+    private static Type extractPayloadTypeFromParameter(MethodInfo method, boolean batch) {
         List<Type> parameters = method.parameterTypes();
         if (parameters.isEmpty()) {
             return null;
@@ -178,7 +185,9 @@ private static Type extractPayloadTypeFromParameter(MethodInfo method) {
             return param;
         } else if (param.kind() == Type.Kind.PARAMETERIZED_TYPE) {
             ParameterizedType parameterType = param.asParameterizedType();
-            if (isMessageClass(parameterType) && !parameterType.arguments().isEmpty()) {
+            if ((isMessageClass(parameterType) || (batch && parameterType.name().equals(VertxConstants.LIST)))
+                    && !parameterType.arguments().isEmpty()) {
+                // The payload of a message, or of each message of a batch
                 return parameterType.arguments().get(0);
             } else {
                 return parameterType;
@@ -187,6 +196,25 @@ private static Type extractPayloadTypeFromParameter(MethodInfo method) {
         return null;
     }
 
+    /**
+     * Registers the generated codec of a record, unless another codec was set explicitly.
+     *
+     * @return {@code true} if the type is a record with a generated codec, {@code false} otherwise
+     */
+    private static boolean registerRecordCodec(Type type, Map<DotName, DotName> codecByTypes,
+            RecordCodecGenerator recordCodecs) {
+        String codec = recordCodecs.generate(type);
+        if (codec == null) {
+            return false;
+        }
+        DotName registered = codecByTypes.get(type.name());
+        if (registered == null || registered.equals(LOCAL_EVENT_BUS_CODEC)) {
+            LOGGER.debugf("Generated Message Codec registered for record %s", type);
+            codecByTypes.put(type.name(), DotName.createSimple(codec));
+        }
+        return true;
+    }
+
     /**
      * Checks whether the given type has a built-in codec.
      *
@@ -9,6 +9,8 @@
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -78,6 +80,8 @@ class EventBusConsumer {
     protected static final MethodDescriptor THROWABLE_TO_STRING = MethodDescriptor
             .ofMethod(Throwable.class, "toString", String.class);
     protected static final DotName BLOCKING = DotName.createSimple(Blocking.class.getName());
+    private static final MethodDescriptor COLLECTIONS_SINGLETON_LIST = MethodDescriptor.ofMethod(Collections.class,
+            "singletonList", List.class, Object.class);
 
     static String generateInvoker(BeanInfo bean, MethodInfo method,
             AnnotationInstance consumeEvent,
@@ -126,7 +130,13 @@ static String generateInvoker(BeanInfo bean, MethodInfo method,
         }
 
         implementConstructor(bean, invokerCreator, beanField, containerField);
-        implementInvoke(bean, method, invokerCreator, beanField.getFieldDescriptor(), containerField.getFieldDescriptor());
+        if (VertxConstants.isBatch(consumeEvent)) {
+            implementBatchInvoke(bean, method, invokerCreator, beanField.getFieldDescriptor(),
+                    containerField.getFieldDescriptor());
+        } else {
+            implementInvoke(bean, method, invokerCreator, beanField.getFieldDescriptor(),
+                    containerField.getFieldDescriptor());
+        }
 
         invokerCreator.close();
         return generatedName.replace('/', '.');
@@ -238,6 +248,40 @@ private static void implementInvoke(BeanInfo bean, MethodInfo method, ClassCreat
         invoke.returnValue(result);
     }
 
+    private static void implementBatchInvoke(BeanInfo bean, MethodInfo method, ClassCreator invokerCreator,
+            FieldDescriptor beanField,
+            FieldDescriptor containerField) {
+
+        // The method descriptor is: Object invokeBatchBean(List bodies)
+        MethodCreator invokeBatch = invokerCreator.getMethodCreator("invokeBatchBean", Object.class, List.class)
+                .addException(Exception.class);
+
+        ResultHandle containerHandle = invokeBatch.readInstanceField(containerField, invokeBatch.getThis());
+        ResultHandle beanHandle = invokeBatch.readInstanceField(beanField, invokeBatch.getThis());
+        ResultHandle instanceHandle = invokeBatch.invokeInterfaceMethod(ARC_CONTAINER_INSTANCE_FOR_BEAN, containerHandle,
+                beanHandle);
+        ResultHandle beanInstanceHandle = invokeBatch
+                .invokeInterfaceMethod(INSTANCE_HANDLE_GET, instanceHandle);
+        invokeBatch.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(bean.getImplClazz().name().toString(), method.name(), void.class, List.class),
+                beanInstanceHandle, invokeBatch.getMethodParam(0));
+
+        // handle.destroy() - destroy dependent instance afterwards
+        if (BuiltinScope.DEPENDENT.is(bean.getScope())) {
+            invokeBatch.invokeInterfaceMethod(INSTANCE_HANDLE_DESTROY, instanceHandle);
+        }
+        invokeBatch.returnValue(invokeBatch.loadNull());
+
+        // The method descriptor is: Object invokeBean(Message message)
+        // A single message is delivered as a batch of one
+        MethodCreator invoke = invokerCreator.getMethodCreator("invokeBean", Object.class, Message.class)
+                .addException(Exception.class);
+        ResultHandle bodyHandle = invoke.invokeInterfaceMethod(MESSAGE_BODY, invoke.getMethodParam(0));
+        ResultHandle result = invoke.invokeVirtualMethod(invokeBatch.getMethodDescriptor(), invoke.getThis(),
+                invoke.invokeStaticMethod(COLLECTIONS_SINGLETON_LIST, bodyHandle));
+        invoke.returnValue(result);
+    }
+
     private EventBusConsumer() {
         // Avoid direct instantiation.
     }
@@ -0,0 +1,286 @@
+package io.quarkus.vertx.deployment;
+
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.RecordComponentInfo;
+import org.jboss.jandex.Type;
+
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.vertx.runtime.RecordEventBusCodec;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Generates the {@link RecordEventBusCodec} of the records used as event payloads.
+ */
+class RecordCodecGenerator {
+
+    private static final String CODEC_SUFFIX = "_EventBusCodec";
+
+    private static final MethodDescriptor CODEC_CONSTRUCTOR = MethodDescriptor.ofConstructor(RecordEventBusCodec.class,
+            String.class);
+    private static final MethodDescriptor WRITE_BYTES = MethodDescriptor.ofMethod(RecordEventBusCodec.class, "writeBytes",
+            void.class, Buffer.class, byte[].class);
+    private static final MethodDescriptor WRITE_ENUM = MethodDescriptor.ofMethod(RecordEventBusCodec.class, "writeEnum",
+            void.class, Buffer.class, Enum.class);
+    private static final MethodDescriptor WRITE_RECORD = MethodDescriptor.ofMethod(RecordEventBusCodec.class, "writeRecord",
+            void.class, Buffer.class, Object.class, RecordEventBusCodec.class);
+    private static final MethodDescriptor READ_BYTES = MethodDescriptor.ofMethod(RecordEventBusCodec.Input.class,
+            "readBytes", byte[].class);
+    private static final MethodDescriptor READ_ENUM = MethodDescriptor.ofMethod(RecordEventBusCodec.Input.class, "readEnum",
+            Object.class, Object[].class);
+    private static final MethodDescriptor READ_RECORD = MethodDescriptor.ofMethod(RecordEventBusCodec.Input.class,
+            "readRecord", Object.class, RecordEventBusCodec.class);
+
+    /**
+     * The types written and read by a pair of methods, the key is the type name, the value is the suffix of the
+     * {@code write*} and {@code read*} methods.
+     */
+    private static final Map<DotName, String> VALUE_TYPES = new HashMap<>();
+    private static final Map<DotName, Class<?>> VALUE_CLASSES = new HashMap<>();
+
+    static {
+        valueType(boolean.class, "Boolean");
+        valueType(byte.class, "Byte");
+        valueType(short.class, "Short");
+        valueType(char.class, "Char");
+        valueType(int.class, "Int");
+        valueType(long.class, "Long");
+        valueType(float.class, "Float");
+        valueType(double.class, "Double");
+        valueType(Boolean.class, "BoxedBoolean");
+        valueType(Byte.class, "BoxedByte");
+        valueType(Short.class, "BoxedShort");
+        valueType(Character.class, "BoxedChar");
+        valueType(Integer.class, "BoxedInt");
+        valueType(Long.class, "BoxedLong");
+        valueType(Float.class, "BoxedFloat");
+        valueType(Double.class, "BoxedDouble");
+        valueType(String.class, "String");
+    }
+
+    private static void valueType(Class<?> clazz, String suffix) {
+        DotName name = DotName.createSimple(clazz.getName());
+        VALUE_TYPES.put(name, suffix);
+        VALUE_CLASSES.put(name, clazz);
+    }
+
+    private final IndexView index;
+    private final ClassOutput classOutput;
+    private final Map<DotName, String> generated = new HashMap<>();
+    private final Map<String, String> recordsByCodec = new HashMap<>();
+
+    RecordCodecGenerator(IndexView index, BuildProducer<GeneratedClassBuildItem> generatedClass) {
+        this.index = index;
+        // A codec is an application class if its record is, e.g. it is not for a record of a dependency
+        this.classOutput = new GeneratedClassGizmoAdaptor(generatedClass, new Function<String, String>() {
+            @Override
+            public String apply(String codecName) {
+                return recordsByCodec.get(codecName.replace('/', '.'));
+            }
+        });
+    }
+
+    /**
+     * @return the class name of the codec, or {@code null} if the type is not a record, if it cannot be accessed from
+     *         its package or if one of its components cannot be encoded
+     */
+    String generate(Type type) {
+        if (type.kind() != Type.Kind.CLASS) {
+            return null;
+        }
+        ClassInfo record = index.getClassByName(type.name());
+        if (record == null || !record.isRecord() || !isSupported(record, new HashSet<>())) {
+            return null;
+        }
+        return generate(record);
+    }
+
+    private boolean isSupported(ClassInfo record, Set<DotName> visiting) {
+        if (!visiting.add(record.name())) {
+            // recursive records are not supported
+            return false;
+        }
+        // The codec is generated in the package of the record, it must be able to create the record and to read the
+        // types of its components
+        String packageName = record.name().packagePrefix();
+        if (!isAccessible(record, packageName)) {
+            return false;
+        }
+        MethodInfo constructor = canonicalConstructor(record);
+        if (constructor == null || Modifier.isPrivate(constructor.flags())) {
+            return false;
+        }
+        for (RecordComponentInfo component : record.unsortedRecordComponents()) {
+            Type type = component.type();
+            if (VALUE_TYPES.containsKey(type.name()) || isByteArray(type)) {
+                continue;
+            }
+            if (type.kind() != Type.Kind.CLASS) {
+                return false;
+            }
+            ClassInfo componentClass = index.getClassByName(type.name());
+            if (componentClass == null || !isAccessible(componentClass, packageName)) {
+                return false;
+            }
+            if (componentClass.isEnum()) {
+                if (componentClass.method("values") == null) {
+                    return false;
+                }
+            } else if (!componentClass.isRecord() || !isSupported(componentClass, visiting)) {
+                return false;
+            }
+        }
+        visiting.remove(record.name());
+        return true;
+    }
+
+    private String generate(ClassInfo record) {
+        String existing = generated.get(record.name());
+        if (existing != null) {
+            return existing;
+        }
+        String recordName = record.name().toString();
+        // The codec is generated in the package of the record, so that it can access package-private records
+        String codecName = recordName.replace('$', '_') + CODEC_SUFFIX;
+        generated.put(record.name(), codecName);
+        recordsByCodec.put(codecName, recordName);
+
+        try (ClassCreator codec = ClassCreator.builder().classOutput(classOutput).className(codecName)
+                .superClass(RecordEventBusCodec.class).build()) {
+
+            // Nested records use the codecs of their types, enums use their constants
+            MethodCreator constructor = codec.getMethodCreator("<init>", void.class);
+            constructor.invokeSpecialMethod(CODEC_CONSTRUCTOR, constructor.getThis(),
+                    constructor.load(recordName + "-binary"));
+            List<FieldDescriptor> fields = new ArrayList<>();
+            // The components are encoded in declaration order, which is also the order of the canonical constructor
+            List<RecordComponentInfo> components = record.unsortedRecordComponents();
+            for (RecordComponentInfo component : components) {
+                Type type = component.type();
+                FieldDescriptor field = null;
+                if (!VALUE_TYPES.containsKey(type.name()) && !isByteArray(type)) {
+                    ClassInfo componentClass = index.getClassByName(type.name());
+                    if (componentClass.isEnum()) {
+                        field = codec.getFieldCreator(component.name(), Object[].class)
+                                .setModifiers(ACC_PRIVATE | ACC_FINAL).getFieldDescriptor();
+                        constructor.writeInstanceField(field, constructor.getThis(),
+                                constructor.invokeStaticMethod(MethodDescriptor.of(componentClass.method("values"))));
+                    } else {
+                        String nestedCodec = generate(componentClass);
+                        field = codec.getFieldCreator(component.name(), RecordEventBusCodec.class)
+                                .setModifiers(ACC_PRIVATE | ACC_FINAL).getFieldDescriptor();
+                        constructor.writeInstanceField(field, constructor.getThis(),
+                                constructor.newInstance(MethodDescriptor.ofConstructor(nestedCodec)));
+                    }
+                }
+                fields.add(field);
+            }
+            constructor.returnValue(null);
+
+            // void encode(Buffer buffer, Object value)
+            MethodCreator encode = codec.getMethodCreator("encode", void.class, Buffer.class, Object.class)
+                    .setModifiers(ACC_PROTECTED);
+            ResultHandle buffer = encode.getMethodParam(0);
+            ResultHandle value = encode.checkCast(encode.getMethodParam(1), recordName);
+            for (int i = 0; i < components.size(); i++) {
+                RecordComponentInfo component = components.get(i);
+                Type type = component.type();
+                ResultHandle componentValue = encode.invokeVirtualMethod(MethodDescriptor.of(component.accessor()), value);
+                String suffix = VALUE_TYPES.get(type.name());
+                if (suffix != null) {
+                    Class<?> valueClass = VALUE_CLASSES.get(type.name());
+                    encode.invokeStaticMethod(MethodDescriptor.ofMethod(RecordEventBusCodec.class, "write" + suffix,
+                            void.class, Buffer.class, valueClass), buffer, componentValue);
+                } else if (isByteArray(type)) {
+                    encode.invokeStaticMethod(WRITE_BYTES, buffer, componentValue);
+                } else if (index.getClassByName(type.name()).isEnum()) {
+                    encode.invokeStaticMethod(WRITE_ENUM, buffer, componentValue);
+                } else {
+                    encode.invokeStaticMethod(WRITE_RECORD, buffer, componentValue,
+                            encode.readInstanceField(fields.get(i), encode.getThis()));
+                }
+            }
+            encode.returnValue(null);
+
+            // Object decode(Input input)
+            MethodCreator decode = codec.getMethodCreator("decode", Object.class, RecordEventBusCodec.Input.class)
+                    .setModifiers(ACC_PROTECTED);
+            ResultHandle input = decode.getMethodParam(0);
+            ResultHandle[] args = new ResultHandle[components.size()];
+            for (int i = 0; i < components.size(); i++) {
+                Type type = components.get(i).type();
+                String suffix = VALUE_TYPES.get(type.name());
+                if (suffix != null) {
+                    args[i] = decode.invokeVirtualMethod(MethodDescriptor.ofMethod(RecordEventBusCodec.Input.class,
+                            "read" + suffix, VALUE_CLASSES.get(type.name())), input);
+                } else if (isByteArray(type)) {
+                    args[i] = decode.invokeVirtualMethod(READ_BYTES, input);
+                } else if (index.getClassByName(type.name()).isEnum()) {
+                    args[i] = decode.checkCast(decode.invokeVirtualMethod(READ_ENUM, input,
+                            decode.readInstanceField(fields.get(i), decode.getThis())), type.name().toString());
+                } else {
+                    args[i] = decode.checkCast(decode.invokeVirtualMethod(READ_RECORD, input,
+                            decode.readInstanceField(fields.get(i), decode.getThis())), type.name().toString());
+                }
+            }
+            decode.returnValue(decode.newInstance(MethodDescriptor.of(canonicalConstructor(record)), args));
+        }
+        return codecName;
+    }
+
+    private static MethodInfo canonicalConstructor(ClassInfo record) {
+        List<RecordComponentInfo> components = record.unsortedRecordComponents();
+        Type[] parameterTypes = new Type[components.size()];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            parameterTypes[i] = components.get(i).type();
+        }
+        return record.method("<init>", parameterTypes);
+    }
+
+    /**
+     * @return whether the class can be accessed from a class of the given package
+     */
+    private boolean isAccessible(ClassInfo clazz, String packageName) {
+        if (Modifier.isPrivate(clazz.flags())) {
+            return false;
+        }
+        if (!Modifier.isPublic(clazz.flags()) && !Objects.equals(clazz.name().packagePrefix(), packageName)) {
+            return false;
+        }
+        if (clazz.enclosingClass() != null) {
+            ClassInfo enclosing = index.getClassByName(clazz.enclosingClass());
+            return enclosing != null && isAccessible(enclosing, packageName);
+        }
+        return true;
+    }
+
+    private static boolean isByteArray(Type type) {
+        return type.kind() == Type.Kind.ARRAY && type.asArrayType().dimensions() == 1
+                && type.asArrayType().component().equals(PrimitiveType.BYTE);
+    }
+}
@@ -1,7 +1,10 @@
 package io.quarkus.vertx.deployment;
 
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.DotName;
 
 import io.quarkus.vertx.ConsumeEvent;
@@ -20,6 +23,7 @@ public class VertxConstants {
     static final DotName UNI = DotName.createSimple(Uni.class.getName());
     static final DotName LOCAL_EVENT_BUS_CODEC = DotName.createSimple(LocalEventBusCodec.class.getName());
     static final DotName CONSUME_EVENT = DotName.createSimple(ConsumeEvent.class.getName());
+    static final DotName LIST = DotName.createSimple(List.class.getName());
 
     static boolean isMessage(DotName name) {
         return MESSAGE.equals(name) || MUTINY_MESSAGE.equals(name);
@@ -28,4 +32,9 @@ static boolean isMessage(DotName name) {
     static boolean isMessageHeaders(DotName name) {
         return MESSAGE_HEADERS.equals(name) || MUTINY_MESSAGE_HEADERS.equals(name);
     }
+
+    static boolean isBatch(AnnotationInstance consumeEvent) {
+        AnnotationValue maxBatchSize = consumeEvent.value("maxBatchSize");
+        return maxBatchSize != null && maxBatchSize.asInt() > 0;
+    }
 }
@@ -9,6 +9,7 @@
 import java.util.Map;
 
 import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.MethodInfo;
@@ -145,6 +146,17 @@ void collectEventConsumers(
                                 "An event consumer business method must accept exactly one parameter: %s [method: %s, bean:%s]",
                                 params, method, bean));
                     }
+                    if (VertxConstants.isBatch(consumeEvent)) {
+                        validateBatchConsumer(consumeEvent, method, bean);
+                    }
+                    AnnotationValue orderKey = consumeEvent.value("orderKey");
+                    if (orderKey != null && !orderKey.asString().isEmpty()
+                            && !method.hasAnnotation(EventBusConsumer.BLOCKING)
+                            && !isTrue(consumeEvent.value("blocking"))) {
+                        throw new IllegalStateException(String.format(
+                                "An event consumer business method with an order key must be blocking [method: %s, bean:%s]",
+                                method, bean));
+                    }
                     if (method.returnType().kind() != Kind.VOID && VertxConstants.isMessage(params.get(0).name())) {
                         throw new IllegalStateException(String.format(
                                 "An event consumer business method that accepts io.vertx.core.eventbus.Message or io.vertx.mutiny.core.eventbus.Message must return void [method: %s, bean:%s]",
@@ -158,6 +170,36 @@ void collectEventConsumers(
         }
     }
 
+    private static void validateBatchConsumer(AnnotationInstance consumeEvent, MethodInfo method, BeanInfo bean) {
+        List<Type> params = method.parameterTypes();
+        if (params.size() != 1 || !params.get(0).name().equals(VertxConstants.LIST)) {
+            throw new IllegalStateException(String.format(
+                    "An event consumer business method that consumes batches must accept exactly one java.util.List parameter: %s [method: %s, bean:%s]",
+                    params, method, bean));
+        }
+        if (method.returnType().kind() != Kind.VOID) {
+            throw new IllegalStateException(String.format(
+                    "An event consumer business method that consumes batches must return void [method: %s, bean:%s]",
+                    method, bean));
+        }
+        AnnotationValue orderKey = consumeEvent.value("orderKey");
+        if (orderKey != null && !orderKey.asString().isEmpty()) {
+            throw new IllegalStateException(String.format(
+                    "An event consumer business method that consumes batches must not declare an order key [method: %s, bean:%s]",
+                    method, bean));
+        }
+        AnnotationValue maxBatchWait = consumeEvent.value("maxBatchWait");
+        if (maxBatchWait != null && maxBatchWait.asLong() <= 0) {
+            throw new IllegalStateException(String.format(
+                    "The maximum batch wait of an event consumer business method must be positive [method: %s, bean:%s]",
+                    method, bean));
+        }
+    }
+
+    private static boolean isTrue(AnnotationValue value) {
+        return value != null && value.asBoolean();
+    }
+
     @BuildStep
     AutoAddScopeBuildItem autoAddScope() {
         // Add @Singleton to a class with no scope annotation but with a method annotated with @ConsumeEvent
@@ -0,0 +1,52 @@
+package io.quarkus.vertx.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.ConsumeEvent;
+import io.vertx.core.eventbus.EventBus;
+
+public class BatchMessageConsumerShutdownTest {
+
+    // the application and the test do not share their classes
+    private static final String CONSUMED = "quarkus.test.batch.consumed";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(BatchBean.class))
+            .setAfterAllCustomizer(() -> {
+                try {
+                    assertEquals("[1, 2]", System.getProperty(CONSUMED));
+                } finally {
+                    System.clearProperty(CONSUMED);
+                }
+            });
+
+    @Inject
+    EventBus eventBus;
+
+    @Test
+    public void testIncompleteBatchIsDeliveredOnShutdown() {
+        eventBus.send("batch-shutdown", 1);
+        eventBus.send("batch-shutdown", 2);
+        assertNull(System.getProperty(CONSUMED));
+    }
+
+    @ApplicationScoped
+    static class BatchBean {
+
+        @ConsumeEvent(value = "batch-shutdown", blocking = true, maxBatchSize = 100, maxBatchWait = 600_000)
+        void consume(List<Integer> messages) {
+            System.setProperty(CONSUMED, messages.toString());
+        }
+    }
+}
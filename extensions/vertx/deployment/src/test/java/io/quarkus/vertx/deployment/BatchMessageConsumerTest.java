@@ -0,0 +1,89 @@
+package io.quarkus.vertx.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.ConsumeEvent;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+
+public class BatchMessageConsumerTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(BatchBean.class));
+
+    @Inject
+    BatchBean bean;
+
+    @Inject
+    EventBus eventBus;
+
+    @Test
+    public void testFullBatches() throws InterruptedException {
+        for (int i = 0; i < 10; i++) {
+            eventBus.send("batch", "message-" + i);
+        }
+        List<String> received = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            List<String> batch = bean.blockingBatches.poll(2, TimeUnit.SECONDS);
+            assertEquals(5, batch.size());
+            received.addAll(batch);
+        }
+        assertEquals(10, received.size());
+        for (int i = 0; i < 10; i++) {
+            assertTrue(received.contains("message-" + i));
+        }
+    }
+
+    @Test
+    public void testRequestsAreAcknowledgedOnceTheBatchIsConsumed() throws Exception {
+        CompletableFuture<Message<Object>> first = eventBus.request("batch-non-blocking", 3)
+                .toCompletionStage().toCompletableFuture();
+        CompletableFuture<Message<Object>> second = eventBus.request("batch-non-blocking", 4)
+                .toCompletionStage().toCompletableFuture();
+        assertEquals(List.of(3, 4), bean.batches.poll(2, TimeUnit.SECONDS));
+        assertNull(first.get(2, TimeUnit.SECONDS).body());
+        assertNull(second.get(2, TimeUnit.SECONDS).body());
+    }
+
+    @Test
+    public void testIncompleteBatchIsDeliveredAfterMaxWait() throws InterruptedException {
+        eventBus.send("batch-non-blocking", 1);
+        eventBus.send("batch-non-blocking", 2);
+        List<Integer> batch = bean.batches.poll(2, TimeUnit.SECONDS);
+        assertEquals(List.of(1, 2), batch);
+    }
+
+    @ApplicationScoped
+    static class BatchBean {
+
+        final BlockingQueue<List<String>> blockingBatches = new LinkedBlockingQueue<>();
+        final BlockingQueue<List<Integer>> batches = new LinkedBlockingQueue<>();
+
+        @ConsumeEvent(value = "batch", blocking = true, maxBatchSize = 5, maxBatchWait = 60_000)
+        void consume(List<String> messages) {
+            blockingBatches.add(messages);
+        }
+
+        @ConsumeEvent(value = "batch-non-blocking", maxBatchSize = 100, maxBatchWait = 50)
+        void consumeNonBlocking(List<Integer> messages) {
+            batches.add(messages);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.quarkus.vertx.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.ConsumeEvent;
+import io.vertx.core.MultiMap;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.EventBus;
+
+public class OrderKeyMessageConsumerTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(OrderedBean.class));
+
+    @Inject
+    OrderedBean bean;
+
+    @Inject
+    EventBus eventBus;
+
+    @Test
+    public void testOrderPerKey() throws InterruptedException {
+        for (int i = 0; i < 20; i++) {
+            for (String key : List.of("a", "b", "c")) {
+                eventBus.send("ordered", i, new DeliveryOptions().addHeader("key", key));
+            }
+        }
+        assertTrue(OrderedBean.LATCH.await(5, TimeUnit.SECONDS));
+        for (String key : List.of("a", "b", "c")) {
+            List<Integer> received = bean.received.get(key);
+            assertEquals(20, received.size());
+            for (int i = 0; i < 20; i++) {
+                assertEquals(i, received.get(i));
+            }
+        }
+    }
+
+    @ApplicationScoped
+    static class OrderedBean {
+
+        static final CountDownLatch LATCH = new CountDownLatch(60);
+
+        final Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+
+        @ConsumeEvent(value = "ordered", blocking = true, orderKey = "key", maxConcurrency = 4)
+        void consume(MultiMap headers, Integer message) throws InterruptedException {
+            // a random delay, so that the messages would be reordered if the keys were not serialized
+            Thread.sleep((long) (Math.random() * 5));
+            received.computeIfAbsent(headers.get("key"), k -> new CopyOnWriteArrayList<>()).add(message);
+            LATCH.countDown();
+        }
+    }
+}
@@ -62,6 +62,16 @@
  * }
  * </pre>
  *
+ * If {@link #maxBatchSize()} is set then the messages are delivered in batches. The method must accept a single
+ * {@link java.util.List} of bodies and return void.
+ *
+ * <pre>
+ * &#64;ConsumeEvent(value = "audit", blocking = true, maxBatchSize = 500, maxBatchWait = 50)
+ * void audit(List&lt;AuditEvent&gt; events) {
+ *     repository.insertAll(events);
+ * }
+ * </pre>
+ *
  * The CDI request context is always active during notification of the registered message consumer.
  * <p>
  * If a method annotated with {@link ConsumeEvent} throws an exception then:
@@ -121,6 +131,42 @@
      */
     boolean ordered() default false;
 
+    /**
+     * The name of a message header used to order the <em>blocking</em> consumption of the events. The events with the same
+     * header value are consumed one after another, in the order they were received, while the events with different values
+     * may be consumed concurrently, by at most {@link #maxConcurrency()} worker threads. The events without the header
+     * are not ordered.
+     * <p>
+     * {@code orderKey} must be used in conjunction with {@code blocking=true} or {@code @Blocking}.
+     *
+     * @return the name of the header, or an empty string if the events are not ordered by key
+     */
+    String orderKey() default "";
+
+    /**
+     * @return the maximum number of events consumed concurrently when {@link #orderKey()} is set
+     */
+    int maxConcurrency() default 16;
+
+    /**
+     * If set to a positive value, the events are delivered to the method in batches of at most {@code maxBatchSize}
+     * bodies. A batch is delivered once it is full, or {@link #maxBatchWait()} milliseconds after its first event was
+     * received.
+     * <p>
+     * The method must accept a single {@link java.util.List} parameter and return void. Once the method returns, every
+     * event of the batch that expects a reply receives a {@code null} reply. If the method throws an exception, they are
+     * failed with {@link #FAILURE_CODE} instead. The incomplete batches are delivered when the application stops.
+     *
+     * @return the maximum size of a batch, or {@code 0} if the events are not batched
+     */
+    int maxBatchSize() default 0;
+
+    /**
+     * @return the maximum time in milliseconds an event waits for its batch to be full before the batch is delivered
+     * @see #maxBatchSize()
+     */
+    long maxBatchWait() default 100;
+
     /**
      *
      * @return {@code null} if it should use a default MessageCodec
@@ -0,0 +1,158 @@
+package io.quarkus.vertx.runtime;
+
+import static io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle.setContextSafe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.quarkus.vertx.ConsumeEvent;
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.eventbus.Message;
+
+/**
+ * Collects the messages received by a consumer and delivers them in batches.
+ * <p>
+ * The messages and the timers are handled on the event loop of the consumer context, so the current batch is only
+ * accessed by a single thread. Once a batch is consumed, a {@code null} reply is sent to each of its messages that
+ * expects one.
+ *
+ * @see ConsumeEvent#maxBatchSize()
+ */
+class BatchingMessageHandler implements Handler<Message<Object>> {
+
+    private final EventConsumerInvoker invoker;
+    private final Context context;
+    private final int maxBatchSize;
+    private final long maxBatchWait;
+
+    // the batches being consumed, waited for on shutdown
+    private final Set<Future<Void>> deliveries = ConcurrentHashMap.newKeySet();
+
+    private List<Message<Object>> batch;
+    private long timerId = -1;
+    private boolean closed;
+
+    BatchingMessageHandler(EventConsumerInvoker invoker, Context context, int maxBatchSize, long maxBatchWait) {
+        this.invoker = invoker;
+        this.context = context;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchWait = Math.max(1, maxBatchWait);
+    }
+
+    @Override
+    public void handle(Message<Object> message) {
+        if (batch == null) {
+            batch = new ArrayList<>(Math.min(maxBatchSize, 1024));
+        }
+        batch.add(message);
+        if (closed || batch.size() >= maxBatchSize) {
+            flush();
+        } else if (timerId < 0) {
+            timerId = context.owner().setTimer(maxBatchWait, new Handler<Long>() {
+                @Override
+                public void handle(Long id) {
+                    timerId = -1;
+                    flush();
+                }
+            });
+        }
+    }
+
+    /**
+     * Delivers the current batch without waiting for it to be full, and then every message as soon as it is received.
+     *
+     * @return a future completed once all the batches are consumed
+     */
+    Future<Void> close() {
+        Promise<Void> promise = Promise.promise();
+        context.runOnContext(new Handler<Void>() {
+            @Override
+            public void handle(Void event) {
+                closed = true;
+                flush();
+                CompositeFuture.join(new ArrayList<>(deliveries)).<Void> mapEmpty().onComplete(promise);
+            }
+        });
+        return promise.future();
+    }
+
+    private void flush() {
+        if (timerId >= 0) {
+            context.owner().cancelTimer(timerId);
+            timerId = -1;
+        }
+        List<Message<Object>> messages = batch;
+        batch = null;
+        if (messages == null || messages.isEmpty()) {
+            return;
+        }
+        Promise<Void> delivered = Promise.promise();
+        Future<Void> delivery = delivered.future();
+        deliveries.add(delivery);
+        delivery.onComplete(new Handler<AsyncResult<Void>>() {
+            @Override
+            public void handle(AsyncResult<Void> event) {
+                deliveries.remove(delivery);
+            }
+        });
+        // Each batch is delivered on a new duplicated context, like a single message
+        Context dup = VertxContext.createNewDuplicatedContext(context);
+        setContextSafe(dup, true);
+        if (invoker.isBlocking()) {
+            dup.executeBlocking(new Handler<Promise<Object>>() {
+                @Override
+                public void handle(Promise<Object> event) {
+                    try {
+                        invoke(messages);
+                    } finally {
+                        delivered.complete();
+                    }
+                    event.complete();
+                }
+            }, invoker.isOrdered(), null);
+        } else {
+            dup.runOnContext(new Handler<Void>() {
+                @Override
+                public void handle(Void event) {
+                    try {
+                        invoke(messages);
+                    } finally {
+                        delivered.complete();
+                    }
+                }
+            });
+        }
+    }
+
+    private void invoke(List<Message<Object>> messages) {
+        try {
+            invoker.invokeBatch(messages);
+            for (Message<Object> message : messages) {
+                if (message.replyAddress() != null) {
+                    // a batch consumer returns void, the reply only acknowledges the message
+                    message.reply(null);
+                }
+            }
+        } catch (Exception e) {
+            boolean noReplyHandler = false;
+            for (Message<Object> message : messages) {
+                if (message.replyAddress() == null) {
+                    noReplyHandler = true;
+                } else {
+                    message.fail(ConsumeEvent.FAILURE_CODE, e.toString());
+                }
+            }
+            if (noReplyHandler) {
+                throw VertxRecorder.wrapIfNecessary(e);
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package io.quarkus.vertx.runtime;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiConsumer;
 
@@ -62,8 +64,35 @@ public void invoke(Message<Object> message) throws Exception {
         }
     }
 
+    /**
+     * Delivers the bodies of a batch of messages to a business method that accepts a {@link List}.
+     *
+     * @see ConsumeEvent#maxBatchSize()
+     */
+    public void invokeBatch(List<Message<Object>> messages) throws Exception {
+        List<Object> bodies = new ArrayList<>(messages.size());
+        for (Message<Object> message : messages) {
+            bodies.add(message.body());
+        }
+        ManagedContext requestContext = Arc.container().requestContext();
+        if (requestContext.isActive()) {
+            invokeBatchBean(bodies);
+        } else {
+            requestContext.activate();
+            try {
+                invokeBatchBean(bodies);
+            } finally {
+                requestContext.terminate();
+            }
+        }
+    }
+
     protected abstract Object invokeBean(Message<Object> message) throws Exception;
 
+    protected Object invokeBatchBean(List<Object> bodies) throws Exception {
+        throw new UnsupportedOperationException("The business method does not consume batches of events");
+    }
+
     private static class RequestActiveConsumer implements BiConsumer<Object, Throwable> {
 
         private final Message<Object> message;
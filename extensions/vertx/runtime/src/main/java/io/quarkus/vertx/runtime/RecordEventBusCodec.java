@@ -0,0 +1,332 @@
+package io.quarkus.vertx.runtime;
+
+import java.nio.charset.StandardCharsets;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+
+/**
+ * The base class of the codecs generated for the records used as event payloads.
+ * <p>
+ * Local delivery does not copy the record, it is immutable. On the wire, a record is encoded as its length followed by its
+ * components in declaration order, without names, type information or reflection:
+ * <ul>
+ * <li>primitives are written as is,</li>
+ * <li>wrappers and nested records are preceded by a presence byte,</li>
+ * <li>strings and byte arrays are written as their length, or {@code -1} for {@code null}, followed by the bytes,</li>
+ * <li>enums are written as the string of their name, so that reordering the constants does not change their value.</li>
+ * </ul>
+ * The senders and the consumers must therefore use the same version of the record.
+ *
+ * @param <T> the record type
+ */
+public abstract class RecordEventBusCodec<T> implements MessageCodec<T, T> {
+
+    private final String name;
+
+    protected RecordEventBusCodec(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Writes the components of the record.
+     */
+    protected abstract void encode(Buffer buffer, T value);
+
+    /**
+     * Reads the components of the record and creates it.
+     */
+    protected abstract T decode(Input input);
+
+    @Override
+    public void encodeToWire(Buffer buffer, T value) {
+        int start = buffer.length();
+        buffer.appendInt(0);
+        encode(buffer, value);
+        buffer.setInt(start, buffer.length() - start - 4);
+    }
+
+    @Override
+    public T decodeFromWire(int pos, Buffer buffer) {
+        int length = buffer.getInt(pos);
+        int start = pos + 4;
+        if (length < 0 || length > buffer.length() - start) {
+            throw new IllegalArgumentException("Invalid length " + length + " of a " + name + " record, only "
+                    + (buffer.length() - start) + " bytes are readable");
+        }
+        return decode(new Input(buffer, start, start + length));
+    }
+
+    @Override
+    public T transform(T value) {
+        return value;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public byte systemCodecID() {
+        return -1;
+    }
+
+    protected static void writeBoolean(Buffer buffer, boolean value) {
+        buffer.appendByte(value ? (byte) 1 : (byte) 0);
+    }
+
+    protected static void writeByte(Buffer buffer, byte value) {
+        buffer.appendByte(value);
+    }
+
+    protected static void writeShort(Buffer buffer, short value) {
+        buffer.appendShort(value);
+    }
+
+    protected static void writeChar(Buffer buffer, char value) {
+        buffer.appendUnsignedShort(value);
+    }
+
+    protected static void writeInt(Buffer buffer, int value) {
+        buffer.appendInt(value);
+    }
+
+    protected static void writeLong(Buffer buffer, long value) {
+        buffer.appendLong(value);
+    }
+
+    protected static void writeFloat(Buffer buffer, float value) {
+        buffer.appendFloat(value);
+    }
+
+    protected static void writeDouble(Buffer buffer, double value) {
+        buffer.appendDouble(value);
+    }
+
+    protected static void writeBoxedBoolean(Buffer buffer, Boolean value) {
+        if (writePresence(buffer, value)) {
+            writeBoolean(buffer, value);
+        }
+    }
+
+    protected static void writeBoxedByte(Buffer buffer, Byte value) {
+        if (writePresence(buffer, value)) {
+            writeByte(buffer, value);
+        }
+    }
+
+    protected static void writeBoxedShort(Buffer buffer, Short value) {
+        if (writePresence(buffer, value)) {
+            writeShort(buffer, value);
+        }
+    }
+
+    protected static void writeBoxedChar(Buffer buffer, Character value) {
+        if (writePresence(buffer, value)) {
+            writeChar(buffer, value);
+        }
+    }
+
+    protected static void writeBoxedInt(Buffer buffer, Integer value) {
+        if (writePresence(buffer, value)) {
+            writeInt(buffer, value);
+        }
+    }
+
+    protected static void writeBoxedLong(Buffer buffer, Long value) {
+        if (writePresence(buffer, value)) {
+            writeLong(buffer, value);
+        }
+    }
+
+    protected static void writeBoxedFloat(Buffer buffer, Float value) {
+        if (writePresence(buffer, value)) {
+            writeFloat(buffer, value);
+        }
+    }
+
+    protected static void writeBoxedDouble(Buffer buffer, Double value) {
+        if (writePresence(buffer, value)) {
+            writeDouble(buffer, value);
+        }
+    }
+
+    protected static void writeString(Buffer buffer, String value) {
+        writeBytes(buffer, value != null ? value.getBytes(StandardCharsets.UTF_8) : null);
+    }
+
+    protected static void writeBytes(Buffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.appendInt(-1);
+        } else {
+            buffer.appendInt(value.length);
+            buffer.appendBytes(value);
+        }
+    }
+
+    protected static void writeEnum(Buffer buffer, Enum<?> value) {
+        writeString(buffer, value != null ? value.name() : null);
+    }
+
+    protected static <R> void writeRecord(Buffer buffer, R value, RecordEventBusCodec<R> codec) {
+        if (writePresence(buffer, value)) {
+            codec.encode(buffer, value);
+        }
+    }
+
+    private static boolean writePresence(Buffer buffer, Object value) {
+        buffer.appendByte(value != null ? (byte) 1 : (byte) 0);
+        return value != null;
+    }
+
+    /**
+     * Reads the components of a record from a buffer.
+     */
+    public static final class Input {
+
+        private final Buffer buffer;
+        private final int end;
+        private int pos;
+
+        Input(Buffer buffer, int pos, int end) {
+            this.buffer = buffer;
+            this.pos = pos;
+            this.end = end;
+        }
+
+        public boolean readBoolean() {
+            return buffer.getByte(pos++) != 0;
+        }
+
+        public byte readByte() {
+            return buffer.getByte(pos++);
+        }
+
+        public short readShort() {
+            short value = buffer.getShort(pos);
+            pos += 2;
+            return value;
+        }
+
+        public char readChar() {
+            char value = (char) buffer.getUnsignedShort(pos);
+            pos += 2;
+            return value;
+        }
+
+        public int readInt() {
+            int value = buffer.getInt(pos);
+            pos += 4;
+            return value;
+        }
+
+        public long readLong() {
+            long value = buffer.getLong(pos);
+            pos += 8;
+            return value;
+        }
+
+        public float readFloat() {
+            float value = buffer.getFloat(pos);
+            pos += 4;
+            return value;
+        }
+
+        public double readDouble() {
+            double value = buffer.getDouble(pos);
+            pos += 8;
+            return value;
+        }
+
+        public Boolean readBoxedBoolean() {
+            return readPresence() ? readBoolean() : null;
+        }
+
+        public Byte readBoxedByte() {
+            return readPresence() ? readByte() : null;
+        }
+
+        public Short readBoxedShort() {
+            return readPresence() ? readShort() : null;
+        }
+
+        public Character readBoxedChar() {
+            return readPresence() ? readChar() : null;
+        }
+
+        public Integer readBoxedInt() {
+            return readPresence() ? readInt() : null;
+        }
+
+        public Long readBoxedLong() {
+            return readPresence() ? readLong() : null;
+        }
+
+        public Float readBoxedFloat() {
+            return readPresence() ? readFloat() : null;
+        }
+
+        public Double readBoxedDouble() {
+            return readPresence() ? readDouble() : null;
+        }
+
+        public String readString() {
+            int length = readLength();
+            if (length < 0) {
+                return null;
+            }
+            String value = buffer.getString(pos, pos + length, StandardCharsets.UTF_8.name());
+            pos += length;
+            return value;
+        }
+
+        public byte[] readBytes() {
+            int length = readLength();
+            if (length < 0) {
+                return null;
+            }
+            byte[] value = buffer.getBytes(pos, pos + length);
+            pos += length;
+            return value;
+        }
+
+        /**
+         * @param values the constants of the enum
+         */
+        public Object readEnum(Object[] values) {
+            String name = readString();
+            if (name == null) {
+                return null;
+            }
+            for (Object value : values) {
+                if (((Enum<?>) value).name().equals(name)) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("No enum constant " + name + " in "
+                    + values.getClass().getComponentType().getName());
+        }
+
+        public <R> R readRecord(RecordEventBusCodec<R> codec) {
+            return readPresence() ? codec.decode(this) : null;
+        }
+
+        private boolean readPresence() {
+            return buffer.getByte(pos++) != 0;
+        }
+
+        /**
+         * @return the length of a string or of a byte array, or {@code -1} for {@code null}
+         */
+        private int readLength() {
+            int length = readInt();
+            // the length is checked before allocating anything, it may come from a corrupted or a malicious message
+            if (length < -1 || length > end - pos) {
+                throw new IllegalArgumentException(
+                        "Invalid length " + length + ", only " + (end - pos) + " bytes of the record are readable");
+            }
+            return length;
+        }
+    }
+}
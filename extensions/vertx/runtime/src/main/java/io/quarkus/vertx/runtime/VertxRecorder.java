@@ -32,6 +32,7 @@
 import io.vertx.core.eventbus.MessageCodec;
 import io.vertx.core.eventbus.MessageConsumer;
 import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.TaskQueue;
 import io.vertx.core.impl.VertxInternal;
 
 @Recorder
@@ -41,6 +42,7 @@ public class VertxRecorder {
 
     static volatile Vertx vertx;
     static volatile List<MessageConsumer<?>> messageConsumers;
+    static final List<BatchingMessageHandler> batchingMessageHandlers = new CopyOnWriteArrayList<>();
 
     public void configureVertx(Supplier<Vertx> vertx, Map<String, ConsumeEvent> messageConsumerConfigurations,
             LaunchMode launchMode, ShutdownContext shutdown, Map<Class<?>, Class<?>> codecByClass) {
@@ -50,6 +52,13 @@ public void configureVertx(Supplier<Vertx> vertx, Map<String, ConsumeEvent> mess
         registerMessageConsumers(messageConsumerConfigurations);
         registerCodecs(codecByClass);
 
+        // Added first to run last, once the consumers are unregistered in dev mode, but before Vert.x is closed
+        shutdown.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                flushBatches();
+            }
+        });
         if (launchMode == LaunchMode.DEVELOPMENT) {
             shutdown.addShutdownTask(new Runnable() {
                 @Override
@@ -102,48 +111,67 @@ public void handle(Void x) {
                             consumer = eventBus.consumer(address);
                         }
 
-                        consumer.handler(new Handler<Message<Object>>() {
-                            @Override
-                            public void handle(Message<Object> m) {
-                                if (invoker.isBlocking()) {
-                                    // We need to create a duplicated context from the "context"
-                                    Context dup = VertxContext.getOrCreateDuplicatedContext(context);
-                                    setContextSafe(dup, true);
-                                    dup.executeBlocking(new Handler<Promise<Object>>() {
-                                        @Override
-                                        public void handle(Promise<Object> event) {
-                                            try {
-                                                invoker.invoke(m);
-                                            } catch (Exception e) {
-                                                if (m.replyAddress() == null) {
-                                                    // No reply handler
-                                                    throw wrapIfNecessary(e);
-                                                } else {
-                                                    m.fail(ConsumeEvent.FAILURE_CODE, e.toString());
+                        ConsumeEvent consumeEvent = entry.getValue();
+                        if (consumeEvent.maxBatchSize() > 0) {
+                            BatchingMessageHandler handler = new BatchingMessageHandler(invoker, context,
+                                    consumeEvent.maxBatchSize(), consumeEvent.maxBatchWait());
+                            batchingMessageHandlers.add(handler);
+                            consumer.handler(handler);
+                        } else {
+                            consumer.handler(new Handler<Message<Object>>() {
+                                // The invocations with the same order key are serialized on the same queue
+                                final TaskQueue[] orderKeyQueues = createOrderKeyQueues(consumeEvent);
+
+                                @Override
+                                public void handle(Message<Object> m) {
+                                    if (invoker.isBlocking()) {
+                                        // We need to create a duplicated context from the "context"
+                                        Context dup = VertxContext.getOrCreateDuplicatedContext(context);
+                                        setContextSafe(dup, true);
+                                        Handler<Promise<Object>> task = new Handler<Promise<Object>>() {
+                                            @Override
+                                            public void handle(Promise<Object> event) {
+                                                try {
+                                                    invoker.invoke(m);
+                                                } catch (Exception e) {
+                                                    if (m.replyAddress() == null) {
+                                                        // No reply handler
+                                                        throw wrapIfNecessary(e);
+                                                    } else {
+                                                        m.fail(ConsumeEvent.FAILURE_CODE, e.toString());
+                                                    }
                                                 }
+                                                event.complete();
                                             }
-                                            event.complete();
-                                        }
-                                    }, invoker.isOrdered(), null);
-                                } else {
-                                    // Will run on the context used for the consumer registration.
-                                    // It's a duplicated context, but we need to mark it as safe.
-                                    // The safety comes from the fact that it's instantiated by Vert.x for every
-                                    // message.
-                                    setCurrentContextSafe(true);
-                                    try {
-                                        invoker.invoke(m);
-                                    } catch (Exception e) {
-                                        if (m.replyAddress() == null) {
-                                            // No reply handler
-                                            throw wrapIfNecessary(e);
+                                        };
+                                        String orderKey = orderKeyQueues != null ? m.headers().get(consumeEvent.orderKey())
+                                                : null;
+                                        if (orderKey != null) {
+                                            ((ContextInternal) dup).executeBlocking(task,
+                                                    orderKeyQueues[Math.floorMod(orderKey.hashCode(), orderKeyQueues.length)]);
                                         } else {
-                                            m.fail(ConsumeEvent.FAILURE_CODE, e.toString());
+                                            dup.executeBlocking(task, invoker.isOrdered(), null);
+                                        }
+                                    } else {
+                                        // Will run on the context used for the consumer registration.
+                                        // It's a duplicated context, but we need to mark it as safe.
+                                        // The safety comes from the fact that it's instantiated by Vert.x for every
+                                        // message.
+                                        setCurrentContextSafe(true);
+                                        try {
+                                            invoker.invoke(m);
+                                        } catch (Exception e) {
+                                            if (m.replyAddress() == null) {
+                                                // No reply handler
+                                                throw wrapIfNecessary(e);
+                                            } else {
+                                                m.fail(ConsumeEvent.FAILURE_CODE, e.toString());
+                                            }
                                         }
                                     }
                                 }
-                            }
-                        });
+                            });
+                        }
 
                         consumer.completionHandler(new Handler<AsyncResult<Void>>() {
                             @Override
@@ -171,6 +199,17 @@ public void handle(AsyncResult<Void> ar) {
         }
     }
 
+    private static TaskQueue[] createOrderKeyQueues(ConsumeEvent consumeEvent) {
+        if (consumeEvent.orderKey().isEmpty()) {
+            return null;
+        }
+        TaskQueue[] queues = new TaskQueue[Math.max(1, consumeEvent.maxConcurrency())];
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new TaskQueue();
+        }
+        return queues;
+    }
+
     static RuntimeException wrapIfNecessary(Throwable e) {
         if (e instanceof Error) {
             throw (Error) e;
@@ -200,6 +239,28 @@ void unregisterMessageConsumers() {
         messageConsumers.clear();
     }
 
+    /**
+     * Delivers the incomplete batches and waits for the batches being consumed.
+     */
+    void flushBatches() {
+        CountDownLatch latch = new CountDownLatch(batchingMessageHandlers.size());
+        for (BatchingMessageHandler handler : batchingMessageHandlers) {
+            handler.close().onComplete(ar -> {
+                latch.countDown();
+                if (ar.failed()) {
+                    LOGGER.warn("Delivery of the pending event batches failed", ar.cause());
+                }
+            });
+        }
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Unable to deliver the pending event batches", e);
+        }
+        batchingMessageHandlers.clear();
+    }
+
     @SuppressWarnings("unchecked")
     private EventConsumerInvoker createInvoker(String invokerClassName) {
         try {
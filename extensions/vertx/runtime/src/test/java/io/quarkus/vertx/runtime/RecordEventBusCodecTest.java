@@ -0,0 +1,87 @@
+package io.quarkus.vertx.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.buffer.Buffer;
+
+public class RecordEventBusCodecTest {
+
+    private final NamedCodec codec = new NamedCodec();
+
+    @Test
+    public void testRoundTrip() {
+        Buffer buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, new Named("alice", new byte[] { 1, 2, 3 }));
+        codec.encodeToWire(buffer, new Named(null, null));
+
+        Named first = codec.decodeFromWire(0, buffer);
+        assertThat(first.name).isEqualTo("alice");
+        assertThat(first.data).containsExactly(1, 2, 3);
+        Named second = codec.decodeFromWire(buffer.getInt(0) + 4, buffer);
+        assertThat(second.name).isNull();
+        assertThat(second.data).isNull();
+    }
+
+    @Test
+    public void testLengthBeyondTheRecordIsRejected() {
+        Buffer buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, new Named("alice", new byte[] { 1, 2, 3 }));
+        // the length of the name claims more bytes than the record has
+        buffer.setInt(4, 100);
+
+        assertThatThrownBy(() -> codec.decodeFromWire(0, buffer)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid length 100");
+    }
+
+    @Test
+    public void testNegativeLengthIsRejected() {
+        Buffer buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, new Named("alice", null));
+        buffer.setInt(4, -2);
+
+        assertThatThrownBy(() -> codec.decodeFromWire(0, buffer)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid length -2");
+    }
+
+    @Test
+    public void testTruncatedRecordIsRejected() {
+        Buffer buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, new Named("alice", new byte[] { 1, 2, 3 }));
+        Buffer truncated = buffer.getBuffer(0, buffer.length() - 2);
+
+        assertThatThrownBy(() -> codec.decodeFromWire(0, truncated)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid length");
+    }
+
+    static final class Named {
+
+        final String name;
+        final byte[] data;
+
+        Named(String name, byte[] data) {
+            this.name = name;
+            this.data = data;
+        }
+    }
+
+    static final class NamedCodec extends RecordEventBusCodec<Named> {
+
+        NamedCodec() {
+            super("named");
+        }
+
+        @Override
+        protected void encode(Buffer buffer, Named value) {
+            writeString(buffer, value.name);
+            writeBytes(buffer, value.data);
+        }
+
+        @Override
+        protected Named decode(Input input) {
+            return new Named(input.readString(), input.readBytes());
+        }
+    }
+}
@@ -96,6 +96,8 @@ public class ArcContainerImpl implements ArcContainer {
 
     private volatile ExecutorService executorService;
 
+    private volatile ObserverNotificationListener observerNotificationListener;
+
     private final CurrentContextFactory currentContextFactory;
 
     private final boolean strictMode;
@@ -899,6 +901,20 @@ private void mockObserversFor(String beanIdentifier, boolean mock) {
         }
     }
 
+    /**
+     * Sets the listener notified around the notification of every synchronous observer method of the events fired by the
+     * container.
+     *
+     * @param listener the listener, or {@code null} to remove the current listener
+     */
+    public void setObserverNotificationListener(ObserverNotificationListener listener) {
+        this.observerNotificationListener = listener;
+    }
+
+    ObserverNotificationListener getObserverNotificationListener() {
+        return observerNotificationListener;
+    }
+
     public void mockObserversFor(Class<?> beanClass, boolean mock) {
         for (InjectableObserverMethod<?> observer : observers) {
             if (observer instanceof Mockable && beanClass.equals(observer.getBeanClass())) {
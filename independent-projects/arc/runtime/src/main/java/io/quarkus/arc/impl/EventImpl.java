@@ -175,7 +175,7 @@ static <T> Notifier<T> createNotifier(Class<?> runtimeType, Type eventType, Set<
         EventMetadata metadata = new EventMetadataImpl(qualifiers, eventType, injectionPoint);
         List<ObserverMethod<? super T>> notifierObserverMethods = new ArrayList<>(
                 container.resolveObservers(eventType, qualifiers));
-        return new Notifier<>(runtimeType, notifierObserverMethods, metadata, activateRequestContext);
+        return new Notifier<>(runtimeType, notifierObserverMethods, metadata, activateRequestContext, container);
     }
 
     private Type initEventType(Type type) {
@@ -245,18 +245,23 @@ private void handleExceptions(ObserverExceptionHandler handler) {
         final EventMetadata eventMetadata;
         private final boolean hasTxObservers;
         private final boolean activateRequestContext;
+        private final ArcContainerImpl container;
 
         Notifier(Class<?> runtimeType, List<ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata) {
-            this(runtimeType, observerMethods, eventMetadata, true);
+            this(runtimeType, observerMethods, eventMetadata, true, null);
         }
 
+        /**
+         * @param container the container whose {@link ObserverNotificationListener} is notified, may be {@code null}
+         */
         Notifier(Class<?> runtimeType, List<ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata,
-                boolean activateRequestContext) {
+                boolean activateRequestContext, ArcContainerImpl container) {
             this.runtimeType = runtimeType;
             this.observerMethods = observerMethods;
             this.eventMetadata = eventMetadata;
             this.hasTxObservers = observerMethods.stream().anyMatch(this::isTxObserver);
             this.activateRequestContext = activateRequestContext;
+            this.container = container;
         }
 
         void notify(T event) {
@@ -340,12 +345,18 @@ void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
         private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler,
                 Predicate<ObserverMethod<? super T>> predicate) {
             EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
+            ObserverNotificationListener listener = container != null ? container.getObserverNotificationListener() : null;
             for (ObserverMethod<? super T> observerMethod : observerMethods) {
                 if (predicate.test(observerMethod)) {
+                    Object state = listener != null ? listener.beforeNotify(observerMethod, eventContext) : null;
                     try {
                         observerMethod.notify(eventContext);
                     } catch (Throwable t) {
                         exceptionHandler.handle(t, observerMethod, eventContext);
+                    } finally {
+                        if (listener != null) {
+                            listener.afterNotify(state);
+                        }
                     }
                 }
             }
@@ -0,0 +1,30 @@
+package io.quarkus.arc.impl;
+
+import jakarta.enterprise.inject.spi.EventContext;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+/**
+ * Notified around the notification of every synchronous observer method of an event fired by the container, e.g. to
+ * measure the time spent in each observer of an event, without changing the way the observers are notified.
+ *
+ * @see ArcContainerImpl#setObserverNotificationListener(ObserverNotificationListener)
+ */
+public interface ObserverNotificationListener {
+
+    /**
+     * Called before the observer method is notified.
+     *
+     * @param observerMethod the observer method
+     * @param eventContext the event context
+     * @return the state to pass to {@link #afterNotify(Object)}, may be {@code null}
+     */
+    Object beforeNotify(ObserverMethod<?> observerMethod, EventContext<?> eventContext);
+
+    /**
+     * Called after the observer method was notified, including when it threw an exception.
+     *
+     * @param state the state returned by {@link #beforeNotify(ObserverMethod, EventContext)}
+     */
+    void afterNotify(Object state);
+
+}
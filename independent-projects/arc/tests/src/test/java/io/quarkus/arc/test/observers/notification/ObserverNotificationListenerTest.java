@@ -0,0 +1,79 @@
+package io.quarkus.arc.test.observers.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.EventContext;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.impl.ArcContainerImpl;
+import io.quarkus.arc.impl.ObserverNotificationListener;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class ObserverNotificationListenerTest {
+
+    static final List<String> EVENTS = new CopyOnWriteArrayList<>();
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(StringObserver.class);
+
+    @AfterEach
+    public void removeListener() {
+        ArcContainerImpl.instance().setObserverNotificationListener(null);
+        EVENTS.clear();
+    }
+
+    @Test
+    public void testListenerIsNotifiedAroundEveryObserver() {
+        ArcContainerImpl.instance().setObserverNotificationListener(new ObserverNotificationListener() {
+            @Override
+            public Object beforeNotify(ObserverMethod<?> observerMethod, EventContext<?> eventContext) {
+                EVENTS.add("before " + eventContext.getEvent());
+                return observerMethod.getPriority();
+            }
+
+            @Override
+            public void afterNotify(Object state) {
+                EVENTS.add("after " + state);
+            }
+        });
+        Arc.container().beanManager().getEvent().fire("hello");
+        assertEquals(List.of("before hello", "first hello", "after 1", "before hello", "second hello", "after 2"), EVENTS);
+
+        EVENTS.clear();
+        //the listener is also notified when the observer fails, the failure is propagated as usual
+        assertThrows(IllegalStateException.class, () -> Arc.container().beanManager().getEvent().fire("fail"));
+        assertEquals(List.of("before fail", "first fail", "after 1"), EVENTS);
+
+        EVENTS.clear();
+        ArcContainerImpl.instance().setObserverNotificationListener(null);
+        Arc.container().beanManager().getEvent().fire("hello");
+        assertEquals(List.of("first hello", "second hello"), EVENTS);
+    }
+
+    @ApplicationScoped
+    static class StringObserver {
+
+        void first(@Observes @Priority(1) String value) {
+            EVENTS.add("first " + value);
+            if (value.equals("fail")) {
+                throw new IllegalStateException();
+            }
+        }
+
+        void second(@Observes @Priority(2) String value) {
+            EVENTS.add("second " + value);
+        }
+    }
+}
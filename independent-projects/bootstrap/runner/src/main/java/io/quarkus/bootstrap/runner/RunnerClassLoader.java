@@ -94,22 +94,30 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
         }
         if (resources != null) {
             String classResource = name.replace('.', '/') + ".class";
-            for (ClassLoadingResource resource : resources) {
-                accessingResource(resource);
-                byte[] data = resource.getResourceData(classResource);
-                if (data == null) {
-                    continue;
-                }
-                definePackage(packageName, resources);
-                try {
-                    return defineClass(name, data, 0, data.length, resource.getProtectionDomain());
-                } catch (LinkageError e) {
-                    loaded = findLoadedClass(name);
-                    if (loaded != null) {
-                        return loaded;
+            long start = StartupTimeline.classLoadingStarted();
+            boolean defined = false;
+            try {
+                for (ClassLoadingResource resource : resources) {
+                    accessingResource(resource);
+                    byte[] data = resource.getResourceData(classResource);
+                    if (data == null) {
+                        continue;
+                    }
+                    definePackage(packageName, resources);
+                    try {
+                        Class<?> definedClass = defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+                        defined = true;
+                        return definedClass;
+                    } catch (LinkageError e) {
+                        loaded = findLoadedClass(name);
+                        if (loaded != null) {
+                            return loaded;
+                        }
+                        throw e;
                     }
-                    throw e;
                 }
+            } finally {
+                StartupTimeline.classLoadingFinished(start, defined);
             }
         }
         return getParent().loadClass(name);
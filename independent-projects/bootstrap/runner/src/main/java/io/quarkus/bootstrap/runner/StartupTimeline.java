@@ -0,0 +1,253 @@
+package io.quarkus.bootstrap.runner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the phases of the application startup, e.g. the startup tasks, the startup observers or the HTTP server bind.
+ * <p>
+ * Every phase is emitted as a {@code quarkus.StartupPhase} JFR event if a recording that enables the event is running.
+ * If the {@value #ENABLED_PROPERTY} system property is set to {@code true}, the phases and the time spent loading classes
+ * by the {@link RunnerClassLoader} are also kept in memory, so that they can be reported once the application started.
+ * <p>
+ * When neither is enabled, starting a phase returns a shared no-op phase and class loading is not measured. The JFR
+ * events are only loaded if the {@code jdk.jfr} module is present, so that a runtime image without it can be used.
+ */
+public final class StartupTimeline {
+
+    public static final String ENABLED_PROPERTY = "quarkus.debug.startup-timeline";
+
+    public static final String CATEGORY_CONFIG = "config";
+    public static final String CATEGORY_STARTUP_TASK = "startup-task";
+    public static final String CATEGORY_STARTUP_OBSERVER = "startup-observer";
+    public static final String CATEGORY_HTTP = "http";
+
+    private static volatile long origin = System.nanoTime();
+    private static volatile long startupTime = -1;
+    private static volatile boolean collecting = Boolean.getBoolean(ENABLED_PROPERTY);
+    private static final boolean JFR_AVAILABLE = isJfrAvailable();
+    private static final Phase NOOP = new Phase(null, null, null, 0, null, false);
+
+    private static final List<Phase> phases = new ArrayList<>();
+    private static final LongAdder classLoadingCount = new LongAdder();
+    private static final LongAdder classLoadingTime = new LongAdder();
+    //nested class loads are part of the outermost load, so only the outermost one is measured
+    private static final ThreadLocal<int[]> classLoadingDepth = ThreadLocal.withInitial(() -> new int[1]);
+
+    private StartupTimeline() {
+    }
+
+    private static boolean isJfrAvailable() {
+        if (ModuleLayer.boot().findModule("jdk.jfr").isEmpty()) {
+            return false;
+        }
+        try {
+            Class.forName("jdk.jfr.Event", false, StartupTimeline.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads the {@value #ENABLED_PROPERTY} system property again, e.g. from the generated application class. In native
+     * mode this class is initialized when the image is built, so the property must be read when the application starts.
+     */
+    public static void configureEnabled() {
+        collecting = Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    /**
+     * @return whether the phases are kept in memory
+     */
+    public static boolean isCollecting() {
+        return collecting;
+    }
+
+    /**
+     * @return whether a started phase would be recorded, either in memory or as a JFR event
+     */
+    public static boolean isEnabled() {
+        return collecting || (JFR_AVAILABLE && StartupTimelineEvents.isPhaseEnabled());
+    }
+
+    /**
+     * Starts a phase.
+     *
+     * @param category the category of the phase, e.g. {@link #CATEGORY_STARTUP_TASK}
+     * @param name the name of the phase
+     * @return the phase to pass to {@link #end(Phase)}, a shared no-op phase if the phase is not recorded
+     */
+    public static Phase begin(String category, String name) {
+        boolean collect = collecting;
+        boolean emit = JFR_AVAILABLE && StartupTimelineEvents.isPhaseEnabled();
+        if (!collect && !emit) {
+            return NOOP;
+        }
+        Object event = emit ? StartupTimelineEvents.beginPhase() : null;
+        return new Phase(category, name, Thread.currentThread().getName(), System.nanoTime(), event, collect);
+    }
+
+    /**
+     * Ends a phase started by {@link #begin(String, String)}.
+     *
+     * @param phase the phase, may be {@code null}
+     */
+    public static void end(Phase phase) {
+        if (phase == null || phase == NOOP) {
+            return;
+        }
+        synchronized (phase) {
+            if (phase.duration >= 0) {
+                //already ended
+                return;
+            }
+            phase.duration = System.nanoTime() - phase.started;
+        }
+        if (phase.event != null) {
+            StartupTimelineEvents.endPhase(phase.event, phase.category, phase.name);
+        }
+        if (phase.collected) {
+            synchronized (phases) {
+                phases.add(phase);
+            }
+        }
+    }
+
+    /**
+     * Called by the {@link RunnerClassLoader} before a class is looked up in the application jars.
+     *
+     * @return the value to pass to {@link #classLoadingFinished(long, boolean)}
+     */
+    static long classLoadingStarted() {
+        if (!collecting || startupTime >= 0) {
+            return 0;
+        }
+        classLoadingDepth.get()[0]++;
+        return System.nanoTime();
+    }
+
+    /**
+     * @param start the value returned by {@link #classLoadingStarted()}
+     * @param defined whether the class was defined, rather than not found in the application jars
+     */
+    static void classLoadingFinished(long start, boolean defined) {
+        if (start == 0) {
+            return;
+        }
+        if (defined) {
+            classLoadingCount.increment();
+        }
+        if (--classLoadingDepth.get()[0] == 0) {
+            classLoadingTime.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Marks the end of the startup. Classes loaded afterwards are not measured anymore.
+     */
+    public static void startupFinished() {
+        if (startupTime < 0) {
+            startupTime = System.nanoTime() - origin;
+            if (collecting && JFR_AVAILABLE) {
+                StartupTimelineEvents.commitClassLoading(classLoadingCount.sum(), classLoadingTime.sum());
+            }
+        }
+    }
+
+    /**
+     * Clears the timeline, e.g. when the application is restarted in dev mode.
+     */
+    public static void reset() {
+        synchronized (phases) {
+            phases.clear();
+        }
+        classLoadingCount.reset();
+        classLoadingTime.reset();
+        startupTime = -1;
+        origin = System.nanoTime();
+    }
+
+    /**
+     * @return the collected phases, in the order they ended
+     */
+    public static List<Phase> getPhases() {
+        synchronized (phases) {
+            return Collections.unmodifiableList(new ArrayList<>(phases));
+        }
+    }
+
+    /**
+     * @return the time from the initialization of this class, or from the last {@link #reset()}, to the end of the
+     *         startup in nanoseconds, or {@code -1} if the application did not start yet
+     */
+    public static long getStartupTime() {
+        return startupTime;
+    }
+
+    /**
+     * @return the number of classes defined by the {@link RunnerClassLoader} during startup
+     */
+    public static long getClassLoadingCount() {
+        return classLoadingCount.sum();
+    }
+
+    /**
+     * @return the time spent loading classes by the {@link RunnerClassLoader} during startup in nanoseconds, including
+     *         the lookups of the classes that are then loaded by the parent class loader
+     */
+    public static long getClassLoadingTime() {
+        return classLoadingTime.sum();
+    }
+
+    public static final class Phase {
+
+        private final String category;
+        private final String name;
+        private final String thread;
+        private final long started;
+        private final long start;
+        private final boolean collected;
+        //the JFR event, typed as an object so that the JFR classes are only loaded when they are available
+        private final Object event;
+        private volatile long duration = -1;
+
+        Phase(String category, String name, String thread, long started, Object event, boolean collected) {
+            this.category = category;
+            this.name = name;
+            this.thread = thread;
+            this.started = started;
+            this.start = started - origin;
+            this.event = event;
+            this.collected = collected;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getThread() {
+            return thread;
+        }
+
+        /**
+         * @return the start of the phase relative to the start of the timeline in nanoseconds
+         */
+        public long getStart() {
+            return start;
+        }
+
+        /**
+         * @return the duration of the phase in nanoseconds
+         */
+        public long getDuration() {
+            return duration;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.quarkus.bootstrap.runner;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The JFR events of the {@link StartupTimeline}. This class is only loaded if the {@code jdk.jfr} module is available.
+ */
+final class StartupTimelineEvents {
+
+    private static final EventType PHASE_TYPE = EventType.getEventType(StartupPhaseEvent.class);
+
+    private StartupTimelineEvents() {
+    }
+
+    /**
+     * @return whether a running recording enables the phase event, without allocating an event
+     */
+    static boolean isPhaseEnabled() {
+        return PHASE_TYPE.isEnabled();
+    }
+
+    static Object beginPhase() {
+        StartupPhaseEvent event = new StartupPhaseEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endPhase(Object phaseEvent, String category, String name) {
+        StartupPhaseEvent event = (StartupPhaseEvent) phaseEvent;
+        event.end();
+        if (event.shouldCommit()) {
+            event.category = category;
+            event.name = name;
+            event.commit();
+        }
+    }
+
+    static void commitClassLoading(long classCount, long classLoadingTime) {
+        StartupClassLoadingEvent event = new StartupClassLoadingEvent();
+        if (event.shouldCommit()) {
+            event.classCount = classCount;
+            event.classLoadingTime = classLoadingTime;
+            event.commit();
+        }
+    }
+
+    @Name("quarkus.StartupPhase")
+    @Label("Startup Phase")
+    @Category({ "Quarkus", "Startup" })
+    @Description("A phase of the application startup")
+    @StackTrace(false)
+    static final class StartupPhaseEvent extends Event {
+
+        @Label("Category")
+        String category;
+
+        @Label("Name")
+        String name;
+    }
+
+    @Name("quarkus.StartupClassLoading")
+    @Label("Startup Class Loading")
+    @Category({ "Quarkus", "Startup" })
+    @Description("The classes loaded by the application class loader during startup")
+    @StackTrace(false)
+    static final class StartupClassLoadingEvent extends Event {
+
+        @Label("Class Count")
+        long classCount;
+
+        @Label("Class Loading Time")
+        @Timespan
+        long classLoadingTime;
+    }
+}
@@ -78,6 +78,7 @@ public static void mainStarted() {
 
     public static void restart() {
         main.bootStartTime = System.nanoTime();
+        StartupTimeline.reset();
     }
 
     public static void restart(ClassLoader cl) {
@@ -93,6 +94,7 @@ public static void printStartupTime(String name, String version, String quarkusV
             List<String> profiles, boolean liveCoding, boolean anc) {
         Timing t = get(anc);
         final long bootTimeNanoSeconds = System.nanoTime() - t.bootStartTime;
+        StartupTimeline.startupFinished();
         final Logger logger = Logger.getLogger("io.quarkus");
         //Use a BigDecimal so we can render in seconds with 3 digits precision, as requested:
         final BigDecimal secondsRepresentation = convertToBigDecimalSeconds(bootTimeNanoSeconds);
@@ -0,0 +1,90 @@
+package io.quarkus.bootstrap.runner;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link StartupTimeline}
+ */
+public class StartupTimelineTest {
+
+    @BeforeEach
+    public void enable() {
+        System.setProperty(StartupTimeline.ENABLED_PROPERTY, "true");
+        StartupTimeline.configureEnabled();
+        StartupTimeline.reset();
+    }
+
+    @AfterEach
+    public void clear() {
+        System.clearProperty(StartupTimeline.ENABLED_PROPERTY);
+        StartupTimeline.reset();
+    }
+
+    @Test
+    public void testPhases() throws Exception {
+        StartupTimeline.Phase outer = StartupTimeline.begin(StartupTimeline.CATEGORY_STARTUP_TASK, "outer");
+        StartupTimeline.Phase inner = StartupTimeline.begin(StartupTimeline.CATEGORY_STARTUP_OBSERVER, "inner");
+        Thread.sleep(5);
+        StartupTimeline.end(inner);
+        StartupTimeline.end(outer);
+        //ending a phase twice has no effect
+        StartupTimeline.end(outer);
+        StartupTimeline.end(null);
+
+        List<StartupTimeline.Phase> phases = StartupTimeline.getPhases();
+        Assertions.assertEquals(2, phases.size());
+        StartupTimeline.Phase first = phases.get(0);
+        StartupTimeline.Phase second = phases.get(1);
+        Assertions.assertEquals("inner", first.getName());
+        Assertions.assertEquals(StartupTimeline.CATEGORY_STARTUP_OBSERVER, first.getCategory());
+        Assertions.assertEquals(Thread.currentThread().getName(), first.getThread());
+        Assertions.assertEquals("outer", second.getName());
+        Assertions.assertTrue(first.getDuration() >= 5_000_000);
+        Assertions.assertTrue(second.getDuration() >= first.getDuration());
+        Assertions.assertTrue(second.getStart() <= first.getStart());
+
+        Assertions.assertEquals(-1, StartupTimeline.getStartupTime());
+        StartupTimeline.startupFinished();
+        Assertions.assertTrue(StartupTimeline.getStartupTime() > 0);
+    }
+
+    @Test
+    public void testDisabled() {
+        System.clearProperty(StartupTimeline.ENABLED_PROPERTY);
+        StartupTimeline.configureEnabled();
+        try {
+            StartupTimeline.Phase phase = StartupTimeline.begin(StartupTimeline.CATEGORY_STARTUP_TASK, "disabled");
+            //nothing is allocated when the phases are neither collected nor recorded by JFR
+            Assertions.assertSame(phase, StartupTimeline.begin(StartupTimeline.CATEGORY_STARTUP_TASK, "other"));
+            StartupTimeline.end(phase);
+            Assertions.assertTrue(StartupTimeline.getPhases().isEmpty());
+            Assertions.assertEquals(0, StartupTimeline.classLoadingStarted());
+        } finally {
+            System.setProperty(StartupTimeline.ENABLED_PROPERTY, "true");
+            StartupTimeline.configureEnabled();
+        }
+    }
+
+    @Test
+    public void testNestedClassLoading() {
+        long outer = StartupTimeline.classLoadingStarted();
+        long inner = StartupTimeline.classLoadingStarted();
+        StartupTimeline.classLoadingFinished(inner, true);
+        Assertions.assertEquals(0, StartupTimeline.getClassLoadingTime());
+        //a class that is not found in the application jars is not counted
+        long missed = StartupTimeline.classLoadingStarted();
+        StartupTimeline.classLoadingFinished(missed, false);
+        StartupTimeline.classLoadingFinished(outer, true);
+        Assertions.assertEquals(2, StartupTimeline.getClassLoadingCount());
+        Assertions.assertTrue(StartupTimeline.getClassLoadingTime() > 0);
+
+        //classes loaded after the startup are not measured
+        StartupTimeline.startupFinished();
+        Assertions.assertEquals(0, StartupTimeline.classLoadingStarted());
+    }
+}
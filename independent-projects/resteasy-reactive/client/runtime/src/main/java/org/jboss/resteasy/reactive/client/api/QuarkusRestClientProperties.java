@@ -73,4 +73,34 @@ public class QuarkusRestClientProperties {
      */
     public static final String ALPN = "io.quarkus.rest.client.alpn";
 
+    /**
+     * The maximum number of HTTP/2 connections per server, the {@link #CONNECTION_POOL_SIZE} by default.
+     * A new connection is only opened when all the existing ones have reached their maximum number of concurrent streams.
+     */
+    public static final String HTTP2_CONNECTION_POOL_SIZE = "io.quarkus.rest.client.http2-connection-pool-size";
+
+    /**
+     * The maximum number of concurrent streams per HTTP/2 connection, the limit advertised by the server by default.
+     */
+    public static final String HTTP2_MULTIPLEXING_LIMIT = "io.quarkus.rest.client.http2-multiplexing-limit";
+
+    /**
+     * Set to false to start HTTP/2 clear text connections with prior knowledge rather than with an HTTP/1.1 upgrade
+     * request.
+     */
+    public static final String HTTP2_CLEAR_TEXT_UPGRADE = "io.quarkus.rest.client.http2-clear-text-upgrade";
+
+    /**
+     * Set to true to send a single request for identical {@code GET} requests in progress at the same time, all of them
+     * receiving the same response.
+     */
+    public static final String COALESCE_REQUESTS = "io.quarkus.rest.client.coalesce-requests";
+
+    /**
+     * The collection of the headers whose values must be the same for requests to be coalesced, the other headers are
+     * ignored. Defaults to {@code Accept}, {@code Accept-Encoding}, {@code Accept-Language}, {@code Authorization} and
+     * {@code Cookie}.
+     */
+    public static final String COALESCE_REQUEST_HEADERS = "io.quarkus.rest.client.coalesce-request-headers";
+
 }
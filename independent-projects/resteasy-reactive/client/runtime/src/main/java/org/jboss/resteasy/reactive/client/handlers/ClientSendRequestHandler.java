@@ -7,6 +7,7 @@
 import java.net.URI;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -70,13 +71,27 @@ public class ClientSendRequestHandler implements ClientRestHandler {
     private final LoggingScope loggingScope;
     private final ClientLogger clientLogger;
     private final Map<Class<?>, MultipartResponseData> multipartResponseDataMap;
+    private final RequestCoalescer coalescer;
 
     public ClientSendRequestHandler(boolean followRedirects, LoggingScope loggingScope, ClientLogger logger,
             Map<Class<?>, MultipartResponseData> multipartResponseDataMap) {
+        this(followRedirects, loggingScope, logger, multipartResponseDataMap, false, null);
+    }
+
+    /**
+     * @param coalesceRequestHeaders the headers compared to coalesce the requests, the default ones if {@code null}
+     */
+    public ClientSendRequestHandler(boolean followRedirects, LoggingScope loggingScope, ClientLogger logger,
+            Map<Class<?>, MultipartResponseData> multipartResponseDataMap, boolean coalesceRequests,
+            Collection<String> coalesceRequestHeaders) {
         this.followRedirects = followRedirects;
         this.loggingScope = loggingScope;
         this.clientLogger = logger;
         this.multipartResponseDataMap = multipartResponseDataMap;
+        this.coalescer = coalesceRequests
+                ? new RequestCoalescer(
+                        coalesceRequestHeaders != null ? coalesceRequestHeaders : RequestCoalescer.DEFAULT_HEADERS)
+                : null;
     }
 
     @Override
@@ -85,6 +100,21 @@ public void handle(RestClientRequestContext requestContext) {
             return;
         }
         requestContext.suspend();
+        RequestCoalescer.InFlightRequest coalesced = null;
+        if (coalescer != null) {
+            String key = coalescer.key(requestContext);
+            if (key != null) {
+                coalesced = coalescer.lead(key, requestContext);
+                if (coalesced == null) {
+                    // an identical request is in progress, this one is resumed with its response
+                    return;
+                }
+            }
+        }
+        send(requestContext, coalesced);
+    }
+
+    private void send(RestClientRequestContext requestContext, RequestCoalescer.InFlightRequest coalesced) {
         Uni<HttpClientRequest> future = createRequest(requestContext);
 
         // DNS failures happen before we send the request
@@ -116,17 +146,19 @@ public void accept(HttpClientRequest httpClientRequest) {
                                 pipe.endOnFailure(false);
                                 pipe.to(req, ar2 -> {
                                     if (ar2.failed()) {
+                                        actualEntity.close();
                                         req.reset(0L, ar2.cause());
                                     }
                                 });
                                 actualEntity.run();
                             } else {
+                                actualEntity.close();
                                 pipe.close();
                             }
                         });
                         Future<HttpClientResponse> sent = httpClientRequest.response();
                         requestPromise.complete(httpClientRequest);
-                        attachSentHandlers(sent, httpClientRequest, requestContext);
+                        attachSentHandlers(sent, httpClientRequest, requestContext, null);
                     } catch (Throwable e) {
                         reportFinish(e, requestContext);
                         requestContext.resume(e);
@@ -159,7 +191,7 @@ public void handle(AsyncResult<AsyncFile> openedAsyncFile) {
                                             setVertxHeaders(httpClientRequest, headerMap);
 
                                             Future<HttpClientResponse> sent = httpClientRequest.send(openedAsyncFile.result());
-                                            attachSentHandlers(sent, httpClientRequest, requestContext);
+                                            attachSentHandlers(sent, httpClientRequest, requestContext, null);
                                         }
                                     });
                 } else {
@@ -169,6 +201,7 @@ public void handle(AsyncResult<AsyncFile> openedAsyncFile) {
                         actualEntity = ClientSendRequestHandler.this
                                 .setRequestHeadersAndPrepareBody(httpClientRequest, requestContext);
                     } catch (Throwable e) {
+                        failCoalesced(coalesced, e);
                         requestContext.resume(e);
                         return;
                     }
@@ -183,7 +216,7 @@ public void handle(AsyncResult<AsyncFile> openedAsyncFile) {
                             clientLogger.logRequest(httpClientRequest, actualEntity, false);
                         }
                     }
-                    attachSentHandlers(sent, httpClientRequest, requestContext);
+                    attachSentHandlers(sent, httpClientRequest, requestContext, coalesced);
                 }
             }
         }, new Consumer<>() {
@@ -195,9 +228,11 @@ public void accept(Throwable event) {
 
                 if (event instanceof IOException) {
                     ProcessingException throwable = new ProcessingException(event);
+                    failCoalesced(coalesced, throwable);
                     reportFinish(throwable, requestContext);
                     requestContext.resume(throwable);
                 } else {
+                    failCoalesced(coalesced, event);
                     requestContext.resume(event);
                     reportFinish(event, requestContext);
                 }
@@ -207,12 +242,24 @@ public void accept(Throwable event) {
 
     private void attachSentHandlers(Future<HttpClientResponse> sent,
             HttpClientRequest httpClientRequest,
-            RestClientRequestContext requestContext) {
+            RestClientRequestContext requestContext,
+            RequestCoalescer.InFlightRequest coalesced) {
         sent.onSuccess(new Handler<>() {
             @Override
             public void handle(HttpClientResponse clientResponse) {
                 try {
                     requestContext.initialiseResponse(clientResponse);
+                    if (coalesced != null) {
+                        clientResponse.exceptionHandler(new Handler<>() {
+                            @Override
+                            public void handle(Throwable failure) {
+                                // only a failure while reading the response body has to be handled here
+                                if (failCoalesced(coalesced, failure)) {
+                                    requestContext.resume(failure);
+                                }
+                            }
+                        });
+                    }
                     int status = clientResponse.statusCode();
                     if (requestContext.getCallStatsCollector() != null) {
                         if (status >= 500 && status < 600) {
@@ -224,6 +271,15 @@ public void handle(HttpClientResponse clientResponse) {
                     }
 
                     if (isResponseMultipart(requestContext)) {
+                        if (coalesced != null) {
+                            // the multipart parts cannot be shared, the identical requests are sent separately
+                            coalesced.complete(new Consumer<>() {
+                                @Override
+                                public void accept(RestClientRequestContext follower) {
+                                    send(follower, null);
+                                }
+                            });
+                        }
                         QuarkusMultipartResponseDecoder multipartDecoder = new QuarkusMultipartResponseDecoder(
                                 clientResponse);
 
@@ -326,6 +382,9 @@ public void handle(Buffer buffer) {
                                     if (loggingScope != LoggingScope.NONE) {
                                         clientLogger.logResponse(clientResponse, false);
                                     }
+                                    if (coalesced != null) {
+                                        completeCoalesced(coalesced, clientResponse, buffer);
+                                    }
                                     try {
                                         if (buffer.length() > 0) {
                                             requestContext.setResponseEntityStream(
@@ -342,6 +401,7 @@ public void handle(Buffer buffer) {
                         }
                     }
                 } catch (Throwable t) {
+                    failCoalesced(coalesced, t);
                     reportFinish(t, requestContext);
                     requestContext.resume(t);
                 }
@@ -350,22 +410,59 @@ public void handle(Buffer buffer) {
                 .onFailure(new Handler<>() {
                     @Override
                     public void handle(Throwable failure) {
+                        Throwable mapped;
                         if (failure instanceof HttpClosedException) {
                             // This is because of the Rest Client TCK
                             // HttpClosedException is a runtime exception. If we complete with that exception, it gets
                             // unwrapped by the rest client proxy and thus fails the TCK.
                             // By creating an IOException, we avoid that and provide a meaningful exception (because
                             // it's an I/O exception)
-                            requestContext.resume(new ProcessingException(new IOException(failure.getMessage())));
+                            mapped = new ProcessingException(new IOException(failure.getMessage()));
                         } else if (failure instanceof IOException) {
-                            requestContext.resume(new ProcessingException(failure));
+                            mapped = new ProcessingException(failure);
                         } else {
-                            requestContext.resume(failure);
+                            mapped = failure;
                         }
+                        failCoalesced(coalesced, mapped);
+                        requestContext.resume(mapped);
                     }
                 });
     }
 
+    private void completeCoalesced(RequestCoalescer.InFlightRequest coalesced, HttpClientResponse clientResponse,
+            Buffer buffer) {
+        byte[] body = buffer.length() > 0 ? buffer.getBytes() : null;
+        int status = clientResponse.statusCode();
+        coalesced.complete(new Consumer<>() {
+            @Override
+            public void accept(RestClientRequestContext follower) {
+                try {
+                    follower.initialiseResponse(clientResponse);
+                    if (follower.getCallStatsCollector() != null) {
+                        reportFinish(status >= 500 && status < 600 ? new InternalServerErrorException() : null, follower);
+                    }
+                    follower.setResponseEntityStream(body != null ? new ByteArrayInputStream(body) : null);
+                    follower.resume();
+                } catch (Throwable t) {
+                    follower.resume(t);
+                }
+            }
+        });
+    }
+
+    private boolean failCoalesced(RequestCoalescer.InFlightRequest coalesced, Throwable failure) {
+        if (coalesced == null) {
+            return false;
+        }
+        return coalesced.complete(new Consumer<>() {
+            @Override
+            public void accept(RestClientRequestContext follower) {
+                reportFinish(failure, follower);
+                follower.resume(failure);
+            }
+        });
+    }
+
     private boolean isResponseMultipart(RestClientRequestContext requestContext) {
         MultivaluedMap<String, String> responseHeaders = requestContext.getResponseHeaders();
         List<String> contentTypes = responseHeaders.get(CONTENT_TYPE);
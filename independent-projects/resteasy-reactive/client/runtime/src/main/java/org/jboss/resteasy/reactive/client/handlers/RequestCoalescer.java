@@ -0,0 +1,157 @@
+package org.jboss.resteasy.reactive.client.handlers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.reactive.client.impl.RestClientRequestContext;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Sends a single request for the identical {@code GET} requests in progress at the same time.
+ * <p>
+ * Two requests are identical if they have the same URI and the same values for the headers that can change the
+ * response, the other headers, e.g. the tracing headers, are ignored. The first one is sent, the other ones wait for
+ * its response, which is buffered, and then continue with a copy of it. The requests whose response is not buffered,
+ * such as the file and stream downloads, are never coalesced.
+ */
+class RequestCoalescer {
+
+    /**
+     * The headers compared when no other headers are configured.
+     */
+    static final List<String> DEFAULT_HEADERS = List.of("Accept", "Accept-Encoding", "Accept-Language", "Authorization",
+            "Cookie");
+
+    private final ConcurrentMap<String, InFlightRequest> inFlight = new ConcurrentHashMap<>();
+    private final Set<String> headers;
+
+    /**
+     * @param headers the headers whose values must be the same for the requests to be coalesced
+     */
+    RequestCoalescer(Collection<String> headers) {
+        this.headers = new HashSet<>();
+        for (String header : headers) {
+            this.headers.add(header.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * @return the key identifying the request, or {@code null} if it cannot be coalesced
+     */
+    String key(RestClientRequestContext context) {
+        if (!"GET".equals(context.getHttpMethod()) || context.getEntity() != null || !context.isRegisterBodyHandler()
+                || context.isFileDownload() || context.isInputStreamDownload()) {
+            return null;
+        }
+        MultivaluedMap<String, String> requestHeaders = context.getRequestHeaders().asMap();
+        Map<String, List<String>> sorted = new TreeMap<>();
+        for (Map.Entry<String, List<String>> entry : requestHeaders.entrySet()) {
+            String name = entry.getKey().toLowerCase(Locale.ROOT);
+            if (headers.contains(name)) {
+                sorted.put(name, entry.getValue());
+            }
+        }
+        StringBuilder key = new StringBuilder(context.getUri().toString());
+        for (Map.Entry<String, List<String>> entry : sorted.entrySet()) {
+            key.append('\n').append(entry.getKey()).append(':').append(entry.getValue());
+        }
+        return key.toString();
+    }
+
+    /**
+     * @return the request to send and to complete once its response is received, or {@code null} if the request joined
+     *         an identical request in progress
+     */
+    InFlightRequest lead(String key, RestClientRequestContext context) {
+        while (true) {
+            InFlightRequest existing = inFlight.get(key);
+            if (existing == null) {
+                InFlightRequest created = new InFlightRequest(key);
+                if (inFlight.putIfAbsent(key, created) == null) {
+                    return created;
+                }
+            } else if (existing.join(context)) {
+                return null;
+            } else {
+                // completed in the meantime
+                inFlight.remove(key, existing);
+            }
+        }
+    }
+
+    final class InFlightRequest {
+
+        private final String key;
+        private List<Follower> followers;
+        private boolean completed;
+
+        private InFlightRequest(String key) {
+            this.key = key;
+        }
+
+        private synchronized boolean join(RestClientRequestContext context) {
+            if (completed) {
+                return false;
+            }
+            if (followers == null) {
+                followers = new ArrayList<>();
+            }
+            followers.add(new Follower(context, Vertx.currentContext()));
+            return true;
+        }
+
+        /**
+         * Stops accepting requests and executes the given action for each request that joined this one, on its own
+         * context.
+         *
+         * @return {@code false} if this request was already completed
+         */
+        boolean complete(Consumer<RestClientRequestContext> action) {
+            List<Follower> joined;
+            synchronized (this) {
+                if (completed) {
+                    return false;
+                }
+                completed = true;
+                joined = followers;
+                followers = null;
+            }
+            inFlight.remove(key, this);
+            if (joined == null) {
+                return true;
+            }
+            for (Follower follower : joined) {
+                if (follower.vertxContext == null || follower.vertxContext == Vertx.currentContext()) {
+                    action.accept(follower.requestContext);
+                } else {
+                    follower.vertxContext.runOnContext(v -> action.accept(follower.requestContext));
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Follower {
+
+        final RestClientRequestContext requestContext;
+        final Context vertxContext;
+
+        Follower(RestClientRequestContext requestContext, Context vertxContext) {
+            this.requestContext = requestContext;
+            this.vertxContext = vertxContext;
+        }
+    }
+}
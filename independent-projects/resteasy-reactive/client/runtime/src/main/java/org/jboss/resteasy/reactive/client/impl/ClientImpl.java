@@ -1,8 +1,13 @@
 package org.jboss.resteasy.reactive.client.impl;
 
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.COALESCE_REQUESTS;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.COALESCE_REQUEST_HEADERS;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_POOL_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_TTL;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECT_TIMEOUT;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP2_CLEAR_TEXT_UPGRADE;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP2_CONNECTION_POOL_SIZE;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.KEEP_ALIVE_ENABLED;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_HEADER_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_INITIAL_LINE_LENGTH;
@@ -11,6 +16,7 @@
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.SHARED;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -158,7 +164,26 @@ public Vertx get() {
             log.debugf("Setting connectionPoolSize to %d", connectionPoolSize);
         }
         options.setMaxPoolSize((int) connectionPoolSize);
-        options.setHttp2MaxPoolSize((int) connectionPoolSize);
+
+        // an HTTP/2 connection multiplexes the requests, a new one is only opened when the others reached their limit of
+        // concurrent streams
+        Object http2ConnectionPoolSize = configuration.getProperty(HTTP2_CONNECTION_POOL_SIZE);
+        if (http2ConnectionPoolSize == null) {
+            http2ConnectionPoolSize = connectionPoolSize;
+        } else {
+            log.debugf("Setting http2ConnectionPoolSize to %d", http2ConnectionPoolSize);
+        }
+        options.setHttp2MaxPoolSize((int) http2ConnectionPoolSize);
+
+        Object http2MultiplexingLimit = configuration.getProperty(HTTP2_MULTIPLEXING_LIMIT);
+        if (http2MultiplexingLimit != null) {
+            options.setHttp2MultiplexingLimit((int) http2MultiplexingLimit);
+        }
+
+        Object http2ClearTextUpgrade = configuration.getProperty(HTTP2_CLEAR_TEXT_UPGRADE);
+        if (http2ClearTextUpgrade != null) {
+            options.setHttp2ClearTextUpgrade((boolean) http2ClearTextUpgrade);
+        }
 
         Object keepAliveEnabled = configuration.getProperty(KEEP_ALIVE_ENABLED);
         if (keepAliveEnabled != null) {
@@ -201,7 +226,10 @@ public Vertx get() {
             });
         }
 
-        handlerChain = new HandlerChain(followRedirects, loggingScope, clientContext.getMultipartResponsesData(), clientLogger);
+        Object coalesceRequests = configuration.getProperty(COALESCE_REQUESTS);
+        Object coalesceRequestHeaders = configuration.getProperty(COALESCE_REQUEST_HEADERS);
+        handlerChain = new HandlerChain(followRedirects, loggingScope, clientContext.getMultipartResponsesData(), clientLogger,
+                coalesceRequests != null && (boolean) coalesceRequests, (Collection<String>) coalesceRequestHeaders);
     }
 
     public ClientContext getClientContext() {
@@ -1,6 +1,7 @@
 package org.jboss.resteasy.reactive.client.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -35,9 +36,11 @@ class HandlerChain {
     private ClientRestHandler preClientSendHandler = null;
 
     public HandlerChain(boolean followRedirects, LoggingScope loggingScope,
-            Map<Class<?>, MultipartResponseData> multipartData, ClientLogger clientLogger) {
+            Map<Class<?>, MultipartResponseData> multipartData, ClientLogger clientLogger, boolean coalesceRequests,
+            Collection<String> coalesceRequestHeaders) {
         this.clientSwitchToRequestContextRestHandler = new ClientSwitchToRequestContextRestHandler();
-        this.clientSendHandler = new ClientSendRequestHandler(followRedirects, loggingScope, clientLogger, multipartData);
+        this.clientSendHandler = new ClientSendRequestHandler(followRedirects, loggingScope, clientLogger, multipartData,
+                coalesceRequests, coalesceRequestHeaders);
         this.clientSetResponseEntityRestHandler = new ClientSetResponseEntityRestHandler();
         this.clientResponseCompleteRestHandler = new ClientResponseCompleteRestHandler();
         this.clientErrorHandler = new ClientErrorHandler(loggingScope);
@@ -50,11 +50,11 @@
  * Then, when the requested amount of bytes is ready, or the underlying Multi is completed, `resumption` is executed.
  *
  */
-public class MultiByteHttpData extends AbstractHttpData implements FileUpload {
+public class MultiByteHttpData extends AbstractHttpData implements FileUpload, PausableHttpData {
     private static final Logger log = Logger.getLogger(MultiByteHttpData.class);
 
     public static final int DEFAULT_BUFFER_SIZE = 16384;
-    private static final int BUFFER_SIZE;
+    static final int BUFFER_SIZE;
 
     private Subscription subscription;
     private String filename;
@@ -132,7 +132,8 @@ public MultiByteHttpData(String name, String filename, String contentType,
                 });
     }
 
-    void suspend(int awaitedBytes) {
+    @Override
+    public void suspend(int awaitedBytes) {
         this.awaitedBytes = awaitedBytes;
         this.paused = true;
     }
@@ -179,6 +180,7 @@ public ByteBuf getByteBuf() {
      * @return true if the requested amount of bytes is ready to be read or the Multi is completed, i.e. there will be
      *         no more bytes to read
      */
+    @Override
     public boolean isReady(int chunkSize) {
         return done || buffer.readableBytes() >= chunkSize;
     }
@@ -0,0 +1,27 @@
+package org.jboss.resteasy.reactive.client.impl.multipart;
+
+/**
+ * An {@link io.netty.handler.codec.http.multipart.HttpData} whose content is received asynchronously.
+ * <p>
+ * Before reading the next chunk of data, the {@link PausableHttpPostRequestEncoder} checks if the data
+ * {@link #isReady(int)} and if not, triggers {@link #suspend(int)}. The data then executes the resumption it was created
+ * with when the requested amount of bytes is ready, or when there are no more bytes to read.
+ */
+interface PausableHttpData {
+
+    /**
+     * check if it is possible to read the next chunk of data of a given size
+     *
+     * @param chunkSize amount of bytes
+     * @return true if the requested amount of bytes is ready to be read or the content is completed, i.e. there will be
+     *         no more bytes to read
+     */
+    boolean isReady(int chunkSize);
+
+    /**
+     * waits until the given amount of bytes is ready to be read
+     *
+     * @param awaitedBytes amount of bytes
+     */
+    void suspend(int awaitedBytes);
+}
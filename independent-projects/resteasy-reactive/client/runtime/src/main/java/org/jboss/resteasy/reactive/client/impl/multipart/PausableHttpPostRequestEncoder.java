@@ -752,9 +752,11 @@ public void addBodyHttpData(InterfaceHttpData data) throws ErrorDataEncoderExcep
                             + HttpHeaderValues.FILENAME + "=\"" + fileUpload.getFilename() + "\"\r\n");
                 }
             }
-            // Add Content-Length: xxx
-            internal.addValue(HttpHeaderNames.CONTENT_LENGTH + ": " +
-                    fileUpload.length() + "\r\n");
+            // Add Content-Length: xxx, unless the data is received asynchronously with an unknown length
+            if (!(fileUpload instanceof PausableHttpData) || fileUpload.definedLength() > 0) {
+                internal.addValue(HttpHeaderNames.CONTENT_LENGTH + ": " +
+                        fileUpload.length() + "\r\n");
+            }
             // Content-Type: image/gif
             // Content-Type: text/plain; charset=ISO-8859-1
             // Content-Transfer-Encoding: binary
@@ -958,10 +960,10 @@ private HttpContent encodeNextChunkMultipart(int sizeleft) throws ErrorDataEncod
             buffer = ((QuarkusInternalAttribute) currentData).toByteBuf();
             currentData = null;
         } else {
-            if (currentData instanceof MultiByteHttpData) {
-                MultiByteHttpData multiByteHttpData = (MultiByteHttpData) this.currentData;
-                if (!multiByteHttpData.isReady(sizeleft)) {
-                    multiByteHttpData.suspend(sizeleft);
+            if (currentData instanceof PausableHttpData) {
+                PausableHttpData pausableHttpData = (PausableHttpData) this.currentData;
+                if (!pausableHttpData.isReady(sizeleft)) {
+                    pausableHttpData.suspend(sizeleft);
                     return WAIT_MARKER; // we'll invoke this method once more when the data is ready
                 }
             }
@@ -1,6 +1,7 @@
 package org.jboss.resteasy.reactive.client.impl.multipart;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -11,6 +12,7 @@
 import jakarta.ws.rs.RuntimeType;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.core.GenericEntity;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.ext.MessageBodyWriter;
 
@@ -122,6 +124,13 @@ public void preparePojos(RestClientRequestContext context) throws IOException {
             } else {
                 entityType = entityClass = pojo.type;
             }
+            if (entityObject instanceof InputStream) {
+                // streamed as it is read instead of being serialized in memory
+                parts.set(pojo.position, new QuarkusMultipartFormDataPart(pojo.name, pojo.filename,
+                        (InputStream) entityObject,
+                        pojo.mediaType != null ? pojo.mediaType : MediaType.APPLICATION_OCTET_STREAM));
+                continue;
+            }
 
             List<MessageBodyWriter<?>> writers = serialisers.findWriters(context.getConfiguration(),
                     entityClass, entity.getMediaType(),
@@ -1,7 +1,8 @@
 package org.jboss.resteasy.reactive.client.impl.multipart;
 
-import java.io.File;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.UnpooledByteBufAllocator;
@@ -38,6 +39,7 @@ public class QuarkusMultipartFormUpload implements ReadStream<Buffer>, Runnable
     private boolean ended;
     private final InboundBuffer<Object> pending;
     private final Context context;
+    private final List<StreamedHttpData> streamedData = new ArrayList<>();
 
     public QuarkusMultipartFormUpload(Context context,
             QuarkusMultipartForm parts,
@@ -100,12 +102,41 @@ public FileUpload createFileUpload(HttpRequest request, String name, String file
                         this::handleError,
                         context,
                         this));
+            } else if (formDataPart.inputStreamContent() != null) {
+                StreamedHttpData data = StreamedHttpData.ofInputStream(
+                        formDataPart.name(),
+                        formDataPart.filename() != null ? formDataPart.filename() : "",
+                        formDataPart.mediaType(),
+                        "binary",
+                        formDataPart.inputStreamContent(),
+                        this::handleError,
+                        context,
+                        this);
+                streamedData.add(data);
+                encoder.addBodyHttpData(data);
             } else {
                 String pathname = formDataPart.pathname();
                 if (pathname != null) {
-                    encoder.addBodyFileUpload(formDataPart.name(),
-                            formDataPart.filename(), new File(formDataPart.pathname()),
-                            formDataPart.mediaType(), formDataPart.isText());
+                    String contentType = formDataPart.mediaType();
+                    if (contentType == null) {
+                        if (formDataPart.isText()) {
+                            contentType = "text/plain";
+                        } else {
+                            contentType = "application/octet-stream";
+                        }
+                    }
+                    // the file is read asynchronously, and sent without being copied
+                    StreamedHttpData data = StreamedHttpData.ofFile(
+                            formDataPart.name(),
+                            formDataPart.filename(),
+                            contentType,
+                            formDataPart.isText() ? null : "binary",
+                            pathname,
+                            this::handleError,
+                            context,
+                            this);
+                    streamedData.add(data);
+                    encoder.addBodyHttpData(data);
                 } else {
                     String contentType = formDataPart.mediaType();
                     if (formDataPart.mediaType() == null) {
@@ -195,9 +226,20 @@ private void handleError(Throwable e) {
         ended = true;
         request = null;
         encoder = null;
+        close();
         pending.write(e);
     }
 
+    /**
+     * Stops reading the files and streams that are sent, if the upload was not completed.
+     */
+    public void close() {
+        for (StreamedHttpData data : streamedData) {
+            data.delete();
+        }
+        streamedData.clear();
+    }
+
     public MultiMap headers() {
         return new HeadersAdaptor(request.headers());
     }
@@ -0,0 +1,511 @@
+package org.jboss.resteasy.reactive.client.impl.multipart;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.multipart.AbstractHttpData;
+import io.netty.handler.codec.http.multipart.FileUpload;
+import io.netty.handler.codec.http.multipart.InterfaceHttpData;
+import io.netty.util.internal.ObjectUtil;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.OpenOptions;
+
+/**
+ * A FileUpload implementation that is responsible for sending a file or an {@link InputStream} in a multipart message
+ * without loading it in memory. It is meant to be used by the {@link PausableHttpPostRequestEncoder}
+ *
+ * The file is read with an {@link AsyncFile} and the input stream on a worker thread, so that the event loop is never
+ * blocked. The buffers read are passed to the encoder as they are, without being copied. The reading is paused when
+ * {@link MultiByteHttpData#BUFFER_SIZE} bytes are waiting to be sent and resumed when the encoder has consumed them.
+ */
+public class StreamedHttpData extends AbstractHttpData implements FileUpload, PausableHttpData {
+    private static final Logger log = Logger.getLogger(StreamedHttpData.class);
+
+    private static final int READ_SIZE = 8192;
+
+    private final ArrayDeque<ByteBuf> buffers = new ArrayDeque<>();
+    private final Context context;
+    private final Consumer<Throwable> errorHandler;
+    private final Runnable resumption;
+
+    private String filename;
+    private String contentType;
+    private String contentTransferEncoding;
+
+    private Source source;
+    private int readableBytes;
+    private boolean sourcePaused;
+    private boolean done;
+    private boolean closed;
+    private boolean paused;
+    private int awaitedBytes;
+
+    private StreamedHttpData(String name, String filename, String contentType, String contentTransferEncoding,
+            long size, Context context, Consumer<Throwable> errorHandler, Runnable resumption) {
+        super(name, null, size);
+        this.context = context;
+        this.errorHandler = errorHandler;
+        this.resumption = resumption;
+        setFilename(filename);
+        setContentType(contentType);
+        setContentTransferEncoding(contentTransferEncoding);
+    }
+
+    /**
+     * @param name name of the parameter
+     * @param filename file name
+     * @param contentType content type
+     * @param contentTransferEncoding "binary" for sending binary files
+     * @param pathname the path of the file to send
+     * @param errorHandler error handler invoked when the file cannot be read
+     * @param context Vertx context on which the data is sent
+     * @param resumption the action to execute when the requested amount of bytes is ready, or the file is read
+     */
+    public static StreamedHttpData ofFile(String name, String filename, String contentType,
+            String contentTransferEncoding, String pathname, Consumer<Throwable> errorHandler, Context context,
+            Runnable resumption) {
+        StreamedHttpData data = new StreamedHttpData(name, filename, contentType, contentTransferEncoding,
+                new File(pathname).length(), context, errorHandler, resumption);
+        context.owner().fileSystem().open(pathname, new OpenOptions().setRead(true).setWrite(false), ar -> {
+            if (ar.failed()) {
+                data.fail(ar.cause());
+                return;
+            }
+            AsyncFile file = ar.result();
+            file.setReadBufferSize(READ_SIZE);
+            if (!data.start(new AsyncFileSource(file))) {
+                return;
+            }
+            file.exceptionHandler(data::fail);
+            file.endHandler(v -> data.end());
+            file.handler(buffer -> data.add(buffer.getByteBuf()));
+        });
+        return data;
+    }
+
+    /**
+     * @param name name of the parameter
+     * @param filename file name
+     * @param contentType content type
+     * @param contentTransferEncoding "binary" for sending binary files
+     * @param inputStream the stream to send, closed once it is read
+     * @param errorHandler error handler invoked when the stream cannot be read
+     * @param context Vertx context on which the data is sent
+     * @param resumption the action to execute when the requested amount of bytes is ready, or the stream is read
+     */
+    public static StreamedHttpData ofInputStream(String name, String filename, String contentType,
+            String contentTransferEncoding, InputStream inputStream, Consumer<Throwable> errorHandler, Context context,
+            Runnable resumption) {
+        StreamedHttpData data = new StreamedHttpData(name, filename, contentType, contentTransferEncoding, 0, context,
+                errorHandler, resumption);
+        InputStreamSource source = new InputStreamSource(data, inputStream);
+        if (data.start(source)) {
+            source.resume();
+        }
+        return data;
+    }
+
+    private boolean start(Source source) {
+        if (closed) {
+            source.close();
+            return false;
+        }
+        this.source = source;
+        return true;
+    }
+
+    private void add(ByteBuf buffer) {
+        if (closed) {
+            return;
+        }
+        buffers.add(buffer);
+        readableBytes += buffer.readableBytes();
+        if (!sourcePaused && readableBytes >= MultiByteHttpData.BUFFER_SIZE) {
+            sourcePaused = true;
+            source.pause();
+        }
+        resumeEncoderIfReady();
+    }
+
+    private void end() {
+        done = true;
+        closeSource();
+        resumeEncoderIfReady();
+    }
+
+    private void fail(Throwable error) {
+        if (closed) {
+            return;
+        }
+        log.error("Failed to read the content of the multipart message part " + getName(), error);
+        done = true;
+        delete();
+        errorHandler.accept(error);
+    }
+
+    private void resumeEncoderIfReady() {
+        if (paused && isReady(awaitedBytes)) {
+            paused = false;
+            awaitedBytes = 0;
+            resumption.run();
+        }
+    }
+
+    private void closeSource() {
+        if (source != null) {
+            source.close();
+            source = null;
+        }
+    }
+
+    @Override
+    public boolean isReady(int chunkSize) {
+        return done || readableBytes >= chunkSize;
+    }
+
+    @Override
+    public void suspend(int awaitedBytes) {
+        this.awaitedBytes = awaitedBytes;
+        this.paused = true;
+        if (sourcePaused && source != null) {
+            // should not happen as a chunk is smaller than the buffer, but never wait for a paused source
+            sourcePaused = false;
+            source.resume();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br/>
+     * NOTE: should only be invoked when {@link #isReady(int)} returns true
+     *
+     * @param toRead amount of bytes to read
+     * @return ByteBuf with the requested bytes, made of the buffers read from the source
+     */
+    @Override
+    public ByteBuf getChunk(int toRead) {
+        if (Vertx.currentContext() != context) {
+            throw new IllegalStateException("StreamedHttpData invoked on an invalid context : " + Vertx.currentContext()
+                    + ", thread: " + Thread.currentThread());
+        }
+        if (readableBytes == 0) {
+            return Unpooled.EMPTY_BUFFER;
+        }
+        ByteBuf[] chunk = new ByteBuf[buffers.size()];
+        int count = 0;
+        int remaining = toRead;
+        while (remaining > 0 && !buffers.isEmpty()) {
+            ByteBuf head = buffers.peek();
+            if (head.readableBytes() <= remaining) {
+                buffers.poll();
+                remaining -= head.readableBytes();
+                chunk[count++] = head;
+            } else {
+                chunk[count++] = head.readRetainedSlice(remaining);
+                remaining = 0;
+            }
+        }
+        readableBytes -= toRead - remaining;
+        if (sourcePaused && source != null && readableBytes < MultiByteHttpData.BUFFER_SIZE) {
+            sourcePaused = false;
+            source.resume();
+        }
+        return count == 1 ? chunk[0] : Unpooled.wrappedBuffer(count, chunk);
+    }
+
+    @Override
+    public void delete() {
+        closed = true;
+        closeSource();
+        for (ByteBuf buffer : buffers) {
+            buffer.release();
+        }
+        buffers.clear();
+        readableBytes = 0;
+    }
+
+    @Override
+    public void setContent(ByteBuf buffer) throws IOException {
+        throw new IllegalStateException("setting content of StreamedHttpData is not supported");
+    }
+
+    @Override
+    public void addContent(ByteBuf buffer, boolean last) throws IOException {
+        throw new IllegalStateException("adding content to StreamedHttpData is not supported");
+    }
+
+    @Override
+    public void setContent(File file) throws IOException {
+        throw new IllegalStateException("setting content of StreamedHttpData is not supported");
+    }
+
+    @Override
+    public void setContent(InputStream inputStream) throws IOException {
+        throw new IllegalStateException("setting content of StreamedHttpData is not supported");
+    }
+
+    @Override
+    public byte[] get() throws IOException {
+        throw new IllegalStateException("getting all the contents of a StreamedHttpData is not supported");
+    }
+
+    @Override
+    public ByteBuf getByteBuf() {
+        throw new IllegalStateException("getting all the contents of a StreamedHttpData is not supported");
+    }
+
+    @Override
+    public String getString() {
+        throw new IllegalStateException("Reading StreamedHttpData as String is not supported");
+    }
+
+    @Override
+    public String getString(Charset encoding) {
+        throw new IllegalStateException("Reading StreamedHttpData as String is not supported");
+    }
+
+    @Override
+    public boolean renameTo(File dest) {
+        throw new IllegalStateException("Renaming destination file for StreamedHttpData is not supported");
+    }
+
+    @Override
+    public boolean isInMemory() {
+        return false;
+    }
+
+    @Override
+    public File getFile() {
+        return null;
+    }
+
+    @Override
+    public FileUpload copy() {
+        throw new IllegalStateException("Copying StreamedHttpData is not supported");
+    }
+
+    @Override
+    public FileUpload duplicate() {
+        throw new IllegalStateException("Duplicating StreamedHttpData is not supported");
+    }
+
+    @Override
+    public FileUpload retainedDuplicate() {
+        throw new IllegalStateException("Duplicating StreamedHttpData is not supported");
+    }
+
+    @Override
+    public FileUpload replace(ByteBuf content) {
+        throw new IllegalStateException("Replacing StreamedHttpData is not supported");
+    }
+
+    @Override
+    public FileUpload retain(int increment) {
+        super.retain(increment);
+        return this;
+    }
+
+    @Override
+    public FileUpload retain() {
+        super.retain();
+        return this;
+    }
+
+    @Override
+    public FileUpload touch() {
+        return this;
+    }
+
+    @Override
+    public FileUpload touch(Object hint) {
+        return this;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o;
+    }
+
+    @Override
+    public int compareTo(InterfaceHttpData o) {
+        if (!(o instanceof StreamedHttpData)) {
+            throw new ClassCastException("Cannot compare " + getHttpDataType() +
+                    " with " + o.getHttpDataType());
+        }
+        return Integer.compare(System.identityHashCode(this), System.identityHashCode(o));
+    }
+
+    @Override
+    public HttpDataType getHttpDataType() {
+        return HttpDataType.FileUpload;
+    }
+
+    @Override
+    public String getFilename() {
+        return filename;
+    }
+
+    @Override
+    public void setFilename(String filename) {
+        this.filename = ObjectUtil.checkNotNull(filename, "filename");
+    }
+
+    @Override
+    public void setContentType(String contentType) {
+        this.contentType = ObjectUtil.checkNotNull(contentType, "contentType");
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public String getContentTransferEncoding() {
+        return contentTransferEncoding;
+    }
+
+    @Override
+    public void setContentTransferEncoding(String contentTransferEncoding) {
+        this.contentTransferEncoding = contentTransferEncoding;
+    }
+
+    @Override
+    public long length() {
+        return definedLength();
+    }
+
+    @Override
+    public String toString() {
+        return HttpHeaderNames.CONTENT_DISPOSITION + ": " +
+                HttpHeaderValues.FORM_DATA + "; " + HttpHeaderValues.NAME + "=\"" + getName() +
+                "\"; " + HttpHeaderValues.FILENAME + "=\"" + filename + "\"\r\n" +
+                HttpHeaderNames.CONTENT_TYPE + ": " + contentType + "\r\n" +
+                HttpHeaderNames.CONTENT_LENGTH + ": " + length() + "\r\n" +
+                "Completed: " + isCompleted();
+    }
+
+    /**
+     * The content read, paused and resumed by the {@link StreamedHttpData}, always on its context.
+     */
+    private interface Source {
+        void pause();
+
+        void resume();
+
+        void close();
+    }
+
+    private static class AsyncFileSource implements Source {
+        private final AsyncFile file;
+
+        AsyncFileSource(AsyncFile file) {
+            this.file = file;
+        }
+
+        @Override
+        public void pause() {
+            file.pause();
+        }
+
+        @Override
+        public void resume() {
+            file.resume();
+        }
+
+        @Override
+        public void close() {
+            file.close();
+        }
+    }
+
+    /**
+     * Reads the input stream on a worker thread, one buffer at a time, as long as it is not paused.
+     */
+    private static class InputStreamSource implements Source {
+        private final StreamedHttpData data;
+        private final InputStream inputStream;
+        private boolean paused = true;
+        private boolean reading;
+        private boolean closed;
+
+        InputStreamSource(StreamedHttpData data, InputStream inputStream) {
+            this.data = data;
+            this.inputStream = inputStream;
+        }
+
+        @Override
+        public void pause() {
+            paused = true;
+        }
+
+        @Override
+        public void resume() {
+            paused = false;
+            read();
+        }
+
+        private void read() {
+            if (paused || reading || closed) {
+                return;
+            }
+            reading = true;
+            data.context.<ByteBuf> executeBlocking(promise -> {
+                try {
+                    byte[] bytes = new byte[READ_SIZE];
+                    int read = inputStream.read(bytes);
+                    promise.complete(read < 0 ? null : Unpooled.wrappedBuffer(bytes, 0, read));
+                } catch (IOException e) {
+                    promise.fail(e);
+                }
+            }, true, ar -> {
+                reading = false;
+                if (closed) {
+                    return;
+                }
+                if (ar.failed()) {
+                    data.fail(ar.cause());
+                } else if (ar.result() == null) {
+                    data.end();
+                } else {
+                    data.add(ar.result());
+                    read();
+                }
+            });
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            // ordered, so that the stream is not closed while being read
+            data.context.executeBlocking(promise -> {
+                try {
+                    inputStream.close();
+                } catch (IOException e) {
+                    log.debug("Failed to close the input stream of a multipart message", e);
+                }
+                promise.complete();
+            }, true);
+        }
+    }
+}
@@ -9,7 +9,9 @@
 import examples.HelloReply;
 import examples.HelloRequest;
 import io.quarkus.grpc.GrpcClient;
+import io.quarkus.stork.LatencyAwareLoadBalancer;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.stork.Stork;
 
 @Path("/test")
 public class GrpcCallingResource {
@@ -18,6 +20,8 @@ public class GrpcCallingResource {
     Greeter client1;
     @GrpcClient("hello2")
     Greeter client2;
+    @GrpcClient("hello3")
+    Greeter client3;
 
     @GET
     @Path("/unary/1")
@@ -33,6 +37,25 @@ public Uni<String> unaryCall2(@QueryParam("headers") boolean headers) {
                 .onItem().transform(HelloReply::getMessage);
     }
 
+    @GET
+    @Path("/unary/3")
+    public Uni<String> unaryCall3() {
+        return client3.sayHello(HelloRequest.newBuilder().setName("World").build())
+                .onItem().transform(HelloReply::getMessage);
+    }
+
+    @GET
+    @Path("/latency-aware/calls")
+    public long latencyAwareCalls() {
+        LatencyAwareLoadBalancer loadBalancer = (LatencyAwareLoadBalancer) Stork.getInstance().getService("hello-service3")
+                .getLoadBalancer();
+        long calls = 0;
+        for (LatencyAwareLoadBalancer.InstanceStatistics statistics : loadBalancer.getStatistics()) {
+            calls += statistics.getCalls();
+        }
+        return calls;
+    }
+
     @POST
     @Path("/delay")
     public String setDelay(Integer delayMs) {
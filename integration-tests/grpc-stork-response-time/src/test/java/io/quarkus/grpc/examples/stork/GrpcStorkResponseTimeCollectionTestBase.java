@@ -3,7 +3,10 @@
 import static io.restassured.RestAssured.get;
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.is;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -48,4 +51,23 @@ public void shouldCallModerateIfFaster() {
         assertThat(responses.stream().filter(r -> r.equals("configurable")))
                 .hasSizeLessThan(5);
     }
+
+    @Test
+    public void shouldPreferFasterInstanceWithLatencyAwareLoadBalancer() {
+        given().body("1000")
+                .when().post("/test/delay")
+                .then().statusCode(200);
+        List<String> responses = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Response response = get("/test/unary/3");
+            response.then().statusCode(200);
+            responses.add(response.asString());
+        }
+
+        assertThat(responses.stream().filter(r -> r.equals("moderately-slow")))
+                .hasSizeGreaterThan(5);
+        // every call has been measured through the instance selected by the load balancer
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> get("/test/latency-aware/calls").then().statusCode(200).body(is("10")));
+    }
 }
@@ -0,0 +1,50 @@
+package io.quarkus.it.infinispan.client;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.infinispan.client.hotrod.RemoteCache;
+
+import io.quarkus.infinispan.client.CacheResult;
+import io.quarkus.infinispan.client.Remote;
+
+/**
+ * Reads the {@code catalog} cache through the caching annotations, its results are kept in a near cache.
+ */
+@Path("/catalog")
+public class CatalogResource {
+
+    public static final String CATALOG_CACHE = "catalog";
+
+    private static final AtomicInteger LOADS = new AtomicInteger();
+
+    @Inject
+    @Remote(CATALOG_CACHE)
+    RemoteCache<String, String> catalog;
+
+    @GET
+    @Path("{id}")
+    @Produces(MediaType.TEXT_PLAIN)
+    @CacheResult(cacheName = CATALOG_CACHE)
+    public String item(@PathParam("id") String id) {
+        return id + "-" + LOADS.incrementAndGet();
+    }
+
+    /**
+     * Writes the value without the annotations, like another client of the server would.
+     */
+    @PUT
+    @Path("{id}")
+    @Consumes(MediaType.TEXT_PLAIN)
+    public void write(@PathParam("id") String id, String value) {
+        catalog.put(id, value);
+    }
+}
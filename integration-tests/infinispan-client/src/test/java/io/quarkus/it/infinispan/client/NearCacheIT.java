@@ -0,0 +1,7 @@
+package io.quarkus.it.infinispan.client;
+
+import io.quarkus.test.junit.QuarkusIntegrationTest;
+
+@QuarkusIntegrationTest
+public class NearCacheIT extends NearCacheTest {
+}
@@ -0,0 +1,76 @@
+package io.quarkus.it.infinispan.client;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+
+@QuarkusTest
+public class NearCacheTest {
+
+    @Test
+    public void testResultsAreServedFromTheNearCache() {
+        String item = RestAssured.when().get("/catalog/book").then().statusCode(200).extract().asString();
+
+        // the near cache is used once its listener is registered
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            RestAssured.when().get("/catalog/book").then().body(is(item));
+            assertTrue(metric("hits_total") > 0);
+        });
+
+        double hits = metric("hits_total");
+        double misses = metric("misses_total");
+        RestAssured.when().get("/catalog/book").then().body(is(item));
+        assertEquals(hits + 1, metric("hits_total"));
+        assertEquals(misses, metric("misses_total"));
+    }
+
+    @Test
+    public void testServerWritesInvalidateTheNearCache() {
+        RestAssured.when().get("/catalog/magazine").then().statusCode(200);
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            RestAssured.when().get("/catalog/magazine").then().statusCode(200);
+            assertTrue(metric("hits_total") > 0);
+        });
+        double invalidations = metric("invalidations_total");
+
+        RestAssured.given().contentType(ContentType.TEXT).body("written on the server")
+                .put("/catalog/magazine").then().statusCode(204);
+
+        // the listener drops the entry, the next call reads the new value from the server
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> RestAssured.when().get("/catalog/magazine").then().body(is("written on the server")));
+        assertTrue(metric("invalidations_total") > invalidations);
+    }
+
+    @Test
+    public void testMetricsAreRegistered() {
+        String metrics = RestAssured.when().get("/q/metrics").then().statusCode(200).extract().asString();
+        for (String name : new String[] { "hits_total", "misses_total", "hit_ratio", "invalidations_total",
+                "reconnects_total", "size" }) {
+            assertNotNull(value(metrics, name), name);
+        }
+    }
+
+    private static double metric(String name) {
+        String value = value(RestAssured.when().get("/q/metrics").asString(), name);
+        return value == null ? 0 : Double.parseDouble(value);
+    }
+
+    private static String value(String metrics, String name) {
+        Matcher matcher = Pattern.compile("^infinispan_client_near_cache_" + name + "\\{[^}]*cache=\"catalog\"[^}]*} (\\S+)$",
+                Pattern.MULTILINE).matcher(metrics);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+}
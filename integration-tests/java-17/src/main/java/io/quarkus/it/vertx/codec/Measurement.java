@@ -0,0 +1,12 @@
+package io.quarkus.it.vertx.codec;
+
+public record Measurement(String sensor, double value, Long timestamp, Unit unit, Location location) {
+
+    public enum Unit {
+        CELSIUS,
+        FAHRENHEIT
+    }
+
+    public record Location(double latitude, double longitude) {
+    }
+}
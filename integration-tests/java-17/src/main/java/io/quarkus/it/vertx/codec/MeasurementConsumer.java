@@ -0,0 +1,15 @@
+package io.quarkus.it.vertx.codec;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.quarkus.vertx.ConsumeEvent;
+
+@ApplicationScoped
+public class MeasurementConsumer {
+
+    @ConsumeEvent(value = "measurements", local = false)
+    String consume(Measurement measurement) {
+        return measurement.sensor() + ":" + measurement.value() + " " + measurement.unit() + " at "
+                + measurement.location().latitude() + "," + measurement.location().longitude();
+    }
+}
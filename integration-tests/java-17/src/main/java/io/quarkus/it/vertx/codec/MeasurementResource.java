@@ -0,0 +1,88 @@
+package io.quarkus.it.vertx.codec;
+
+import java.nio.charset.StandardCharsets;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.mutiny.core.eventbus.EventBus;
+import io.vertx.mutiny.core.eventbus.Message;
+
+@Path("/vertx/measurements")
+public class MeasurementResource {
+
+    static final Measurement MEASUREMENT = new Measurement("kitchen", 21.5, 1682000000000L, Measurement.Unit.CELSIUS,
+            new Measurement.Location(50.1, 14.4));
+    static final Measurement EMPTY_MEASUREMENT = new Measurement(null, 0, null, null, null);
+
+    @Inject
+    EventBus eventBus;
+
+    @GET
+    @Path("request")
+    public Uni<String> request() {
+        return eventBus.<String> request("measurements", MEASUREMENT).map(Message::body);
+    }
+
+    @GET
+    @Path("wire")
+    public String wire() throws Exception {
+        Measurement decoded = roundTrip(MEASUREMENT);
+        return decoded.equals(MEASUREMENT) + " " + decoded;
+    }
+
+    @GET
+    @Path("wire-nulls")
+    public String wireNulls() throws Exception {
+        Measurement decoded = roundTrip(EMPTY_MEASUREMENT);
+        return decoded.equals(EMPTY_MEASUREMENT) + " " + decoded;
+    }
+
+    @GET
+    @Path("wire-enum")
+    public String wireEnum() throws Exception {
+        // the enum constants are written by name, not by ordinal
+        Buffer buffer = Buffer.buffer();
+        codec(Measurement.class).encodeToWire(buffer, MEASUREMENT);
+        return String.valueOf(buffer.toString(StandardCharsets.UTF_8).contains(MEASUREMENT.unit().name()));
+    }
+
+    @GET
+    @Path("private")
+    public Uni<String> privateTypes() {
+        return eventBus.<String> request("secrets", PrivateTypeConsumer.SECRET).map(Message::body)
+                .flatMap(secret -> eventBus.<String> request("labels", PrivateTypeConsumer.LABELLED).map(Message::body)
+                        .map(label -> secret + ", " + label + ", " + hasCodec(PrivateTypeConsumer.SECRET.getClass())
+                                + " " + hasCodec(PrivateTypeConsumer.LABELLED.getClass())));
+    }
+
+    private Measurement roundTrip(Measurement measurement) throws Exception {
+        // the codec generated for the record, as used by the clustered event bus
+        MessageCodec<Measurement, Measurement> codec = codec(Measurement.class);
+        Buffer buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, measurement);
+        return codec.decodeFromWire(0, buffer);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> MessageCodec<T, T> codec(Class<T> record) throws Exception {
+        return (MessageCodec<T, T>) Class.forName(codecName(record)).getDeclaredConstructor().newInstance();
+    }
+
+    private static boolean hasCodec(Class<?> record) {
+        try {
+            Class.forName(codecName(record));
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static String codecName(Class<?> record) {
+        return record.getName().replace('$', '_') + "_EventBusCodec";
+    }
+}
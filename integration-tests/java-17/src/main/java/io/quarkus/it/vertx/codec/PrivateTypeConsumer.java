@@ -0,0 +1,35 @@
+package io.quarkus.it.vertx.codec;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.quarkus.vertx.ConsumeEvent;
+
+/**
+ * Consumes records that the generated codecs cannot access, they use the local codec.
+ */
+@ApplicationScoped
+public class PrivateTypeConsumer {
+
+    static final Object SECRET = new Secret("s3cr3t");
+    static final Object LABELLED = new Labelled("draft", Visibility.HIDDEN);
+
+    @ConsumeEvent("secrets")
+    String consume(Secret secret) {
+        return "secret " + secret.value();
+    }
+
+    @ConsumeEvent("labels")
+    String consume(Labelled labelled) {
+        return "label " + labelled.name() + " " + labelled.visibility();
+    }
+
+    private record Secret(String value) {
+    }
+
+    private enum Visibility {
+        HIDDEN
+    }
+
+    public record Labelled(String name, Visibility visibility) {
+    }
+}
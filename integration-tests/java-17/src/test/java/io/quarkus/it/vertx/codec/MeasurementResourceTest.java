@@ -0,0 +1,53 @@
+package io.quarkus.it.vertx.codec;
+
+import static io.restassured.RestAssured.when;
+import static org.hamcrest.CoreMatchers.is;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class MeasurementResourceTest {
+
+    @Test
+    void testRequest() {
+        when().get("/vertx/measurements/request")
+                .then()
+                .statusCode(200)
+                .body(is("kitchen:21.5 CELSIUS at 50.1,14.4"));
+    }
+
+    @Test
+    void testWireFormat() {
+        when().get("/vertx/measurements/wire")
+                .then()
+                .statusCode(200)
+                .body(is("true Measurement[sensor=kitchen, value=21.5, timestamp=1682000000000, unit=CELSIUS, "
+                        + "location=Location[latitude=50.1, longitude=14.4]]"));
+    }
+
+    @Test
+    void testWireFormatWithNullComponents() {
+        when().get("/vertx/measurements/wire-nulls")
+                .then()
+                .statusCode(200)
+                .body(is("true Measurement[sensor=null, value=0.0, timestamp=null, unit=null, location=null]"));
+    }
+
+    @Test
+    void testEnumsAreWrittenByName() {
+        when().get("/vertx/measurements/wire-enum")
+                .then()
+                .statusCode(200)
+                .body(is("true"));
+    }
+
+    @Test
+    void testPrivateTypesUseTheLocalCodec() {
+        when().get("/vertx/measurements/private")
+                .then()
+                .statusCode(200)
+                .body(is("secret s3cr3t, label draft HIDDEN, false false"));
+    }
+}
@@ -16,10 +16,12 @@
 import com.mongodb.client.model.CollationStrength;
 
 import io.quarkus.mongodb.panache.PanacheQuery;
+import io.quarkus.mongodb.panache.common.BulkOptions;
 import io.quarkus.mongodb.panache.reactive.ReactivePanacheQuery;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.Sort;
+import io.smallrye.mutiny.Multi;
 
 @Path("/test")
 public class TestResource {
@@ -58,6 +60,16 @@ public Response testImperativeEntity() {
         entity12.delete();
         Assertions.assertEquals(10, TestImperativeEntity.count());
 
+        // bulk
+        List<TestImperativeEntity> bulkEntities = getTestImperativeEntities();
+        TestImperativeEntity.bulkPersist(bulkEntities, new BulkOptions().batchSize(3));
+        Assertions.assertEquals(20, TestImperativeEntity.count());
+        bulkEntities.forEach(entity -> entity.category = "bulkUpdated");
+        TestImperativeEntity.bulkUpdate(bulkEntities, new BulkOptions().batchSize(3).ordered(false));
+        Assertions.assertEquals(10, TestImperativeEntity.count("category", "bulkUpdated"));
+        TestImperativeEntity.bulkDelete(bulkEntities);
+        Assertions.assertEquals(10, TestImperativeEntity.count());
+
         // paginate
         testImperativePagination(TestImperativeEntity.findAll());
 
@@ -225,6 +237,16 @@ public Response testImperativeRepository() {
         entity12.delete();
         Assertions.assertEquals(10, testImperativeRepository.count());
 
+        // bulk
+        List<TestImperativeEntity> bulkEntities = getTestImperativeEntities();
+        testImperativeRepository.bulkPersist(bulkEntities, new BulkOptions().batchSize(3));
+        Assertions.assertEquals(20, testImperativeRepository.count());
+        bulkEntities.forEach(entity -> entity.category = "bulkUpdated");
+        testImperativeRepository.bulkUpdate(bulkEntities, new BulkOptions().batchSize(3).ordered(false));
+        Assertions.assertEquals(10, testImperativeRepository.count("category", "bulkUpdated"));
+        testImperativeRepository.bulkDelete(bulkEntities);
+        Assertions.assertEquals(10, testImperativeRepository.count());
+
         // paginate
         testImperativePagination(testImperativeRepository.findAll());
 
@@ -466,6 +488,18 @@ public Response testReactiveEntity() {
         entity12.delete().await().indefinitely();
         Assertions.assertEquals(10, TestReactiveEntity.count().await().indefinitely());
 
+        // bulk
+        List<TestReactiveEntity> bulkEntities = getTestReactiveEntities();
+        TestReactiveEntity.bulkPersist(Multi.createFrom().iterable(bulkEntities), new BulkOptions().batchSize(3))
+                .await().indefinitely();
+        Assertions.assertEquals(20, TestReactiveEntity.count().await().indefinitely());
+        bulkEntities.forEach(entity -> entity.category = "bulkUpdated");
+        TestReactiveEntity.bulkUpdate(Multi.createFrom().iterable(bulkEntities),
+                new BulkOptions().batchSize(3).ordered(false).concurrency(2)).await().indefinitely();
+        Assertions.assertEquals(10, TestReactiveEntity.count("category", "bulkUpdated").await().indefinitely());
+        TestReactiveEntity.bulkDelete(Multi.createFrom().iterable(bulkEntities)).await().indefinitely();
+        Assertions.assertEquals(10, TestReactiveEntity.count().await().indefinitely());
+
         // paginate
         testReactivePagination(TestReactiveEntity.findAll());
 
@@ -650,6 +684,18 @@ public Response testReactiveRepository() {
         entity12.delete().await().indefinitely();
         Assertions.assertEquals(10, testReactiveRepository.count().await().indefinitely());
 
+        // bulk
+        List<TestReactiveEntity> bulkEntities = getTestReactiveEntities();
+        testReactiveRepository.bulkPersist(Multi.createFrom().iterable(bulkEntities), new BulkOptions().batchSize(3))
+                .await().indefinitely();
+        Assertions.assertEquals(20, testReactiveRepository.count().await().indefinitely());
+        bulkEntities.forEach(entity -> entity.category = "bulkUpdated");
+        testReactiveRepository.bulkUpdate(Multi.createFrom().iterable(bulkEntities),
+                new BulkOptions().batchSize(3).ordered(false).concurrency(2)).await().indefinitely();
+        Assertions.assertEquals(10, testReactiveRepository.count("category", "bulkUpdated").await().indefinitely());
+        testReactiveRepository.bulkDelete(Multi.createFrom().iterable(bulkEntities)).await().indefinitely();
+        Assertions.assertEquals(10, testReactiveRepository.count().await().indefinitely());
+
         // paginate
         testReactivePagination(testReactiveRepository.findAll());
 